@@ -0,0 +1,124 @@
+package com.taskmanagement.attachment;
+
+import com.taskmanagement.repository.AttachmentBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deletes attachment content that no attachment refers to any more. Each run
+ * <ol>
+ *     <li>recounts the references of all blobs, which catches attachments removed by cascading deletes,</li>
+ *     <li>deletes the blobs unreferenced for longer than the grace period, and their content,</li>
+ *     <li>deletes stored content that has no blob at all, left by uploads whose attachment was never saved.</li>
+ * </ol>
+ * A blob row is only deleted while it is still unreferenced, and its content only if it was not stored again
+ * since the cutoff, so an upload of the same content racing with the collector keeps its file.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttachmentGarbageCollector {
+
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentProperties attachmentProperties;
+    private final Clock clock;
+
+
+    @Scheduled(fixedDelayString = "${app.attachments.gc-interval:3600000}", initialDelayString = "${app.attachments.gc-interval:3600000}")
+    public void collect() {
+        Instant cutoff = clock.instant().minus(attachmentProperties.getGcGracePeriod());
+        try {
+            recount();
+            long blobs = deleteUnreferenced(cutoff);
+            long orphans = deleteOrphans(cutoff);
+            if (blobs > 0 || orphans > 0) {
+                log.info("Deleted {} unreferenced attachment blobs and {} orphaned files", blobs, orphans);
+            }
+        } catch (Exception e) {
+            log.error("Failed to collect unreferenced attachment content", e);
+        }
+    }
+
+
+    private void recount() {
+        int batchSize = attachmentProperties.getGcBatchSize();
+        String afterKey = "";
+        List<String> keys;
+        do {
+            keys = attachmentBlobRepository.findKeysAfter(afterKey, batchSize);
+            if (!keys.isEmpty()) {
+                String lastKey = keys.get(keys.size() - 1);
+                attachmentBlobRepository.recount(afterKey, lastKey, LocalDateTime.now(clock));
+                afterKey = lastKey;
+            }
+        } while (keys.size() == batchSize);
+    }
+
+
+    private long deleteUnreferenced(Instant cutoff) {
+        LocalDateTime dbCutoff = LocalDateTime.ofInstant(cutoff, ZoneOffset.UTC);
+        int batchSize = attachmentProperties.getGcBatchSize();
+        long deleted = 0;
+        List<String> keys;
+        do {
+            keys = attachmentBlobRepository.findUnreferencedBefore(dbCutoff, batchSize);
+            for (String key : keys) {
+                // The content goes once its row is gone: it can only be referenced again by storing it again.
+                if (attachmentBlobRepository.deleteUnreferenced(key, dbCutoff)) {
+                    deleted++;
+                    try {
+                        attachmentStorage.delete(key, cutoff);
+                    } catch (IOException e) {
+                        // Left without a blob, it is deleted as an orphan by a later run.
+                        log.warn("Failed to delete attachment content {}", key, e);
+                    }
+                }
+            }
+        } while (keys.size() == batchSize);
+        return deleted;
+    }
+
+
+    private long deleteOrphans(Instant cutoff) throws IOException {
+        int batchSize = attachmentProperties.getGcBatchSize();
+        List<String> candidates = new ArrayList<>(batchSize);
+        long[] deleted = {0};
+        attachmentStorage.forEachStoredBefore(cutoff, key -> {
+            candidates.add(key);
+            if (candidates.size() == batchSize) {
+                deleted[0] += deleteOrphans(candidates, cutoff);
+                candidates.clear();
+            }
+        });
+        deleted[0] += deleteOrphans(candidates, cutoff);
+        return deleted[0];
+    }
+
+
+    private long deleteOrphans(List<String> candidates, Instant cutoff) {
+        Set<String> referenced = attachmentBlobRepository.findExistingKeys(candidates);
+        long deleted = 0;
+        for (String key : candidates) {
+            try {
+                if (!referenced.contains(key) && attachmentStorage.delete(key, cutoff)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("Failed to delete orphaned attachment content {}", key, e);
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,146 @@
+package com.taskmanagement.attachment;
+
+import com.taskmanagement.enums.PreviewSize;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the previews of image attachments in the background, after upload.
+ * <p>
+ * Previews are stored as variants of the content, so they are shared by every attachment with the same content
+ * and rendered once per content hash: content that already has its previews, or is known not to be a decodable
+ * image, is skipped, as is content already being rendered. The pool and its queue are bounded; when the queue is
+ * full the image is left out, and it is submitted again when its preview is first requested.
+ */
+@Slf4j
+@Component
+public class AttachmentPreviewGenerator {
+
+    /**
+     * Marks content that is not an image the JDK can decode, so it is not tried again.
+     */
+    public static final String UNSUPPORTED_VARIANT = "unsupported";
+
+    private static final String IMAGE_TYPE_PREFIX = "image/";
+
+    private final AttachmentStorage attachmentStorage;
+    private final long maxPixels;
+    private final ThreadPoolExecutor workers;
+    private final Set<String> rendering = ConcurrentHashMap.newKeySet();
+
+
+    public AttachmentPreviewGenerator(AttachmentStorage attachmentStorage, AttachmentProperties properties) {
+        this.attachmentStorage = attachmentStorage;
+        this.maxPixels = properties.getPreviewMaxPixels();
+        this.workers = new ThreadPoolExecutor(properties.getPreviewWorkers(), properties.getPreviewWorkers(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getPreviewQueueSize()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "attachment-preview");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                });
+    }
+
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+
+    /**
+     * Queues the previews of stored content for rendering, unless it is not an image or needs none.
+     *
+     * @param storageKey  The key of the content.
+     * @param contentType The media type given by the uploader.
+     */
+    public void submit(String storageKey, String contentType) {
+        if (!isImage(contentType) || isProcessed(storageKey) || !rendering.add(storageKey)) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    render(storageKey);
+                } finally {
+                    rendering.remove(storageKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rendering.remove(storageKey);
+            log.debug("Preview queue is full, skipped attachment content {}", storageKey);
+        }
+    }
+
+
+    /**
+     * @return Whether the content has all its previews, or can have none.
+     */
+    public boolean isProcessed(String storageKey) {
+        if (attachmentStorage.hasVariant(storageKey, UNSUPPORTED_VARIANT)) {
+            return true;
+        }
+        for (PreviewSize size : PreviewSize.values()) {
+            if (!attachmentStorage.hasVariant(storageKey, size.getVariant())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    public static boolean isImage(String contentType) {
+        return contentType != null && contentType.startsWith(IMAGE_TYPE_PREFIX);
+    }
+
+
+    private void render(String storageKey) {
+        if (isProcessed(storageKey)) {
+            return;
+        }
+        try {
+            Map<PreviewSize, byte[]> previews = renderPreviews(storageKey);
+            if (previews == null) {
+                attachmentStorage.storeVariant(storageKey, UNSUPPORTED_VARIANT, new byte[0]);
+                return;
+            }
+            for (Map.Entry<PreviewSize, byte[]> preview : previews.entrySet()) {
+                attachmentStorage.storeVariant(storageKey, preview.getKey().getVariant(), preview.getValue());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to render the previews of attachment content {}", storageKey, e);
+        }
+    }
+
+
+    private Map<PreviewSize, byte[]> renderPreviews(String storageKey) throws IOException {
+        Path file = attachmentStorage.getLocalPath(storageKey);
+        if (file != null) {
+            // Random access to the file; image I/O would copy a plain stream into a temporary file first.
+            try (ImageInputStream input = new FileImageInputStream(file.toFile())) {
+                return PreviewRenderer.render(input, maxPixels);
+            }
+        }
+        try (InputStream content = Channels.newInputStream(attachmentStorage.open(storageKey));
+             ImageInputStream input = new MemoryCacheImageInputStream(content)) {
+            return PreviewRenderer.render(input, maxPixels);
+        }
+    }
+}
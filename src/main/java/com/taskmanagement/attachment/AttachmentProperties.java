@@ -0,0 +1,56 @@
+package com.taskmanagement.attachment;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.attachments")
+public class AttachmentProperties {
+
+    /**
+     * Directory holding the attachment content files.
+     */
+    private String directory = "attachments";
+
+    /**
+     * Largest accepted attachment. Uploads are cut off as soon as they cross it.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+    /**
+     * Downloads of at least this many bytes are handed to the servlet container's sendfile; smaller ones are
+     * written directly, which is cheaper than setting up a sendfile.
+     */
+    private DataSize sendfileThreshold = DataSize.ofKilobytes(48);
+
+    /**
+     * How long content stays stored after its last reference is gone, before the garbage collector deletes it.
+     * Must comfortably exceed the time an upload takes from storing its content to recording the reference.
+     */
+    private Duration gcGracePeriod = Duration.ofHours(1);
+
+    /**
+     * Number of blobs the garbage collector reads or recounts at a time.
+     */
+    private int gcBatchSize = 500;
+
+    /**
+     * Threads rendering image previews in the background.
+     */
+    private int previewWorkers = 2;
+
+    /**
+     * Images waiting for a preview worker. Uploads beyond it get their previews when they are first requested.
+     */
+    private int previewQueueSize = 256;
+
+    /**
+     * Images with more pixels get no previews; decoding them would take too long.
+     */
+    private long previewMaxPixels = 50_000_000;
+}
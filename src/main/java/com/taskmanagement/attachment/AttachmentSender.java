@@ -0,0 +1,200 @@
+package com.taskmanagement.attachment;
+
+import com.taskmanagement.enums.PreviewSize;
+import com.taskmanagement.model.AttachmentEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Writes attachment content to an HTTP response without copying it through the heap.
+ * <p>
+ * Large local files are handed to Tomcat's sendfile, which lets the kernel copy the file to the socket after the
+ * request returns. Otherwise the file channel is transferred to the response stream with
+ * {@link FileChannel#transferTo}. The SHA-256 of the content is its strong ETag, so conditional requests and
+ * {@code If-Range} work across restarts and copies of the storage.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttachmentSender {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Previews are derived from content addressed by its hash, so they never change under their URL's ETag.
+    private static final String PREVIEW_CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentProperties properties;
+
+
+    /**
+     * @param attachment The attachment to send, already authorized.
+     * @param request    The download request, with its conditional and Range headers.
+     * @param response   The response to write.
+     * @throws IOException If the content can not be read or the client went away.
+     */
+    public void send(AttachmentEntity attachment, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = "\"" + attachment.getChecksum() + "\"";
+        long size = attachment.getSize();
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        // Content types are given by the uploader; never let a browser render them as something else.
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        ByteRange range = ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && ifRange != null && !ifRange.equals(etag)) {
+            range = null;
+        }
+        if (range == ByteRange.NOT_SATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            return;
+        }
+
+        long start = range == null ? 0 : range.getStart();
+        long length = range == null ? size : range.getLength();
+        if (range != null) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.getStart() + "-" + range.getEnd() + "/" + size);
+        }
+        response.setContentType(attachment.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(attachment.getFileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        Path file = attachmentStorage.getLocalPath(attachment.getStorageKey());
+        if (file != null && length >= properties.getSendfileThreshold().toBytes() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+
+        try (SeekableByteChannel channel = attachmentStorage.open(attachment.getStorageKey())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            if (channel instanceof FileChannel fileChannel) {
+                transfer(fileChannel, start, length, out);
+            } else {
+                copy(channel, start, length, out);
+            }
+        }
+    }
+
+
+    /**
+     * Sends a preview rendered for the attachment's content, as a JPEG that clients may cache for a year.
+     *
+     * @param attachment The attachment, already authorized, whose content has the preview.
+     * @param size       The preview to send.
+     * @param request    The request, with its conditional headers.
+     * @param response   The response to write.
+     * @throws IOException If the preview can not be read or the client went away.
+     */
+    public void sendPreview(AttachmentEntity attachment, PreviewSize size, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = "\"" + attachment.getChecksum() + "-" + size.getVariant() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, PREVIEW_CACHE_CONTROL);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        try (SeekableByteChannel channel = attachmentStorage.openVariant(attachment.getStorageKey(), size.getVariant())) {
+            long length = channel.size();
+            response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+            response.setContentLengthLong(length);
+            if ("HEAD".equals(request.getMethod())) {
+                return;
+            }
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            if (channel instanceof FileChannel fileChannel) {
+                transfer(fileChannel, 0, length, out);
+            } else {
+                copy(channel, 0, length, out);
+            }
+        }
+    }
+
+
+    private static void transfer(FileChannel channel, long start, long length, WritableByteChannel out) throws IOException {
+        long position = start;
+        long remaining = length;
+        while (remaining > 0) {
+            long sent = channel.transferTo(position, remaining, out);
+            if (sent <= 0) {
+                throw new IOException("Attachment content ended early");
+            }
+            position += sent;
+            remaining -= sent;
+        }
+    }
+
+
+    private static void copy(SeekableByteChannel channel, long start, long length, WritableByteChannel out) throws IOException {
+        channel.position(start);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long remaining = length;
+        while (remaining > 0) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Attachment content ended early");
+            }
+            buffer.flip();
+            remaining -= buffer.remaining();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+        }
+    }
+
+
+    /**
+     * Weak comparison, as required for If-None-Match.
+     */
+    private static boolean matchesAny(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
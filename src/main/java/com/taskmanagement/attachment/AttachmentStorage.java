@@ -0,0 +1,81 @@
+package com.taskmanagement.attachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Where the content of attachments lives. Content is immutable once stored and addressed by the key
+ * returned from {@link #store(InputStream, long)}; the same content is stored once, under the same key.
+ * <p>
+ * The storage does not know which keys are still referenced. Content is deleted by the garbage collector,
+ * and only when it was not stored again since the time the collector decided it was unreferenced.
+ */
+public interface AttachmentStorage {
+
+    /**
+     * Streams the content into the storage without holding it in memory. Content that is already stored is
+     * not written again; its key is returned and it counts as stored now.
+     *
+     * @param content The content, read to the end but not closed.
+     * @param maxSize The maximum number of bytes to accept.
+     * @return The key, size and SHA-256 of the stored content.
+     * @throws AttachmentTooLargeException If the content is longer than {@code maxSize}; nothing is stored.
+     * @throws IOException                 If the content can not be read or written.
+     */
+    StoredContent store(InputStream content, long maxSize) throws IOException;
+
+    /**
+     * @param key The key of stored content.
+     * @return A channel over the content, positioned at its start.
+     * @throws IOException If the content can not be opened.
+     */
+    SeekableByteChannel open(String key) throws IOException;
+
+    /**
+     * @param key The key of stored content.
+     * @return The file holding the content, when it is on the local file system, so the servlet container
+     * can send it with sendfile; null otherwise.
+     */
+    Path getLocalPath(String key);
+
+    /**
+     * Stores a small rendition derived from stored content, such as an image preview, next to the content. It is
+     * deleted together with the content; if the content is already gone, nothing is stored.
+     *
+     * @param key     The key of stored content.
+     * @param variant The name of the rendition, lower case letters only.
+     * @param content The rendition.
+     * @throws IOException If the rendition can not be written.
+     */
+    void storeVariant(String key, String variant, byte[] content) throws IOException;
+
+    boolean hasVariant(String key, String variant);
+
+    /**
+     * @return A channel over the rendition, positioned at its start.
+     * @throws IOException If the rendition does not exist or can not be opened.
+     */
+    SeekableByteChannel openVariant(String key, String variant) throws IOException;
+
+    /**
+     * Deletes content, and its renditions, unless it was stored, or stored again, at or after the given time.
+     *
+     * @param key    The key of stored content; missing content is ignored.
+     * @param before Content stored since then is kept.
+     * @return Whether the content was deleted.
+     * @throws IOException If the content can not be deleted.
+     */
+    boolean delete(String key, Instant before) throws IOException;
+
+    /**
+     * Passes the key of all content last stored before the given time to the action, for finding content
+     * that nothing refers to.
+     *
+     * @throws IOException If the storage can not be listed.
+     */
+    void forEachStoredBefore(Instant before, Consumer<String> action) throws IOException;
+}
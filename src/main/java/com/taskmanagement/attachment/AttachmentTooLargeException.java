@@ -0,0 +1,13 @@
+package com.taskmanagement.attachment;
+
+import java.io.IOException;
+
+/**
+ * The uploaded content is longer than allowed. Raised as soon as the limit is crossed, so the rest of the body is not stored.
+ */
+public class AttachmentTooLargeException extends IOException {
+
+    public AttachmentTooLargeException(long maxSize) {
+        super("Attachment is larger than " + maxSize + " bytes");
+    }
+}
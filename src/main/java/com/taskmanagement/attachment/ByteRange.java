@@ -0,0 +1,76 @@
+package com.taskmanagement.attachment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A single byte range of a {@code Range: bytes=...} request header, resolved against the content length.
+ * <p>
+ * Only single ranges are served. Multiple ranges and malformed headers are ignored and answered with the whole
+ * content, which RFC 7233 allows; a well-formed range that starts beyond the content is not satisfiable.
+ */
+@Getter
+@AllArgsConstructor
+public class ByteRange {
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    public static final ByteRange NOT_SATISFIABLE = new ByteRange(-1, -1);
+
+    /**
+     * First byte, inclusive.
+     */
+    private final long start;
+
+    /**
+     * Last byte, inclusive.
+     */
+    private final long end;
+
+
+    /**
+     * @param header The Range header, may be null.
+     * @param length The length of the content.
+     * @return The requested range, {@link #NOT_SATISFIABLE}, or null when the whole content is to be sent.
+     */
+    public static ByteRange parse(String header, long length) {
+        if (header == null || !header.startsWith(BYTES_UNIT) || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring(BYTES_UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            if (dash == 0) {
+                // Suffix range: the last n bytes.
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix < 0) {
+                    return null;
+                }
+                if (suffix == 0 || length == 0) {
+                    return NOT_SATISFIABLE;
+                }
+                return new ByteRange(Math.max(length - suffix, 0), length - 1);
+            }
+            long first = Long.parseLong(spec.substring(0, dash));
+            String lastSpec = spec.substring(dash + 1);
+            long last = lastSpec.isEmpty() ? length - 1 : Long.parseLong(lastSpec);
+            if (first < 0 || last < first) {
+                return null;
+            }
+            if (first >= length) {
+                return NOT_SATISFIABLE;
+            }
+            return new ByteRange(first, Math.min(last, length - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+
+    public long getLength() {
+        return end - start + 1;
+    }
+}
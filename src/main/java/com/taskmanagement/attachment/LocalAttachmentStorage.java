@@ -0,0 +1,247 @@
+package com.taskmanagement.attachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps attachment content as files below one directory, named by the SHA-256 of their content and fanned out
+ * by its first two characters.
+ * <p>
+ * An upload is streamed through a fixed buffer into a file of the {@code incoming} directory and hashed on the
+ * way. If content with that hash is already stored, the upload is dropped and the stored file's modification
+ * time is bumped instead; otherwise the upload is forced to disk and moved into place atomically, so a key
+ * always names complete content. The modification time is what {@link #delete(String, Instant)} checks, and both
+ * run under a lock per key, so content stored again while it was being collected is never lost. Leftovers of
+ * uploads interrupted by a restart are removed on startup.
+ * <p>
+ * Renditions of content are kept as {@code <key>.<variant>} in the same directory.
+ */
+public class LocalAttachmentStorage implements AttachmentStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path directory;
+    private final Path incoming;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+
+    public LocalAttachmentStorage(Path directory) throws IOException {
+        this.directory = directory;
+        this.incoming = directory.resolve("incoming");
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        Files.createDirectories(incoming);
+        try (Stream<Path> leftovers = Files.list(incoming)) {
+            for (Path leftover : (Iterable<Path>) leftovers::iterator) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+    }
+
+
+    @Override
+    public StoredContent store(InputStream content, long maxSize) throws IOException {
+        MessageDigest digest = sha256();
+        Path upload = Files.createTempFile(incoming, "upload-", ".tmp");
+        try {
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (FileChannel channel = FileChannel.open(upload, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new AttachmentTooLargeException(maxSize);
+                    }
+                    digest.update(buffer, 0, read);
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                }
+            }
+
+            String key = toHex(digest.digest());
+            Path target = resolve(key);
+            synchronized (lockFor(key)) {
+                if (touch(target)) {
+                    Files.delete(upload);
+                    return new StoredContent(key, size, key, true);
+                }
+                // Only new content is worth the sync.
+                try (FileChannel channel = FileChannel.open(upload, StandardOpenOption.WRITE)) {
+                    channel.force(false);
+                }
+                Files.createDirectories(target.getParent());
+                Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return new StoredContent(key, size, key, false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(upload);
+            throw e;
+        }
+    }
+
+
+    @Override
+    public SeekableByteChannel open(String key) throws IOException {
+        return FileChannel.open(resolve(key), StandardOpenOption.READ);
+    }
+
+
+    @Override
+    public Path getLocalPath(String key) {
+        return resolve(key);
+    }
+
+
+    @Override
+    public void storeVariant(String key, String variant, byte[] content) throws IOException {
+        Path target = resolveVariant(key, variant);
+        Path upload = Files.createTempFile(incoming, "variant-", ".tmp");
+        try {
+            Files.write(upload, content);
+            synchronized (lockFor(key)) {
+                if (Files.exists(resolve(key))) {
+                    Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+
+    @Override
+    public boolean hasVariant(String key, String variant) {
+        return Files.exists(resolveVariant(key, variant));
+    }
+
+
+    @Override
+    public SeekableByteChannel openVariant(String key, String variant) throws IOException {
+        return FileChannel.open(resolveVariant(key, variant), StandardOpenOption.READ);
+    }
+
+
+    @Override
+    public boolean delete(String key, Instant before) throws IOException {
+        Path file = resolve(key);
+        synchronized (lockFor(key)) {
+            if (!isLastModifiedBefore(file, before) || !Files.deleteIfExists(file)) {
+                return false;
+            }
+            try (DirectoryStream<Path> variants = Files.newDirectoryStream(file.getParent(), key + ".*")) {
+                for (Path variant : variants) {
+                    Files.deleteIfExists(variant);
+                }
+            }
+            return true;
+        }
+    }
+
+
+    @Override
+    public void forEachStoredBefore(Instant before, Consumer<String> action) throws IOException {
+        List<Path> fanOut;
+        try (Stream<Path> children = Files.list(directory)) {
+            fanOut = children.filter(child -> !child.equals(incoming) && Files.isDirectory(child)).sorted().collect(Collectors.toList());
+        }
+        for (Path subdirectory : fanOut) {
+            // Listed up front, so the action may delete what it is given.
+            List<Path> files;
+            try (Stream<Path> children = Files.list(subdirectory)) {
+                files = children.collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                String key = file.getFileName().toString();
+                if (isValidKey(key) && isLastModifiedBefore(file, before)) {
+                    action.accept(key);
+                }
+            }
+        }
+    }
+
+
+    private Path resolve(String key) {
+        // Keys are generated here; anything else must never reach the file system.
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("Invalid attachment key");
+        }
+        return directory.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+
+    private Path resolveVariant(String key, String variant) {
+        if (variant == null || !variant.matches("[a-z]{1,32}")) {
+            throw new IllegalArgumentException("Invalid attachment variant");
+        }
+        return resolve(key).resolveSibling(key + "." + variant);
+    }
+
+
+    private Object lockFor(String key) {
+        return locks[Math.floorMod(key.hashCode(), locks.length)];
+    }
+
+
+    private static boolean touch(Path file) throws IOException {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+
+    private static boolean isLastModifiedBefore(Path file, Instant before) throws IOException {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(before);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+
+    private static boolean isValidKey(String key) {
+        return key != null && key.matches("[0-9a-f]{8,128}");
+    }
+
+
+    static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.taskmanagement.attachment;
+
+import com.taskmanagement.enums.PreviewSize;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Renders the {@link PreviewSize previews} of an image with the JDK's image I/O, as JPEG.
+ * <p>
+ * The image is decoded once, subsampled by the decoder to at most about four times the largest preview, so a
+ * large photo never exists at full resolution in memory. Every preview is scaled from the next larger one, by
+ * halving until within twice its size and one bilinear step from there, so no step skips source pixels.
+ * Transparent areas are flattened onto white.
+ */
+public final class PreviewRenderer {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+
+    private PreviewRenderer() {
+    }
+
+
+    /**
+     * @param content   The encoded image; read but not closed.
+     * @param maxPixels Larger images are not decoded at all.
+     * @return The JPEG of every preview size, or null if the content is not an image the JDK can decode or is
+     * too large.
+     * @throws IOException If the content can not be read.
+     */
+    public static Map<PreviewSize, byte[]> render(ImageInputStream content, long maxPixels) throws IOException {
+        BufferedImage image = decode(content, maxPixels);
+        if (image == null) {
+            return null;
+        }
+        Map<PreviewSize, byte[]> previews = new EnumMap<>(PreviewSize.class);
+        for (PreviewSize size : PreviewSize.values()) {
+            image = scale(image, size.getMaxSide());
+            previews.put(size, encode(image));
+        }
+        return previews;
+    }
+
+
+    private static BufferedImage decode(ImageInputStream content, long maxPixels) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(content);
+        if (!readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(content, true, true);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if (width <= 0 || height <= 0 || (long) width * height > maxPixels) {
+                return null;
+            }
+            int subsampling = Math.max(1, Math.max(width, height) / (2 * PreviewSize.values()[0].getMaxSide()));
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            return reader.read(0, param);
+        } catch (IIOException | RuntimeException e) {
+            // Corrupt or unsupported variants of a known format.
+            return null;
+        } finally {
+            reader.dispose();
+        }
+    }
+
+
+    private static BufferedImage scale(BufferedImage image, int maxSide) {
+        BufferedImage scaled = image;
+        while (Math.max(scaled.getWidth(), scaled.getHeight()) > 2 * maxSide) {
+            scaled = resize(scaled, (scaled.getWidth() + 1) / 2, (scaled.getHeight() + 1) / 2);
+        }
+        double factor = Math.min(1.0, (double) maxSide / Math.max(scaled.getWidth(), scaled.getHeight()));
+        return resize(scaled, (int) Math.round(scaled.getWidth() * factor), (int) Math.round(scaled.getHeight() * factor));
+    }
+
+
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(Math.max(1, width), Math.max(1, height), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, resized.getWidth(), resized.getHeight());
+            graphics.drawImage(image, 0, 0, resized.getWidth(), resized.getHeight(), null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.attachment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoredContent {
+
+    private final String key;
+    private final long size;
+    /**
+     * Lower case hex SHA-256 of the content, computed while it was stored.
+     */
+    private final String sha256;
+    /**
+     * Whether the same content was already stored, so nothing was written.
+     */
+    private final boolean duplicate;
+}
@@ -0,0 +1,13 @@
+package com.taskmanagement.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuditFieldChange {
+
+    private final String field;
+    private final String before;
+    private final String after;
+}
@@ -0,0 +1,168 @@
+package com.taskmanagement.audit;
+
+import com.taskmanagement.enums.AuditEntityType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Append-only audit log stored in memory-mapped segment files.
+ * <p>
+ * An append is a copy into the mapped region of the active segment. Dirty segments are forced to disk
+ * by a background thread every flush interval, so all appends within one interval share a single sync.
+ * When the active segment is full a new one is started, and the oldest segments beyond the retention
+ * limit are deleted.
+ */
+@Slf4j
+public class AuditLog implements Closeable {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("audit-(\\d{20})\\.log");
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final List<AuditSegment> segments = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService flusher;
+    private final Object writeLock = new Object();
+    private volatile AuditSegment active;
+
+
+    public AuditLog(Path directory, int segmentSize, Duration flushInterval, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+
+        Files.createDirectories(directory);
+        List<Long> sequences = existingSequences();
+        for (int i = 0; i < sequences.size(); i++) {
+            long sequence = sequences.get(i);
+            segments.add(AuditSegment.open(segmentPath(sequence), sequence, segmentSize, i == sequences.size() - 1));
+        }
+        if (segments.isEmpty()) {
+            segments.add(AuditSegment.open(segmentPath(1), 1, segmentSize, true));
+        }
+        active = segments.get(segments.size() - 1);
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = flushInterval.toNanos();
+        flusher.scheduleWithFixedDelay(this::flush, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+
+    /**
+     * Appends a record. The record is readable immediately and durable after the next flush.
+     *
+     * @param record The record to append.
+     */
+    public void append(AuditRecord record) throws IOException {
+        byte[] frame = AuditRecordCodec.encode(record);
+        if (frame.length > segmentSize) {
+            throw new IllegalArgumentException("Audit record of " + frame.length + " bytes exceeds the segment size");
+        }
+        synchronized (writeLock) {
+            if (!active.append(frame)) {
+                rotate();
+                active.append(frame);
+            }
+        }
+    }
+
+
+    /**
+     * Scans the segments from newest to oldest for records of one entity.
+     *
+     * @param entityType The type of the entity.
+     * @param entityId   The id of the entity.
+     * @param limit      The maximum number of records returned.
+     * @return The newest matching records, newest first.
+     */
+    public List<AuditRecord> findByEntity(AuditEntityType entityType, int entityId, int limit) {
+        List<AuditRecord> result = new ArrayList<>();
+        List<AuditSegment> snapshot = new ArrayList<>(segments);
+        for (int i = snapshot.size() - 1; i >= 0 && result.size() < limit; i--) {
+            List<AuditRecord> inSegment = new ArrayList<>();
+            snapshot.get(i).collect(entityType, entityId, inSegment);
+            Collections.reverse(inSegment);
+            result.addAll(inSegment.subList(0, Math.min(inSegment.size(), limit - result.size())));
+        }
+        return result;
+    }
+
+
+    /**
+     * Forces appended records of the active segment to disk.
+     */
+    public void flush() {
+        try {
+            active.force();
+        } catch (Exception e) {
+            log.error("Failed to flush audit segment", e);
+        }
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        synchronized (writeLock) {
+            for (AuditSegment segment : segments) {
+                segment.close();
+            }
+        }
+    }
+
+
+    private void rotate() throws IOException {
+        AuditSegment sealed = active;
+        sealed.force();
+
+        long sequence = sealed.getSequence() + 1;
+        AuditSegment next = AuditSegment.open(segmentPath(sequence), sequence, segmentSize, true);
+        segments.add(next);
+        active = next;
+
+        while (segments.size() > maxSegments) {
+            AuditSegment oldest = segments.remove(0);
+            oldest.close();
+            Files.deleteIfExists(oldest.getPath());
+        }
+    }
+
+
+    private List<Long> existingSequences() throws IOException {
+        List<Long> sequences = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    sequences.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        Collections.sort(sequences);
+        return sequences;
+    }
+
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("audit-%020d.log", sequence));
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    /**
+     * Directory holding the audit segment files.
+     */
+    private String directory = "audit";
+
+    /**
+     * Size of one segment file. A new segment is started when the active one is full.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * How often appended records are forced to disk. Appends within one interval share a single sync.
+     */
+    private Duration flushInterval = Duration.ofMillis(10);
+
+    /**
+     * Number of segments kept; older ones are deleted on rotation.
+     */
+    private int maxSegments = 64;
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.audit;
+
+import com.taskmanagement.enums.AuditEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class AuditRecord {
+
+    private final AuditEntityType entityType;
+    private final int entityId;
+    private final String action;
+    private final String actorEmail;
+    private final Instant occurredAt;
+    private final List<AuditFieldChange> changes;
+
+
+    /**
+     * Lists the fields whose value differs between two states of an entity. A missing state counts as all nulls.
+     *
+     * @param before The fields before the change, or null on creation.
+     * @param after  The fields after the change, or null on deletion.
+     * @return The changed fields in the order they appear in the given maps.
+     */
+    public static List<AuditFieldChange> diff(Map<String, String> before, Map<String, String> after) {
+        Set<String> fields = new LinkedHashSet<>();
+        if (before != null) {
+            fields.addAll(before.keySet());
+        }
+        if (after != null) {
+            fields.addAll(after.keySet());
+        }
+
+        List<AuditFieldChange> changes = new ArrayList<>();
+        for (String field : fields) {
+            String oldValue = before != null ? before.get(field) : null;
+            String newValue = after != null ? after.get(field) : null;
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new AuditFieldChange(field, oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+}
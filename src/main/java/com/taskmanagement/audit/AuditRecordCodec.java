@@ -0,0 +1,143 @@
+package com.taskmanagement.audit;
+
+import com.taskmanagement.enums.AuditEntityType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Binary layout of an audit record.
+ * <pre>
+ * frame:   int payloadLength | int crc32(payload) | payload
+ * payload: byte version | byte entityType | int entityId | long epochMillis
+ *          | str action | str actor | short fieldCount | (str field | str before | str after)*
+ * str:     int length (-1 for null) | UTF-8 bytes
+ * </pre>
+ * The entity type and id sit at a fixed offset so scans can skip records without decoding them.
+ */
+final class AuditRecordCodec {
+
+    static final int FRAME_HEADER_BYTES = 8;
+
+    private static final byte VERSION = 1;
+    private static final int ENTITY_TYPE_OFFSET = FRAME_HEADER_BYTES + 1;
+    private static final int ENTITY_ID_OFFSET = FRAME_HEADER_BYTES + 2;
+
+    private AuditRecordCodec() {
+    }
+
+
+    static byte[] encode(AuditRecord record) {
+        byte[] action = utf8(record.getAction());
+        byte[] actor = utf8(record.getActorEmail());
+        List<byte[]> fields = new ArrayList<>();
+        int payloadLength = 1 + 1 + 4 + 8 + length(action) + length(actor) + 2;
+        for (AuditFieldChange change : record.getChanges()) {
+            byte[] name = utf8(change.getField());
+            byte[] before = utf8(change.getBefore());
+            byte[] after = utf8(change.getAfter());
+            fields.add(name);
+            fields.add(before);
+            fields.add(after);
+            payloadLength += length(name) + length(before) + length(after);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(FRAME_HEADER_BYTES + payloadLength);
+        buffer.position(FRAME_HEADER_BYTES);
+        buffer.put(VERSION);
+        buffer.put((byte) record.getEntityType().ordinal());
+        buffer.putInt(record.getEntityId());
+        buffer.putLong(record.getOccurredAt().toEpochMilli());
+        putString(buffer, action);
+        putString(buffer, actor);
+        buffer.putShort((short) record.getChanges().size());
+        for (byte[] field : fields) {
+            putString(buffer, field);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), FRAME_HEADER_BYTES, payloadLength);
+        buffer.putInt(0, payloadLength);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+
+    /**
+     * @return The total frame length at the offset, or 0 when no complete, intact record starts there.
+     */
+    static int validFrameLength(ByteBuffer segment, int offset, int limit) {
+        if (offset + FRAME_HEADER_BYTES > limit) {
+            return 0;
+        }
+        int payloadLength = segment.getInt(offset);
+        if (payloadLength <= 0 || offset + FRAME_HEADER_BYTES + payloadLength > limit) {
+            return 0;
+        }
+        ByteBuffer payload = segment.duplicate();
+        payload.limit(offset + FRAME_HEADER_BYTES + payloadLength).position(offset + FRAME_HEADER_BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue() == segment.getInt(offset + 4) ? FRAME_HEADER_BYTES + payloadLength : 0;
+    }
+
+
+    static int frameLength(ByteBuffer segment, int offset) {
+        return FRAME_HEADER_BYTES + segment.getInt(offset);
+    }
+
+
+    static boolean isFor(ByteBuffer segment, int offset, AuditEntityType entityType, int entityId) {
+        return segment.get(offset + ENTITY_TYPE_OFFSET) == entityType.ordinal()
+                && segment.getInt(offset + ENTITY_ID_OFFSET) == entityId;
+    }
+
+
+    static AuditRecord decode(ByteBuffer segment, int offset) {
+        ByteBuffer buffer = segment.duplicate();
+        buffer.position(offset + FRAME_HEADER_BYTES + 1);
+        AuditEntityType entityType = AuditEntityType.values()[buffer.get()];
+        int entityId = buffer.getInt();
+        Instant occurredAt = Instant.ofEpochMilli(buffer.getLong());
+        String action = getString(buffer);
+        String actor = getString(buffer);
+        int fieldCount = buffer.getShort();
+        List<AuditFieldChange> changes = new ArrayList<>(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            changes.add(new AuditFieldChange(getString(buffer), getString(buffer), getString(buffer)));
+        }
+        return new AuditRecord(entityType, entityId, action, actor, occurredAt, changes);
+    }
+
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int length(byte[] value) {
+        return 4 + (value != null ? value.length : 0);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
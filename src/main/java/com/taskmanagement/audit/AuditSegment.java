@@ -0,0 +1,110 @@
+package com.taskmanagement.audit;
+
+import com.taskmanagement.enums.AuditEntityType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One fixed-size, memory-mapped audit file. Records are appended by a single writer at a time
+ * and become visible to readers once {@link #position} has been advanced past them.
+ */
+final class AuditSegment implements Closeable {
+
+    private final long sequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile int position;
+
+
+    private AuditSegment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer, int position) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+
+    /**
+     * Maps a segment file, creating it when missing. For the segment that will receive appends,
+     * the end of the last intact record is recovered and any torn write after it is cleared.
+     */
+    static AuditSegment open(Path path, long sequence, int size, boolean active) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int capacity = active ? size : (int) Math.min(channel.size(), Integer.MAX_VALUE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+        int position = capacity;
+        if (active) {
+            position = 0;
+            int frame;
+            while ((frame = AuditRecordCodec.validFrameLength(buffer, position, capacity)) > 0) {
+                position += frame;
+            }
+            if (position + AuditRecordCodec.FRAME_HEADER_BYTES <= capacity && buffer.getInt(position) != 0) {
+                buffer.put(position, new byte[capacity - position]);
+                buffer.force();
+            }
+        }
+        return new AuditSegment(sequence, path, channel, buffer, position);
+    }
+
+
+    /**
+     * @return false when the frame does not fit and the log has to rotate.
+     */
+    boolean append(byte[] frame) {
+        int start = position;
+        if (start + frame.length > buffer.capacity()) {
+            return false;
+        }
+        buffer.put(start, frame);
+        position = start + frame.length;
+        dirty.set(true);
+        return true;
+    }
+
+
+    void force() {
+        if (dirty.getAndSet(false)) {
+            buffer.force();
+        }
+    }
+
+
+    void collect(AuditEntityType entityType, int entityId, List<AuditRecord> into) {
+        int limit = position;
+        int offset = 0;
+        while (offset + AuditRecordCodec.FRAME_HEADER_BYTES <= limit && buffer.getInt(offset) > 0) {
+            if (AuditRecordCodec.isFor(buffer, offset, entityType, entityId)) {
+                into.add(AuditRecordCodec.decode(buffer, offset));
+            }
+            offset += AuditRecordCodec.frameLength(buffer, offset);
+        }
+    }
+
+
+    long getSequence() {
+        return sequence;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
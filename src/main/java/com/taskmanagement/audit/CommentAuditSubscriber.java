@@ -0,0 +1,56 @@
+package com.taskmanagement.audit;
+
+import com.taskmanagement.enums.AuditEntityType;
+import com.taskmanagement.enums.CommentEventType;
+import com.taskmanagement.enums.SubscriberMode;
+import com.taskmanagement.event.CommentEvent;
+import com.taskmanagement.event.DomainEventSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records every comment write in the audit log.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentAuditSubscriber implements DomainEventSubscriber<CommentEvent> {
+
+    private final AuditLog auditLog;
+
+
+    @Override
+    public Class<CommentEvent> getEventType() {
+        return CommentEvent.class;
+    }
+
+
+    @Override
+    public SubscriberMode getMode() {
+        return SubscriberMode.SYNC;
+    }
+
+
+    @Override
+    public void onEvent(CommentEvent event) throws IOException {
+        Map<String, String> before = new LinkedHashMap<>();
+        before.put("content", event.getPreviousContent());
+        Map<String, String> after = new LinkedHashMap<>();
+        after.put("content", event.getContent());
+        if (event.getType() == CommentEventType.CREATED) {
+            after.put("task", String.valueOf(event.getTaskId()));
+        }
+
+        auditLog.append(AuditRecord.builder()
+                .entityType(AuditEntityType.COMMENT)
+                .entityId(event.getCommentId())
+                .action(event.getType().name())
+                .actorEmail(event.getActorEmail())
+                .occurredAt(event.getOccurredAt())
+                .changes(AuditRecord.diff(before, after))
+                .build());
+    }
+}
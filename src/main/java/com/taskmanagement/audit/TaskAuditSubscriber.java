@@ -0,0 +1,64 @@
+package com.taskmanagement.audit;
+
+import com.taskmanagement.enums.AuditEntityType;
+import com.taskmanagement.enums.SubscriberMode;
+import com.taskmanagement.event.DomainEventSubscriber;
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.model.TaskSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records every task write in the audit log. Runs synchronously after commit, because an append
+ * only copies bytes into a mapped file and must not be lost to a full event queue.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskAuditSubscriber implements DomainEventSubscriber<TaskEvent> {
+
+    private final AuditLog auditLog;
+
+
+    @Override
+    public Class<TaskEvent> getEventType() {
+        return TaskEvent.class;
+    }
+
+
+    @Override
+    public SubscriberMode getMode() {
+        return SubscriberMode.SYNC;
+    }
+
+
+    @Override
+    public void onEvent(TaskEvent event) throws IOException {
+        auditLog.append(AuditRecord.builder()
+                .entityType(AuditEntityType.TASK)
+                .entityId(event.getTaskId())
+                .action(event.getType().name())
+                .actorEmail(event.getActorEmail())
+                .occurredAt(event.getOccurredAt())
+                .changes(AuditRecord.diff(fields(event.getBefore()), fields(event.getAfter())))
+                .build());
+    }
+
+
+    private Map<String, String> fields(TaskSnapshot task) {
+        if (task == null) {
+            return null;
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("title", task.getTitle());
+        fields.put("description", task.getDescription());
+        fields.put("status", String.valueOf(task.getStatus()));
+        fields.put("priority", String.valueOf(task.getPriority()));
+        fields.put("author", task.getAuthorEmail());
+        fields.put("assignee", task.getAssigneeEmail());
+        return fields;
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskmanagement.audit;
+
+import com.taskmanagement.enums.AuditEntityType;
+import com.taskmanagement.enums.SubscriberMode;
+import com.taskmanagement.enums.UserEventType;
+import com.taskmanagement.event.DomainEventSubscriber;
+import com.taskmanagement.event.UserEvent;
+import com.taskmanagement.model.UserSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records every user write in the audit log. Password changes are recorded without any value.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAuditSubscriber implements DomainEventSubscriber<UserEvent> {
+
+    private final AuditLog auditLog;
+
+
+    @Override
+    public Class<UserEvent> getEventType() {
+        return UserEvent.class;
+    }
+
+
+    @Override
+    public SubscriberMode getMode() {
+        return SubscriberMode.SYNC;
+    }
+
+
+    @Override
+    public void onEvent(UserEvent event) throws IOException {
+        // Password events carry no before state, and the password itself is never recorded
+        List<AuditFieldChange> changes = event.getType() == UserEventType.PASSWORD_CHANGED
+                ? Collections.emptyList()
+                : AuditRecord.diff(fields(event.getBefore()), fields(event.getAfter()));
+
+        auditLog.append(AuditRecord.builder()
+                .entityType(AuditEntityType.USER)
+                .entityId(event.getUserId())
+                .action(event.getType().name())
+                .actorEmail(event.getActorEmail())
+                .occurredAt(event.getOccurredAt())
+                .changes(changes)
+                .build());
+    }
+
+
+    private Map<String, String> fields(UserSnapshot user) {
+        if (user == null) {
+            return null;
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("name", user.getName());
+        fields.put("surname", user.getSurname());
+        fields.put("year", String.valueOf(user.getYear()));
+        fields.put("email", user.getEmail());
+        fields.put("role", String.valueOf(user.getRole()));
+        fields.put("status", String.valueOf(user.getStatus()));
+        return fields;
+    }
+}
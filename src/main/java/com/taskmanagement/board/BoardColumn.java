@@ -0,0 +1,20 @@
+package com.taskmanagement.board;
+
+import com.taskmanagement.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The cards of one status within one project.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class BoardColumn {
+
+    private final Integer projectId;
+    private final TaskStatus status;
+}
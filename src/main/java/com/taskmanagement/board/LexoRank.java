@@ -0,0 +1,146 @@
+package com.taskmanagement.board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fractional rank keys for the manual order of a board column.
+ * <p>
+ * A key is a base-36 fraction written with the digits {@code 0-9a-z}, so keys compare correctly as plain
+ * strings, also under MySQL's case-insensitive collations. There is always a key between two keys, which
+ * lets a card be moved by writing its own row only. Keys never end with {@code 0}: "a" and "a0" would
+ * be the same fraction and have nothing in between.
+ * <p>
+ * Appending or prepending steps the first {@value #WIDTH} digits by a fixed amount instead of halving the
+ * gap, so a column that is filled from one end does not grow its keys. Inserting between two cards halves
+ * the gap and grows the key by about one digit every five inserts at the same spot; {@link #spread(int)}
+ * rewrites a column with short, evenly spaced keys when that happens.
+ */
+public final class LexoRank {
+
+    public static final int WIDTH = 6;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final long MAX = pow(WIDTH);
+    private static final long STEP = BASE * BASE;
+
+
+    private LexoRank() {
+    }
+
+
+    /**
+     * @param lower The key to rank after, or null for the start of the column.
+     * @param upper The key to rank before, or null for the end of the column.
+     * @return A key strictly between the two.
+     * @throws IllegalArgumentException If lower is not below upper.
+     */
+    public static String between(String lower, String upper) {
+        if (lower != null && upper != null) {
+            if (lower.compareTo(upper) >= 0) {
+                throw new IllegalArgumentException("No rank between " + lower + " and " + upper);
+            }
+            return midpoint(lower, upper);
+        }
+        if (lower == null && upper == null) {
+            return encode(nonZeroLast(MAX / 2, 1), WIDTH);
+        }
+        if (upper == null) {
+            long value = prefixValue(lower) + STEP;
+            return value < MAX ? encode(nonZeroLast(value, 1), WIDTH) : midpoint(lower, null);
+        }
+        long value = prefixValue(upper) - STEP;
+        return value > 0 ? encode(nonZeroLast(value, -1), WIDTH) : midpoint("", upper);
+    }
+
+
+    /**
+     * Evenly spaced keys over the middle half of the key space, leaving room to append and prepend.
+     *
+     * @param count The number of keys.
+     * @return Ascending keys of equal length.
+     */
+    public static List<String> spread(int count) {
+        int width = WIDTH;
+        while (pow(width) / 2 / (count + 1) < STEP) {
+            width++;
+        }
+        long start = pow(width) / 4;
+        long gap = pow(width) / 2 / (count + 1);
+
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(encode(nonZeroLast(start + i * gap, 1), width));
+        }
+        return keys;
+    }
+
+
+    private static String midpoint(String lower, String upper) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; ; i++) {
+            int low = i < lower.length() ? digit(lower.charAt(i)) : 0;
+            int high;
+            if (upper == null) {
+                high = BASE;
+            } else if (i < upper.length()) {
+                high = digit(upper.charAt(i));
+            } else {
+                // upper is lower followed by zeros, the same fraction.
+                throw new IllegalArgumentException("No rank between " + lower + " and " + upper);
+            }
+
+            if (high - low > 1) {
+                return key.append(DIGITS.charAt((low + high) / 2)).toString();
+            }
+            key.append(DIGITS.charAt(low));
+            if (high - low == 1) {
+                // The prefix is below upper now; any continuation above lower will do.
+                upper = null;
+            }
+        }
+    }
+
+
+    private static long prefixValue(String key) {
+        long value = 0;
+        for (int i = 0; i < WIDTH; i++) {
+            value = value * BASE + (i < key.length() ? digit(key.charAt(i)) : 0);
+        }
+        return value;
+    }
+
+
+    private static String encode(long value, int width) {
+        char[] key = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            key[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(key);
+    }
+
+
+    private static long nonZeroLast(long value, int direction) {
+        return value % BASE == 0 ? value + direction : value;
+    }
+
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank digit " + c);
+        }
+        return digit;
+    }
+
+
+    private static long pow(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= BASE;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskmanagement.board;
+
+import com.taskmanagement.service.TaskBoardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Respaces board columns whose rank keys grew past {@code app.board.rebalance-length}, each column in its
+ * own transaction. Moves stay single-row writes; the cost of long keys is paid here, off the request path.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskBoardRebalancer {
+
+    private final TaskBoardService taskBoardService;
+
+
+    @Scheduled(fixedDelayString = "${app.board.rebalance-interval:10000}")
+    public void rebalancePending() {
+        for (BoardColumn column : taskBoardService.takeColumnsToRebalance()) {
+            try {
+                taskBoardService.rebalanceColumn(column);
+                log.debug("Rebalanced board column {}", column);
+            } catch (Exception e) {
+                log.error("Failed to rebalance board column {}", column, e);
+                taskBoardService.requestRebalance(column);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.attachment.AttachmentProperties;
+import com.taskmanagement.attachment.AttachmentStorage;
+import com.taskmanagement.attachment.LocalAttachmentStorage;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+@Configuration
+@EnableConfigurationProperties(AttachmentProperties.class)
+public class AttachmentConfig {
+
+    @Bean
+    public AttachmentStorage attachmentStorage(AttachmentProperties properties) throws IOException {
+        return new LocalAttachmentStorage(Paths.get(properties.getDirectory()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.audit.AuditLog;
+import com.taskmanagement.audit.AuditProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+@Configuration
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfig {
+
+    @Bean(destroyMethod = "close")
+    public AuditLog auditLog(AuditProperties properties) throws IOException {
+        return new AuditLog(
+                Paths.get(properties.getDirectory()),
+                (int) properties.getSegmentSize().toBytes(),
+                properties.getFlushInterval(),
+                properties.getMaxSegments()
+        );
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+
 @Component
 public class BeanConfig {
 
@@ -13,4 +15,9 @@ public class BeanConfig {
         return new MD5Encoder();
     }
 
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+
 }
@@ -0,0 +1,95 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.datasource.ReadYourWritesTracker;
+import com.taskmanagement.datasource.ReplicaProperties;
+import com.taskmanagement.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+
+    /**
+     * Connections of the task export, which read rows through a server-side cursor ({@code useCursorFetch}).
+     * The property applies to every statement of a connection, so it is kept off the shared pool. Exports read
+     * from the first replica when one is configured, like other read-only work.
+     */
+    @Bean
+    public HikariDataSource exportDataSource(DataSourceProperties properties,
+                                             ReplicaProperties replicaProperties,
+                                             @Value("${app.export.pool-size:2}") int poolSize) {
+        HikariDataSource dataSource = replicaProperties.getReplicas().isEmpty()
+                ? properties.initializeDataSourceBuilder().type(HikariDataSource.class).build()
+                : buildReplica(replicaProperties.getReplicas().get(0));
+        dataSource.setPoolName("export");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0);
+        dataSource.setReadOnly(true);
+        dataSource.addDataSourceProperty("useCursorFetch", "true");
+        return dataSource;
+    }
+
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties replicaProperties) {
+        return new ReadYourWritesTracker(replicaProperties.getReadYourWritesWindow());
+    }
+
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 ReplicaProperties replicaProperties,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        if (replicaProperties.getReplicas().isEmpty()) {
+            return primaryDataSource;
+        }
+
+        List<DataSource> replicas = replicaProperties.getReplicas().stream()
+                .map(this::buildReplica)
+                .collect(Collectors.toList());
+
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker)
+        );
+    }
+
+
+    private HikariDataSource buildReplica(ReplicaProperties.Replica replica) {
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword());
+
+        // Without an explicit driver the builder derives it from the JDBC url.
+        if (replica.getDriverClassName() != null) {
+            builder.driverClassName(replica.getDriverClassName());
+        }
+
+        HikariDataSource dataSource = builder.build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
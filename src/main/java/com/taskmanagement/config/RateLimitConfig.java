@@ -0,0 +1,17 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.security.ratelimit.RateLimitProperties;
+import com.taskmanagement.security.ratelimit.StripedRateLimiter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public StripedRateLimiter stripedRateLimiter(RateLimitProperties properties) {
+        return new StripedRateLimiter(properties.getStripes(), properties.getMaxBuckets(), System::nanoTime);
+    }
+}
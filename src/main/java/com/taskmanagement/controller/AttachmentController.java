@@ -0,0 +1,109 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.attachment.AttachmentSender;
+import com.taskmanagement.dto.responsedto.AttachmentResponseDTO;
+import com.taskmanagement.enums.PreviewSize;
+import com.taskmanagement.exceptions.AttachmentApiException;
+import com.taskmanagement.exceptions.CommentApiException;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.model.AttachmentEntity;
+import com.taskmanagement.service.AttachmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Uploads take the raw file as the request body, with its name as a parameter and its type as the
+ * Content-Type, so the body is streamed into the storage rather than parsed as a multipart form.
+ */
+@RestController
+@RequestMapping("/api/attachment")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+    private final AttachmentSender attachmentSender;
+
+
+    @PostMapping("/task/{taskId}")
+    @ResponseStatus(HttpStatus.CREATED)
+    public AttachmentResponseDTO attachToTask(@PathVariable Integer taskId,
+                                              @RequestParam String fileName,
+                                              @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                              InputStream content,
+                                              Principal principal) throws AttachmentApiException, TaskApiException {
+        return attachmentService.attachToTask(taskId, fileName, contentType, content, principal.getName());
+    }
+
+
+    @PostMapping("/comment/{commentId}")
+    @ResponseStatus(HttpStatus.CREATED)
+    public AttachmentResponseDTO attachToComment(@PathVariable Integer commentId,
+                                                 @RequestParam String fileName,
+                                                 @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                                 InputStream content,
+                                                 Principal principal) throws AttachmentApiException, TaskApiException, CommentApiException {
+        return attachmentService.attachToComment(commentId, fileName, contentType, content, principal.getName());
+    }
+
+
+    @GetMapping("/task/{taskId}")
+    public List<AttachmentResponseDTO> getTaskAttachments(@PathVariable Integer taskId, Principal principal) throws AttachmentApiException, TaskApiException {
+        return attachmentService.getTaskAttachments(taskId, principal.getName());
+    }
+
+
+    @GetMapping("/comment/{commentId}")
+    public List<AttachmentResponseDTO> getCommentAttachments(@PathVariable Integer commentId, Principal principal) throws AttachmentApiException, TaskApiException, CommentApiException {
+        return attachmentService.getCommentAttachments(commentId, principal.getName());
+    }
+
+
+    @GetMapping("/{attachmentId}")
+    public void download(@PathVariable Integer attachmentId,
+                         Principal principal,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws AttachmentApiException, TaskApiException, IOException {
+        AttachmentEntity attachment = attachmentService.getAttachment(attachmentId, principal.getName());
+        attachmentSender.send(attachment, request, response);
+    }
+
+
+    @GetMapping("/{attachmentId}/preview")
+    public void preview(@PathVariable Integer attachmentId,
+                        Principal principal,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws AttachmentApiException, TaskApiException, IOException {
+        sendPreview(attachmentId, PreviewSize.PREVIEW, principal, request, response);
+    }
+
+
+    @GetMapping("/{attachmentId}/thumbnail")
+    public void thumbnail(@PathVariable Integer attachmentId,
+                          Principal principal,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws AttachmentApiException, TaskApiException, IOException {
+        sendPreview(attachmentId, PreviewSize.THUMBNAIL, principal, request, response);
+    }
+
+
+    @DeleteMapping("/{attachmentId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteAttachment(@PathVariable Integer attachmentId, Principal principal) throws AttachmentApiException, TaskApiException {
+        attachmentService.deleteAttachment(attachmentId, principal.getName());
+    }
+
+
+    private void sendPreview(Integer attachmentId, PreviewSize size, Principal principal, HttpServletRequest request, HttpServletResponse response) throws AttachmentApiException, TaskApiException, IOException {
+        AttachmentEntity attachment = attachmentService.getAttachmentPreview(attachmentId, size, principal.getName());
+        attachmentSender.sendPreview(attachment, size, request, response);
+    }
+}
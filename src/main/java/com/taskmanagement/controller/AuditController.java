@@ -0,0 +1,29 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.audit.AuditLog;
+import com.taskmanagement.dto.responsedto.AuditRecordResponseDTO;
+import com.taskmanagement.enums.AuditEntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static com.taskmanagement.util.converters.AuditDTOConverter.convertAuditRecordsToDTOS;
+
+@RestController
+@RequestMapping("/api/v1/admin/audit")
+@RequiredArgsConstructor
+public class AuditController {
+
+    private final AuditLog auditLog;
+
+
+    @GetMapping("/{entityType}/{entityId}")
+    @Secured({"ADMIN"})
+    public List<AuditRecordResponseDTO> getByEntity(@PathVariable AuditEntityType entityType,
+                                                    @PathVariable Integer entityId,
+                                                    @RequestParam(defaultValue = "100") int limit) {
+        return convertAuditRecordsToDTOS(auditLog.findByEntity(entityType, entityId, Math.min(limit, 1000)));
+    }
+}
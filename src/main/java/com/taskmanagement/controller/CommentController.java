@@ -2,6 +2,7 @@ package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.requestdto.CommentDTO;
 import com.taskmanagement.dto.responsedto.CommentResponseDTO;
+import com.taskmanagement.dto.responsedto.MentionPageResponseDTO;
 import com.taskmanagement.exceptions.CommentApiException;
 import com.taskmanagement.exceptions.CommentBadRequestException;
 import com.taskmanagement.service.CommentService;
@@ -42,6 +43,13 @@ public class CommentController {
         return commentService.getCommentsByTaskId(taskId, principal.getName());
     }
 
+    @GetMapping("/mentions")
+    public MentionPageResponseDTO getMentions(@RequestParam(required = false) Integer beforeCommentId,
+                                              @RequestParam(defaultValue = "20") int size,
+                                              Principal principal) throws CommentApiException, CommentBadRequestException {
+        return commentService.getMentions(principal.getName(), beforeCommentId, size);
+    }
+
     @DeleteMapping("/{commentId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteComment(@PathVariable Integer commentId, Principal principal) throws CommentApiException {
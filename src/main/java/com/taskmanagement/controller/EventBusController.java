@@ -0,0 +1,24 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.responsedto.EventBusMetricsDTO;
+import com.taskmanagement.event.EventBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/event-bus")
+@RequiredArgsConstructor
+public class EventBusController {
+
+    private final EventBus eventBus;
+
+
+    @GetMapping("/metrics")
+    @Secured({"ADMIN"})
+    public EventBusMetricsDTO getMetrics() {
+        return eventBus.getMetrics();
+    }
+}
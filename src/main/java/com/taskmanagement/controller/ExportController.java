@@ -0,0 +1,51 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.requestdto.TaskExportDTO;
+import com.taskmanagement.enums.ExportFormat;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.export.TaskExportCriteria;
+import com.taskmanagement.service.TaskExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/admin/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType CSV = new MediaType("text", "csv");
+    private static final MediaType NDJSON = new MediaType("application", "x-ndjson");
+
+    private final TaskExportService taskExportService;
+
+    // Exports stream for as long as the client keeps reading; other async requests keep the default timeout.
+    @Value("${app.export.timeout:1h}")
+    private Duration timeout = Duration.ofHours(1);
+
+
+    @GetMapping("/tasks")
+    @Secured({"ADMIN"})
+    public WebAsyncTask<Void> exportTasks(@Valid TaskExportDTO taskExportDTO, HttpServletResponse response) throws TaskApiException {
+        // Resolved up front, once streaming has started the status can no longer change.
+        TaskExportCriteria criteria = taskExportService.resolveCriteria(taskExportDTO);
+        boolean ndjson = criteria.getFormat() == ExportFormat.NDJSON;
+
+        response.setContentType((ndjson ? NDJSON : CSV).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + (ndjson ? "ndjson" : "csv") + "\"");
+        return new WebAsyncTask<>(timeout.toMillis(), () -> {
+            taskExportService.exportTasks(criteria, response.getOutputStream());
+            return null;
+        });
+    }
+}
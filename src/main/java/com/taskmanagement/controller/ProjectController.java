@@ -0,0 +1,66 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.requestdto.ProjectDTO;
+import com.taskmanagement.dto.requestdto.ProjectMemberDTO;
+import com.taskmanagement.dto.responsedto.ProjectResponseDTO;
+import com.taskmanagement.dto.responsedto.UserSuggestionResponseDTO;
+import com.taskmanagement.exceptions.ProjectApiException;
+import com.taskmanagement.service.ProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/project")
+@RequiredArgsConstructor
+public class ProjectController {
+
+    private final ProjectService projectService;
+
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ProjectResponseDTO createProject(@RequestBody @Valid ProjectDTO projectDTO, Principal principal) throws ProjectApiException {
+        return projectService.createProject(projectDTO, principal.getName());
+    }
+
+
+    @GetMapping
+    public List<ProjectResponseDTO> getProjects(Principal principal) throws ProjectApiException {
+        return projectService.getProjects(principal.getName());
+    }
+
+
+    @GetMapping("/{projectId}")
+    public ProjectResponseDTO getProject(@PathVariable Integer projectId, Principal principal) throws ProjectApiException {
+        return projectService.getProject(projectId, principal.getName());
+    }
+
+
+    @PostMapping("/{projectId}/members")
+    public ProjectResponseDTO addMember(@PathVariable Integer projectId,
+                                        @RequestBody @Valid ProjectMemberDTO projectMemberDTO,
+                                        Principal principal) throws ProjectApiException {
+        return projectService.addMember(projectId, projectMemberDTO, principal.getName());
+    }
+
+
+    @GetMapping("/{projectId}/assignees")
+    public List<UserSuggestionResponseDTO> suggestAssignees(@PathVariable Integer projectId,
+                                                            @RequestParam String query,
+                                                            @RequestParam(defaultValue = "10") int limit,
+                                                            Principal principal) throws ProjectApiException {
+        return projectService.suggestAssignees(projectId, query, limit, principal.getName());
+    }
+
+
+    @DeleteMapping("/{projectId}/members/{userId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void removeMember(@PathVariable Integer projectId, @PathVariable Integer userId, Principal principal) throws ProjectApiException {
+        projectService.removeMember(projectId, userId, principal.getName());
+    }
+}
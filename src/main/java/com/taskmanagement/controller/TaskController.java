@@ -1,19 +1,41 @@
 package com.taskmanagement.controller;
 
+import com.taskmanagement.dto.requestdto.RecurringTaskDTO;
+import com.taskmanagement.dto.requestdto.TaskBoardMoveDTO;
 import com.taskmanagement.dto.requestdto.TaskDTO;
+import com.taskmanagement.dto.requestdto.TaskSearchDTO;
+import com.taskmanagement.dto.responsedto.RecurringTaskResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskBoardColumnResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskBoardResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskDashboardResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskImportResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskPageResponseDTO;
 import com.taskmanagement.dto.responsedto.TaskResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskRevisionResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskVersionResponseDTO;
 import com.taskmanagement.enums.TaskPriority;
 import com.taskmanagement.enums.TaskStatus;
 import com.taskmanagement.exceptions.TaskApiException;
 import com.taskmanagement.exceptions.TaskBadRequestException;
 import com.taskmanagement.exceptions.UserApiException;
 import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.service.TaskBoardService;
+import com.taskmanagement.service.TaskCounterService;
+import com.taskmanagement.service.TaskHierarchyService;
+import com.taskmanagement.service.TaskImportService;
+import com.taskmanagement.service.TaskRecurrenceService;
+import com.taskmanagement.service.TaskRevisionService;
+import com.taskmanagement.service.TaskSearchService;
 import com.taskmanagement.service.TaskService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
+import javax.validation.groups.Default;
 import java.security.Principal;
 import java.util.List;
 
@@ -24,15 +46,50 @@ public class TaskController {
 
 
     private final TaskService taskService;
+    private final TaskCounterService taskCounterService;
+    private final TaskRevisionService taskRevisionService;
+    private final TaskRecurrenceService taskRecurrenceService;
+    private final TaskHierarchyService taskHierarchyService;
+    private final TaskSearchService taskSearchService;
+    private final TaskBoardService taskBoardService;
+    private final TaskImportService taskImportService;
 
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public TaskResponseDTO createTask(@RequestBody @Valid TaskDTO taskDTO, Principal principal) throws TaskApiException, TaskBadRequestException {
+    public TaskResponseDTO createTask(@RequestBody @Validated({Default.class, TaskDTO.OnCreate.class}) TaskDTO taskDTO, Principal principal) throws TaskApiException, TaskBadRequestException {
         return taskService.createTask(taskDTO, principal.getName());
     }
 
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public TaskImportResponseDTO importTasks(@RequestParam Integer projectId,
+                                             @RequestParam("file") MultipartFile file,
+                                             Principal principal) throws TaskApiException {
+        return taskImportService.importTasks(projectId, file, principal.getName());
+    }
+
+
+    @PostMapping("/recurring")
+    @ResponseStatus(HttpStatus.CREATED)
+    public RecurringTaskResponseDTO createRecurringTask(@RequestBody @Valid RecurringTaskDTO recurringTaskDTO, Principal principal) throws TaskApiException, TaskBadRequestException {
+        return taskRecurrenceService.createRecurringTask(recurringTaskDTO, principal.getName());
+    }
+
+
+    @GetMapping("/recurring")
+    public List<RecurringTaskResponseDTO> getRecurringTasks(Principal principal) throws TaskApiException {
+        return taskRecurrenceService.getRecurringTasks(principal.getName());
+    }
+
+
+    @DeleteMapping("/recurring/{recurrenceId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void stopRecurringTask(@PathVariable Integer recurrenceId, Principal principal) throws TaskApiException, TaskBadRequestException {
+        taskRecurrenceService.stopRecurringTask(recurrenceId, principal.getName());
+    }
+
+
     @PutMapping("/update-by-author/{taskId}")
     public TaskResponseDTO updateTaskByAuthor(
             @PathVariable Integer taskId,
@@ -62,18 +119,88 @@ public class TaskController {
     @GetMapping("/assignee/tasks")
     public List<TaskResponseDTO> getAllTasksByAssignee(
             Principal principal,
+            @RequestParam Integer projectId,
             @RequestParam(required = false) String authorEmail) throws TaskApiException {
-        return taskService.getTasksByAssignee(principal.getName(), authorEmail);
+        return taskService.getTasksByAssignee(projectId, principal.getName(), authorEmail);
     }
 
 
     @GetMapping("/author/tasks")
     public List<TaskResponseDTO> getAllTasksByAuthor(
             Principal principal,
+            @RequestParam Integer projectId,
             @RequestParam(required = false) String assigneeEmail,
             @RequestParam(required = false) String taskStatus,
             @RequestParam(required = false) String taskPriority) throws TaskApiException, TaskBadRequestException {
-        return taskService.getTasksByAuthor(principal.getName(), assigneeEmail, taskStatus, taskPriority);
+        return taskService.getTasksByAuthor(projectId, principal.getName(), assigneeEmail, taskStatus, taskPriority);
+    }
+
+
+    @GetMapping("/search")
+    public TaskPageResponseDTO searchTasks(@Valid TaskSearchDTO taskSearchDTO, Principal principal) throws TaskApiException {
+        return taskSearchService.searchTasks(taskSearchDTO, principal.getName());
+    }
+
+
+    @GetMapping("/board")
+    public TaskBoardResponseDTO getBoard(
+            @RequestParam Integer projectId,
+            @RequestParam(defaultValue = "20") int size,
+            Principal principal) throws TaskApiException, TaskBadRequestException {
+        return taskBoardService.getBoard(projectId, size, principal.getName());
+    }
+
+
+    @GetMapping("/board/column")
+    public TaskBoardColumnResponseDTO getBoardColumn(
+            @RequestParam Integer projectId,
+            @RequestParam String status,
+            @RequestParam(required = false) Integer afterTaskId,
+            @RequestParam(defaultValue = "20") int size,
+            Principal principal) throws TaskApiException, TaskBadRequestException {
+        return taskBoardService.getColumn(projectId, status, afterTaskId, size, principal.getName());
+    }
+
+
+    @PutMapping("/{taskId}/board-position")
+    public TaskResponseDTO moveTaskOnBoard(
+            @PathVariable Integer taskId,
+            @RequestBody @Valid TaskBoardMoveDTO taskBoardMoveDTO,
+            Principal principal) throws TaskApiException, TaskBadRequestException {
+        return taskService.moveTask(taskId, taskBoardMoveDTO, principal.getName());
+    }
+
+
+    @GetMapping("/{taskId}/subtasks")
+    public List<TaskResponseDTO> getSubtasks(@PathVariable Integer taskId, Principal principal) throws TaskApiException, TaskBadRequestException {
+        return taskHierarchyService.getSubtasks(taskId, principal.getName());
+    }
+
+
+    @PutMapping("/{taskId}/parent")
+    public TaskResponseDTO moveTask(
+            @PathVariable Integer taskId,
+            @RequestParam(required = false) Integer parentId,
+            Principal principal) throws TaskApiException, TaskBadRequestException {
+        return taskHierarchyService.moveTask(taskId, parentId, principal.getName());
+    }
+
+
+    @GetMapping("/{taskId}/history")
+    public List<TaskRevisionResponseDTO> getTaskHistory(@PathVariable Integer taskId, Principal principal) throws TaskApiException, TaskBadRequestException {
+        return taskRevisionService.getHistory(taskId, principal.getName());
+    }
+
+
+    @GetMapping("/{taskId}/history/{revision}")
+    public TaskVersionResponseDTO getTaskVersion(@PathVariable Integer taskId, @PathVariable Integer revision, Principal principal) throws TaskApiException, TaskBadRequestException {
+        return taskRevisionService.getVersion(taskId, revision, principal.getName());
+    }
+
+
+    @GetMapping("/dashboard")
+    public TaskDashboardResponseDTO getDashboard(Principal principal) throws TaskApiException {
+        return taskCounterService.getDashboard(principal.getName());
     }
 
 
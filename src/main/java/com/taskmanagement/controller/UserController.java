@@ -1,6 +1,8 @@
 package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.requestdto.UserDTO;
+import com.taskmanagement.dto.requestdto.UserSearchDTO;
+import com.taskmanagement.dto.responsedto.UserPageResponseDTO;
 import com.taskmanagement.dto.responsedto.UserResponseDTO;
 import com.taskmanagement.exceptions.UserApiException;
 import com.taskmanagement.exceptions.UserBadRequestException;
@@ -10,11 +12,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpSession;
 import javax.validation.Valid;
 import java.security.Principal;
-import java.util.List;
 
 import static com.taskmanagement.util.converters.UserDTOConverter.convertUserEntityToDTO;
 
@@ -24,7 +23,6 @@ import static com.taskmanagement.util.converters.UserDTOConverter.convertUserEnt
 public class UserController {
 
     private final UserService userService;
-    private final HttpSession session;
 
     @GetMapping
     public UserResponseDTO getByEmail(@RequestParam String email) throws UserApiException, UserBadRequestException {
@@ -33,12 +31,9 @@ public class UserController {
     }
 
 
-    @GetMapping("/get-all")
-    public @ResponseBody List<UserResponseDTO> getAll(@RequestParam(required = false) String name,
-                                                      @RequestParam(required = false) String surname,
-                                                      @RequestParam(required = false) String role) throws UserApiException {
-
-        return userService.getAll(name, surname, role);
+    @GetMapping("/search")
+    public @ResponseBody UserPageResponseDTO searchUsers(@Valid UserSearchDTO userSearchDTO) throws UserApiException {
+        return userService.searchUsers(userSearchDTO);
     }
 
 
@@ -65,9 +60,7 @@ public class UserController {
 
 
     @PatchMapping("/forgot-password")
-    public void forgotPassword(@RequestParam String email, HttpServletRequest request) throws UserApiException, UserBadRequestException {
-        request.getSession().setAttribute("email", email);
-
+    public void forgotPassword(@RequestParam String email) throws UserApiException, UserBadRequestException {
         userService.forgotPassword(email);
     }
 
@@ -78,10 +71,7 @@ public class UserController {
                                              @RequestParam String confirmPassword
     ) throws UserApiException, UserBadRequestException {
 
-        String email = (String) session.getAttribute("email");
-        boolean isUpdated = userService.setPassword(email, resetToken, newPassword, confirmPassword);
-        session.removeAttribute("email");
-        return isUpdated;
+        return userService.setPassword(resetToken, newPassword, confirmPassword);
     }
 
 
@@ -0,0 +1,5 @@
+package com.taskmanagement.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY, REPLICA
+}
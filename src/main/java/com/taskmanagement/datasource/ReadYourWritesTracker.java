@@ -0,0 +1,53 @@
+package com.taskmanagement.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+
+    /**
+     * Records that the given user has just committed a write.
+     *
+     * @param userEmail The email of the user who performed the write.
+     */
+    public void markWrite(String userEmail) {
+        long now = System.nanoTime();
+        lastWrites.put(userEmail, now);
+
+        // Keep the map bounded by dropping users whose window has already elapsed.
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+    }
+
+
+    /**
+     * Checks whether the given user committed a write recently enough that replicas may not have caught up.
+     *
+     * @param userEmail The email of the user issuing the read.
+     * @return True if the user's reads must be served by the primary.
+     */
+    public boolean isWithinWindow(String userEmail) {
+        Long writtenAt = lastWrites.get(userEmail);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > windowNanos) {
+            lastWrites.remove(userEmail, writtenAt);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanagement.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource")
+public class ReplicaProperties {
+
+    /**
+     * Read replicas used for read-only transactions. When empty, every query goes to the primary.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * How long a user's read-only transactions stay on the primary after that user committed a write.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskmanagement.datasource;
+
+import com.taskmanagement.util.SecurityUtils;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to a replica (round-robin) and everything else to the primary.
+ * A user who committed a write within the read-your-writes window keeps reading from the primary.
+ * <p>
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so that
+ * the physical connection is only fetched after the transaction's read-only flag has been bound.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker tracker;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceRoute.PRIMARY.name(), primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = DataSourceRoute.REPLICA.name() + "-" + i;
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userEmail = SecurityUtils.currentUserEmail();
+
+        // Writes (and anything outside a read-only transaction) always go to the primary.
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteOnCommit(userEmail);
+            return DataSourceRoute.PRIMARY.name();
+        }
+
+        // Users who just wrote something read from the primary until replicas have caught up.
+        if (replicaKeys.isEmpty() || (userEmail != null && tracker.isWithinWindow(userEmail))) {
+            return DataSourceRoute.PRIMARY.name();
+        }
+
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+
+    private void trackWriteOnCommit(String userEmail) {
+        if (userEmail == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.markWrite(userEmail);
+            }
+        });
+    }
+}
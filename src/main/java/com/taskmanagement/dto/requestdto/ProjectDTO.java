@@ -0,0 +1,24 @@
+package com.taskmanagement.dto.requestdto;
+
+import lombok.*;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectDTO {
+
+    public static final String NAME_NULL_MSG = "Project name can not be null or empty";
+    public static final int NAME_MAX_LENGTH = 64;
+    public static final String NAME_LENGTH_MSG = "Project name can have at most " + NAME_MAX_LENGTH + " characters";
+
+    @NotBlank(message = NAME_NULL_MSG)
+    @Size(max = NAME_MAX_LENGTH, message = NAME_LENGTH_MSG)
+    private String name;
+
+}
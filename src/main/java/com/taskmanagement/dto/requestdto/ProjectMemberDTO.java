@@ -0,0 +1,23 @@
+package com.taskmanagement.dto.requestdto;
+
+import lombok.*;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import static com.taskmanagement.dto.requestdto.TaskDTO.EMAIL_MSG;
+import static com.taskmanagement.dto.requestdto.TaskDTO.EMAIL_REGEX;
+
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectMemberDTO {
+
+    @NotNull(message = "Email can not be null")
+    @Pattern(regexp = EMAIL_REGEX, message = EMAIL_MSG)
+    private String email;
+
+}
@@ -0,0 +1,79 @@
+package com.taskmanagement.dto.requestdto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+import org.hibernate.validator.constraints.Length;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+import static com.taskmanagement.dto.requestdto.TaskDTO.*;
+
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecurringTaskDTO {
+
+    public static final String FREQUENCY_NULL_MSG = "Recurrence frequency can not be null";
+    public static final String FREQUENCY_REGEX = "DAILY|WEEKLY|MONTHLY";
+    public static final String FREQUENCY_REGEX_MSG = "Invalid recurrence frequency. Allowed values are: DAILY, WEEKLY, MONTHLY";
+
+    public static final int MAX_INTERVAL = 365;
+    public static final String INTERVAL_MSG = "Recurrence interval must be between 1 and " + MAX_INTERVAL;
+    public static final String STARTS_ON_NULL_MSG = "Recurrence start date can not be null";
+
+    @NotEmpty(message = TITLE_NULL_MSG)
+    @NotNull(message = TITLE_NULL_MSG)
+    @Length(min = TITLE_MIN_LENGTH, max = TITLE_MAX_LENGTH, message = TITLE_LENGTH_MSG)
+    @Pattern(regexp = TITLE_REGEX, message = TITLE_REGEX_MSG)
+    private String title;
+
+    @NotNull(message = PROJECT_NULL_MSG)
+    private Integer projectId;
+
+    private String description;
+
+    @JsonProperty("priority")
+    @NotNull(message = PRIORITY_NULL_MSG)
+    @Pattern(regexp = PRIORITY_REGEX, message = PRIORITY_REGEX_MSG)
+    private String taskPriority;
+
+    @NotNull(message = "Email can not be null")
+    @Pattern(regexp = EMAIL_REGEX, message = EMAIL_MSG)
+    private String assigneeEmail;
+
+    @NotNull(message = FREQUENCY_NULL_MSG)
+    @Pattern(regexp = FREQUENCY_REGEX, message = FREQUENCY_REGEX_MSG)
+    private String frequency;
+
+    @Builder.Default
+    @Min(value = 1, message = INTERVAL_MSG)
+    @Max(value = MAX_INTERVAL, message = INTERVAL_MSG)
+    private int interval = 1;
+
+    /**
+     * Weekly rules only; defaults to the day of week of {@link #startsOn}.
+     */
+    private Set<DayOfWeek> daysOfWeek;
+
+    @NotNull(message = STARTS_ON_NULL_MSG)
+    private LocalDate startsOn;
+
+    private LocalDate endsOn;
+
+    /**
+     * Time of day at which each occurrence is due. Occurrences have no due date when absent.
+     */
+    private LocalTime dueTime;
+
+}
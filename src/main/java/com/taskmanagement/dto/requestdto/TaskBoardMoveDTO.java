@@ -0,0 +1,29 @@
+package com.taskmanagement.dto.requestdto;
+
+import lombok.*;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import static com.taskmanagement.dto.requestdto.TaskDTO.*;
+
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBoardMoveDTO {
+
+    /**
+     * The column the card is dropped in.
+     */
+    @NotNull(message = STATUS_NULL_MSG)
+    @Pattern(regexp = STATUS_REGEX, message = STATUS_REGEX_MSG)
+    private String status;
+
+    /**
+     * The card the task is dropped below, or null to put it at the top of the column.
+     */
+    private Integer afterTaskId;
+}
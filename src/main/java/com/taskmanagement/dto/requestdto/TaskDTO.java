@@ -6,6 +6,11 @@ import org.hibernate.validator.constraints.Length;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 
 @Getter
@@ -36,12 +41,29 @@ public class TaskDTO {
     public static final String PRIORITY_REGEX = "HIGH|MEDIUM|LOW";
     public static final String PRIORITY_REGEX_MSG = "Invalid task priority. Allowed values are: HIGH, MEDIUM, LOW";
 
+    public static final int MAX_LABELS = 10;
+    public static final String LABELS_SIZE_MSG = "A task can have at most " + MAX_LABELS + " labels";
+    public static final String LABEL_REGEX = "[\\p{L}\\d_-]{1,32}";
+    public static final String LABEL_REGEX_MSG = "Labels must have between 1 and 32 letters, digits, '_' or '-'";
+
+    public static final String PROJECT_NULL_MSG = "Project can not be null";
+
+    public static final int MAX_REMINDERS = 5;
+    public static final String REMINDERS_SIZE_MSG = "A task can have at most " + MAX_REMINDERS + " reminders";
+    public static final String REMINDER_OFFSET_MSG = "Reminder offsets must be a positive number of minutes";
+
     @NotEmpty(message = TITLE_NULL_MSG)
     @NotNull(message = TITLE_NULL_MSG)
     @Length(min = TITLE_MIN_LENGTH, max = TITLE_MAX_LENGTH, message = TITLE_LENGTH_MSG)
     @Pattern(regexp = TITLE_REGEX, message = TITLE_REGEX_MSG)
     private String title;
 
+    /**
+     * Project of a new task. Only required on create and ignored on update; tasks do not move between projects.
+     */
+    @NotNull(message = PROJECT_NULL_MSG, groups = OnCreate.class)
+    private Integer projectId;
+
     private String description;
 
     @JsonProperty("status")
@@ -58,4 +80,30 @@ public class TaskDTO {
     @Pattern(regexp = EMAIL_REGEX, message = EMAIL_MSG)
     private String assigneeEmail;
 
+    private LocalDateTime dueDate;
+
+    /**
+     * Replaces the labels of the task when present. Labels are case-insensitive.
+     */
+    @Size(max = MAX_LABELS, message = LABELS_SIZE_MSG)
+    private Set<@NotNull @Pattern(regexp = LABEL_REGEX, message = LABEL_REGEX_MSG) String> labels;
+
+    /**
+     * Parent task of a new subtask. Ignored on update; subtrees are moved through their own endpoint.
+     */
+    private Integer parentId;
+
+    /**
+     * Replaces the reminder offsets of the task when present; an empty list removes them. Left out on update, the
+     * task keeps its offsets, and its reminders move with its due date.
+     */
+    @Size(max = MAX_REMINDERS, message = REMINDERS_SIZE_MSG)
+    private List<@NotNull @Positive(message = REMINDER_OFFSET_MSG) Integer> reminderMinutesBefore;
+
+
+    /**
+     * Validation group of the constraints that only apply when a task is created.
+     */
+    public interface OnCreate {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.taskmanagement.dto.requestdto;
+
+import lombok.*;
+
+import javax.validation.constraints.Pattern;
+
+import static com.taskmanagement.dto.requestdto.TaskDTO.EMAIL_MSG;
+import static com.taskmanagement.dto.requestdto.TaskDTO.EMAIL_REGEX;
+
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskExportDTO {
+
+    public static final String FORMAT_REGEX = "CSV|NDJSON";
+    public static final String FORMAT_REGEX_MSG = "Format must be CSV or NDJSON";
+
+    /**
+     * Limits the export to the tasks this user authored or is assigned to.
+     */
+    @Pattern(regexp = EMAIL_REGEX, message = EMAIL_MSG)
+    private String userEmail;
+
+    /**
+     * Limits the export to one project; tasks of the whole installation are exported otherwise.
+     */
+    private Integer projectId;
+
+    @Builder.Default
+    private boolean includeComments = false;
+
+    @Builder.Default
+    @Pattern(regexp = FORMAT_REGEX, message = FORMAT_REGEX_MSG)
+    private String format = "CSV";
+
+}
@@ -0,0 +1,60 @@
+package com.taskmanagement.dto.requestdto;
+
+import lombok.*;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import java.util.Set;
+
+import static com.taskmanagement.dto.requestdto.TaskDTO.*;
+
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSearchDTO {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final String PAGE_MSG = "Page can not be negative";
+    public static final String PAGE_SIZE_MSG = "Page size must be between 1 and " + MAX_PAGE_SIZE;
+
+    /**
+     * Limits the search to one project; tasks of all the user's projects are matched otherwise.
+     */
+    private Integer projectId;
+
+    /**
+     * Every one of these labels must be present.
+     */
+    @Size(max = MAX_LABELS, message = LABELS_SIZE_MSG)
+    private Set<@Pattern(regexp = LABEL_REGEX, message = LABEL_REGEX_MSG) String> labels;
+
+    /**
+     * None of these labels may be present.
+     */
+    @Size(max = MAX_LABELS, message = LABELS_SIZE_MSG)
+    private Set<@Pattern(regexp = LABEL_REGEX, message = LABEL_REGEX_MSG) String> excludedLabels;
+
+    @Pattern(regexp = STATUS_REGEX, message = STATUS_REGEX_MSG)
+    private String status;
+
+    @Pattern(regexp = PRIORITY_REGEX, message = PRIORITY_REGEX_MSG)
+    private String priority;
+
+    @Pattern(regexp = EMAIL_REGEX, message = EMAIL_MSG)
+    private String assigneeEmail;
+
+    @Builder.Default
+    @Min(value = 0, message = PAGE_MSG)
+    private int page = 0;
+
+    @Builder.Default
+    @Min(value = 1, message = PAGE_SIZE_MSG)
+    @Max(value = MAX_PAGE_SIZE, message = PAGE_SIZE_MSG)
+    private int size = 20;
+
+}
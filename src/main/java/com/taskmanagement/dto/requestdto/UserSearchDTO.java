@@ -0,0 +1,55 @@
+package com.taskmanagement.dto.requestdto;
+
+import lombok.*;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+
+/**
+ * Filters of the admin user search. Name, surname and email match exactly, or by prefix when the
+ * value ends with '*' (e.g. "Sam*"). All filters given must match.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSearchDTO {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final String PAGE_SIZE_MSG = "Page size must be between 1 and " + MAX_PAGE_SIZE;
+    public static final String FILTER_SIZE_MSG = "Search filters can have at most 255 characters";
+    public static final String ROLE_REGEX = "ADMIN|PROJECT_ADMIN|USER";
+    public static final String ROLE_REGEX_MSG = "Invalid user role. Allowed values are: ADMIN, PROJECT_ADMIN, USER";
+    public static final String STATUS_REGEX = "ACTIVE|INACTIVE";
+    public static final String STATUS_REGEX_MSG = "Invalid user status. Allowed values are: ACTIVE, INACTIVE";
+
+    @Size(max = 255, message = FILTER_SIZE_MSG)
+    private String name;
+
+    @Size(max = 255, message = FILTER_SIZE_MSG)
+    private String surname;
+
+    @Size(max = 255, message = FILTER_SIZE_MSG)
+    private String email;
+
+    @Pattern(regexp = ROLE_REGEX, message = ROLE_REGEX_MSG)
+    private String role;
+
+    @Pattern(regexp = STATUS_REGEX, message = STATUS_REGEX_MSG)
+    private String status;
+
+    /**
+     * The nextAfterId of the previous page; the first page is returned when missing.
+     */
+    private Integer afterId;
+
+    @Builder.Default
+    @Min(value = 1, message = PAGE_SIZE_MSG)
+    @Max(value = MAX_PAGE_SIZE, message = PAGE_SIZE_MSG)
+    private int size = 20;
+
+}
@@ -0,0 +1,23 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class AttachmentResponseDTO {
+    private Integer attachmentId;
+    private Integer taskId;
+    private Integer commentId;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private String checksum;
+    private String uploader;
+    private LocalDateTime createdAt;
+}
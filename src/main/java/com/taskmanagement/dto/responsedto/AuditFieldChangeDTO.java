@@ -0,0 +1,14 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditFieldChangeDTO {
+    private String field;
+    private String before;
+    private String after;
+}
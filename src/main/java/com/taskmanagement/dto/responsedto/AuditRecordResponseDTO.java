@@ -0,0 +1,21 @@
+package com.taskmanagement.dto.responsedto;
+
+import com.taskmanagement.enums.AuditEntityType;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditRecordResponseDTO {
+    private AuditEntityType entityType;
+    private Integer entityId;
+    private String action;
+    private String actor;
+    private Instant occurredAt;
+    private List<AuditFieldChangeDTO> changes;
+}
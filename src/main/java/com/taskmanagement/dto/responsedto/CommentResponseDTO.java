@@ -12,4 +12,8 @@ public class CommentResponseDTO {
     private Integer commentId;
     private String creator;
     private String content;
+    /**
+     * The content rendered from Markdown to sanitized HTML; null until a comment written before rendering existed is rendered.
+     */
+    private String contentHtml;
 }
@@ -0,0 +1,20 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventBusMetricsDTO {
+    private long published;
+    private long dropped;
+    /**
+     * Events dropped under the BLOCK policy because no slot freed up within the block timeout; included in {@link #dropped}.
+     */
+    private long blockTimeouts;
+    private List<EventSubscriberMetricsDTO> subscribers;
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.dto.responsedto;
+
+import com.taskmanagement.enums.SubscriberMode;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventSubscriberMetricsDTO {
+    private String subscriber;
+    private SubscriberMode mode;
+    private long lag;
+    private long processed;
+    private long failed;
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MentionPageResponseDTO {
+    private List<MentionResponseDTO> mentions;
+    /**
+     * Pass as beforeCommentId to get the next, older page; null on the last page.
+     */
+    private Integer nextBeforeCommentId;
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MentionResponseDTO {
+
+    private Integer commentId;
+    private Integer taskId;
+    private String taskTitle;
+    private Integer projectId;
+    private String creator;
+    private String content;
+    private String contentHtml;
+}
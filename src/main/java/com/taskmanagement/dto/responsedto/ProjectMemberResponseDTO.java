@@ -0,0 +1,16 @@
+package com.taskmanagement.dto.responsedto;
+
+import com.taskmanagement.enums.ProjectRole;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ProjectMemberResponseDTO {
+    private Integer userId;
+    private String email;
+    private ProjectRole role;
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ProjectResponseDTO {
+    private Integer projectId;
+    private String name;
+    private String owner;
+    private LocalDateTime createdAt;
+    private List<ProjectMemberResponseDTO> members;
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.dto.responsedto;
+
+import com.taskmanagement.enums.RecurrenceFrequency;
+import com.taskmanagement.enums.TaskPriority;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RecurringTaskResponseDTO {
+    private Integer recurrenceId;
+    private Integer projectId;
+    private String title;
+    private String description;
+    private TaskPriority priority;
+    private String author;
+    private String assignee;
+    private RecurrenceFrequency frequency;
+    private int interval;
+    private Set<DayOfWeek> daysOfWeek;
+    private LocalDate startsOn;
+    private LocalDate endsOn;
+    private LocalTime dueTime;
+    private LocalDate materializedUntil;
+    private boolean active;
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.dto.responsedto;
+
+import com.taskmanagement.enums.TaskStatus;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskBoardColumnResponseDTO {
+    private TaskStatus status;
+    private long total;
+    private List<TaskResponseDTO> tasks;
+    /**
+     * Pass as afterTaskId to get the next page of the column; null on the last page.
+     */
+    private Integer nextAfterTaskId;
+}
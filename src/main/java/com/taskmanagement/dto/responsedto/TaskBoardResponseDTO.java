@@ -0,0 +1,16 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskBoardResponseDTO {
+    private Integer projectId;
+    private List<TaskBoardColumnResponseDTO> columns;
+}
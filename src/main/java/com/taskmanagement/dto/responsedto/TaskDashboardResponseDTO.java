@@ -0,0 +1,17 @@
+package com.taskmanagement.dto.responsedto;
+
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskDashboardResponseDTO {
+    private Map<TaskStatus, Map<TaskPriority, Long>> authored;
+    private Map<TaskStatus, Map<TaskPriority, Long>> assigned;
+}
@@ -0,0 +1,14 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskImportErrorResponseDTO {
+    private long line;
+    private String message;
+}
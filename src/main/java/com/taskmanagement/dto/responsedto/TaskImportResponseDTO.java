@@ -0,0 +1,21 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskImportResponseDTO {
+    private long rows;
+    private long imported;
+    private long failed;
+    /**
+     * The first failed rows; {@code failed} counts all of them.
+     */
+    private List<TaskImportErrorResponseDTO> errors;
+}
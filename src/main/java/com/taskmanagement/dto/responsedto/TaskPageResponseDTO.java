@@ -0,0 +1,18 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskPageResponseDTO {
+    private long total;
+    private int page;
+    private int size;
+    private List<TaskResponseDTO> tasks;
+}
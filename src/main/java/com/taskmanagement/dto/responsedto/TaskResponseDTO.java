@@ -5,7 +5,10 @@ import com.taskmanagement.enums.TaskPriority;
 import com.taskmanagement.enums.TaskStatus;
 import lombok.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -15,10 +18,21 @@ import java.util.List;
 @ToString
 public class TaskResponseDTO {
     private Integer taskId;
+    private Integer projectId;
     private String title;
     private String description;
+    /**
+     * The description rendered from Markdown to sanitized HTML; null until a task written before rendering existed is rendered.
+     */
+    private String descriptionHtml;
     private TaskStatus status;
     private TaskPriority priority;
+    private LocalDateTime dueDate;
+    private Set<String> labels;
+    private Integer parentId;
+    private TaskRollupResponseDTO subtasks;
+    private Integer recurrenceId;
+    private LocalDate occurrenceDate;
     private String author;
     private String assignee;
     private List<CommentResponseDTO> comments;
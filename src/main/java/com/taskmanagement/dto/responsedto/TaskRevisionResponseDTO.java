@@ -0,0 +1,19 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskRevisionResponseDTO {
+    private Integer revision;
+    private boolean snapshot;
+    private Map<String, String> changes;
+    private String changedBy;
+    private LocalDateTime changedAt;
+}
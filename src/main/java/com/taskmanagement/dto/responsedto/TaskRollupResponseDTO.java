@@ -0,0 +1,17 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TaskRollupResponseDTO {
+    private int pending;
+    private int inProgress;
+    private int completed;
+    private int total;
+    private int percentCompleted;
+}
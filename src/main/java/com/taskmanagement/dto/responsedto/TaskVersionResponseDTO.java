@@ -0,0 +1,27 @@
+package com.taskmanagement.dto.responsedto;
+
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskVersionResponseDTO {
+    private Integer taskId;
+    private Integer revision;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private String assignee;
+    private LocalDateTime dueDate;
+    private List<String> labels;
+    private String changedBy;
+    private LocalDateTime changedAt;
+}
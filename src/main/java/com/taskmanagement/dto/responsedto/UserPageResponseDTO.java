@@ -0,0 +1,19 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class UserPageResponseDTO {
+    private List<UserResponseDTO> users;
+    /**
+     * Pass as afterId to get the next page; null on the last page.
+     */
+    private Integer nextAfterId;
+}
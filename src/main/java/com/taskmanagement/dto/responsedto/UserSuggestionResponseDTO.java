@@ -0,0 +1,16 @@
+package com.taskmanagement.dto.responsedto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class UserSuggestionResponseDTO {
+    private Integer id;
+    private String email;
+    private String name;
+    private String surname;
+}
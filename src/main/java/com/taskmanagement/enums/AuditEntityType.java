@@ -0,0 +1,7 @@
+package com.taskmanagement.enums;
+
+public enum AuditEntityType {
+    TASK,
+    COMMENT,
+    USER
+}
@@ -0,0 +1,5 @@
+package com.taskmanagement.enums;
+
+public enum CommentEventType {
+    CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,6 @@
+package com.taskmanagement.enums;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
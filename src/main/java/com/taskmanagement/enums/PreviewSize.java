@@ -0,0 +1,21 @@
+package com.taskmanagement.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The scaled-down renditions generated for image attachments, largest first. Images are fitted into a square
+ * of {@code maxSide} pixels, keeping their aspect ratio, and never scaled up.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PreviewSize {
+    PREVIEW(800, "preview"),
+    THUMBNAIL(128, "thumbnail");
+
+    private final int maxSide;
+    /**
+     * Name of the rendition in the attachment storage.
+     */
+    private final String variant;
+}
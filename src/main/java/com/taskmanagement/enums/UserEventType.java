@@ -0,0 +1,5 @@
+package com.taskmanagement.enums;
+
+public enum UserEventType {
+    CREATED, UPDATED, ACTIVATED, PASSWORD_CHANGED, DELETED
+}
@@ -0,0 +1,51 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.enums.CommentEventType;
+import com.taskmanagement.model.CommentEntity;
+import com.taskmanagement.model.TaskEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class CommentEvent implements DomainEvent {
+
+    private final CommentEventType type;
+    private final String actorEmail;
+    private final Integer commentId;
+    private final Integer taskId;
+    private final String taskTitle;
+    private final String taskAuthorEmail;
+    private final String taskAssigneeEmail;
+    private final String previousContent;
+    private final String content;
+    private final Instant occurredAt;
+
+
+    public static CommentEvent of(CommentEventType type, String actorEmail, CommentEntity comment, String previousContent) {
+        TaskEntity task = comment.getTask();
+        return new CommentEvent(
+                type,
+                actorEmail,
+                comment.getCommentId(),
+                task.getTaskId(),
+                task.getTitle(),
+                task.getAuthor().getEmail(),
+                task.getAssignee().getEmail(),
+                previousContent,
+                type == CommentEventType.DELETED ? null : comment.getContent(),
+                Instant.now()
+        );
+    }
+
+
+    /**
+     * Comments share the partition of their task, so task and comment events of one task stay ordered.
+     */
+    @Override
+    public Object getPartitionKey() {
+        return taskId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskmanagement.event;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+
+    /**
+     * Events with the same partition key are delivered to each subscriber in publication order.
+     */
+    Object getPartitionKey();
+
+    /**
+     * The email of the user who caused the event, or null for system actions.
+     */
+    String getActorEmail();
+
+    Instant getOccurredAt();
+}
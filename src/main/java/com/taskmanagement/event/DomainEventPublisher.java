@@ -0,0 +1,35 @@
+package com.taskmanagement.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final EventBus eventBus;
+
+
+    /**
+     * Publishes an event once the surrounding transaction commits. Events of a rolled back transaction are discarded.
+     * Outside of a transaction the event is dispatched immediately.
+     *
+     * @param event The event to publish.
+     */
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventBus.dispatch(event);
+            return;
+        }
+
+        // Synchronizations of the same order run in registration order, so events keep their publication order.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventBus.dispatch(event);
+            }
+        });
+    }
+}
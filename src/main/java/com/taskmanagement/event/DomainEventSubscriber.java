@@ -0,0 +1,26 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.enums.SubscriberMode;
+
+/**
+ * A side effect of domain writes. Every bean implementing this interface is registered with the {@link EventBus}.
+ * <p>
+ * SYNC subscribers run on the publishing thread right after commit and should only touch memory.
+ * ASYNC subscribers run on the bus's own threads; each one sees the events of a partition in order.
+ *
+ * @param <E> The type of event the subscriber receives.
+ */
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+    Class<E> getEventType();
+
+    void onEvent(E event) throws Exception;
+
+    default SubscriberMode getMode() {
+        return SubscriberMode.ASYNC;
+    }
+
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
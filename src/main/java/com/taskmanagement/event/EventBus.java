@@ -0,0 +1,193 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.dto.responsedto.EventBusMetricsDTO;
+import com.taskmanagement.dto.responsedto.EventSubscriberMetricsDTO;
+import com.taskmanagement.enums.BackpressurePolicy;
+import com.taskmanagement.enums.SubscriberMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process bus for domain events.
+ * <p>
+ * Events are hashed by partition key onto a fixed number of ring-buffer partitions. Synchronous subscribers
+ * are called on the publishing thread; asynchronous subscribers get one consumer thread per partition,
+ * so events of one task are handled in order while a slow subscriber only delays itself.
+ */
+@Slf4j
+@Component
+public class EventBus implements SmartInitializingSingleton, DisposableBean {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final ObjectProvider<DomainEventSubscriber<?>> subscriberProvider;
+    private final EventPartition[] partitions;
+
+    private final List<DomainEventSubscriber<?>> syncSubscribers = new ArrayList<>();
+    private final Map<DomainEventSubscriber<?>, AtomicLong[]> syncCounters = new LinkedHashMap<>();
+    private final List<Thread> consumerThreads = new ArrayList<>();
+    private final AtomicLong published = new AtomicLong();
+
+    private volatile boolean started;
+    private boolean hasAsyncSubscribers;
+
+
+    public EventBus(ObjectProvider<DomainEventSubscriber<?>> subscriberProvider,
+                    @Value("${app.events.partitions:4}") int partitionCount,
+                    @Value("${app.events.ring-buffer-size:1024}") int ringBufferSize,
+                    @Value("${app.events.backpressure:BLOCK}") BackpressurePolicy backpressurePolicy,
+                    @Value("${app.events.block-timeout:100ms}") Duration blockTimeout) {
+        this.subscriberProvider = subscriberProvider;
+
+        // Ring capacity is rounded up to a power of two so a sequence maps to a slot with a mask.
+        int capacity = Integer.highestOneBit(Math.max(2, ringBufferSize) - 1) << 1;
+        this.partitions = new EventPartition[Math.max(1, partitionCount)];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new EventPartition(capacity, backpressurePolicy, blockTimeout);
+        }
+    }
+
+
+    /**
+     * Registers every subscriber bean once all singletons exist, so subscribers may themselves
+     * depend on services that publish events.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        subscriberProvider.orderedStream().forEach(this::register);
+        started = true;
+    }
+
+
+    /**
+     * Delivers an event to the synchronous subscribers and appends it to its partition for the asynchronous ones.
+     *
+     * @param event The event to dispatch.
+     */
+    public void dispatch(DomainEvent event) {
+        if (!started) {
+            log.warn("Event bus is not started, dropping {}", event.getClass().getSimpleName());
+            return;
+        }
+        published.incrementAndGet();
+
+        for (DomainEventSubscriber<?> subscriber : syncSubscribers) {
+            AtomicLong[] counters = syncCounters.get(subscriber);
+            deliver(subscriber, event, counters[0], counters[1]);
+        }
+
+        if (!hasAsyncSubscribers) {
+            return;
+        }
+        EventPartition partition = partitions[Math.floorMod(Objects.hashCode(event.getPartitionKey()), partitions.length)];
+        try {
+            if (!partition.publish(event)) {
+                log.warn("Event bus partition is full, dropped {}", event.getClass().getSimpleName());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Returns per-subscriber progress. Lag is the number of published events a subscriber has not handled yet.
+     *
+     * @return EventBusMetricsDTO with totals and one entry per subscriber.
+     */
+    public EventBusMetricsDTO getMetrics() {
+        Map<DomainEventSubscriber<?>, EventSubscriberMetricsDTO> metrics = new LinkedHashMap<>();
+
+        syncCounters.forEach((subscriber, counters) -> metrics.put(subscriber, EventSubscriberMetricsDTO.builder()
+                .subscriber(subscriber.getName())
+                .mode(SubscriberMode.SYNC)
+                .processed(counters[0].get())
+                .failed(counters[1].get())
+                .build()));
+
+        long dropped = 0;
+        long blockTimeouts = 0;
+        for (EventPartition partition : partitions) {
+            dropped += partition.getDropped();
+            blockTimeouts += partition.getBlockTimeouts();
+            for (PartitionConsumer consumer : partition.getConsumers()) {
+                EventSubscriberMetricsDTO dto = metrics.computeIfAbsent(consumer.getSubscriber(), subscriber -> EventSubscriberMetricsDTO.builder()
+                        .subscriber(subscriber.getName())
+                        .mode(SubscriberMode.ASYNC)
+                        .build());
+                dto.setLag(dto.getLag() + consumer.getLag());
+                dto.setProcessed(dto.getProcessed() + consumer.getProcessed().get());
+                dto.setFailed(dto.getFailed() + consumer.getFailed().get());
+            }
+        }
+
+        return EventBusMetricsDTO.builder()
+                .published(published.get())
+                .dropped(dropped)
+                .blockTimeouts(blockTimeouts)
+                .subscribers(new ArrayList<>(metrics.values()))
+                .build();
+    }
+
+
+    /**
+     * Stops accepting events and lets every consumer drain what was already published.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        started = false;
+        for (EventPartition partition : partitions) {
+            partition.stop();
+        }
+        for (Thread thread : consumerThreads) {
+            thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+
+
+    @SuppressWarnings("unchecked")
+    static <E extends DomainEvent> void deliver(DomainEventSubscriber<E> subscriber, DomainEvent event, AtomicLong processed, AtomicLong failed) {
+        if (!subscriber.getEventType().isInstance(event)) {
+            return;
+        }
+        try {
+            subscriber.onEvent((E) event);
+            processed.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.error("Subscriber {} failed on {}", subscriber.getName(), event.getClass().getSimpleName(), e);
+        }
+    }
+
+
+    private void register(DomainEventSubscriber<?> subscriber) {
+        if (subscriber.getMode() == SubscriberMode.SYNC) {
+            syncSubscribers.add(subscriber);
+            syncCounters.put(subscriber, new AtomicLong[]{new AtomicLong(), new AtomicLong()});
+            return;
+        }
+
+        hasAsyncSubscribers = true;
+        for (int i = 0; i < partitions.length; i++) {
+            PartitionConsumer consumer = new PartitionConsumer(partitions[i], subscriber);
+            partitions[i].addConsumer(consumer);
+
+            Thread thread = new Thread(consumer, "event-" + subscriber.getName() + "-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            consumerThreads.add(thread);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.enums.BackpressurePolicy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded ring buffer of events with one consumer thread per asynchronous subscriber.
+ * <p>
+ * Producers claim the next sequence under the partition lock, so slots are written by one thread at a time.
+ * Each consumer tracks its own sequence; a slot is reused only once every consumer has moved past it.
+ */
+class EventPartition {
+
+    private final DomainEvent[] slots;
+    private final int mask;
+    private final BackpressurePolicy backpressurePolicy;
+    private final long blockTimeoutNanos;
+
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong blockTimeouts = new AtomicLong();
+    private final List<PartitionConsumer> consumers = new CopyOnWriteArrayList<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final Condition consumed = lock.newCondition();
+
+    private volatile boolean running = true;
+
+
+    EventPartition(int capacity, BackpressurePolicy backpressurePolicy, Duration blockTimeout) {
+        this.slots = new DomainEvent[capacity];
+        this.mask = capacity - 1;
+        this.backpressurePolicy = backpressurePolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+    }
+
+
+    /**
+     * Appends an event to the ring. When every slot still holds an unconsumed event,
+     * either waits for the slowest consumer (BLOCK) or discards the event (DROP).
+     * <p>
+     * Events are published after commit on the request thread, so BLOCK waits at most the block timeout
+     * and then discards the event as DROP would, rather than stall the request indefinitely.
+     *
+     * @param event The event to append.
+     * @return True if the event was appended.
+     * @throws InterruptedException If interrupted while waiting for a free slot.
+     */
+    boolean publish(DomainEvent event) throws InterruptedException {
+        lock.lock();
+        try {
+            long next = cursor.get() + 1;
+            long remainingNanos = blockTimeoutNanos;
+            while (next - slots.length > minimumConsumerSequence()) {
+                if (backpressurePolicy == BackpressurePolicy.DROP || !running) {
+                    dropped.incrementAndGet();
+                    return false;
+                }
+                if (remainingNanos <= 0) {
+                    blockTimeouts.incrementAndGet();
+                    dropped.incrementAndGet();
+                    return false;
+                }
+                remainingNanos = consumed.awaitNanos(remainingNanos);
+            }
+            slots[(int) (next & mask)] = event;
+            cursor.set(next);
+            published.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    void addConsumer(PartitionConsumer consumer) {
+        consumer.getSequence().set(cursor.get());
+        consumers.add(consumer);
+    }
+
+
+    /**
+     * Waits until an event at or after the given sequence has been published.
+     *
+     * @param sequence The next sequence the consumer wants to read.
+     * @return The highest published sequence; lower than the requested one once the partition is stopped and drained.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    long waitFor(long sequence) throws InterruptedException {
+        if (cursor.get() >= sequence) {
+            return cursor.get();
+        }
+        lock.lock();
+        try {
+            while (cursor.get() < sequence && running) {
+                published.await();
+            }
+            return cursor.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    DomainEvent get(long sequence) {
+        return slots[(int) (sequence & mask)];
+    }
+
+
+    void signalConsumed() {
+        lock.lock();
+        try {
+            consumed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    void stop() {
+        running = false;
+        lock.lock();
+        try {
+            published.signalAll();
+            consumed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    long getCursor() {
+        return cursor.get();
+    }
+
+
+    long getDropped() {
+        return dropped.get();
+    }
+
+
+    long getBlockTimeouts() {
+        return blockTimeouts.get();
+    }
+
+
+    List<PartitionConsumer> getConsumers() {
+        return consumers;
+    }
+
+
+    private long minimumConsumerSequence() {
+        long minimum = cursor.get();
+        for (PartitionConsumer consumer : consumers) {
+            minimum = Math.min(minimum, consumer.getSequence().get());
+        }
+        return minimum;
+    }
+}
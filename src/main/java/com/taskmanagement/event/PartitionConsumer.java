@@ -0,0 +1,52 @@
+package com.taskmanagement.event;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the events of one partition to one asynchronous subscriber, in sequence order.
+ */
+@Slf4j
+@Getter
+class PartitionConsumer implements Runnable {
+
+    private final EventPartition partition;
+    private final DomainEventSubscriber<?> subscriber;
+    private final AtomicLong sequence = new AtomicLong(-1);
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+
+    PartitionConsumer(EventPartition partition, DomainEventSubscriber<?> subscriber) {
+        this.partition = partition;
+        this.subscriber = subscriber;
+    }
+
+
+    @Override
+    public void run() {
+        long next = sequence.get() + 1;
+        try {
+            while (true) {
+                long available = partition.waitFor(next);
+                if (available < next) {
+                    return;
+                }
+                for (; next <= available; next++) {
+                    EventBus.deliver(subscriber, partition.get(next), processed, failed);
+                    sequence.set(next);
+                }
+                partition.signalConsumed();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    long getLag() {
+        return partition.getCursor() - sequence.get();
+    }
+}
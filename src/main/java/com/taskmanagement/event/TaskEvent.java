@@ -0,0 +1,42 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.enums.TaskEventType;
+import com.taskmanagement.model.TaskSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class TaskEvent implements DomainEvent {
+
+    private final TaskEventType type;
+    private final String actorEmail;
+    private final TaskSnapshot before;
+    private final TaskSnapshot after;
+    private final Instant occurredAt;
+
+
+    public static TaskEvent created(String actorEmail, TaskSnapshot after) {
+        return new TaskEvent(TaskEventType.CREATED, actorEmail, null, after, Instant.now());
+    }
+
+    public static TaskEvent updated(String actorEmail, TaskSnapshot before, TaskSnapshot after) {
+        return new TaskEvent(TaskEventType.UPDATED, actorEmail, before, after, Instant.now());
+    }
+
+    public static TaskEvent deleted(String actorEmail, TaskSnapshot before) {
+        return new TaskEvent(TaskEventType.DELETED, actorEmail, before, null, Instant.now());
+    }
+
+
+    public Integer getTaskId() {
+        return after != null ? after.getTaskId() : before.getTaskId();
+    }
+
+    @Override
+    public Object getPartitionKey() {
+        return getTaskId();
+    }
+}
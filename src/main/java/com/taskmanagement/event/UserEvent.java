@@ -0,0 +1,34 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.enums.UserEventType;
+import com.taskmanagement.model.UserSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class UserEvent implements DomainEvent {
+
+    private final UserEventType type;
+    private final String actorEmail;
+    private final UserSnapshot before;
+    private final UserSnapshot after;
+    private final Instant occurredAt;
+
+
+    public static UserEvent of(UserEventType type, String actorEmail, UserSnapshot before, UserSnapshot after) {
+        return new UserEvent(type, actorEmail, before, after, Instant.now());
+    }
+
+
+    public Integer getUserId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    @Override
+    public Object getPartitionKey() {
+        return getUserId();
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskmanagement.exceptions;
+
+import com.taskmanagement.common.exception.AppApiException;
+
+public class AttachmentApiException extends AppApiException {
+    public AttachmentApiException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskmanagement.exceptions;
+
+import com.taskmanagement.common.exception.AppBadRequestException;
+
+public class AttachmentBadRequestException extends AppBadRequestException {
+    public AttachmentBadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskmanagement.exceptions;
+
+import com.taskmanagement.common.exception.AppNotFoundException;
+
+public class AttachmentNotFoundException extends AppNotFoundException {
+    public AttachmentNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskmanagement.exceptions;
+
+import com.taskmanagement.common.exception.AppUnauthorizedOperationException;
+
+public class AttachmentUnauthorizedOperationException extends AppUnauthorizedOperationException {
+    public AttachmentUnauthorizedOperationException(String message) {
+        super(message);
+    }
+}
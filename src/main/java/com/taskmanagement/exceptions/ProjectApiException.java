@@ -0,0 +1,9 @@
+package com.taskmanagement.exceptions;
+
+import com.taskmanagement.common.exception.AppApiException;
+
+public class ProjectApiException extends AppApiException {
+    public ProjectApiException(String message) {
+        super(message);
+    }
+}
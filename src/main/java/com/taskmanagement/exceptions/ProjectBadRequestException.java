@@ -0,0 +1,9 @@
+package com.taskmanagement.exceptions;
+
+import com.taskmanagement.common.exception.AppBadRequestException;
+
+public class ProjectBadRequestException extends AppBadRequestException {
+    public ProjectBadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskmanagement.exceptions;
+
+import com.taskmanagement.common.exception.AppNotFoundException;
+
+public class ProjectNotFoundException extends AppNotFoundException {
+    public ProjectNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskmanagement.exceptions;
+
+import com.taskmanagement.common.exception.AppUnauthorizedOperationException;
+
+public class ProjectUnauthorizedOperationException extends AppUnauthorizedOperationException {
+    public ProjectUnauthorizedOperationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskmanagement.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes RFC 4180 CSV. With comments every comment gets a line of its own that repeats the task columns,
+ * a task without comments still gets one line with empty comment columns.
+ */
+public class CsvTaskExportWriter implements TaskExportWriter {
+
+    private static final String TASK_HEADER = "task_id,project_id,title,description,status,priority,due_date,labels,parent_id,author,assignee";
+    private static final String COMMENT_HEADER = ",comment_id,comment_author,comment";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private final boolean includeComments;
+
+
+    public CsvTaskExportWriter(OutputStream outputStream, boolean includeComments) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.includeComments = includeComments;
+        writer.write(includeComments ? TASK_HEADER + COMMENT_HEADER : TASK_HEADER);
+        writer.write("\r\n");
+    }
+
+
+    @Override
+    public void write(ExportedTask task) throws IOException {
+        if (!includeComments || task.getComments().isEmpty()) {
+            writeTask(task);
+            if (includeComments) {
+                writer.write(",,,");
+            }
+            writer.write("\r\n");
+            return;
+        }
+        for (ExportedComment comment : task.getComments()) {
+            writeTask(task);
+            writer.write(',');
+            writer.write(Integer.toString(comment.getCommentId()));
+            writer.write(',');
+            writeField(comment.getAuthorEmail());
+            writer.write(',');
+            writeField(comment.getContent());
+            writer.write("\r\n");
+        }
+    }
+
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+
+    private void writeTask(ExportedTask task) throws IOException {
+        writer.write(Integer.toString(task.getTaskId()));
+        writer.write(',');
+        writer.write(Integer.toString(task.getProjectId()));
+        writer.write(',');
+        writeField(task.getTitle());
+        writer.write(',');
+        writeField(task.getDescription());
+        writer.write(',');
+        writeField(task.getStatus());
+        writer.write(',');
+        writeField(task.getPriority());
+        writer.write(',');
+        writeField(task.getDueDate() == null ? null : task.getDueDate().toString());
+        writer.write(',');
+        writeField(task.getLabels());
+        writer.write(',');
+        writeField(task.getParentId() == null ? null : task.getParentId().toString());
+        writer.write(',');
+        writeField(task.getAuthorEmail());
+        writer.write(',');
+        writeField(task.getAssigneeEmail());
+    }
+
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuotes(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
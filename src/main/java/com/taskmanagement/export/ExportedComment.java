@@ -0,0 +1,13 @@
+package com.taskmanagement.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ExportedComment {
+
+    private final int commentId;
+    private final String authorEmail;
+    private final String content;
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.export;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One task of an export. Only the task being written is held in memory, its comments are
+ * collected from the consecutive rows of the cursor.
+ */
+@Getter
+@Builder
+public class ExportedTask {
+
+    private final int taskId;
+    private final int projectId;
+    private final String title;
+    private final String description;
+    private final String status;
+    private final String priority;
+    private final LocalDateTime dueDate;
+    private final Integer parentId;
+    private final String authorEmail;
+    private final String assigneeEmail;
+    /**
+     * Labels separated by ';', labels themselves never contain one.
+     */
+    private final String labels;
+    @Builder.Default
+    private final List<ExportedComment> comments = new ArrayList<>();
+}
@@ -0,0 +1,73 @@
+package com.taskmanagement.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes one JSON object per line. Comments are nested in the task they belong to.
+ */
+public class NdjsonTaskExportWriter implements TaskExportWriter {
+
+    private final JsonGenerator generator;
+    private final boolean includeComments;
+
+
+    public NdjsonTaskExportWriter(JsonFactory jsonFactory, OutputStream outputStream, boolean includeComments) throws IOException {
+        this.generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8);
+        // The lines are separated by hand, the stream belongs to the response.
+        this.generator.setRootValueSeparator(null);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.includeComments = includeComments;
+    }
+
+
+    @Override
+    public void write(ExportedTask task) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("taskId", task.getTaskId());
+        generator.writeNumberField("projectId", task.getProjectId());
+        generator.writeStringField("title", task.getTitle());
+        generator.writeStringField("description", task.getDescription());
+        generator.writeStringField("status", task.getStatus());
+        generator.writeStringField("priority", task.getPriority());
+        generator.writeStringField("dueDate", task.getDueDate() == null ? null : task.getDueDate().toString());
+        generator.writeFieldName("parentId");
+        if (task.getParentId() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(task.getParentId());
+        }
+        generator.writeStringField("author", task.getAuthorEmail());
+        generator.writeStringField("assignee", task.getAssigneeEmail());
+        generator.writeArrayFieldStart("labels");
+        if (task.getLabels() != null) {
+            for (String label : task.getLabels().split(";")) {
+                generator.writeString(label);
+            }
+        }
+        generator.writeEndArray();
+        if (includeComments) {
+            generator.writeArrayFieldStart("comments");
+            for (ExportedComment comment : task.getComments()) {
+                generator.writeStartObject();
+                generator.writeNumberField("commentId", comment.getCommentId());
+                generator.writeStringField("author", comment.getAuthorEmail());
+                generator.writeStringField("content", comment.getContent());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
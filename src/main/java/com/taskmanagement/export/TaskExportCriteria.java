@@ -0,0 +1,18 @@
+package com.taskmanagement.export;
+
+import com.taskmanagement.enums.ExportFormat;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TaskExportCriteria {
+
+    private final ExportFormat format;
+    /**
+     * Only tasks this user authored or is assigned to are exported, when set.
+     */
+    private final Integer userId;
+    private final Integer projectId;
+    private final boolean includeComments;
+}
@@ -0,0 +1,16 @@
+package com.taskmanagement.export;
+
+import java.io.IOException;
+
+/**
+ * Serializes tasks straight to the output stream of an export, one task at a time.
+ */
+public interface TaskExportWriter {
+
+    void write(ExportedTask task) throws IOException;
+
+    /**
+     * Flushes what is still buffered. The underlying stream stays open.
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.importer;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+@Getter
+public class CsvFormatException extends IOException {
+
+    private final long line;
+
+
+    public CsvFormatException(String message, long line) {
+        super(message);
+        this.line = line;
+    }
+}
@@ -0,0 +1,130 @@
+package com.taskmanagement.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 reader. Only the current record is held in memory; quoted fields may span lines.
+ * Records longer than {@code maxRecordLength} characters are rejected, so a stray quote can not make
+ * the reader buffer the rest of the file.
+ */
+public class CsvReader {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private long recordLine;
+    private int pushedBack = EOF - 1;
+
+
+    /**
+     * @param reader          The source, expected to be buffered.
+     * @param maxRecordLength The maximum number of characters of a record.
+     */
+    public CsvReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+
+    /**
+     * @return The fields of the next record, or null at the end of the input. Blank lines are skipped.
+     * @throws CsvFormatException If the record is malformed or too long.
+     * @throws IOException        If reading fails.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = skipLineBreak(c);
+        }
+        if (c == EOF) {
+            return null;
+        }
+        if (recordLine == 0 && c == '\uFEFF') {
+            c = read();
+        }
+
+        recordLine = line;
+        List<String> record = new ArrayList<>();
+        int length = 0;
+        field.setLength(0);
+        boolean quoted = false;
+        boolean afterQuote = false;
+        while (true) {
+            if (++length > maxRecordLength) {
+                throw new CsvFormatException("Record exceeds " + maxRecordLength + " characters", recordLine);
+            }
+            if (quoted) {
+                if (c == EOF) {
+                    throw new CsvFormatException("Unterminated quoted field", recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        afterQuote = true;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                record.add(field.toString());
+                if (c != EOF) {
+                    pushedBack = skipLineBreak(c);
+                }
+                return record;
+            } else if (afterQuote) {
+                throw new CsvFormatException("Unexpected character after a quoted field", recordLine);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+
+    /**
+     * @return The line the last record returned by {@link #readRecord()} starts on.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+
+    private int skipLineBreak(int c) throws IOException {
+        line++;
+        int next = read();
+        if (c == '\r' && next == '\n') {
+            next = read();
+        }
+        return next;
+    }
+
+
+    private int read() throws IOException {
+        if (pushedBack != EOF - 1) {
+            int c = pushedBack;
+            pushedBack = EOF - 1;
+            return c;
+        }
+        return reader.read();
+    }
+}
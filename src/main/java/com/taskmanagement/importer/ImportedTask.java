@@ -0,0 +1,35 @@
+package com.taskmanagement.importer;
+
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * A validated row of an import file, waiting for its batch to be inserted.
+ */
+@Getter
+@Builder
+public class ImportedTask {
+
+    /**
+     * The line of the file the row starts on, for error reports.
+     */
+    private final long line;
+    private final String title;
+    private final String description;
+    private final String descriptionHtml;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final LocalDateTime dueDate;
+    private final int assigneeId;
+    private final String assigneeEmail;
+    private final Set<String> labels;
+    /**
+     * How many minutes before the due date the task reminds its assignee.
+     */
+    private final Set<Integer> reminderOffsets;
+}
@@ -0,0 +1,49 @@
+package com.taskmanagement.markdown;
+
+import org.commonmark.node.Link;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+
+/**
+ * Renders task descriptions and comments from Markdown to HTML that is safe to embed in a page.
+ * <p>
+ * Raw HTML in the source is escaped rather than passed through, and link and image URLs with a scheme
+ * other than http, https, mailto and data are dropped, so the output needs no further sanitizing.
+ * Links open without a referrer and are not followed by crawlers.
+ * <p>
+ * Text is rendered once when it is written and stored next to its source together with {@link #VERSION}.
+ * Bump the version whenever the output changes; {@link MarkdownRerenderer} then renders the stored rows
+ * again in the background, while reads keep serving the previous HTML.
+ */
+public final class MarkdownRenderer {
+
+    public static final int VERSION = 1;
+
+    // Both are immutable and thread-safe.
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder()
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                if (node instanceof Link) {
+                    attributes.put("rel", "nofollow noopener noreferrer");
+                }
+            })
+            .build();
+
+
+    private MarkdownRenderer() {
+    }
+
+
+    /**
+     * @param markdown The Markdown source, may be null.
+     * @return The sanitized HTML, or null if the source is null.
+     */
+    public static String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+        return RENDERER.render(PARSER.parse(markdown));
+    }
+}
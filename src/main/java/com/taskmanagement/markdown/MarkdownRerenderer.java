@@ -0,0 +1,76 @@
+package com.taskmanagement.markdown;
+
+import com.taskmanagement.repository.MarkdownRenderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Renders again the descriptions and comments stored by an older {@link MarkdownRenderer#VERSION}, in the
+ * background, so that reads only ever return stored HTML. Runs right after startup, which covers the rows
+ * of an upgrade, and then periodically; each batch is committed on its own.
+ */
+@Slf4j
+@Component
+public class MarkdownRerenderer {
+
+    private final MarkdownRenderRepository markdownRenderRepository;
+    private final int batchSize;
+
+
+    public MarkdownRerenderer(MarkdownRenderRepository markdownRenderRepository,
+                              @Value("${app.markdown.batch-size:500}") int batchSize) {
+        this.markdownRenderRepository = markdownRenderRepository;
+        this.batchSize = batchSize;
+    }
+
+
+    @Scheduled(fixedDelayString = "${app.markdown.rerender-interval:300000}")
+    public void rerenderStale() {
+        long tasks = 0;
+        long comments = 0;
+        for (int version = 0; version < MarkdownRenderer.VERSION; version++) {
+            tasks += rerender(version, markdownRenderRepository::findTasksRenderedAt, markdownRenderRepository::updateTasks);
+            comments += rerender(version, markdownRenderRepository::findCommentsRenderedAt, markdownRenderRepository::updateComments);
+        }
+        if (tasks > 0 || comments > 0) {
+            log.info("Rendered {} task descriptions and {} comments with renderer version {}", tasks, comments, MarkdownRenderer.VERSION);
+        }
+    }
+
+
+    private long rerender(int version, StaleRowFinder finder, BiConsumer<Map<Integer, String>, Integer> updater) {
+        long rendered = 0;
+        int afterId = 0;
+        Map<Integer, String> sources;
+        do {
+            try {
+                sources = finder.find(version, afterId, batchSize);
+                Map<Integer, String> html = new LinkedHashMap<>(sources.size() * 2);
+                for (Map.Entry<Integer, String> source : sources.entrySet()) {
+                    html.put(source.getKey(), MarkdownRenderer.render(source.getValue()));
+                    afterId = source.getKey();
+                }
+                if (!html.isEmpty()) {
+                    updater.accept(html, MarkdownRenderer.VERSION);
+                }
+            } catch (Exception e) {
+                log.error("Failed to render stored Markdown of renderer version {} after id {}", version, afterId, e);
+                return rendered;
+            }
+            rendered += sources.size();
+        } while (sources.size() == batchSize);
+        return rendered;
+    }
+
+
+    @FunctionalInterface
+    private interface StaleRowFinder {
+        Map<Integer, String> find(int renderVersion, int afterId, int limit);
+    }
+}
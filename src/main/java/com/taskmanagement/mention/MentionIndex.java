@@ -0,0 +1,231 @@
+package com.taskmanagement.mention;
+
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.search.IndexedUser;
+import com.taskmanagement.search.RebuildableIndex;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Resolves the {@code @email} mentions of a text to user IDs, in one pass over the text.
+ * <p>
+ * The automaton is immutable, so user writes go to a small overlay of handles added since it was built,
+ * which a periodic compaction folds into a new automaton. Every match is checked against the current email
+ * of its user, so handles that were changed or deleted since the build never match. Like
+ * {@link com.taskmanagement.search.UserPrefixIndex}, the index is loaded at startup, kept current from
+ * user events and reloaded periodically to repair any drift.
+ */
+@Slf4j
+@Component
+public class MentionIndex {
+
+    private final UserRepository userRepository;
+    private final int loadBatchSize;
+    private final RebuildableIndex<State, Change> index;
+
+
+    public MentionIndex(UserRepository userRepository,
+                        @Value("${app.mention-index.load-batch-size:5000}") int loadBatchSize) {
+        this.userRepository = userRepository;
+        this.loadBatchSize = loadBatchSize;
+        this.index = new RebuildableIndex<>("mention index", new State(new HashMap<>(), MentionMatcher.of(Map.of())), this::loadState,
+                (state, change) -> state.apply(change.userId, change.email));
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+
+    @Scheduled(fixedDelayString = "${app.mention-index.rebuild-interval:3600000}", initialDelayString = "${app.mention-index.rebuild-interval:3600000}")
+    public void scheduledRebuild() {
+        if (index.isReady()) {
+            rebuild();
+        }
+    }
+
+
+    /**
+     * Loads all user emails from the database, in batches of {@code loadBatchSize} users, and swaps in a new automaton.
+     * Synchronized with {@link #compact()}, which must not fold handles into a generation it did not read.
+     */
+    public synchronized void rebuild() {
+        if (index.rebuild()) {
+            log.info("Indexed {} mention handles", index.read(state -> state.emails.size()));
+        }
+    }
+
+
+    /**
+     * Folds the handles added since the automaton was built into a new automaton, built from memory.
+     */
+    @Scheduled(fixedDelayString = "${app.mention-index.compact-interval:60000}")
+    public synchronized void compact() {
+        if (!index.isReady()) {
+            return;
+        }
+        Map<String, Integer> handles = index.read(state -> state.added.isEmpty() ? null : handlesOf(state.emails));
+        if (handles == null) {
+            return;
+        }
+
+        MentionMatcher compacted = MentionMatcher.of(handles);
+
+        index.update(state -> {
+            state.matcher = compacted;
+            state.added.entrySet().removeIf(handle -> handle.getValue().equals(handles.get(handle.getKey())));
+        });
+    }
+
+
+    /**
+     * @param userId The ID of the changed user.
+     * @param email  The new email of the user, or null if it was deleted.
+     */
+    public void apply(int userId, String email) {
+        index.apply(new Change(userId, email));
+    }
+
+
+    /**
+     * Until the index is loaded, every handle-like word after the prefix is looked up by email instead.
+     *
+     * @param text The text to scan for mentions.
+     * @return The IDs of the mentioned users, in order of first mention.
+     */
+    public Set<Integer> match(String text) {
+        Set<Integer> userIds = new LinkedHashSet<>();
+        if (text == null || text.indexOf(MentionMatcher.MENTION_PREFIX) < 0) {
+            return userIds;
+        }
+        if (!index.isReady()) {
+            lookUpHandles(text, userIds);
+            return userIds;
+        }
+
+        return index.read(state -> {
+            state.matcher.match(text, (userId, begin, end) -> {
+                if (state.isCurrentHandle(text, userId, begin, end)) {
+                    userIds.add(userId);
+                }
+            });
+            if (!state.added.isEmpty()) {
+                String lowerCaseText = MentionMatcher.toLowerCase(text);
+                state.added.forEach((email, userId) -> {
+                    String handle = MentionMatcher.MENTION_PREFIX + email;
+                    for (int begin = lowerCaseText.indexOf(handle); begin >= 0; begin = lowerCaseText.indexOf(handle, begin + 1)) {
+                        if (MentionMatcher.isMentionAt(text, begin, begin + handle.length())) {
+                            userIds.add(userId);
+                            break;
+                        }
+                    }
+                });
+            }
+            return userIds;
+        });
+    }
+
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+
+    private State loadState() {
+        Map<Integer, String> emails = new HashMap<>();
+        int afterId = 0;
+        List<IndexedUser> batch;
+        do {
+            batch = userRepository.findIndexedUsersAfter(afterId, PageRequest.of(0, loadBatchSize));
+            for (IndexedUser user : batch) {
+                emails.put(user.getId(), MentionMatcher.toLowerCase(user.getEmail()));
+                afterId = user.getId();
+            }
+        } while (batch.size() == loadBatchSize);
+        return new State(emails, MentionMatcher.of(handlesOf(emails)));
+    }
+
+
+    private void lookUpHandles(String text, Set<Integer> userIds) {
+        for (int begin = text.indexOf(MentionMatcher.MENTION_PREFIX); begin >= 0; begin = text.indexOf(MentionMatcher.MENTION_PREFIX, begin + 1)) {
+            int end = begin + 1;
+            while (end < text.length() && MentionMatcher.isHandleChar(text.charAt(end))) {
+                end++;
+            }
+            while (end > begin + 1 && text.charAt(end - 1) == '.') {
+                end--;
+            }
+            if (end == begin + 1 || !MentionMatcher.isMentionAt(text, begin, end)) {
+                continue;
+            }
+            UserEntity user = userRepository.findByEmail(text.substring(begin + 1, end));
+            if (user != null) {
+                userIds.add(user.getId());
+            }
+            begin = end - 1;
+        }
+    }
+
+
+    private static Map<String, Integer> handlesOf(Map<Integer, String> emails) {
+        Map<String, Integer> handles = new HashMap<>(emails.size() * 2);
+        emails.forEach((userId, email) -> handles.putIfAbsent(email, userId));
+        return handles;
+    }
+
+
+    /**
+     * One generation of the index: the current lower case email of every user, the automaton and the handles it misses.
+     */
+    private static class State {
+
+        private final Map<Integer, String> emails;
+        private final Map<String, Integer> added = new HashMap<>();
+        private MentionMatcher matcher;
+
+
+        private State(Map<Integer, String> emails, MentionMatcher matcher) {
+            this.emails = emails;
+            this.matcher = matcher;
+        }
+
+
+        private void apply(int userId, String email) {
+            String handle = email == null ? null : MentionMatcher.toLowerCase(email);
+            String previous = handle == null ? emails.remove(userId) : emails.put(userId, handle);
+            if (Objects.equals(previous, handle)) {
+                return;
+            }
+            if (previous != null) {
+                added.remove(previous, userId);
+            }
+            if (handle != null) {
+                added.put(handle, userId);
+            }
+        }
+
+
+        private boolean isCurrentHandle(String text, int userId, int begin, int end) {
+            String email = emails.get(userId);
+            return email != null && email.length() == end - begin - 1 && text.regionMatches(true, begin + 1, email, 0, email.length());
+        }
+    }
+
+
+    @AllArgsConstructor
+    private static class Change {
+        private final int userId;
+        private final String email;
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskmanagement.mention;
+
+import com.taskmanagement.enums.SubscriberMode;
+import com.taskmanagement.event.DomainEventSubscriber;
+import com.taskmanagement.event.UserEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the mention index in step with user writes, so a new or renamed user can be mentioned as soon as
+ * the request that wrote it returns.
+ */
+@Component
+@RequiredArgsConstructor
+public class MentionIndexSubscriber implements DomainEventSubscriber<UserEvent> {
+
+    private final MentionIndex mentionIndex;
+
+
+    @Override
+    public Class<UserEvent> getEventType() {
+        return UserEvent.class;
+    }
+
+
+    @Override
+    public SubscriberMode getMode() {
+        return SubscriberMode.SYNC;
+    }
+
+
+    @Override
+    public void onEvent(UserEvent event) {
+        String email = event.getAfter() == null ? null : event.getAfter().getEmail();
+        if (event.getBefore() != null && email != null && email.equals(event.getBefore().getEmail())) {
+            return;
+        }
+        mentionIndex.apply(event.getUserId(), email);
+    }
+}
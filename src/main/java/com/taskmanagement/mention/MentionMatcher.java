@@ -0,0 +1,218 @@
+package com.taskmanagement.mention;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Aho–Corasick automaton over the handles {@code @email} of all users. A single pass over a comment
+ * finds every mentioned handle, however many users there are; matching is case-insensitive.
+ * <p>
+ * The trie is built breadth-first from the sorted handles, so the children of a node get consecutive
+ * numbers and edge {@code k} always leads to node {@code k + 1}: a node is just a range of edge labels,
+ * which keeps the automaton at a few flat arrays. Instances are immutable.
+ */
+public class MentionMatcher {
+
+    public static final char MENTION_PREFIX = '@';
+
+    // Edge labels of node n are labels[edgeStart[n] .. edgeStart[n + 1]), sorted; edge k leads to node k + 1.
+    private final int[] edgeStart;
+    private final char[] labels;
+    private final int[] fail;
+    // The nearest node on the failure chain that ends a handle, or 0.
+    private final int[] dictionary;
+    // The user whose handle ends at the node, or 0.
+    private final int[] userIds;
+    private final int[] depths;
+
+
+    /**
+     * @param handles Emails, without the prefix, mapped to the ID of their user.
+     */
+    public static MentionMatcher of(Map<String, Integer> handles) {
+        String[] patterns = new String[handles.size()];
+        int[] ids = new int[handles.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> handle : handles.entrySet()) {
+            patterns[i] = toLowerCase(MENTION_PREFIX + handle.getKey());
+            ids[i] = handle.getValue();
+            i++;
+        }
+        Integer[] order = new Integer[patterns.length];
+        Arrays.setAll(order, index -> index);
+        Arrays.sort(order, Comparator.comparing(index -> patterns[index]));
+
+        // Emails differing only in case would share a handle; the first one wins.
+        String[] sortedPatterns = new String[patterns.length];
+        int[] sortedIds = new int[patterns.length];
+        int distinct = 0;
+        for (Integer index : order) {
+            if (distinct == 0 || !sortedPatterns[distinct - 1].equals(patterns[index])) {
+                sortedPatterns[distinct] = patterns[index];
+                sortedIds[distinct] = ids[index];
+                distinct++;
+            }
+        }
+        return new MentionMatcher(Arrays.copyOf(sortedPatterns, distinct), Arrays.copyOf(sortedIds, distinct));
+    }
+
+
+    private MentionMatcher(String[] patterns, int[] ids) {
+        int capacity = 1;
+        for (String pattern : patterns) {
+            capacity += pattern.length();
+        }
+        int[] start = new int[capacity + 1];
+        char[] edgeLabels = new char[capacity];
+        int[] users = new int[capacity];
+        int[] nodeDepths = new int[capacity];
+
+        // Every queued node is the range of patterns sharing its prefix.
+        int[] rangeLow = new int[capacity];
+        int[] rangeHigh = new int[capacity];
+        rangeHigh[0] = patterns.length;
+
+        int nodes = 1;
+        for (int node = 0; node < nodes; node++) {
+            start[node] = nodes - 1;
+            int depth = nodeDepths[node];
+            int low = rangeLow[node];
+            int high = rangeHigh[node];
+
+            // Handles are distinct, so at most one ends here and it sorts first.
+            if (low < high && patterns[low].length() == depth) {
+                users[node] = ids[low];
+                low++;
+            }
+            while (low < high) {
+                char label = patterns[low].charAt(depth);
+                int end = low + 1;
+                while (end < high && patterns[end].charAt(depth) == label) {
+                    end++;
+                }
+                edgeLabels[nodes - 1] = label;
+                nodeDepths[nodes] = depth + 1;
+                rangeLow[nodes] = low;
+                rangeHigh[nodes] = end;
+                nodes++;
+                low = end;
+            }
+        }
+        start[nodes] = nodes - 1;
+
+        this.edgeStart = Arrays.copyOf(start, nodes + 1);
+        this.labels = Arrays.copyOf(edgeLabels, Math.max(nodes - 1, 0));
+        this.userIds = Arrays.copyOf(users, nodes);
+        this.depths = Arrays.copyOf(nodeDepths, nodes);
+        this.fail = new int[nodes];
+        this.dictionary = new int[nodes];
+
+        // Parents are numbered before their children, and failure targets are shallower than the node.
+        for (int node = 0; node < nodes; node++) {
+            for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; edge++) {
+                int child = edge + 1;
+                int target = node == 0 ? 0 : step(fail[node], labels[edge]);
+                fail[child] = target;
+                dictionary[child] = userIds[target] != 0 ? target : dictionary[target];
+            }
+        }
+    }
+
+
+    /**
+     * Reports every handle in the text that stands on its own: not preceded by a handle character
+     * and not continued by one, so {@code @ann@mail.com} does not match inside {@code @joann@mail.com}
+     * or {@code @ann@mail.com.au}. A sentence full stop right after a handle is allowed.
+     *
+     * @param text     The text to scan.
+     * @param listener Receives the user ID and the [start, end) range of every mention, start being the prefix.
+     */
+    public void match(CharSequence text, MatchListener listener) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            for (int node = userIds[state] != 0 ? state : dictionary[state]; node != 0; node = dictionary[node]) {
+                int begin = i + 1 - depths[node];
+                if (isMentionAt(text, begin, i + 1)) {
+                    listener.onMatch(userIds[node], begin, i + 1);
+                }
+            }
+        }
+    }
+
+
+    public int size() {
+        return userIds.length;
+    }
+
+
+    /**
+     * @return Whether the range [begin, end), starting with the prefix, is delimited as a whole handle.
+     */
+    public static boolean isMentionAt(CharSequence text, int begin, int end) {
+        if (begin > 0 && isHandleChar(text.charAt(begin - 1))) {
+            return false;
+        }
+        if (end == text.length()) {
+            return true;
+        }
+        char next = text.charAt(end);
+        if (next == '.') {
+            return end + 1 == text.length() || !isHandleChar(text.charAt(end + 1));
+        }
+        return !isHandleChar(next);
+    }
+
+
+    public static boolean isHandleChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-' || c == MENTION_PREFIX;
+    }
+
+
+    static String toLowerCase(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+
+    private int step(int state, char c) {
+        while (true) {
+            int next = transition(state, c);
+            if (next >= 0) {
+                return next;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+
+    private int transition(int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = labels[mid];
+            if (label < c) {
+                low = mid + 1;
+            } else if (label > c) {
+                high = mid - 1;
+            } else {
+                return mid + 1;
+            }
+        }
+        return -1;
+    }
+
+
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int userId, int begin, int end);
+    }
+}
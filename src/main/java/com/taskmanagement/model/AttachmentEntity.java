@@ -0,0 +1,62 @@
+package com.taskmanagement.model;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A file attached to a task, or to one of its comments. The content lives in the attachment storage under storageKey,
+ * shared by all attachments with the same content.
+ */
+@Entity
+@Table(name = "attachment", indexes = {
+        @Index(name = "ix_attachment_project_task", columnList = "project_id, task_id, comment_id"),
+        @Index(name = "ix_attachment_comment", columnList = "comment_id"),
+        @Index(name = "ix_attachment_storage_key", columnList = "storage_key")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttachmentEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "attachment_id")
+    private Integer attachmentId;
+
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private Integer projectId;
+
+    @Column(name = "task_id", nullable = false, updatable = false)
+    private Integer taskId;
+
+    // Null for attachments of the task itself.
+    @Column(name = "comment_id", updatable = false)
+    private Integer commentId;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "uploader_id", referencedColumnName = "id")
+    private UserEntity uploader;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long size;
+
+    // Hex SHA-256 of the content, also its strong ETag.
+    @Column(nullable = false)
+    private String checksum;
+
+    @Column(name = "storage_key", nullable = false)
+    private String storageKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
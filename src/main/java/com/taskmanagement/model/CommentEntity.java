@@ -5,7 +5,12 @@ import lombok.*;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "ix_comment_task", columnList = "task_id, comment_id"),
+        @Index(name = "ix_comment_project_task", columnList = "project_id, task_id, comment_id"),
+        @Index(name = "ix_comment_user", columnList = "user_id"),
+        @Index(name = "ix_comment_render_version", columnList = "render_version, comment_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +25,14 @@ public class CommentEntity {
 
     private String content;
 
-    @OneToOne
+    // The content rendered by MarkdownRenderer at renderVersion; rendered again when the renderer changes.
+    @Column(name = "content_html", columnDefinition = "TEXT")
+    private String contentHtml;
+
+    @Column(name = "render_version", nullable = false)
+    private int renderVersion;
+
+    @ManyToOne(optional = false)
     @JoinColumn(name = "user_id",referencedColumnName = "id")
     private UserEntity user;
 
@@ -28,4 +40,8 @@ public class CommentEntity {
     @ManyToOne
     @JoinColumn(name = "task_id")
     private TaskEntity task;
+
+    // Copied from the task so that comment queries are scoped by project like task queries.
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private Integer projectId;
 }
\ No newline at end of file
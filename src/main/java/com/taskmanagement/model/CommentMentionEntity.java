@@ -0,0 +1,26 @@
+package com.taskmanagement.model;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * One user mentioned in one comment. The key leads with the user, so the mentions of a user are a range of the primary key.
+ */
+@Entity
+@Table(name = "comment_mention", indexes = {
+        @Index(name = "ix_comment_mention_comment", columnList = "comment_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentMentionEntity {
+
+    @EmbeddedId
+    private CommentMentionId id;
+
+    @Column(name = "project_id", updatable = false)
+    private Integer projectId;
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.model;
+
+import com.taskmanagement.enums.ProjectRole;
+import lombok.*;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "project_member", indexes = {
+        @Index(name = "ix_project_member_user", columnList = "user_id, project_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectMemberEntity {
+
+    @EmbeddedId
+    private ProjectMemberId id;
+
+    @Enumerated(EnumType.STRING)
+    private ProjectRole role;
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.model;
+
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ProjectMemberId implements Serializable {
+
+    @Column(name = "project_id")
+    private Integer projectId;
+
+    @Column(name = "user_id")
+    private Integer userId;
+}
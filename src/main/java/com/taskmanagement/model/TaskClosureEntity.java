@@ -0,0 +1,25 @@
+package com.taskmanagement.model;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * One (ancestor, descendant) pair of the task hierarchy. Every task is its own ancestor at depth 0.
+ */
+@Entity
+@Table(name = "task_closure", indexes = {
+        @Index(name = "ix_task_closure_descendant", columnList = "descendant_id, depth")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskClosureEntity {
+
+    @EmbeddedId
+    private TaskClosureId id;
+
+    private int depth;
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.model;
+
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TaskClosureId implements Serializable {
+
+    @Column(name = "ancestor_id")
+    private Integer ancestorId;
+
+    @Column(name = "descendant_id")
+    private Integer descendantId;
+}
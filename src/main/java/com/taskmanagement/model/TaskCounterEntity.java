@@ -0,0 +1,21 @@
+package com.taskmanagement.model;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "task_counter")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskCounterEntity {
+
+    @EmbeddedId
+    private TaskCounterId id;
+
+    @Column(name = "task_count")
+    private long taskCount;
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.model;
+
+import com.taskmanagement.enums.TaskCounterView;
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TaskCounterId implements Serializable {
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "view_type")
+    private TaskCounterView view;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+}
@@ -4,13 +4,27 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.taskmanagement.enums.TaskPriority;
 import com.taskmanagement.enums.TaskStatus;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+        @Index(name = "ix_task_project_author_status_priority", columnList = "project_id, author_id, status, priority"),
+        @Index(name = "ix_task_project_author_priority", columnList = "project_id, author_id, priority"),
+        @Index(name = "ix_task_project_author_assignee_priority_status", columnList = "project_id, author_id, assignee_id, priority, status"),
+        @Index(name = "ix_task_project_assignee_status_priority", columnList = "project_id, assignee_id, status, priority"),
+        @Index(name = "ix_task_project_status_rank", columnList = "project_id, status, board_rank"),
+        @Index(name = "ix_task_author", columnList = "author_id"),
+        @Index(name = "ix_task_assignee", columnList = "assignee_id"),
+        @Index(name = "ix_task_render_version", columnList = "render_version, task_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,26 +38,82 @@ public class TaskEntity {
     @Column(name = "task_id")
     private Integer taskId;
 
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private Integer projectId;
+
     private String title;
 
     private String description;
 
+    // The description rendered by MarkdownRenderer at renderVersion; rendered again when the renderer changes.
+    @Column(name = "description_html", columnDefinition = "TEXT")
+    private String descriptionHtml;
+
+    @Column(name = "render_version", nullable = false)
+    private int renderVersion;
+
     @Enumerated(EnumType.STRING)
     private TaskStatus status;
 
     @Enumerated(EnumType.STRING)
     private TaskPriority priority;
 
-    @OneToOne
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    // Position in the board column of the task's status, see LexoRank.
+    @Column(name = "board_rank", nullable = false)
+    private String boardRank;
+
+    @Column(name = "parent_id")
+    private Integer parentId;
+
+    // Status counts over all descendants. Maintained by set-based updates, never written through the entity.
+    @Column(name = "subtasks_pending", insertable = false, updatable = false)
+    private int subtasksPending;
+
+    @Column(name = "subtasks_in_progress", insertable = false, updatable = false)
+    private int subtasksInProgress;
+
+    @Column(name = "subtasks_completed", insertable = false, updatable = false)
+    private int subtasksCompleted;
+
+    @ElementCollection
+    @CollectionTable(name = "task_label", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "label")
+    @BatchSize(size = 100)
+    @Builder.Default
+    private Set<String> labels = new HashSet<>();
+
+    /**
+     * How many minutes before the due date the task reminds its assignee; the pending reminders are derived from these.
+     */
+    @ElementCollection
+    @CollectionTable(name = "task_reminder_offset", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "minutes_before")
+    @Builder.Default
+    private Set<Integer> reminderOffsets = new HashSet<>();
+
+    @Column(name = "recurrence_id")
+    private Integer recurrenceId;
+
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate;
+
+    @ManyToOne(optional = false)
     @JsonIgnore
     @JoinColumn(name = "author_id", referencedColumnName = "id")
     private UserEntity author;
 
-    @OneToOne
+    @ManyToOne(optional = false)
     @JsonIgnore
     @JoinColumn(name = "assignee_id", referencedColumnName = "id")
     private UserEntity assignee;
 
+    @Version
+    @JsonIgnore
+    private long version;
+
     @OneToMany(mappedBy = "task", fetch = FetchType.LAZY)
     private List<CommentEntity> comments;
 
@@ -0,0 +1,73 @@
+package com.taskmanagement.model;
+
+import com.taskmanagement.enums.RecurrenceFrequency;
+import com.taskmanagement.enums.TaskPriority;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Entity
+@Table(name = "task_recurrence", indexes = {
+        @Index(name = "ix_task_recurrence_active_materialized", columnList = "active, materialized_until")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskRecurrenceEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "recurrence_id")
+    private Integer recurrenceId;
+
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private Integer projectId;
+
+    private String title;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "author_id", referencedColumnName = "id")
+    private UserEntity author;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "assignee_id", referencedColumnName = "id")
+    private UserEntity assignee;
+
+    @Enumerated(EnumType.STRING)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "interval_count")
+    private int interval;
+
+    /**
+     * Comma separated day names for weekly rules, e.g. {@code MONDAY,THURSDAY}.
+     */
+    @Column(name = "days_of_week")
+    private String daysOfWeek;
+
+    @Column(name = "starts_on")
+    private LocalDate startsOn;
+
+    @Column(name = "ends_on")
+    private LocalDate endsOn;
+
+    @Column(name = "due_time")
+    private LocalTime dueTime;
+
+    /**
+     * First date for which occurrences have not been generated yet.
+     */
+    @Column(name = "materialized_until")
+    private LocalDate materializedUntil;
+
+    private boolean active;
+}
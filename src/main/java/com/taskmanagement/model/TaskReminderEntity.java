@@ -0,0 +1,33 @@
+package com.taskmanagement.model;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "task_reminder", indexes = {
+        @Index(name = "ix_task_reminder_remind_at", columnList = "remind_at, reminder_id"),
+        @Index(name = "ix_task_reminder_task", columnList = "task_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskReminderEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reminder_id")
+    private Long reminderId;
+
+    @Column(name = "task_id")
+    private Integer taskId;
+
+    @Column(name = "remind_at")
+    private LocalDateTime remindAt;
+
+    @Column(name = "minutes_before")
+    private int minutesBefore;
+}
@@ -0,0 +1,54 @@
+package com.taskmanagement.model;
+
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "task_revision")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskRevisionEntity implements Persistable<TaskRevisionId> {
+
+    @EmbeddedId
+    private TaskRevisionId id;
+
+    /**
+     * Whether {@link #changes} holds every tracked field rather than only the changed ones.
+     */
+    private boolean snapshot;
+
+    /**
+     * JSON object of field name to value.
+     */
+    private String changes;
+
+    @Column(name = "actor_email")
+    private String actorEmail;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * Revisions are never updated, so saving one is always an insert without a lookup by id first.
+     */
+    @Transient
+    @Builder.Default
+    private boolean newRevision = true;
+
+
+    @Override
+    public boolean isNew() {
+        return newRevision;
+    }
+
+    @PostLoad
+    void markLoaded() {
+        newRevision = false;
+    }
+}
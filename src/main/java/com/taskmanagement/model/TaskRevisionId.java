@@ -0,0 +1,21 @@
+package com.taskmanagement.model;
+
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TaskRevisionId implements Serializable {
+
+    @Column(name = "task_id")
+    private Integer taskId;
+
+    private Integer revision;
+}
@@ -0,0 +1,51 @@
+package com.taskmanagement.model;
+
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Immutable copy of the mutable fields of a task, taken before and after a write
+ * so that derived data can be adjusted by the difference.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class TaskSnapshot {
+
+    private final Integer taskId;
+    private final Integer projectId;
+    private final String title;
+    private final String description;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final Integer authorId;
+    private final String authorEmail;
+    private final Integer assigneeId;
+    private final String assigneeEmail;
+    private final LocalDateTime dueDate;
+    private final Set<String> labels;
+
+
+    public static TaskSnapshot of(TaskEntity task) {
+        return TaskSnapshot.builder()
+                .taskId(task.getTaskId())
+                .projectId(task.getProjectId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .authorId(task.getAuthor().getId())
+                .authorEmail(task.getAuthor().getEmail())
+                .assigneeId(task.getAssignee().getId())
+                .assigneeEmail(task.getAssignee().getEmail())
+                .dueDate(task.getDueDate())
+                .labels(task.getLabels() == null ? Set.of() : Set.copyOf(task.getLabels()))
+                .build();
+    }
+}
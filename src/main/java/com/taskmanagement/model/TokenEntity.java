@@ -6,7 +6,10 @@ import lombok.*;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "token")
+@Table(name = "token", indexes = {
+        @Index(name = "ux_token_token", columnList = "token", unique = true),
+        @Index(name = "ix_token_user_expired_revoked", columnList = "user_id, expired, revoked")
+})
 @Getter
 @Setter
 @Builder
@@ -19,6 +22,7 @@ public class TokenEntity {
     @Column(name = "token_id")
     private Integer tokenId;
 
+    @Column(length = 768)
     private String token;
 
     @Enumerated(EnumType.STRING)
@@ -4,10 +4,16 @@ import com.taskmanagement.enums.UserStatus;
 import com.taskmanagement.enums.UserRole;
 import lombok.*;
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "user")
+@Table(name = "user", indexes = {
+        @Index(name = "ux_user_email", columnList = "email", unique = true),
+        @Index(name = "ix_user_first_name", columnList = "first_name"),
+        @Index(name = "ix_user_last_name_first_name", columnList = "last_name, first_name"),
+        @Index(name = "ix_user_role_status", columnList = "role, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -43,6 +49,9 @@ public class UserEntity {
     @Column(name = "reset_token")
     private String resetToken;
 
+    @Column(name = "reset_token_expires_at")
+    private LocalDateTime resetTokenExpiresAt;
+
     @OneToMany(mappedBy = "user")
     private List<TokenEntity> tokenEntities;
 
@@ -0,0 +1,37 @@
+package com.taskmanagement.model;
+
+import com.taskmanagement.enums.UserRole;
+import com.taskmanagement.enums.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Immutable copy of the profile fields of a user, taken before and after a write.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserSnapshot {
+
+    private final Integer id;
+    private final String name;
+    private final String surname;
+    private final Integer year;
+    private final String email;
+    private final UserRole role;
+    private final UserStatus status;
+
+
+    public static UserSnapshot of(UserEntity user) {
+        return UserSnapshot.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .surname(user.getSurname())
+                .year(user.getYear())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .status(user.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskmanagement.notification;
+
+import com.taskmanagement.enums.CommentEventType;
+import com.taskmanagement.event.CommentEvent;
+import com.taskmanagement.event.DomainEventSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Notifies the author and the assignee of a task about new comments written by someone else.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentNotificationSubscriber implements DomainEventSubscriber<CommentEvent> {
+
+    private final NotificationDigest notificationDigest;
+
+
+    @Override
+    public Class<CommentEvent> getEventType() {
+        return CommentEvent.class;
+    }
+
+
+    @Override
+    public void onEvent(CommentEvent event) {
+        if (event.getType() != CommentEventType.CREATED) {
+            return;
+        }
+
+        Set<String> recipients = new LinkedHashSet<>();
+        recipients.add(event.getTaskAuthorEmail());
+        recipients.add(event.getTaskAssigneeEmail());
+        recipients.remove(event.getActorEmail());
+
+        String line = event.getActorEmail() + " commented on task #" + event.getTaskId() + " \"" + event.getTaskTitle() + "\"";
+        for (String recipient : recipients) {
+            notificationDigest.enqueue(recipient, line);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.taskmanagement.notification;
+
+import com.taskmanagement.util.email.TaskEmailSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects notification lines per recipient and sends them as one digest mail once the
+ * recipient's oldest pending line is older than the digest window.
+ */
+@Slf4j
+@Component
+public class NotificationDigest {
+
+    private static final String SUBJECT = "Task updates";
+
+    private final TaskEmailSender emailSender;
+    private final Clock clock;
+    private final Duration window;
+    private final int maxLinesPerDigest;
+
+    private final Map<String, PendingDigest> pending = new ConcurrentHashMap<>();
+
+
+    public NotificationDigest(TaskEmailSender emailSender,
+                              Clock clock,
+                              @Value("${app.notification.digest-window:5m}") Duration window,
+                              @Value("${app.notification.max-lines-per-digest:50}") int maxLinesPerDigest) {
+        this.emailSender = emailSender;
+        this.clock = clock;
+        this.window = window;
+        this.maxLinesPerDigest = maxLinesPerDigest;
+    }
+
+
+    /**
+     * Queues a notification line for a recipient. The digest window starts with the first queued line.
+     *
+     * @param recipient The email of the recipient.
+     * @param line      The text of the notification.
+     */
+    public void enqueue(String recipient, String line) {
+        Instant now = clock.instant();
+        pending.compute(recipient, (key, digest) -> {
+            PendingDigest target = digest != null ? digest : new PendingDigest(now);
+            target.add(line, maxLinesPerDigest);
+            return target;
+        });
+    }
+
+
+    /**
+     * Sends one mail to every recipient whose digest window has elapsed.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.flush-interval:30000}")
+    public void flushDue() {
+        Instant cutoff = clock.instant().minus(window);
+        for (Iterator<Map.Entry<String, PendingDigest>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, PendingDigest> entry = it.next();
+            if (!entry.getValue().firstQueuedAt.isAfter(cutoff)) {
+                send(entry.getKey());
+            }
+        }
+    }
+
+
+    /**
+     * Sends everything that is still pending, so nothing queued is lost on shutdown.
+     */
+    @PreDestroy
+    public void flushAll() {
+        for (String recipient : new ArrayList<>(pending.keySet())) {
+            send(recipient);
+        }
+    }
+
+
+    private void send(String recipient) {
+        // Removing first means lines queued from now on start a new digest instead of being lost.
+        PendingDigest digest = pending.remove(recipient);
+        if (digest == null) {
+            return;
+        }
+        try {
+            emailSender.sendEmail(recipient, SUBJECT, digest.render());
+        } catch (Exception e) {
+            log.error("Failed to send notification digest to {}", recipient, e);
+        }
+    }
+
+
+    private static class PendingDigest {
+
+        private final Instant firstQueuedAt;
+        private final List<String> lines = new ArrayList<>();
+        private int omitted;
+
+        PendingDigest(Instant firstQueuedAt) {
+            this.firstQueuedAt = firstQueuedAt;
+        }
+
+        void add(String line, int maxLines) {
+            if (lines.size() < maxLines) {
+                lines.add(line);
+            } else {
+                omitted++;
+            }
+        }
+
+        String render() {
+            StringBuilder text = new StringBuilder();
+            for (String line : lines) {
+                text.append("- ").append(line).append('\n');
+            }
+            if (omitted > 0) {
+                text.append("- and ").append(omitted).append(" more updates\n");
+            }
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskmanagement.notification;
+
+import com.taskmanagement.enums.TaskEventType;
+import com.taskmanagement.event.DomainEventSubscriber;
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.model.TaskSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Notifies assignees about new assignments, and authors and assignees about status changes.
+ * The acting user is never notified about their own change.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskNotificationSubscriber implements DomainEventSubscriber<TaskEvent> {
+
+    private final NotificationDigest notificationDigest;
+
+
+    @Override
+    public Class<TaskEvent> getEventType() {
+        return TaskEvent.class;
+    }
+
+
+    @Override
+    public void onEvent(TaskEvent event) {
+        if (event.getType() == TaskEventType.DELETED) {
+            return;
+        }
+        TaskSnapshot before = event.getBefore();
+        TaskSnapshot after = event.getAfter();
+
+        // A new task, or a task handed to someone else, is an assignment.
+        if (before == null || !Objects.equals(before.getAssigneeEmail(), after.getAssigneeEmail())) {
+            notify(event, after.getAssigneeEmail(),
+                    "You were assigned to " + describe(after) + " by " + event.getActorEmail());
+        }
+
+        if (before != null && before.getStatus() != after.getStatus()) {
+            String line = describe(after) + " moved from " + before.getStatus() + " to " + after.getStatus() + " by " + event.getActorEmail();
+            notify(event, after.getAuthorEmail(), line);
+            if (!Objects.equals(after.getAuthorEmail(), after.getAssigneeEmail())) {
+                notify(event, after.getAssigneeEmail(), line);
+            }
+        }
+    }
+
+
+    private void notify(TaskEvent event, String recipient, String line) {
+        if (recipient != null && !recipient.equals(event.getActorEmail())) {
+            notificationDigest.enqueue(recipient, line);
+        }
+    }
+
+
+    private String describe(TaskSnapshot task) {
+        return "task #" + task.getTaskId() + " \"" + task.getTitle() + "\"";
+    }
+}
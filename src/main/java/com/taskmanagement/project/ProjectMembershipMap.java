@@ -0,0 +1,124 @@
+package com.taskmanagement.project;
+
+import com.taskmanagement.enums.ProjectRole;
+import com.taskmanagement.search.RebuildableIndex;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of {@code project_member}, keyed by project, so the membership check that guards
+ * every project-scoped request costs a hash lookup instead of a query.
+ * <p>
+ * Changes made on this node are applied after commit; the whole map is reloaded periodically to pick up
+ * changes made on other nodes. Until the first load completes, {@link #isLoaded()} is false and callers
+ * fall back to the database.
+ */
+@Component
+public class ProjectMembershipMap {
+
+    // Read outside any transaction, so that the routing data source sends it to the primary.
+    private static final String SELECT_MEMBERS = "select project_id, user_id, role from project_member";
+
+    private final JdbcTemplate jdbcTemplate;
+    // Inner maps are never mutated once published; a change replaces the map of its project, so lookups
+    // read the current generation without the lock.
+    private final RebuildableIndex<Map<Integer, Map<Integer, ProjectRole>>, Change> index;
+
+
+    public ProjectMembershipMap(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.index = new RebuildableIndex<>("project membership map", new ConcurrentHashMap<>(), this::load, ProjectMembershipMap::apply);
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+    }
+
+
+    @Scheduled(fixedDelayString = "${app.projects.membership-reload-interval:60000}", initialDelayString = "${app.projects.membership-reload-interval:60000}")
+    public void reload() {
+        index.rebuild();
+    }
+
+
+    public boolean isLoaded() {
+        return index.isReady();
+    }
+
+
+    /**
+     * @return The role of the user in the project, or null if the user is not a member.
+     */
+    public ProjectRole getRole(Integer projectId, Integer userId) {
+        Map<Integer, ProjectRole> roles = index.current().get(projectId);
+        return roles == null ? null : roles.get(userId);
+    }
+
+
+    /**
+     * @return The IDs of the project's members; empty if the project is unknown.
+     */
+    public Set<Integer> getMembers(Integer projectId) {
+        Map<Integer, ProjectRole> roles = index.current().get(projectId);
+        return roles == null ? Set.of() : roles.keySet();
+    }
+
+
+    public void put(Integer projectId, Integer userId, ProjectRole role) {
+        index.apply(new Change(projectId, userId, role));
+    }
+
+
+    public void remove(Integer projectId, Integer userId) {
+        index.apply(new Change(projectId, userId, null));
+    }
+
+
+    private Map<Integer, Map<Integer, ProjectRole>> load() {
+        Map<Integer, Map<Integer, ProjectRole>> fresh = new HashMap<>();
+        jdbcTemplate.query(SELECT_MEMBERS, rs -> {
+            fresh.computeIfAbsent(rs.getInt(1), id -> new HashMap<>())
+                    .put(rs.getInt(2), ProjectRole.valueOf(rs.getString(3)));
+        });
+
+        Map<Integer, Map<Integer, ProjectRole>> published = new ConcurrentHashMap<>();
+        fresh.forEach((projectId, roles) -> published.put(projectId, Collections.unmodifiableMap(roles)));
+        return published;
+    }
+
+
+    private static void apply(Map<Integer, Map<Integer, ProjectRole>> members, Change change) {
+        members.compute(change.projectId, (id, roles) -> {
+            Map<Integer, ProjectRole> copy = roles == null ? new HashMap<>() : new HashMap<>(roles);
+            if (change.role == null) {
+                copy.remove(change.userId);
+            } else {
+                copy.put(change.userId, change.role);
+            }
+            return copy.isEmpty() ? null : Collections.unmodifiableMap(copy);
+        });
+    }
+
+
+    /**
+     * A new role of a user in a project; a null role removes the user from the project.
+     */
+    @AllArgsConstructor
+    private static class Change {
+        private final Integer projectId;
+        private final Integer userId;
+        private final ProjectRole role;
+    }
+}
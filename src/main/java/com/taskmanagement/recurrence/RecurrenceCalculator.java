@@ -0,0 +1,84 @@
+package com.taskmanagement.recurrence;
+
+import com.taskmanagement.model.TaskRecurrenceEntity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Expands a recurrence rule into occurrence dates.
+ */
+public final class RecurrenceCalculator {
+
+    private RecurrenceCalculator() {
+    }
+
+
+    /**
+     * @param rule The recurrence rule.
+     * @param from First date of the range, inclusive.
+     * @param to   Last date of the range, exclusive.
+     * @return The occurrence dates of the rule within the range, in order.
+     */
+    public static List<LocalDate> occurrences(TaskRecurrenceEntity rule, LocalDate from, LocalDate to) {
+        LocalDate start = from.isBefore(rule.getStartsOn()) ? rule.getStartsOn() : from;
+        LocalDate end = rule.getEndsOn() != null && rule.getEndsOn().isBefore(to) ? rule.getEndsOn().plusDays(1) : to;
+        List<LocalDate> dates = new ArrayList<>();
+
+        switch (rule.getFrequency()) {
+            case DAILY -> {
+                long offset = ChronoUnit.DAYS.between(rule.getStartsOn(), start);
+                long skip = (rule.getInterval() - offset % rule.getInterval()) % rule.getInterval();
+                for (LocalDate date = start.plusDays(skip); date.isBefore(end); date = date.plusDays(rule.getInterval())) {
+                    dates.add(date);
+                }
+            }
+            case WEEKLY -> {
+                Set<DayOfWeek> days = daysOfWeek(rule);
+                LocalDate firstWeek = rule.getStartsOn().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+                    long week = ChronoUnit.WEEKS.between(firstWeek, date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+                    if (week % rule.getInterval() == 0 && days.contains(date.getDayOfWeek())) {
+                        dates.add(date);
+                    }
+                }
+            }
+            case MONTHLY -> {
+                long months = Math.max(0, ChronoUnit.MONTHS.between(rule.getStartsOn().withDayOfMonth(1), start.withDayOfMonth(1)) - 1);
+                for (long k = months - months % rule.getInterval(); ; k += rule.getInterval()) {
+                    LocalDate date = rule.getStartsOn().plusMonths(k);
+                    if (!date.isBefore(end)) {
+                        break;
+                    }
+                    if (!date.isBefore(start)) {
+                        dates.add(date);
+                    }
+                }
+            }
+        }
+        return dates;
+    }
+
+
+    /**
+     * @param rule A weekly recurrence rule.
+     * @return The days of week the rule occurs on, defaulting to the day of week of its start date.
+     */
+    public static Set<DayOfWeek> daysOfWeek(TaskRecurrenceEntity rule) {
+        if (rule.getDaysOfWeek() == null || rule.getDaysOfWeek().isBlank()) {
+            return EnumSet.of(rule.getStartsOn().getDayOfWeek());
+        }
+        return Arrays.stream(rule.getDaysOfWeek().split(","))
+                .map(String::trim)
+                .map(DayOfWeek::valueOf)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(DayOfWeek.class)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskmanagement.recurrence;
+
+import com.taskmanagement.model.TaskRecurrenceEntity;
+import com.taskmanagement.repository.TaskRecurrenceRepository;
+import com.taskmanagement.service.TaskRecurrenceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps the occurrences of every active recurrence rule generated up to the end of the rolling window.
+ * Rules are read in keyset pages from the {@code (active, materialized_until)} index, and each rule is
+ * extended in its own transaction so one failing rule does not hold back the others.
+ */
+@Slf4j
+@Component
+public class RecurrenceMaterializer {
+
+    private final TaskRecurrenceRepository taskRecurrenceRepository;
+    private final TaskRecurrenceService taskRecurrenceService;
+    private final int batchSize;
+
+
+    public RecurrenceMaterializer(TaskRecurrenceRepository taskRecurrenceRepository,
+                                  TaskRecurrenceService taskRecurrenceService,
+                                  @Value("${app.recurrence.batch-size:200}") int batchSize) {
+        this.taskRecurrenceRepository = taskRecurrenceRepository;
+        this.taskRecurrenceService = taskRecurrenceService;
+        this.batchSize = batchSize;
+    }
+
+
+    @Scheduled(fixedDelayString = "${app.recurrence.materialize-interval:3600000}")
+    public void materializeDue() {
+        LocalDate horizon = taskRecurrenceService.getHorizon();
+        int afterId = 0;
+        long generated = 0;
+        List<TaskRecurrenceEntity> page;
+        do {
+            page = taskRecurrenceRepository.findDueForMaterialization(horizon, afterId, PageRequest.of(0, batchSize));
+            for (TaskRecurrenceEntity recurrence : page) {
+                try {
+                    generated += taskRecurrenceService.materialize(recurrence, horizon);
+                } catch (Exception e) {
+                    log.error("Failed to generate occurrences of recurring task {}", recurrence.getRecurrenceId(), e);
+                }
+                afterId = recurrence.getRecurrenceId();
+            }
+        } while (page.size() == batchSize);
+
+        if (generated > 0) {
+            log.info("Generated {} recurring task occurrences up to {}", generated, horizon);
+        }
+    }
+}
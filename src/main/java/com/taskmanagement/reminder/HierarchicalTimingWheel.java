@@ -0,0 +1,154 @@
+package com.taskmanagement.reminder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel.
+ * <p>
+ * Level 0 has one slot per tick; every higher level has slots that span a whole revolution of the level below.
+ * An item is placed in the lowest level whose horizon covers its deadline, and is cascaded one level down each
+ * time the clock reaches its slot, so scheduling and expiring are O(1) per item regardless of how many items
+ * are pending. Levels are added on demand. Not thread safe.
+ *
+ * @param <T> The type of the scheduled items.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMillis / tickMillis;
+        levels.add(new Level<>(wheelSize, 1));
+    }
+
+
+    /**
+     * Schedules an item.
+     *
+     * @param deadlineMillis When the item is due.
+     * @param item           The item.
+     * @return false when the item is already due; it is then not scheduled and should be handled right away.
+     */
+    public boolean schedule(long deadlineMillis, T item) {
+        long deadlineTick = deadlineMillis / tickMillis;
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        place(new Entry<>(deadlineTick, item));
+        size++;
+        return true;
+    }
+
+
+    /**
+     * Moves the clock forward tick by tick up to the given time.
+     *
+     * @param nowMillis The current time.
+     * @param due       Receives every item whose deadline has been reached.
+     */
+    public void advanceTo(long nowMillis, Collection<T> due) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // Cascade from the top so items moved down can be cascaded again by lower levels in the same tick.
+            for (int i = levels.size() - 1; i > 0; i--) {
+                Level<T> level = levels.get(i);
+                if (currentTick % level.ticksPerSlot == 0) {
+                    ArrayDeque<Entry<T>> slot = level.take(currentTick);
+                    for (Entry<T> entry : slot) {
+                        if (entry.deadlineTick <= currentTick) {
+                            due.add(entry.item);
+                            size--;
+                        } else {
+                            place(entry);
+                        }
+                    }
+                }
+            }
+
+            for (Entry<T> entry : levels.get(0).take(currentTick)) {
+                due.add(entry.item);
+                size--;
+            }
+        }
+    }
+
+
+    /**
+     * @return The number of scheduled items.
+     */
+    public int size() {
+        return size;
+    }
+
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        int index = 0;
+        long span = wheelSize;
+        while (delta >= span) {
+            index++;
+            span *= wheelSize;
+        }
+        while (levels.size() <= index) {
+            Level<T> top = levels.get(levels.size() - 1);
+            levels.add(new Level<>(wheelSize, top.ticksPerSlot * wheelSize));
+        }
+        levels.get(index).add(entry);
+    }
+
+
+    private static final class Level<T> {
+
+        private final long ticksPerSlot;
+        private final ArrayDeque<Entry<T>>[] slots;
+
+        @SuppressWarnings("unchecked")
+        Level(int wheelSize, long ticksPerSlot) {
+            this.ticksPerSlot = ticksPerSlot;
+            this.slots = new ArrayDeque[wheelSize];
+        }
+
+        void add(Entry<T> entry) {
+            int index = slotIndex(entry.deadlineTick);
+            if (slots[index] == null) {
+                slots[index] = new ArrayDeque<>();
+            }
+            slots[index].add(entry);
+        }
+
+        ArrayDeque<Entry<T>> take(long tick) {
+            int index = slotIndex(tick);
+            ArrayDeque<Entry<T>> slot = slots[index];
+            slots[index] = null;
+            return slot != null ? slot : new ArrayDeque<>();
+        }
+
+        private int slotIndex(long tick) {
+            return (int) ((tick / ticksPerSlot) % slots.length);
+        }
+    }
+
+
+    private static final class Entry<T> {
+
+        private final long deadlineTick;
+        private final T item;
+
+        Entry(long deadlineTick, T item) {
+            this.deadlineTick = deadlineTick;
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.taskmanagement.reminder;
+
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.TaskReminderEntity;
+import com.taskmanagement.repository.TaskReminderRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.util.email.TaskEmailSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires task reminders from an in-memory {@link HierarchicalTimingWheel}.
+ * <p>
+ * Only reminders due within the load window are held in memory. The next window is read from the
+ * {@code remind_at} index ahead of time, so the task table is never polled, and a restart only reloads
+ * the current window (including anything that fell due while the application was down).
+ * A reminder is fired by deleting its row; whoever deletes it sends the mail, so a reminder that was
+ * cancelled, rescheduled or already fired by another node is skipped.
+ * <p>
+ * {@code remind_at} is a local time in the zone of the application clock, the zone the reminder service
+ * computes it in.
+ */
+@Slf4j
+@Component
+public class ReminderScheduler {
+
+    private final TaskReminderRepository taskReminderRepository;
+    private final TaskRepository taskRepository;
+    private final TaskEmailSender emailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration tick;
+    private final Duration loadWindow;
+    private final int batchSize;
+
+    private final HierarchicalTimingWheel<ScheduledReminder> wheel;
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService firing;
+
+    // Guarded by wheel. Reminders due before this instant are in the wheel or have fired.
+    private long loadedUntilMillis;
+    private volatile boolean started;
+
+
+    public ReminderScheduler(TaskReminderRepository taskReminderRepository,
+                             TaskRepository taskRepository,
+                             TaskEmailSender emailSender,
+                             TransactionTemplate transactionTemplate,
+                             Clock clock,
+                             @Value("${app.reminders.tick:1s}") Duration tick,
+                             @Value("${app.reminders.wheel-size:64}") int wheelSize,
+                             @Value("${app.reminders.load-window:10m}") Duration loadWindow,
+                             @Value("${app.reminders.batch-size:1000}") int batchSize,
+                             @Value("${app.reminders.senders:2}") int senders) {
+        this.taskReminderRepository = taskReminderRepository;
+        this.taskRepository = taskRepository;
+        this.emailSender = emailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.tick = tick;
+        this.loadWindow = loadWindow;
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), wheelSize, clock.millis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "reminder-wheel"));
+        this.firing = Executors.newFixedThreadPool(senders, runnable -> daemon(runnable, "reminder-sender"));
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        loadNextWindow();
+        started = true;
+        ticker.scheduleAtFixedRate(this::advance, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        firing.shutdown();
+    }
+
+
+    /**
+     * Extends the loaded window so it always reaches one window ahead of now.
+     */
+    @Scheduled(fixedDelayString = "${app.reminders.reload-interval:60000}")
+    public void reload() {
+        if (started) {
+            loadNextWindow();
+        }
+    }
+
+
+    /**
+     * Called after a transaction that inserted reminders has committed. Reminders beyond the loaded
+     * window are left to the loader.
+     *
+     * @param reminders The inserted reminders.
+     */
+    public void onRemindersScheduled(Collection<TaskReminderEntity> reminders) {
+        List<ScheduledReminder> due = new ArrayList<>();
+        synchronized (wheel) {
+            for (TaskReminderEntity reminder : reminders) {
+                long remindAtMillis = toMillis(reminder.getRemindAt());
+                if (remindAtMillis < loadedUntilMillis) {
+                    schedule(remindAtMillis, reminder, due);
+                }
+            }
+        }
+        due.forEach(this::submit);
+    }
+
+
+    /**
+     * @return The number of reminders currently held in memory.
+     */
+    public int getPendingCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+
+    void loadNextWindow() {
+        long untilMillis = clock.millis() + loadWindow.toMillis();
+        long fromMillis;
+        synchronized (wheel) {
+            fromMillis = loadedUntilMillis;
+            if (untilMillis <= fromMillis) {
+                return;
+            }
+            // Move the bound first: reminders committed from now on are added directly,
+            // and a reminder seen by both paths is fired only once because firing deletes its row.
+            loadedUntilMillis = untilMillis;
+        }
+
+        LocalDateTime until = toLocalDateTime(untilMillis);
+        LocalDateTime afterTime = toLocalDateTime(fromMillis);
+        long afterId = 0;
+        try {
+            List<TaskReminderEntity> page;
+            do {
+                page = taskReminderRepository.findDueBefore(afterTime, afterId, until, PageRequest.of(0, batchSize));
+                List<ScheduledReminder> due = new ArrayList<>();
+                synchronized (wheel) {
+                    for (TaskReminderEntity reminder : page) {
+                        schedule(toMillis(reminder.getRemindAt()), reminder, due);
+                    }
+                }
+                due.forEach(this::submit);
+                if (!page.isEmpty()) {
+                    TaskReminderEntity last = page.get(page.size() - 1);
+                    afterTime = last.getRemindAt();
+                    afterId = last.getReminderId();
+                }
+            } while (page.size() == batchSize);
+        } catch (Exception e) {
+            // Let the next reload retry the part of the window that was not read.
+            synchronized (wheel) {
+                loadedUntilMillis = Math.min(loadedUntilMillis, toMillis(afterTime));
+            }
+            log.error("Failed to load reminders due before {}", until, e);
+        }
+    }
+
+
+    void advance() {
+        List<ScheduledReminder> due = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advanceTo(clock.millis(), due);
+        }
+        due.forEach(this::submit);
+    }
+
+
+    private void schedule(long remindAtMillis, TaskReminderEntity reminder, List<ScheduledReminder> due) {
+        ScheduledReminder scheduled = new ScheduledReminder(reminder.getReminderId(), reminder.getTaskId(), reminder.getMinutesBefore());
+        if (!wheel.schedule(remindAtMillis, scheduled)) {
+            due.add(scheduled);
+        }
+    }
+
+
+    private void submit(ScheduledReminder reminder) {
+        firing.execute(() -> fire(reminder));
+    }
+
+
+    private void fire(ScheduledReminder reminder) {
+        try {
+            TaskEntity task = transactionTemplate.execute(status -> {
+                if (taskReminderRepository.deleteByReminderId(reminder.getReminderId()) == 0) {
+                    return null;
+                }
+                return taskRepository.findById(reminder.getTaskId()).orElse(null);
+            });
+            if (task == null) {
+                return;
+            }
+            emailSender.sendEmail(task.getAssignee().getEmail(), "Task reminder",
+                    "Task #" + task.getTaskId() + " \"" + task.getTitle() + "\" is due at " + task.getDueDate() + ".");
+        } catch (Exception e) {
+            log.error("Failed to fire reminder {} of task {}", reminder.getReminderId(), reminder.getTaskId(), e);
+        }
+    }
+
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+
+    private LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), clock.getZone());
+    }
+
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskmanagement.reminder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ScheduledReminder {
+
+    private final long reminderId;
+    private final int taskId;
+    private final int minutesBefore;
+}
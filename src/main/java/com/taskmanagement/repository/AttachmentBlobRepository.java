@@ -0,0 +1,121 @@
+package com.taskmanagement.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reference counts of the stored attachment content, one row per storage key. A blob whose count drops to zero
+ * is stamped with the time, and the garbage collector deletes blobs that stayed unreferenced for long enough.
+ * <p>
+ * The counts follow attachments created and deleted through the service. Attachments removed by the cascade
+ * of a task, comment or project deletion are picked up by {@link #recount}, which the collector runs over all
+ * blobs in key order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttachmentBlobRepository {
+
+    private static final String ADD_REFERENCE = """
+      insert into attachment_blob (storage_key, size_bytes, ref_count, unreferenced_since) values (?, ?, 1, null)\s
+      on duplicate key update ref_count = ref_count + 1, unreferenced_since = null\s
+      """;
+
+    // The stamp is assigned first, while ref_count still holds the old count.
+    private static final String REMOVE_REFERENCE = """
+      update attachment_blob set unreferenced_since = case when ref_count <= 1 then ? else null end,\s
+      ref_count = greatest(ref_count - 1, 0) where storage_key = ?\s
+      """;
+
+    private static final String SELECT_KEYS_AFTER = """
+      select storage_key from attachment_blob where storage_key > ? order by storage_key limit ?\s
+      """;
+
+    private static final String RECOUNT = """
+      update attachment_blob b set\s
+      unreferenced_since = case when exists (select 1 from attachment a where a.storage_key = b.storage_key) then null\s
+      else coalesce(b.unreferenced_since, ?) end,\s
+      ref_count = (select count(*) from attachment a where a.storage_key = b.storage_key)\s
+      where b.storage_key > ? and b.storage_key <= ?\s
+      """;
+
+    private static final String SELECT_UNREFERENCED = """
+      select storage_key from attachment_blob where unreferenced_since < ? order by unreferenced_since limit ?\s
+      """;
+
+    private static final String DELETE_UNREFERENCED = """
+      delete from attachment_blob where storage_key = ? and ref_count = 0 and unreferenced_since < ?\s
+      """;
+
+    private static final String SELECT_EXISTING_KEYS = """
+      select storage_key from attachment_blob where storage_key in (%s)\s
+      """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public void addReference(String storageKey, long size) {
+        jdbcTemplate.update(ADD_REFERENCE, storageKey, size);
+    }
+
+
+    /**
+     * @param now The time to stamp the blob with, if this was its last reference.
+     */
+    public void removeReference(String storageKey, LocalDateTime now) {
+        jdbcTemplate.update(REMOVE_REFERENCE, now, storageKey);
+    }
+
+
+    /**
+     * @return Up to {@code limit} storage keys after the given one, in key order.
+     */
+    public List<String> findKeysAfter(String afterKey, int limit) {
+        return jdbcTemplate.queryForList(SELECT_KEYS_AFTER, String.class, afterKey, limit);
+    }
+
+
+    /**
+     * Recounts the references of the blobs with keys in (afterKey, lastKey] from the attachment table.
+     *
+     * @param now The time to stamp blobs with that turn out to be unreferenced.
+     */
+    public void recount(String afterKey, String lastKey, LocalDateTime now) {
+        jdbcTemplate.update(RECOUNT, now, afterKey, lastKey);
+    }
+
+
+    /**
+     * @return Up to {@code limit} keys of blobs unreferenced since before the cutoff, oldest first.
+     */
+    public List<String> findUnreferencedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(SELECT_UNREFERENCED, String.class, cutoff, limit);
+    }
+
+
+    /**
+     * @return Whether the blob was deleted; it is kept if it was referenced again in the meantime.
+     */
+    public boolean deleteUnreferenced(String storageKey, LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_UNREFERENCED, storageKey, cutoff) > 0;
+    }
+
+
+    /**
+     * @return Those of the given keys that have a blob.
+     */
+    public Set<String> findExistingKeys(Collection<String> storageKeys) {
+        if (storageKeys.isEmpty()) {
+            return Set.of();
+        }
+        String sql = SELECT_EXISTING_KEYS.formatted(String.join(", ", Collections.nCopies(storageKeys.size(), "?")));
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, storageKeys.toArray()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.AttachmentEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<AttachmentEntity, Integer> {
+
+    List<AttachmentEntity> findByProjectIdAndTaskIdAndCommentIdIsNullOrderByAttachmentId(Integer projectId, Integer taskId);
+
+    List<AttachmentEntity> findByCommentIdOrderByAttachmentId(Integer commentId);
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.CommentMentionEntity;
+import com.taskmanagement.model.CommentMentionId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CommentMentionRepository extends JpaRepository<CommentMentionEntity, CommentMentionId> {
+
+    /**
+     * Newest first; a range scan of the primary key of the user.
+     */
+    @Query("""
+      select m.id.commentId from CommentMentionEntity m\s
+      where m.id.userId = :userId and m.id.commentId < :beforeCommentId\s
+      order by m.id.commentId desc\s
+      """)
+    List<Integer> findMentionedCommentIds(Integer userId, Integer beforeCommentId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from CommentMentionEntity m where m.id.commentId = :commentId")
+    int deleteByCommentId(Integer commentId);
+}
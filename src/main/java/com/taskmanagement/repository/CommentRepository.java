@@ -2,13 +2,22 @@ package com.taskmanagement.repository;
 
 import com.taskmanagement.model.CommentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, Integer> {
 
-    List<CommentEntity> findByTaskTaskId(Integer taskId);
+    List<CommentEntity> findByProjectIdAndTaskTaskId(Integer projectId, Integer taskId);
 
-}
\ No newline at end of file
+    @Query("""
+      select c from CommentEntity c join fetch c.user join fetch c.task t join fetch t.author join fetch t.assignee\s
+      where c.commentId in :commentIds\s
+      order by c.commentId desc\s
+      """)
+    List<CommentEntity> findWithTaskByCommentIdIn(Collection<Integer> commentIds);
+
+}
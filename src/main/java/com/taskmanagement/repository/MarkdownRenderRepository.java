@@ -0,0 +1,80 @@
+package com.taskmanagement.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and rewrites the rendered HTML of task descriptions and comments in JDBC batches, for the
+ * background re-renderer. Rows are walked per render version in id order along the render_version indexes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MarkdownRenderRepository {
+
+    private static final String SELECT_STALE_TASKS = """
+      select task_id, description from task where render_version = ? and task_id > ? order by task_id limit ?\s
+      """;
+
+    private static final String SELECT_STALE_COMMENTS = """
+      select comment_id, content from comment where render_version = ? and comment_id > ? order by comment_id limit ?\s
+      """;
+
+    // Rows written since they were read already carry the current render, so they are left alone.
+    private static final String UPDATE_TASK = """
+      update task set description_html = ?, render_version = ? where task_id = ? and render_version < ?\s
+      """;
+
+    private static final String UPDATE_COMMENT = """
+      update comment set content_html = ?, render_version = ? where comment_id = ? and render_version < ?\s
+      """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    /**
+     * @return Up to {@code limit} descriptions rendered at the given version, by task ID, in ID order.
+     */
+    public Map<Integer, String> findTasksRenderedAt(int renderVersion, int afterTaskId, int limit) {
+        return findSources(SELECT_STALE_TASKS, renderVersion, afterTaskId, limit);
+    }
+
+
+    /**
+     * @return Up to {@code limit} comment contents rendered at the given version, by comment ID, in ID order.
+     */
+    public Map<Integer, String> findCommentsRenderedAt(int renderVersion, int afterCommentId, int limit) {
+        return findSources(SELECT_STALE_COMMENTS, renderVersion, afterCommentId, limit);
+    }
+
+
+    public void updateTasks(Map<Integer, String> html, int renderVersion) {
+        update(UPDATE_TASK, html, renderVersion);
+    }
+
+
+    public void updateComments(Map<Integer, String> html, int renderVersion) {
+        update(UPDATE_COMMENT, html, renderVersion);
+    }
+
+
+    private Map<Integer, String> findSources(String sql, int renderVersion, int afterId, int limit) {
+        Map<Integer, String> sources = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            sources.put(rs.getInt(1), rs.getString(2));
+        }, renderVersion, afterId, limit);
+        return sources;
+    }
+
+
+    private void update(String sql, Map<Integer, String> html, int renderVersion) {
+        List<Object[]> rows = new ArrayList<>(html.size());
+        html.forEach((id, rendered) -> rows.add(new Object[]{rendered, renderVersion, id, renderVersion}));
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+}
@@ -0,0 +1,14 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.ProjectMemberEntity;
+import com.taskmanagement.model.ProjectMemberId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProjectMemberRepository extends JpaRepository<ProjectMemberEntity, ProjectMemberId> {
+
+    List<ProjectMemberEntity> findByIdProjectId(Integer projectId);
+}
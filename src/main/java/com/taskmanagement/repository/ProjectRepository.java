@@ -0,0 +1,19 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.ProjectEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProjectRepository extends JpaRepository<ProjectEntity, Integer> {
+
+    @Query(value = """
+      select p from ProjectEntity p, ProjectMemberEntity m\s
+      where m.id.userId = :userId and p.projectId = m.id.projectId\s
+      order by p.projectId\s
+      """)
+    List<ProjectEntity> findAllByMemberId(Integer userId);
+}
@@ -0,0 +1,79 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.TaskClosureEntity;
+import com.taskmanagement.model.TaskClosureId;
+import com.taskmanagement.model.TaskEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosureEntity, TaskClosureId> {
+
+    @Query(value = """
+      select t from TaskClosureEntity c, TaskEntity t\s
+      where c.id.ancestorId = :taskId and c.depth > 0 and t.taskId = c.id.descendantId\s
+      order by c.depth, t.taskId\s
+      """)
+    List<TaskEntity> findDescendants(Integer taskId);
+
+    boolean existsByIdAncestorIdAndIdDescendantId(Integer ancestorId, Integer descendantId);
+
+    boolean existsByIdAncestorIdAndDepthGreaterThan(Integer ancestorId, int depth);
+
+    /**
+     * Links a new task below its parent: a copy of every path to the parent, one level deeper, plus its own row.
+     */
+    @Modifying
+    @Query(value = """
+      insert into task_closure (ancestor_id, descendant_id, depth)\s
+      select c.ancestor_id, :taskId, c.depth + 1 from task_closure c where c.descendant_id = :parentId\s
+      union all select :taskId, :taskId, 0\s
+      """, nativeQuery = true)
+    int insertLeaf(Integer taskId, Integer parentId);
+
+    @Modifying
+    @Query(value = """
+      insert into task_closure (ancestor_id, descendant_id, depth) values (:taskId, :taskId, 0)\s
+      """, nativeQuery = true)
+    int insertRoot(Integer taskId);
+
+    /**
+     * Cuts a subtree off its ancestors, keeping the paths inside the subtree.
+     * The subqueries are wrapped in derived tables because MySQL does not allow a subquery on the table being deleted from.
+     */
+    @Modifying
+    @Query(value = """
+      delete from task_closure\s
+      where descendant_id in (select d.descendant_id from (select descendant_id from task_closure where ancestor_id = :taskId) d)\s
+      and ancestor_id not in (select a.descendant_id from (select descendant_id from task_closure where ancestor_id = :taskId) a)\s
+      """, nativeQuery = true)
+    int detachSubtree(Integer taskId);
+
+    /**
+     * Links a detached subtree below its new parent: every path to the parent joined with every path inside the subtree.
+     */
+    @Modifying
+    @Query(value = """
+      insert into task_closure (ancestor_id, descendant_id, depth)\s
+      select p.ancestor_id, s.descendant_id, p.depth + s.depth + 1\s
+      from task_closure p cross join task_closure s\s
+      where p.descendant_id = :parentId and s.ancestor_id = :taskId\s
+      """, nativeQuery = true)
+    int attachSubtree(Integer taskId, Integer parentId);
+
+    /**
+     * Adds status count deltas to the cached rollups of every proper ancestor of a task.
+     */
+    @Modifying
+    @Query(value = """
+      update task set subtasks_pending = subtasks_pending + :pending,\s
+      subtasks_in_progress = subtasks_in_progress + :inProgress,\s
+      subtasks_completed = subtasks_completed + :completed\s
+      where task_id in (select c.ancestor_id from task_closure c where c.descendant_id = :taskId and c.depth > 0)\s
+      """, nativeQuery = true)
+    int addToAncestorRollups(Integer taskId, long pending, long inProgress, long completed);
+}
@@ -0,0 +1,28 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.TaskCounterEntity;
+import com.taskmanagement.model.TaskCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounterEntity, TaskCounterId> {
+
+    @Query(value = """
+      select c from TaskCounterEntity c, UserEntity u\s
+      where u.id = c.id.userId and u.email = :email\s
+      """)
+    List<TaskCounterEntity> findAllByUserEmail(String email);
+
+    @Modifying
+    @Query(value = """
+      insert into task_counter (user_id, view_type, status, priority, task_count)\s
+      values (:userId, :view, :status, :priority, :delta)\s
+      on duplicate key update task_count = task_count + :delta\s
+      """, nativeQuery = true)
+    void increment(Integer userId, String view, String status, String priority, long delta);
+}
@@ -0,0 +1,178 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.export.ExportedComment;
+import com.taskmanagement.export.ExportedTask;
+import com.taskmanagement.export.TaskExportCriteria;
+import com.taskmanagement.export.TaskExportWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads tasks for an export through a forward-only cursor. Rows are fetched {@code fetchSize} at a time
+ * (the connections of the export pool enable {@code useCursorFetch}) and handed to the writer as soon as a task
+ * is complete, so the heap needed does not grow with the size of the export.
+ */
+@Repository
+public class TaskExportRepository {
+
+    private static final String SELECT_TASKS = """
+      select t.task_id, t.project_id, t.title, t.description, t.status, t.priority, t.due_date, t.parent_id,\s
+        a.email as author_email, s.email as assignee_email,\s
+        (select group_concat(l.label order by l.label separator ';') from task_label l where l.task_id = t.task_id) as labels\s
+      """;
+
+    private static final String SELECT_COMMENTS = """
+      , c.comment_id, cu.email as comment_author_email, c.content as comment_content\s
+      """;
+
+    private static final String FROM_TASKS = """
+      from task t\s
+      left join user a on a.id = t.author_id\s
+      left join user s on s.id = t.assignee_id\s
+      """;
+
+    private static final String JOIN_COMMENTS = """
+      left join comment c on c.task_id = t.task_id\s
+      left join user cu on cu.id = c.user_id\s
+      """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+
+    public TaskExportRepository(@Qualifier("exportDataSource") DataSource exportDataSource,
+                                @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(exportDataSource);
+        this.fetchSize = fetchSize;
+    }
+
+
+    /**
+     * Streams the matching tasks to the writer in task ID order.
+     *
+     * @param criteria The tasks to export.
+     * @param writer   The writer receiving the tasks, one at a time.
+     * @return The number of exported tasks.
+     * @throws IOException If the writer fails, typically because the client went away.
+     */
+    public long streamTasks(TaskExportCriteria criteria, TaskExportWriter writer) throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT_TASKS);
+        if (criteria.isIncludeComments()) {
+            sql.append(SELECT_COMMENTS);
+        }
+        sql.append(FROM_TASKS);
+        if (criteria.isIncludeComments()) {
+            sql.append(JOIN_COMMENTS);
+        }
+        List<Object> args = new ArrayList<>(3);
+        sql.append("where 1 = 1 ");
+        if (criteria.getProjectId() != null) {
+            sql.append("and t.project_id = ? ");
+            args.add(criteria.getProjectId());
+        }
+        if (criteria.getUserId() != null) {
+            sql.append("and (t.author_id = ? or t.assignee_id = ?) ");
+            args.add(criteria.getUserId());
+            args.add(criteria.getUserId());
+        }
+        // Comments of a task arrive on consecutive rows.
+        sql.append(criteria.isIncludeComments() ? "order by t.task_id, c.comment_id" : "order by t.task_id");
+
+        TaskGrouper grouper = new TaskGrouper(writer, criteria.isIncludeComments());
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    statement.setObject(i + 1, args.get(i));
+                }
+                return statement;
+            }, grouper);
+            grouper.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return grouper.exported;
+    }
+
+
+    private static class TaskGrouper implements RowCallbackHandler {
+
+        private final TaskExportWriter writer;
+        private final boolean includeComments;
+        private ExportedTask current;
+        private long exported;
+
+
+        private TaskGrouper(TaskExportWriter writer, boolean includeComments) {
+            this.writer = writer;
+            this.includeComments = includeComments;
+        }
+
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            int taskId = rs.getInt("task_id");
+            if (current == null || current.getTaskId() != taskId) {
+                flush();
+                current = readTask(rs, taskId);
+            }
+            if (includeComments) {
+                int commentId = rs.getInt("comment_id");
+                // Left join, a task without comments has a single row of nulls.
+                if (!rs.wasNull()) {
+                    current.getComments().add(new ExportedComment(commentId,
+                            rs.getString("comment_author_email"), rs.getString("comment_content")));
+                }
+            }
+        }
+
+
+        private void flush() {
+            if (current == null) {
+                return;
+            }
+            try {
+                writer.write(current);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            exported++;
+            current = null;
+        }
+
+
+        private static ExportedTask readTask(ResultSet rs, int taskId) throws SQLException {
+            Timestamp dueDate = rs.getTimestamp("due_date");
+            int parentId = rs.getInt("parent_id");
+            boolean root = rs.wasNull();
+            return ExportedTask.builder()
+                    .taskId(taskId)
+                    .projectId(rs.getInt("project_id"))
+                    .title(rs.getString("title"))
+                    .description(rs.getString("description"))
+                    .status(rs.getString("status"))
+                    .priority(rs.getString("priority"))
+                    .dueDate(dueDate == null ? null : dueDate.toLocalDateTime())
+                    .parentId(root ? null : parentId)
+                    .authorEmail(rs.getString("author_email"))
+                    .assigneeEmail(rs.getString("assignee_email"))
+                    .labels(rs.getString("labels"))
+                    .build();
+        }
+    }
+}
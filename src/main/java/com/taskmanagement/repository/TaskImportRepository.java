@@ -0,0 +1,102 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.importer.ImportedTask;
+import com.taskmanagement.markdown.MarkdownRenderer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts imported tasks with JDBC batches, which the datasource rewrites into multi-row inserts.
+ * The generated task ids are read back to insert the labels, the reminder offsets and the closure rows of the batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskImportRepository {
+
+    private static final String INSERT_TASK = """
+      insert into task (project_id, board_rank, title, description, description_html, render_version, status, priority, author_id, assignee_id, due_date, version)\s
+      values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)\s
+      """;
+
+    private static final String INSERT_LABEL = "insert into task_label (task_id, label) values (?, ?)";
+
+    private static final String INSERT_REMINDER_OFFSET = "insert into task_reminder_offset (task_id, minutes_before) values (?, ?)";
+
+    private static final String INSERT_CLOSURE_ROW = "insert into task_closure (ancestor_id, descendant_id, depth) values (?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    /**
+     * @param projectId The project the tasks are imported into.
+     * @param authorId  The ID of the user importing the tasks.
+     * @param tasks     The tasks of the batch.
+     * @param ranks     The board ranks of the tasks, one per task.
+     * @return The IDs of the inserted tasks, in batch order.
+     */
+    public List<Integer> insertTasks(int projectId, int authorId, List<ImportedTask> tasks, List<String> ranks) {
+        List<Integer> taskIds = jdbcTemplate.execute((ConnectionCallback<List<Integer>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_TASK, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < tasks.size(); i++) {
+                    ImportedTask task = tasks.get(i);
+                    statement.setInt(1, projectId);
+                    statement.setString(2, ranks.get(i));
+                    statement.setString(3, task.getTitle());
+                    statement.setString(4, task.getDescription());
+                    statement.setString(5, task.getDescriptionHtml());
+                    statement.setInt(6, MarkdownRenderer.VERSION);
+                    statement.setString(7, task.getStatus().name());
+                    statement.setString(8, task.getPriority().name());
+                    statement.setInt(9, authorId);
+                    statement.setInt(10, task.getAssigneeId());
+                    statement.setTimestamp(11, task.getDueDate() == null ? null : Timestamp.valueOf(task.getDueDate()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Integer> ids = new ArrayList<>(tasks.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getInt(1));
+                    }
+                }
+                return ids;
+            }
+        });
+        if (taskIds == null || taskIds.size() != tasks.size()) {
+            throw new IllegalStateException("Expected " + tasks.size() + " generated task ids");
+        }
+
+        List<Object[]> labels = new ArrayList<>();
+        List<Object[]> reminderOffsets = new ArrayList<>();
+        List<Object[]> closureRows = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Integer taskId = taskIds.get(i);
+            for (String label : tasks.get(i).getLabels()) {
+                labels.add(new Object[]{taskId, label});
+            }
+            for (Integer offset : tasks.get(i).getReminderOffsets()) {
+                reminderOffsets.add(new Object[]{taskId, offset});
+            }
+            // Imported tasks are roots of their own hierarchy.
+            closureRows.add(new Object[]{taskId, taskId});
+        }
+        if (!labels.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LABEL, labels);
+        }
+        if (!reminderOffsets.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_REMINDER_OFFSET, reminderOffsets);
+        }
+        jdbcTemplate.batchUpdate(INSERT_CLOSURE_ROW, closureRows);
+        return taskIds;
+    }
+}
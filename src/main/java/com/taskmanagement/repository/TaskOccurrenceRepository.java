@@ -0,0 +1,88 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.markdown.MarkdownRenderer;
+import com.taskmanagement.model.TaskRecurrenceEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts the occurrences of a recurring task as plain task rows with JDBC batches.
+ * Going through JPA would cost one round trip per row, since task ids are identity generated.
+ * The generated task ids are read back for the callers that index the new tasks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskOccurrenceRepository {
+
+    private static final String INSERT_OCCURRENCE = """
+      insert into task (project_id, board_rank, title, description, description_html, render_version, status, priority, author_id, assignee_id, due_date, recurrence_id, occurrence_date, version)\s
+      values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)\s
+      """;
+
+    private static final String INSERT_CLOSURE_ROWS = """
+      insert into task_closure (ancestor_id, descendant_id, depth)\s
+      select t.task_id, t.task_id, 0 from task t where t.recurrence_id = ? and t.occurrence_date between ? and ?\s
+      """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    /**
+     * @param rule  The recurrence rule the occurrences belong to.
+     * @param dates The occurrence dates.
+     * @param ranks The board ranks of the occurrences, one per date.
+     * @return The IDs of the inserted tasks, in date order.
+     */
+    public List<Integer> insertOccurrences(TaskRecurrenceEntity rule, List<LocalDate> dates, List<String> ranks) {
+        // All occurrences share the description of the rule.
+        String descriptionHtml = MarkdownRenderer.render(rule.getDescription());
+        List<Integer> taskIds = jdbcTemplate.execute((ConnectionCallback<List<Integer>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_OCCURRENCE, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < dates.size(); i++) {
+                    LocalDate date = dates.get(i);
+                    statement.setInt(1, rule.getProjectId());
+                    statement.setString(2, ranks.get(i));
+                    statement.setString(3, rule.getTitle());
+                    statement.setString(4, rule.getDescription());
+                    statement.setString(5, descriptionHtml);
+                    statement.setInt(6, MarkdownRenderer.VERSION);
+                    statement.setString(7, TaskStatus.PENDING.name());
+                    statement.setString(8, rule.getPriority().name());
+                    statement.setInt(9, rule.getAuthor().getId());
+                    statement.setInt(10, rule.getAssignee().getId());
+                    statement.setTimestamp(11, rule.getDueTime() == null ? null : Timestamp.valueOf(date.atTime(rule.getDueTime())));
+                    statement.setInt(12, rule.getRecurrenceId());
+                    statement.setDate(13, Date.valueOf(date));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Integer> ids = new ArrayList<>(dates.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getInt(1));
+                    }
+                }
+                return ids;
+            }
+        });
+        if (taskIds == null || taskIds.size() != dates.size()) {
+            throw new IllegalStateException("Expected " + dates.size() + " generated task ids");
+        }
+        // Occurrences are roots of their own hierarchy.
+        jdbcTemplate.update(INSERT_CLOSURE_ROWS, rule.getRecurrenceId(), Date.valueOf(dates.get(0)), Date.valueOf(dates.get(dates.size() - 1)));
+        return taskIds;
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rewrites the rank keys of a whole board column with JDBC batches.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskRankRepository {
+
+    private static final String SELECT_COLUMN_FOR_UPDATE = """
+      select task_id from task where project_id = ? and status = ? order by board_rank, task_id for update\s
+      """;
+
+    // Bumps the version so a task loaded before the rebalance can not write its old rank back.
+    private static final String UPDATE_RANK = "update task set board_rank = ?, version = version + 1 where task_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    /**
+     * @return The IDs of the column's tasks in rank order, locked until the end of the transaction.
+     */
+    public List<Integer> lockColumn(Integer projectId, TaskStatus status) {
+        return jdbcTemplate.queryForList(SELECT_COLUMN_FOR_UPDATE, Integer.class, projectId, status.name());
+    }
+
+
+    public void updateRanks(List<Integer> taskIds, List<String> ranks) {
+        List<Object[]> rows = new ArrayList<>(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            rows.add(new Object[]{ranks.get(i), taskIds.get(i)});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_RANK, rows);
+    }
+}
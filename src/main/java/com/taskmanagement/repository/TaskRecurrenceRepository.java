@@ -0,0 +1,37 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.TaskRecurrenceEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TaskRecurrenceRepository extends JpaRepository<TaskRecurrenceEntity, Integer> {
+
+    @Query(value = """
+      select r from TaskRecurrenceEntity r\s
+      where r.active = true and r.materializedUntil < :horizon and r.recurrenceId > :afterId\s
+      order by r.recurrenceId\s
+      """)
+    List<TaskRecurrenceEntity> findDueForMaterialization(LocalDate horizon, Integer afterId, Pageable pageable);
+
+    List<TaskRecurrenceEntity> findAllByAuthorEmailOrderByRecurrenceId(String email);
+
+    /**
+     * Moves the materialization bound of a rule, only if nobody has moved it since it was read.
+     * A rule whose last occurrence has been generated is deactivated at the same time.
+     *
+     * @return 1 if the caller now owns the occurrences between the two bounds, 0 otherwise.
+     */
+    @Modifying
+    @Query(value = """
+      update TaskRecurrenceEntity r set r.materializedUntil = :until, r.active = :active\s
+      where r.recurrenceId = :recurrenceId and r.materializedUntil = :expected and r.active = true\s
+      """)
+    int advanceMaterializedUntil(Integer recurrenceId, LocalDate expected, LocalDate until, boolean active);
+}
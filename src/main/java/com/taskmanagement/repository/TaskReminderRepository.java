@@ -0,0 +1,36 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.TaskReminderEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskReminderRepository extends JpaRepository<TaskReminderEntity, Long> {
+
+    /**
+     * Keyset page of the reminders due before {@code until}, ordered by due time, starting after the given key.
+     */
+    @Query(value = """
+      select r from TaskReminderEntity r\s
+      where r.remindAt < :until\s
+      and (r.remindAt > :afterTime or (r.remindAt = :afterTime and r.reminderId > :afterId))\s
+      order by r.remindAt, r.reminderId\s
+      """)
+    List<TaskReminderEntity> findDueBefore(LocalDateTime afterTime, Long afterId, LocalDateTime until, Pageable pageable);
+
+    List<TaskReminderEntity> findByTaskId(Integer taskId);
+
+    @Modifying
+    @Query("delete from TaskReminderEntity r where r.taskId = :taskId")
+    int deleteByTaskId(Integer taskId);
+
+    @Modifying
+    @Query("delete from TaskReminderEntity r where r.reminderId = :reminderId")
+    int deleteByReminderId(Long reminderId);
+}
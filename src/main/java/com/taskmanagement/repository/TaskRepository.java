@@ -3,29 +3,72 @@ package com.taskmanagement.repository;
 import com.taskmanagement.enums.TaskPriority;
 import com.taskmanagement.enums.TaskStatus;
 import com.taskmanagement.model.TaskEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Every finder is scoped to one project, matching the project_id prefix of the task indexes.
+ */
 @Repository
 public interface TaskRepository extends JpaRepository<TaskEntity, Integer> {
 
-    List<TaskEntity> findByAuthorEmail(String authorEmail);
+    List<TaskEntity> findByProjectIdAndAuthorEmail(Integer projectId, String authorEmail);
 
-    List<TaskEntity> findByAuthorEmailAndStatus(String authorEmail, TaskStatus taskStatus);
+    List<TaskEntity> findByProjectIdAndAuthorEmailAndStatus(Integer projectId, String authorEmail, TaskStatus taskStatus);
 
-    List<TaskEntity> findByAuthorEmailAndPriority(String authorEmail, TaskPriority taskPriority);
+    List<TaskEntity> findByProjectIdAndAuthorEmailAndPriority(Integer projectId, String authorEmail, TaskPriority taskPriority);
 
-    List<TaskEntity> findByAssigneeEmailAndStatus(String authorEmail, TaskStatus taskStatus);
+    List<TaskEntity> findByProjectIdAndAssigneeEmailAndStatus(Integer projectId, String assigneeEmail, TaskStatus taskStatus);
 
-    List<TaskEntity> findByAuthorEmailAndStatusAndPriority(String authorEmail, TaskStatus taskStatus, TaskPriority taskPriority);
+    List<TaskEntity> findByProjectIdAndAuthorEmailAndStatusAndPriority(Integer projectId, String authorEmail, TaskStatus taskStatus, TaskPriority taskPriority);
 
-    List<TaskEntity> findByAuthorEmailAndAssigneeEmailAndPriority(String authorEmail, String assigneeEmail, TaskPriority taskPriority);
+    List<TaskEntity> findByProjectIdAndAuthorEmailAndAssigneeEmailAndStatus(Integer projectId, String authorEmail, String assigneeEmail, TaskStatus taskStatus);
 
-    List<TaskEntity> findByAuthorEmailAndAssigneeEmailAndStatusAndPriority(String authorEmail, String assigneeEmail, TaskStatus taskStatus, TaskPriority taskPriority);
+    List<TaskEntity> findByProjectIdAndAuthorEmailAndAssigneeEmailAndPriority(Integer projectId, String authorEmail, String assigneeEmail, TaskPriority taskPriority);
 
-    List<TaskEntity> findByAssigneeEmail(String assigneeEmail);
+    List<TaskEntity> findByProjectIdAndAuthorEmailAndAssigneeEmailAndStatusAndPriority(Integer projectId, String authorEmail, String assigneeEmail, TaskStatus taskStatus, TaskPriority taskPriority);
 
-    List<TaskEntity> findByAuthorEmailAndAssigneeEmail(String authorEmail, String assigneeEmail);
-}
\ No newline at end of file
+    List<TaskEntity> findByProjectIdAndAssigneeEmail(Integer projectId, String assigneeEmail);
+
+    List<TaskEntity> findByProjectIdAndAuthorEmailAndAssigneeEmail(Integer projectId, String authorEmail, String assigneeEmail);
+
+    long countByProjectIdAndStatus(Integer projectId, TaskStatus status);
+
+    @Query(value = """
+      select t from TaskEntity t join fetch t.author join fetch t.assignee\s
+      where t.projectId = :projectId and t.status = :status\s
+      order by t.boardRank, t.taskId\s
+      """)
+    List<TaskEntity> findBoardColumn(Integer projectId, TaskStatus status, Pageable pageable);
+
+    @Query(value = """
+      select t from TaskEntity t join fetch t.author join fetch t.assignee\s
+      where t.projectId = :projectId and t.status = :status\s
+      and (t.boardRank > :rank or (t.boardRank = :rank and t.taskId > :taskId))\s
+      order by t.boardRank, t.taskId\s
+      """)
+    List<TaskEntity> findBoardColumnAfter(Integer projectId, TaskStatus status, String rank, Integer taskId, Pageable pageable);
+
+    @Query("select min(t.boardRank) from TaskEntity t where t.projectId = :projectId and t.status = :status")
+    String findFirstBoardRank(Integer projectId, TaskStatus status);
+
+    @Query("select max(t.boardRank) from TaskEntity t where t.projectId = :projectId and t.status = :status")
+    String findLastBoardRank(Integer projectId, TaskStatus status);
+
+    @Query("select min(t.boardRank) from TaskEntity t where t.projectId = :projectId and t.status = :status and t.boardRank > :rank")
+    String findNextBoardRank(Integer projectId, TaskStatus status, String rank);
+
+    /**
+     * Locks the task a card is dropped after, so a concurrent rebalance of its column waits for the move.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TaskEntity t where t.taskId = :taskId")
+    Optional<TaskEntity> findByIdForUpdate(Integer taskId);
+}
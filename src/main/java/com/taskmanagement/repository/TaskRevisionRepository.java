@@ -0,0 +1,23 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.TaskRevisionEntity;
+import com.taskmanagement.model.TaskRevisionId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskRevisionRepository extends JpaRepository<TaskRevisionEntity, TaskRevisionId> {
+
+    @Query("select max(r.id.revision) from TaskRevisionEntity r where r.id.taskId = :taskId")
+    Integer findLatestRevision(Integer taskId);
+
+    @Query("select max(r.id.revision) from TaskRevisionEntity r where r.id.taskId = :taskId and r.id.revision <= :revision and r.snapshot = true")
+    Integer findSnapshotRevisionAtOrBefore(Integer taskId, Integer revision);
+
+    List<TaskRevisionEntity> findByIdTaskIdOrderByIdRevisionDesc(Integer taskId);
+
+    List<TaskRevisionEntity> findByIdTaskIdAndIdRevisionBetweenOrderByIdRevision(Integer taskId, Integer fromRevision, Integer toRevision);
+}
@@ -2,21 +2,18 @@ package com.taskmanagement.repository;
 
 import com.taskmanagement.model.TokenEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TokenRepository extends JpaRepository<TokenEntity,Integer> {
 
-    @Query(value = """
-      select t from TokenEntity t inner join UserEntity u\s
-      on t.user.id = u.id\s
-      where u.id = :id and (t.expired = false or t.revoked = false)\s
-      """)
-    List<TokenEntity> findAllValidTokenByUser(Integer id);
-
     Optional<TokenEntity> findByToken(String token);
+
+    @Modifying
+    @Query("update TokenEntity t set t.expired = true, t.revoked = true where t.user.id = :userId and (t.expired = false or t.revoked = false)")
+    int revokeAllValidTokensByUser(Integer userId);
 }
@@ -1,8 +1,11 @@
 package com.taskmanagement.repository;
 
-import com.taskmanagement.enums.UserRole;
 import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.search.IndexedUser;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,17 +16,14 @@ public interface UserRepository extends JpaRepository<UserEntity,Integer> {
 
     UserEntity findByEmail(String email);
 
-    List<UserEntity> getByNameAndSurnameAndRole(String name, String surname, UserRole role);
+    @Modifying
+    @Query("update UserEntity u set u.resetToken = null, u.resetTokenExpiresAt = null where u.id = :id and u.resetToken = :resetTokenHash")
+    int consumeResetToken(Integer id, String resetTokenHash);
 
-    List<UserEntity> getByNameAndSurname(String name, String surname);
-
-    List<UserEntity> getByName(String name);
-
-    List<UserEntity> getBySurname(String surname);
-
-    List<UserEntity> getByRole(UserRole role);
-
-    List<UserEntity> getByNameAndRole(String name, UserRole role);
-
-    List<UserEntity> getBySurnameAndRole(String name, UserRole userRole);
+    @Query("""
+      select new com.taskmanagement.search.IndexedUser(u.id, u.email, u.name, u.surname) from UserEntity u\s
+      where u.id > :afterId\s
+      order by u.id\s
+      """)
+    List<IndexedUser> findIndexedUsersAfter(Integer afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.search.UserSearchCriteria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the admin user search from the filters actually given, so every combination gets a plain
+ * conjunction the optimizer can serve from one index. Pages are keyset based: the caller passes the
+ * last ID of the previous page instead of an offset, so deep pages cost the same as the first one.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSearchRepository {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private final EntityManager entityManager;
+
+
+    /**
+     * @param criteria The filters, the page cursor and the maximum number of users to return.
+     * @return The matching users in ID order.
+     */
+    public List<UserEntity> search(UserSearchCriteria criteria) {
+        StringBuilder jpql = new StringBuilder("select u from UserEntity u where 1 = 1");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        appendText(jpql, parameters, "name", criteria.getName(), criteria.isNamePrefix());
+        appendText(jpql, parameters, "surname", criteria.getSurname(), criteria.isSurnamePrefix());
+        appendText(jpql, parameters, "email", criteria.getEmail(), criteria.isEmailPrefix());
+        if (criteria.getRole() != null) {
+            jpql.append(" and u.role = :role");
+            parameters.put("role", criteria.getRole());
+        }
+        if (criteria.getStatus() != null) {
+            jpql.append(" and u.status = :status");
+            parameters.put("status", criteria.getStatus());
+        }
+        if (criteria.getAfterId() != null) {
+            jpql.append(" and u.id > :afterId");
+            parameters.put("afterId", criteria.getAfterId());
+        }
+        jpql.append(" order by u.id");
+
+        TypedQuery<UserEntity> query = entityManager.createQuery(jpql.toString(), UserEntity.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(criteria.getLimit()).getResultList();
+    }
+
+
+    private static void appendText(StringBuilder jpql, Map<String, Object> parameters, String field, String value, boolean prefix) {
+        if (value == null) {
+            return;
+        }
+        if (prefix) {
+            jpql.append(" and u.").append(field).append(" like :").append(field).append(" escape '").append(LIKE_ESCAPE).append('\'');
+            parameters.put(field, escapeLike(value) + "%");
+        } else {
+            jpql.append(" and u.").append(field).append(" = :").append(field);
+            parameters.put(field, value);
+        }
+    }
+
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.model.TaskSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * The fields of a task the bitmap index filters on.
+ */
+@Getter
+@AllArgsConstructor
+public class IndexedTask {
+
+    private final int projectId;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final int authorId;
+    private final int assigneeId;
+    private final Set<String> labels;
+
+
+    public static IndexedTask of(TaskSnapshot task) {
+        return new IndexedTask(task.getProjectId(), task.getStatus(), task.getPriority(), task.getAuthorId(), task.getAssigneeId(),
+                task.getLabels() == null ? Set.of() : task.getLabels());
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.model.UserSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The fields of a user the prefix index matches on.
+ */
+@Getter
+@AllArgsConstructor
+public class IndexedUser {
+
+    private final Integer id;
+    private final String email;
+    private final String name;
+    private final String surname;
+
+
+    public static IndexedUser of(UserSnapshot user) {
+        return new IndexedUser(user.getId(), user.getEmail(), user.getName(), user.getSurname());
+    }
+
+
+    /**
+     * @return The lower-cased strings a typed prefix is matched against: email, name, surname and full name.
+     */
+    List<String> terms() {
+        List<String> terms = new ArrayList<>(4);
+        addTerm(terms, email);
+        addTerm(terms, name);
+        addTerm(terms, surname);
+        if (name != null && surname != null) {
+            addTerm(terms, name + " " + surname);
+        }
+        return terms;
+    }
+
+
+    private static void addTerm(List<String> terms, String value) {
+        if (value != null && !value.isBlank()) {
+            String term = value.trim().toLowerCase(Locale.ROOT);
+            if (!terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.taskmanagement.search;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The generation handling shared by the in-memory indexes. The current generation is kept up to date by
+ * applying changes and is replaced now and then by a generation loaded from the database. Changes that arrive
+ * while a new generation is loading are recorded and replayed onto it before it is swapped in, so a rebuild
+ * never loses a change.
+ * <p>
+ * Each index supplies how a generation is loaded and how a change is applied to one. Reads and writes of the
+ * current generation are guarded by a read-write lock.
+ *
+ * @param <S> The type of one generation of the index.
+ * @param <C> The type of a change.
+ */
+@Slf4j
+public class RebuildableIndex<S, C> {
+
+    private final String name;
+    private final Loader<S> loader;
+    private final BiConsumer<S, C> applier;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Replaced under the write lock; volatile for generations that are safe to read without it, see current().
+    private volatile S state;
+    // Guarded by lock; null unless a rebuild is loading.
+    private List<C> pendingChanges;
+
+    private volatile boolean ready;
+
+
+    /**
+     * @param name    The name of the index, for the log.
+     * @param empty   The generation served until the first rebuild completes.
+     * @param loader  Loads a complete new generation.
+     * @param applier Applies a change to a generation.
+     */
+    public RebuildableIndex(String name, S empty, Loader<S> loader, BiConsumer<S, C> applier) {
+        this.name = name;
+        this.state = empty;
+        this.loader = loader;
+        this.applier = applier;
+    }
+
+
+    /**
+     * Loads a new generation and swaps it in. A failed load is logged and keeps the current generation.
+     *
+     * @return Whether a new generation was swapped in.
+     */
+    public synchronized boolean rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        S fresh;
+        try {
+            fresh = loader.load();
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("Failed to rebuild the {}", name, e);
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> applier.accept(fresh, change));
+            pendingChanges = null;
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+
+    public void apply(C change) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Applies, in one write, the changes for which the condition holds on the current generation.
+     *
+     * @param changes   The changes to apply.
+     * @param condition Tested against the current generation before each change is applied.
+     */
+    public void applyIf(Collection<C> changes, BiPredicate<S, C> condition) {
+        lock.writeLock().lock();
+        try {
+            for (C change : changes) {
+                if (condition.test(state, change)) {
+                    applyLocked(change);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    public <R> R read(Function<S, R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Modifies the current generation without changing what it indexes, e.g. to compact it.
+     * Such modifications are not replayed onto a generation that is loading.
+     */
+    public void update(Consumer<S> writer) {
+        lock.writeLock().lock();
+        try {
+            writer.accept(state);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * @return The current generation, to be read without the lock. Only for generations that are safe to read
+     * concurrently with the application of a change.
+     */
+    public S current() {
+        return state;
+    }
+
+
+    public boolean isReady() {
+        return ready;
+    }
+
+
+    private void applyLocked(C change) {
+        applier.accept(state, change);
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+
+    @FunctionalInterface
+    public interface Loader<S> {
+
+        S load() throws Exception;
+    }
+}
@@ -0,0 +1,162 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory compressed bitmap index over tasks, used to answer label, status, priority and assignee filters
+ * by intersecting bitmaps; only the matching page of tasks is then read from the database.
+ * <p>
+ * The index is loaded at startup and kept current from task events. Tasks inserted on other nodes are picked up
+ * by a cheap catch-up on the primary key, and a periodic rebuild repairs any drift, e.g. from events that
+ * committed in a different order than they were applied.
+ */
+@Slf4j
+@Component
+public class TaskBitmapIndex {
+
+    private static final String SELECT_TASKS = "select task_id, project_id, status, priority, author_id, assignee_id from task where task_id > ?";
+    private static final String SELECT_LABELS = "select task_id, label from task_label where task_id > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+    private final RebuildableIndex<TaskBitmapIndexState, Change> index;
+
+
+    public TaskBitmapIndex(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Not read-only, so that loads go to the primary rather than a lagging replica.
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.index = new RebuildableIndex<>("task index", new TaskBitmapIndexState(), this::loadState,
+                (state, change) -> state.apply(change.taskId, change.task));
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+
+    @Scheduled(fixedDelayString = "${app.task-index.rebuild-interval:600000}", initialDelayString = "${app.task-index.rebuild-interval:600000}")
+    public void scheduledRebuild() {
+        if (index.isReady()) {
+            rebuild();
+        }
+    }
+
+
+    /**
+     * Indexes tasks inserted since the highest indexed ID that this node has not applied.
+     */
+    @Scheduled(fixedDelayString = "${app.task-index.catch-up-interval:30000}")
+    public void catchUp() {
+        if (!index.isReady()) {
+            return;
+        }
+        int afterId = index.read(TaskBitmapIndexState::getMaxTaskId);
+        try {
+            List<Change> loaded = new ArrayList<>();
+            load(afterId).forEach((taskId, task) -> loaded.add(new Change(taskId, task)));
+            index.applyIf(loaded, (state, change) -> !state.contains(change.taskId));
+        } catch (Exception e) {
+            log.error("Failed to index tasks after {}", afterId, e);
+        }
+    }
+
+
+    /**
+     * Loads a new generation of the index from the database and swaps it in.
+     */
+    public void rebuild() {
+        if (index.rebuild()) {
+            log.info("Indexed {} tasks", index.read(TaskBitmapIndexState::size));
+        }
+    }
+
+
+    /**
+     * @param taskId The ID of the changed task.
+     * @param task   The new indexed fields of the task, or null if it was deleted.
+     */
+    public void apply(int taskId, IndexedTask task) {
+        index.apply(new Change(taskId, task));
+    }
+
+
+    /**
+     * @param criteria The filters and the requested page.
+     * @return The number of matching tasks and the IDs of the requested page, newest first.
+     */
+    public TaskSearchResult search(TaskSearchCriteria criteria) {
+        return index.read(state -> state.search(criteria));
+    }
+
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+
+    private TaskBitmapIndexState loadState() {
+        TaskBitmapIndexState fresh = new TaskBitmapIndexState();
+        load(0).forEach(fresh::apply);
+        fresh.optimize();
+        return fresh;
+    }
+
+
+    /**
+     * Reads the tasks and their labels in one repeatable-read transaction, so that both statements see the
+     * same snapshot and no task is indexed with the labels of a different point in time.
+     */
+    private Map<Integer, IndexedTask> load(int afterId) {
+        return snapshotTransaction.execute(status -> loadInSnapshot(afterId));
+    }
+
+
+    private Map<Integer, IndexedTask> loadInSnapshot(int afterId) {
+        Map<Integer, Set<String>> labels = new HashMap<>();
+        jdbcTemplate.query(SELECT_LABELS, rs -> {
+            labels.computeIfAbsent(rs.getInt(1), id -> new HashSet<>()).add(rs.getString(2));
+        }, afterId);
+
+        Map<Integer, IndexedTask> tasks = new HashMap<>();
+        jdbcTemplate.query(SELECT_TASKS, rs -> {
+            int taskId = rs.getInt(1);
+            tasks.put(taskId, new IndexedTask(
+                    rs.getInt(2),
+                    TaskStatus.valueOf(rs.getString(3)),
+                    TaskPriority.valueOf(rs.getString(4)),
+                    rs.getInt(5),
+                    rs.getInt(6),
+                    labels.getOrDefault(taskId, Set.of())));
+        }, afterId);
+        return tasks;
+    }
+
+
+    @AllArgsConstructor
+    private static class Change {
+        private final int taskId;
+        private final IndexedTask task;
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One generation of the bitmap index: a posting bitmap of task IDs per project, status, priority, author,
+ * assignee and label, plus the indexed fields of every task so a change can clear exactly the bits it set.
+ * Not thread-safe; {@link TaskBitmapIndex} guards it.
+ */
+class TaskBitmapIndexState {
+
+    private final Map<Integer, IndexedTask> tasks = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byProject = new HashMap<>();
+    private final Map<TaskStatus, RoaringBitmap> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskPriority, RoaringBitmap> byPriority = new EnumMap<>(TaskPriority.class);
+    private final Map<Integer, RoaringBitmap> byAuthor = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byAssignee = new HashMap<>();
+    private final Map<String, RoaringBitmap> byLabel = new HashMap<>();
+
+    private int maxTaskId;
+
+
+    /**
+     * @param taskId The ID of the task.
+     * @param task   The new indexed fields of the task, or null if it was deleted.
+     */
+    void apply(int taskId, IndexedTask task) {
+        IndexedTask previous = task == null ? tasks.remove(taskId) : tasks.put(taskId, task);
+        if (previous != null) {
+            remove(byProject, previous.getProjectId(), taskId);
+            remove(byStatus, previous.getStatus(), taskId);
+            remove(byPriority, previous.getPriority(), taskId);
+            remove(byAuthor, previous.getAuthorId(), taskId);
+            remove(byAssignee, previous.getAssigneeId(), taskId);
+            previous.getLabels().forEach(label -> remove(byLabel, label, taskId));
+        }
+        if (task != null) {
+            add(byProject, task.getProjectId(), taskId);
+            add(byStatus, task.getStatus(), taskId);
+            add(byPriority, task.getPriority(), taskId);
+            add(byAuthor, task.getAuthorId(), taskId);
+            add(byAssignee, task.getAssigneeId(), taskId);
+            task.getLabels().forEach(label -> add(byLabel, label, taskId));
+            maxTaskId = Math.max(maxTaskId, taskId);
+        }
+    }
+
+
+    boolean contains(int taskId) {
+        return tasks.containsKey(taskId);
+    }
+
+
+    int getMaxTaskId() {
+        return maxTaskId;
+    }
+
+
+    int size() {
+        return tasks.size();
+    }
+
+
+    TaskSearchResult search(TaskSearchCriteria criteria) {
+        RoaringBitmap result = RoaringBitmap.or(get(byAuthor, criteria.getUserId()), get(byAssignee, criteria.getUserId()));
+
+        if (criteria.getProjectId() != null) {
+            result.and(get(byProject, criteria.getProjectId()));
+        }
+        if (criteria.getLabels() != null) {
+            for (String label : criteria.getLabels()) {
+                result.and(get(byLabel, label));
+            }
+        }
+        if (criteria.getStatus() != null) {
+            result.and(get(byStatus, criteria.getStatus()));
+        }
+        if (criteria.getPriority() != null) {
+            result.and(get(byPriority, criteria.getPriority()));
+        }
+        if (criteria.getAssigneeId() != null) {
+            result.and(get(byAssignee, criteria.getAssigneeId()));
+        }
+        if (criteria.getExcludedLabels() != null) {
+            for (String label : criteria.getExcludedLabels()) {
+                result.andNot(get(byLabel, label));
+            }
+        }
+
+        // Newest first: walk the matching IDs from the top and keep only the requested page.
+        List<Integer> page = new ArrayList<>(criteria.getSize());
+        long skip = (long) criteria.getPage() * criteria.getSize();
+        IntIterator ids = result.getReverseIntIterator();
+        for (long i = 0; ids.hasNext() && page.size() < criteria.getSize(); i++) {
+            int id = ids.next();
+            if (i >= skip) {
+                page.add(id);
+            }
+        }
+        return new TaskSearchResult(result.getLongCardinality(), page);
+    }
+
+
+    /**
+     * Compresses runs of consecutive IDs once a freshly loaded generation is complete.
+     */
+    void optimize() {
+        byProject.values().forEach(RoaringBitmap::runOptimize);
+        byStatus.values().forEach(RoaringBitmap::runOptimize);
+        byPriority.values().forEach(RoaringBitmap::runOptimize);
+        byAuthor.values().forEach(RoaringBitmap::runOptimize);
+        byAssignee.values().forEach(RoaringBitmap::runOptimize);
+        byLabel.values().forEach(RoaringBitmap::runOptimize);
+    }
+
+
+    private static <K> RoaringBitmap get(Map<K, RoaringBitmap> postings, K key) {
+        RoaringBitmap bitmap = postings.get(key);
+        return bitmap != null ? bitmap : new RoaringBitmap();
+    }
+
+
+    private static <K> void add(Map<K, RoaringBitmap> postings, K key, int taskId) {
+        postings.computeIfAbsent(key, k -> new RoaringBitmap()).add(taskId);
+    }
+
+
+    private static <K> void remove(Map<K, RoaringBitmap> postings, K key, int taskId) {
+        RoaringBitmap bitmap = postings.get(key);
+        if (bitmap != null) {
+            bitmap.remove(taskId);
+            // Labels come and go; do not keep empty postings around.
+            if (bitmap.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
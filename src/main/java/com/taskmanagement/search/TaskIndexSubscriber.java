@@ -0,0 +1,36 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.enums.SubscriberMode;
+import com.taskmanagement.event.DomainEventSubscriber;
+import com.taskmanagement.event.TaskEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the bitmap index in step with task writes. Runs synchronously after commit so a task is
+ * searchable as soon as the request that wrote it returns.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskIndexSubscriber implements DomainEventSubscriber<TaskEvent> {
+
+    private final TaskBitmapIndex taskBitmapIndex;
+
+
+    @Override
+    public Class<TaskEvent> getEventType() {
+        return TaskEvent.class;
+    }
+
+
+    @Override
+    public SubscriberMode getMode() {
+        return SubscriberMode.SYNC;
+    }
+
+
+    @Override
+    public void onEvent(TaskEvent event) {
+        taskBitmapIndex.apply(event.getTaskId(), event.getAfter() == null ? null : IndexedTask.of(event.getAfter()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@Builder
+public class TaskSearchCriteria {
+
+    /**
+     * Only tasks this user authored or is assigned to are matched.
+     */
+    private final int userId;
+    private final Integer projectId;
+    private final Set<String> labels;
+    private final Set<String> excludedLabels;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final Integer assigneeId;
+    private final int page;
+    private final int size;
+}
@@ -0,0 +1,18 @@
+package com.taskmanagement.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TaskSearchResult {
+
+    private final long total;
+
+    /**
+     * IDs of the requested page, newest task first.
+     */
+    private final List<Integer> taskIds;
+}
@@ -0,0 +1,36 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.enums.SubscriberMode;
+import com.taskmanagement.event.DomainEventSubscriber;
+import com.taskmanagement.event.UserEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the user prefix index in step with user writes, so a new or renamed user can be picked as an
+ * assignee as soon as the request that wrote it returns.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIndexSubscriber implements DomainEventSubscriber<UserEvent> {
+
+    private final UserPrefixIndex userPrefixIndex;
+
+
+    @Override
+    public Class<UserEvent> getEventType() {
+        return UserEvent.class;
+    }
+
+
+    @Override
+    public SubscriberMode getMode() {
+        return SubscriberMode.SYNC;
+    }
+
+
+    @Override
+    public void onEvent(UserEvent event) {
+        userPrefixIndex.apply(event.getUserId(), event.getAfter() == null ? null : IndexedUser.of(event.getAfter()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * In-memory prefix index over user emails and names, serving assignee autocomplete without LIKE queries.
+ * <p>
+ * The index is loaded at startup and kept current from user events; a periodic rebuild repairs any drift,
+ * the same way as {@link TaskBitmapIndex}.
+ */
+@Slf4j
+@Component
+public class UserPrefixIndex {
+
+    private final UserRepository userRepository;
+    private final int loadBatchSize;
+    private final int maxScanned;
+    private final RebuildableIndex<UserPrefixIndexState, Change> index;
+
+
+    public UserPrefixIndex(UserRepository userRepository,
+                           @Value("${app.user-index.load-batch-size:5000}") int loadBatchSize,
+                           @Value("${app.user-index.max-scanned:10000}") int maxScanned) {
+        this.userRepository = userRepository;
+        this.loadBatchSize = loadBatchSize;
+        this.maxScanned = maxScanned;
+        this.index = new RebuildableIndex<>("user index", new UserPrefixIndexState(), this::loadState,
+                (state, change) -> state.apply(change.userId, change.user));
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+
+    @Scheduled(fixedDelayString = "${app.user-index.rebuild-interval:3600000}", initialDelayString = "${app.user-index.rebuild-interval:3600000}")
+    public void scheduledRebuild() {
+        if (index.isReady()) {
+            rebuild();
+        }
+    }
+
+
+    /**
+     * Loads a new generation of the index from the database, in batches of {@code loadBatchSize} users, and swaps it in.
+     */
+    public void rebuild() {
+        if (index.rebuild()) {
+            log.info("Indexed {} users", index.read(UserPrefixIndexState::size));
+        }
+    }
+
+
+    /**
+     * @param userId The ID of the changed user.
+     * @param user   The new indexed fields of the user, or null if it was deleted.
+     */
+    public void apply(int userId, IndexedUser user) {
+        index.apply(new Change(userId, user));
+    }
+
+
+    /**
+     * Scans the users whose terms start with the prefix, at most {@code maxScanned} keys, so a filter that
+     * rejects most users may return fewer than {@code limit} matches.
+     *
+     * @param prefix The typed prefix of an email, name, surname or full name.
+     * @param limit  The maximum number of users to return.
+     * @param filter Users to consider.
+     * @return Up to {@code limit} matching users.
+     */
+    public List<IndexedUser> search(String prefix, int limit, IntPredicate filter) {
+        return index.read(state -> state.search(prefix, limit, maxScanned, filter));
+    }
+
+
+    /**
+     * @param prefix  The typed prefix of an email, name, surname or full name.
+     * @param limit   The maximum number of users to return.
+     * @param userIds The only users to consider; cheaper than {@link #search} when they are few.
+     * @return Up to {@code limit} matching users.
+     */
+    public List<IndexedUser> searchAmong(String prefix, int limit, Collection<Integer> userIds) {
+        return index.read(state -> state.searchAmong(prefix, limit, userIds));
+    }
+
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+
+    private UserPrefixIndexState loadState() {
+        UserPrefixIndexState fresh = new UserPrefixIndexState();
+        int afterId = 0;
+        List<IndexedUser> batch;
+        do {
+            batch = userRepository.findIndexedUsersAfter(afterId, PageRequest.of(0, loadBatchSize));
+            for (IndexedUser user : batch) {
+                fresh.apply(user.getId(), user);
+                afterId = user.getId();
+            }
+        } while (batch.size() == loadBatchSize);
+        fresh.compact();
+        return fresh;
+    }
+
+
+    @AllArgsConstructor
+    private static class Change {
+        private final int userId;
+        private final IndexedUser user;
+    }
+}
@@ -0,0 +1,227 @@
+package com.taskmanagement.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+/**
+ * One generation of the user prefix index. Search terms live in sorted parallel arrays, so a prefix
+ * lookup is a binary search followed by a scan of adjacent keys. Writes go to a small sorted overlay that
+ * is merged into the arrays once it grows; entries of older versions of a user are skipped on lookup
+ * rather than removed. Not thread-safe; {@link UserPrefixIndex} guards it.
+ */
+class UserPrefixIndexState {
+
+    // Separates the term from the user ID in a key, and sorts before every character of a term.
+    private static final char SEPARATOR = '\u0000';
+    private static final int MIN_OVERLAY_SIZE = 1024;
+
+    private final Map<Integer, VersionedUser> users = new HashMap<>();
+    private final TreeMap<String, Posting> overlay = new TreeMap<>();
+    private String[] keys = new String[0];
+    private int[] ids = new int[0];
+    private long[] versions = new long[0];
+    private long version;
+
+
+    /**
+     * @param userId The ID of the user.
+     * @param user   The new indexed fields of the user, or null if it was deleted.
+     */
+    void apply(int userId, IndexedUser user) {
+        if (user == null) {
+            users.remove(userId);
+            return;
+        }
+        long current = ++version;
+        users.put(userId, new VersionedUser(user, current));
+        for (String term : user.terms()) {
+            overlay.put(key(term, userId), new Posting(userId, current));
+        }
+        if (overlay.size() > Math.max(MIN_OVERLAY_SIZE, keys.length / 16)) {
+            compact();
+        }
+    }
+
+
+    /**
+     * Rewrites the sorted arrays from the current users and empties the overlay.
+     */
+    void compact() {
+        List<Posting> postings = new ArrayList<>(users.size() * 3);
+        List<String> postingKeys = new ArrayList<>(users.size() * 3);
+        users.forEach((userId, user) -> {
+            for (String term : user.user.terms()) {
+                postingKeys.add(key(term, userId));
+                postings.add(new Posting(userId, user.version));
+            }
+        });
+
+        Integer[] order = new Integer[postingKeys.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> postingKeys.get(a).compareTo(postingKeys.get(b)));
+
+        keys = new String[order.length];
+        ids = new int[order.length];
+        versions = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            Posting posting = postings.get(order[i]);
+            keys[i] = postingKeys.get(order[i]);
+            ids[i] = posting.userId;
+            versions[i] = posting.version;
+        }
+        overlay.clear();
+    }
+
+
+    /**
+     * @param prefix     The typed prefix, matched case-insensitively against the start of any term.
+     * @param limit      The maximum number of users to return.
+     * @param maxScanned The maximum number of keys to scan, which bounds the cost of a short prefix
+     *                   when the filter rejects most users.
+     * @param filter     Users to consider, e.g. the members of a project.
+     * @return Matching users in the order of their matching term.
+     */
+    List<IndexedUser> search(String prefix, int limit, int maxScanned, IntPredicate filter) {
+        String normalized = prefix.trim().toLowerCase(Locale.ROOT);
+        Map<Integer, IndexedUser> found = new LinkedHashMap<>();
+        if (normalized.isEmpty() || normalized.indexOf(SEPARATOR) >= 0) {
+            return new ArrayList<>();
+        }
+
+        int next = lowerBound(normalized);
+        Iterator<Map.Entry<String, Posting>> overlayEntries = overlay.tailMap(normalized, true).entrySet().iterator();
+        Map.Entry<String, Posting> pending = overlayEntries.hasNext() ? overlayEntries.next() : null;
+
+        // Merge the two sorted sources until both run out of keys with the prefix.
+        int scanned = 0;
+        while (found.size() < limit && scanned++ < maxScanned) {
+            boolean fromArray = next < keys.length && keys[next].startsWith(normalized);
+            boolean fromOverlay = pending != null && pending.getKey().startsWith(normalized);
+            if (!fromArray && !fromOverlay) {
+                break;
+            }
+            int userId;
+            long userVersion;
+            if (fromArray && (!fromOverlay || keys[next].compareTo(pending.getKey()) <= 0)) {
+                userId = ids[next];
+                userVersion = versions[next];
+                next++;
+            } else {
+                userId = pending.getValue().userId;
+                userVersion = pending.getValue().version;
+                pending = overlayEntries.hasNext() ? overlayEntries.next() : null;
+            }
+
+            VersionedUser user = users.get(userId);
+            if (user != null && user.version == userVersion && !found.containsKey(userId) && filter.test(userId)) {
+                found.put(userId, user.user);
+            }
+        }
+        return new ArrayList<>(found.values());
+    }
+
+
+    /**
+     * Matches the prefix against the terms of the given users only, at a cost independent of how many
+     * other users share the prefix.
+     *
+     * @param prefix  The typed prefix, matched case-insensitively against the start of any term.
+     * @param limit   The maximum number of users to return.
+     * @param userIds Users to consider, e.g. the members of a small project.
+     * @return Matching users in the same order as {@link #search}.
+     */
+    List<IndexedUser> searchAmong(String prefix, int limit, Collection<Integer> userIds) {
+        String normalized = prefix.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || normalized.indexOf(SEPARATOR) >= 0) {
+            return new ArrayList<>();
+        }
+
+        // Each user is ranked by its first matching key, where the key scan would have found it.
+        TreeMap<String, IndexedUser> byFirstKey = new TreeMap<>();
+        for (Integer userId : userIds) {
+            VersionedUser user = users.get(userId);
+            if (user == null) {
+                continue;
+            }
+            String firstKey = null;
+            for (String term : user.user.terms()) {
+                String key = key(term, userId);
+                if (term.startsWith(normalized) && (firstKey == null || key.compareTo(firstKey) < 0)) {
+                    firstKey = key;
+                }
+            }
+            if (firstKey != null) {
+                byFirstKey.put(firstKey, user.user);
+            }
+        }
+
+        List<IndexedUser> found = new ArrayList<>(Math.min(limit, byFirstKey.size()));
+        for (IndexedUser user : byFirstKey.values()) {
+            if (found.size() == limit) {
+                break;
+            }
+            found.add(user);
+        }
+        return found;
+    }
+
+
+    int size() {
+        return users.size();
+    }
+
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+
+    private static String key(String term, int userId) {
+        return term + SEPARATOR + userId;
+    }
+
+
+    private static class VersionedUser {
+
+        private final IndexedUser user;
+        private final long version;
+
+
+        private VersionedUser(IndexedUser user, long version) {
+            this.user = user;
+            this.version = version;
+        }
+    }
+
+
+    private static class Posting {
+
+        private final int userId;
+        private final long version;
+
+
+        private Posting(int userId, long version) {
+            this.userId = userId;
+            this.version = version;
+        }
+    }
+}
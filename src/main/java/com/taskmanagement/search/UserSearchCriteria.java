@@ -0,0 +1,25 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.enums.UserRole;
+import com.taskmanagement.enums.UserStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UserSearchCriteria {
+
+    private final String name;
+    private final boolean namePrefix;
+    private final String surname;
+    private final boolean surnamePrefix;
+    private final String email;
+    private final boolean emailPrefix;
+    private final UserRole role;
+    private final UserStatus status;
+    /**
+     * Only users with a greater ID are matched.
+     */
+    private final Integer afterId;
+    private final int limit;
+}
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
@@ -27,6 +28,14 @@ public class JwtService {
     @Value("${jwt.refresh.token}")
     private long refreshExpiration;
 
+    private Key signInKey;
+
+    @PostConstruct
+    void init() {
+        // Decoding the secret is done once instead of on every token signed or parsed
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -91,7 +100,6 @@ public class JwtService {
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signInKey;
     }
 }
@@ -0,0 +1,102 @@
+package com.taskmanagement.security.ratelimit;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Request whose body has been read into memory so it can be inspected before the controller runs.
+ * The controller reads the same bytes from the cached copy. Bodies larger than the limit are not cached;
+ * such requests are rejected rather than passed on.
+ */
+class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private ServletInputStream inputStream;
+
+
+    CachedBodyRequest(HttpServletRequest request, int maxBytes) throws IOException {
+        super(request);
+        InputStream original = request.getInputStream();
+        byte[] buffer = new byte[maxBytes + 1];
+        int read = 0;
+        int n;
+        while (read < buffer.length && (n = original.read(buffer, read, buffer.length - read)) != -1) {
+            read += n;
+        }
+        this.body = read <= maxBytes ? Arrays.copyOf(buffer, read) : null;
+    }
+
+
+    /**
+     * @return The whole body, or null when it was larger than the limit.
+     */
+    byte[] getCompleteBody() {
+        return body;
+    }
+
+
+    @Override
+    public ServletInputStream getInputStream() {
+        if (inputStream == null) {
+            inputStream = cachedInputStream(new ByteArrayInputStream(body));
+        }
+        return inputStream;
+    }
+
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+
+    private static ServletInputStream cachedInputStream(ByteArrayInputStream in) {
+        return new ServletInputStream() {
+
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return in.read(b, off, len);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                // The body is already in memory, so all of it is available at once.
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package com.taskmanagement.security.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.common.exception.ExceptionResponse;
+import com.taskmanagement.enums.RateLimitKeySource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static com.taskmanagement.util.messages.AuthErrorMessage.REQUEST_BODY_TOO_LARGE;
+import static com.taskmanagement.util.messages.AuthErrorMessage.TOO_MANY_REQUESTS;
+
+/**
+ * Rejects bursts against the public authentication endpoints with 429 before they reach any controller.
+ * <p>
+ * Runs as a plain servlet filter ahead of Spring Security, because these endpoints are excluded from the
+ * security filter chain. The IP bucket is checked first since it needs no body parsing.
+ * <p>
+ * The client IP is the remote address of the request. Behind the load balancer, Tomcat resolves it from
+ * X-Forwarded-For ({@code server.forward-headers-strategy: native}), trusting only the proxies matching
+ * {@code server.tomcat.remoteip.internal-proxies}, so clients cannot pick their bucket by sending the header.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final StripedRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || findRoute(request) == null;
+    }
+
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Route route = findRoute(request);
+
+        if (route.getIp() != null) {
+            long waitNanos = rateLimiter.tryAcquire(route.getName() + ":ip:" + request.getRemoteAddr(), route.getIp());
+            if (waitNanos > 0) {
+                tooManyRequests(response, waitNanos);
+                return;
+            }
+        }
+
+        if (route.getEmail() != null) {
+            // The email is taken only from where the endpoint binds it, so one sent elsewhere cannot pick the bucket.
+            String email = null;
+            if (route.getEmailSource() == RateLimitKeySource.PARAMETER) {
+                email = request.getParameter("email");
+            } else if (isJson(request)) {
+                CachedBodyRequest cached = new CachedBodyRequest(request, properties.getMaxBodyBytes());
+                if (cached.getCompleteBody() == null) {
+                    reject(response, HttpStatus.PAYLOAD_TOO_LARGE, REQUEST_BODY_TOO_LARGE);
+                    return;
+                }
+                email = readEmail(cached.getCompleteBody());
+                request = cached;
+            }
+            if (email != null) {
+                long waitNanos = rateLimiter.tryAcquire(route.getName() + ":email:" + email.trim().toLowerCase(Locale.ROOT), route.getEmail());
+                if (waitNanos > 0) {
+                    tooManyRequests(response, waitNanos);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+
+    private RateLimitProperties.Route findRoute(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (route.getMethod().equalsIgnoreCase(request.getMethod()) && pathMatcher.match(route.getPath(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+
+    private boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+
+    private String readEmail(byte[] body) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            // Malformed bodies are rejected by the controller; only the IP limit applies to them.
+            return null;
+        }
+    }
+
+
+    private void tooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        reject(response, HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_REQUESTS);
+    }
+
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ExceptionResponse(message, status.value()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanagement.security.ratelimit;
+
+import com.taskmanagement.enums.RateLimitKeySource;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Number of independently locked bucket maps. Rounded up to a power of two.
+     */
+    private int stripes = 64;
+
+    /**
+     * Upper bound on buckets kept in memory across all stripes; least recently used buckets are evicted first.
+     */
+    private int maxBuckets = 100_000;
+
+    /**
+     * Largest request body read when the email has to be taken from a JSON body; larger bodies are rejected with 413.
+     */
+    private int maxBodyBytes = 16 * 1024;
+
+    private List<Route> routes = new ArrayList<>();
+
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        private String name;
+        private String method;
+        private String path;
+
+        /**
+         * Limit per client IP. Not applied when null.
+         */
+        private Limit ip;
+
+        /**
+         * Limit per email taken from the {@code email} field of the JSON body or the {@code email} request
+         * parameter, see {@link #emailSource}. Not applied when null.
+         */
+        private Limit email;
+
+        /**
+         * Where the email is taken from; must be where the endpoint binds it from, or the limit could be bypassed
+         * by sending another email in the other place.
+         */
+        private RateLimitKeySource emailSource = RateLimitKeySource.BODY;
+    }
+
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /**
+         * Burst size, i.e. how many requests a fresh bucket allows back to back.
+         */
+        private int capacity;
+
+        /**
+         * Time to refill the bucket from empty to full.
+         */
+        private Duration refillPeriod;
+    }
+}
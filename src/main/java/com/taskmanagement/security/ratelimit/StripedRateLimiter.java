@@ -0,0 +1,86 @@
+package com.taskmanagement.security.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter keyed by arbitrary strings.
+ * <p>
+ * Buckets are spread over lock stripes by key hash so unrelated keys never contend on the same lock.
+ * Each stripe is an access-ordered map capped at its share of the bucket limit, so memory stays bounded
+ * no matter how many distinct IPs or emails an attack cycles through.
+ */
+public class StripedRateLimiter {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final LongSupplier nanoClock;
+
+
+    public StripedRateLimiter(int stripes, int maxBuckets, LongSupplier nanoClock) {
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        int perStripe = Math.max(1, maxBuckets / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+        this.mask = count - 1;
+        this.nanoClock = nanoClock;
+    }
+
+
+    /**
+     * Takes one token from the bucket of the given key, creating a full bucket on first use.
+     *
+     * @param key   The bucket key.
+     * @param limit The limit the bucket is created with.
+     * @return 0 when the request is allowed, otherwise the nanoseconds until it would be.
+     */
+    public long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        long now = nanoClock.getAsLong();
+        synchronized (stripe) {
+            TokenBucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new TokenBucket(limit, now);
+                stripe.buckets.put(key, bucket);
+            }
+            return bucket.tryConsume(now);
+        }
+    }
+
+
+    /**
+     * @return The number of buckets currently held.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+
+    private static final class Stripe {
+
+        private final Map<String, TokenBucket> buckets;
+
+        Stripe(int maxBuckets) {
+            this.buckets = new LinkedHashMap<String, TokenBucket>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                    return size() > maxBuckets;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskmanagement.security.ratelimit;
+
+/**
+ * Token bucket refilled continuously. Not thread safe; guarded by the stripe lock of {@link StripedRateLimiter}.
+ */
+class TokenBucket {
+
+    private final int capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+
+    TokenBucket(RateLimitProperties.Limit limit, long nowNanos) {
+        this.capacity = limit.getCapacity();
+        this.tokensPerNano = (double) limit.getCapacity() / limit.getRefillPeriod().toNanos();
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+
+    /**
+     * Takes one token if available.
+     *
+     * @return 0 when the token was taken, otherwise the nanoseconds until one becomes available.
+     */
+    long tryConsume(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
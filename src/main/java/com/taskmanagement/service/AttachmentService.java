@@ -0,0 +1,28 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.responsedto.AttachmentResponseDTO;
+import com.taskmanagement.enums.PreviewSize;
+import com.taskmanagement.exceptions.AttachmentApiException;
+import com.taskmanagement.exceptions.CommentApiException;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.model.AttachmentEntity;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface AttachmentService {
+
+    AttachmentResponseDTO attachToTask(Integer taskId, String fileName, String contentType, InputStream content, String userEmail) throws AttachmentApiException, TaskApiException;
+
+    AttachmentResponseDTO attachToComment(Integer commentId, String fileName, String contentType, InputStream content, String userEmail) throws AttachmentApiException, TaskApiException, CommentApiException;
+
+    List<AttachmentResponseDTO> getTaskAttachments(Integer taskId, String userEmail) throws AttachmentApiException, TaskApiException;
+
+    List<AttachmentResponseDTO> getCommentAttachments(Integer commentId, String userEmail) throws AttachmentApiException, TaskApiException, CommentApiException;
+
+    AttachmentEntity getAttachment(Integer attachmentId, String userEmail) throws AttachmentApiException, TaskApiException;
+
+    AttachmentEntity getAttachmentPreview(Integer attachmentId, PreviewSize size, String userEmail) throws AttachmentApiException, TaskApiException;
+
+    void deleteAttachment(Integer attachmentId, String userEmail) throws AttachmentApiException, TaskApiException;
+}
@@ -2,6 +2,7 @@ package com.taskmanagement.service;
 
 import com.taskmanagement.dto.requestdto.CommentDTO;
 import com.taskmanagement.dto.responsedto.CommentResponseDTO;
+import com.taskmanagement.dto.responsedto.MentionPageResponseDTO;
 import com.taskmanagement.exceptions.CommentApiException;
 import com.taskmanagement.exceptions.CommentBadRequestException;
 import com.taskmanagement.model.CommentEntity;
@@ -21,4 +22,6 @@ public interface CommentService {
     List<CommentResponseDTO> getCommentsByTaskId(Integer taskId,String userEmail) throws CommentApiException;
 
     CommentResponseDTO updateComment(Integer commentId, String userEmail, CommentDTO commentDTO) throws CommentApiException;
+
+    MentionPageResponseDTO getMentions(String userEmail, Integer beforeCommentId, int size) throws CommentApiException;
 }
\ No newline at end of file
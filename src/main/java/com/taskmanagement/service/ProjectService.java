@@ -0,0 +1,26 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.requestdto.ProjectDTO;
+import com.taskmanagement.dto.requestdto.ProjectMemberDTO;
+import com.taskmanagement.dto.responsedto.ProjectResponseDTO;
+import com.taskmanagement.dto.responsedto.UserSuggestionResponseDTO;
+import com.taskmanagement.exceptions.ProjectApiException;
+
+import java.util.List;
+
+public interface ProjectService {
+
+    ProjectResponseDTO createProject(ProjectDTO projectDTO, String ownerEmail) throws ProjectApiException;
+
+    List<ProjectResponseDTO> getProjects(String userEmail) throws ProjectApiException;
+
+    ProjectResponseDTO getProject(Integer projectId, String userEmail) throws ProjectApiException;
+
+    ProjectResponseDTO addMember(Integer projectId, ProjectMemberDTO projectMemberDTO, String requesterEmail) throws ProjectApiException;
+
+    void removeMember(Integer projectId, Integer userId, String requesterEmail) throws ProjectApiException;
+
+    boolean isMember(Integer projectId, Integer userId);
+
+    List<UserSuggestionResponseDTO> suggestAssignees(Integer projectId, String query, int limit, String requesterEmail) throws ProjectApiException;
+}
@@ -0,0 +1,30 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.board.BoardColumn;
+import com.taskmanagement.dto.responsedto.TaskBoardColumnResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskBoardResponseDTO;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.exceptions.TaskBadRequestException;
+import com.taskmanagement.model.TaskEntity;
+
+import java.util.List;
+
+public interface TaskBoardService {
+
+    TaskBoardResponseDTO getBoard(Integer projectId, int size, String userEmail) throws TaskApiException, TaskBadRequestException;
+
+    TaskBoardColumnResponseDTO getColumn(Integer projectId, String status, Integer afterTaskId, int size, String userEmail) throws TaskApiException, TaskBadRequestException;
+
+    String appendRank(Integer projectId, TaskStatus status) throws TaskApiException;
+
+    List<String> appendRanks(Integer projectId, TaskStatus status, int count) throws TaskApiException;
+
+    String rankAfter(TaskEntity task, TaskStatus status, Integer afterTaskId) throws TaskApiException, TaskBadRequestException;
+
+    void requestRebalance(BoardColumn column);
+
+    List<BoardColumn> takeColumnsToRebalance();
+
+    void rebalanceColumn(BoardColumn column);
+}
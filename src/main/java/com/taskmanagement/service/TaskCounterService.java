@@ -0,0 +1,18 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.responsedto.TaskDashboardResponseDTO;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.model.TaskSnapshot;
+
+public interface TaskCounterService {
+
+    void onTaskCreated(TaskSnapshot task) throws TaskApiException;
+
+    void onTasksCreated(TaskSnapshot task, long count) throws TaskApiException;
+
+    void onTaskChanged(TaskSnapshot before, TaskSnapshot after) throws TaskApiException;
+
+    void onTaskDeleted(TaskSnapshot task) throws TaskApiException;
+
+    TaskDashboardResponseDTO getDashboard(String userEmail) throws TaskApiException;
+}
@@ -0,0 +1,15 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.requestdto.TaskExportDTO;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.export.TaskExportCriteria;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+
+    TaskExportCriteria resolveCriteria(TaskExportDTO taskExportDTO) throws TaskApiException;
+
+    long exportTasks(TaskExportCriteria criteria, OutputStream outputStream) throws IOException;
+}
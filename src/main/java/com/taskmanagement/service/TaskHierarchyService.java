@@ -0,0 +1,22 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.responsedto.TaskResponseDTO;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.exceptions.TaskBadRequestException;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.TaskSnapshot;
+
+import java.util.List;
+
+public interface TaskHierarchyService {
+
+    void onTaskCreated(TaskEntity task) throws TaskApiException;
+
+    void onTaskChanged(TaskSnapshot before, TaskSnapshot after) throws TaskApiException;
+
+    void onTaskDeleted(TaskEntity task) throws TaskApiException, TaskBadRequestException;
+
+    List<TaskResponseDTO> getSubtasks(Integer taskId, String userEmail) throws TaskApiException, TaskBadRequestException;
+
+    TaskResponseDTO moveTask(Integer taskId, Integer parentId, String userEmail) throws TaskApiException, TaskBadRequestException;
+}
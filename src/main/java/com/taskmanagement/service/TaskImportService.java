@@ -0,0 +1,10 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.responsedto.TaskImportResponseDTO;
+import com.taskmanagement.exceptions.TaskApiException;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface TaskImportService {
+
+    TaskImportResponseDTO importTasks(Integer projectId, MultipartFile file, String authorEmail) throws TaskApiException;
+}
@@ -0,0 +1,23 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.requestdto.RecurringTaskDTO;
+import com.taskmanagement.dto.responsedto.RecurringTaskResponseDTO;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.exceptions.TaskBadRequestException;
+import com.taskmanagement.model.TaskRecurrenceEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TaskRecurrenceService {
+
+    RecurringTaskResponseDTO createRecurringTask(RecurringTaskDTO recurringTaskDTO, String authorEmail) throws TaskApiException, TaskBadRequestException;
+
+    List<RecurringTaskResponseDTO> getRecurringTasks(String authorEmail) throws TaskApiException;
+
+    void stopRecurringTask(Integer recurrenceId, String authorEmail) throws TaskApiException, TaskBadRequestException;
+
+    int materialize(TaskRecurrenceEntity recurrence, LocalDate horizon) throws TaskApiException;
+
+    LocalDate getHorizon();
+}
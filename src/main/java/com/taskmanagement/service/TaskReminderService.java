@@ -0,0 +1,11 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.model.TaskEntity;
+
+import java.util.List;
+
+public interface TaskReminderService {
+
+    void scheduleReminders(TaskEntity task, List<Integer> minutesBefore) throws TaskApiException;
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.responsedto.TaskRevisionResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskVersionResponseDTO;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.exceptions.TaskBadRequestException;
+import com.taskmanagement.model.TaskSnapshot;
+
+import java.util.List;
+
+public interface TaskRevisionService {
+
+    void onTaskCreated(TaskSnapshot task, String actorEmail) throws TaskApiException;
+
+    void onTaskChanged(TaskSnapshot before, TaskSnapshot after, String actorEmail) throws TaskApiException;
+
+    List<TaskRevisionResponseDTO> getHistory(Integer taskId, String userEmail) throws TaskApiException, TaskBadRequestException;
+
+    TaskVersionResponseDTO getVersion(Integer taskId, Integer revision, String userEmail) throws TaskApiException, TaskBadRequestException;
+}
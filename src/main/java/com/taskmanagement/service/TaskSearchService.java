@@ -0,0 +1,10 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.requestdto.TaskSearchDTO;
+import com.taskmanagement.dto.responsedto.TaskPageResponseDTO;
+import com.taskmanagement.exceptions.TaskApiException;
+
+public interface TaskSearchService {
+
+    TaskPageResponseDTO searchTasks(TaskSearchDTO taskSearchDTO, String userEmail) throws TaskApiException;
+}
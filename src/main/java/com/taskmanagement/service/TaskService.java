@@ -1,5 +1,6 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.dto.requestdto.TaskBoardMoveDTO;
 import com.taskmanagement.dto.requestdto.TaskDTO;
 import com.taskmanagement.dto.responsedto.TaskResponseDTO;
 import com.taskmanagement.enums.TaskPriority;
@@ -20,11 +21,15 @@ public interface TaskService {
 
     TaskResponseDTO updateTaskByAssignee(Integer taskId, String status, String updaterEmail) throws Exception;
 
+    TaskResponseDTO moveTask(Integer taskId, TaskBoardMoveDTO taskBoardMoveDTO, String userEmail) throws TaskApiException, TaskBadRequestException;
+
     void deleteTask(Integer taskId, String deleterEmail) throws TaskApiException, TaskBadRequestException;
 
     TaskEntity getTaskById(Integer taskId) throws TaskApiException, TaskBadRequestException;
 
-    List<TaskResponseDTO> getTasksByAuthor(String authorEmail,String assigneeEmail, String taskStatus, String taskPriority) throws TaskApiException, TaskBadRequestException;
+    TaskEntity getTaskByIdAndCheckOwnership(Integer taskId, String userEmail) throws TaskApiException, TaskBadRequestException;
+
+    List<TaskResponseDTO> getTasksByAuthor(Integer projectId, String authorEmail, String assigneeEmail, String taskStatus, String taskPriority) throws TaskApiException, TaskBadRequestException;
 
-    List<TaskResponseDTO> getTasksByAssignee(String  assigneeEmail,String authorEmail) throws TaskApiException;
+    List<TaskResponseDTO> getTasksByAssignee(Integer projectId, String assigneeEmail, String authorEmail) throws TaskApiException;
 }
\ No newline at end of file
@@ -1,11 +1,12 @@
 package com.taskmanagement.service;
 
 import com.taskmanagement.dto.requestdto.UserDTO;
+import com.taskmanagement.dto.requestdto.UserSearchDTO;
+import com.taskmanagement.dto.responsedto.UserPageResponseDTO;
 import com.taskmanagement.dto.responsedto.UserResponseDTO;
 import com.taskmanagement.exceptions.UserApiException;
 import com.taskmanagement.exceptions.UserBadRequestException;
 import com.taskmanagement.model.UserEntity;
-import java.util.List;
 
 public interface UserService {
 
@@ -17,7 +18,7 @@ public interface UserService {
 
     UserEntity findByEmail(String email) throws UserApiException, UserBadRequestException;
 
-    List<UserResponseDTO> getAll(String name, String surname, String role) throws UserApiException;
+    UserPageResponseDTO searchUsers(UserSearchDTO userSearchDTO) throws UserApiException;
 
     UserResponseDTO updateUser(Integer id, UserDTO userDTO) throws UserApiException, UserBadRequestException;
 
@@ -25,7 +26,7 @@ public interface UserService {
 
     void forgotPassword(String email) throws UserApiException, UserBadRequestException;
 
-    boolean setPassword(String email, String resetToken, String newPassword, String confirmPassword) throws UserApiException, UserBadRequestException;
+    boolean setPassword(String resetToken, String newPassword, String confirmPassword) throws UserApiException, UserBadRequestException;
 
     void delete(Integer id) throws UserApiException, UserBadRequestException;
 
@@ -0,0 +1,335 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.attachment.AttachmentPreviewGenerator;
+import com.taskmanagement.attachment.AttachmentProperties;
+import com.taskmanagement.attachment.AttachmentStorage;
+import com.taskmanagement.attachment.AttachmentTooLargeException;
+import com.taskmanagement.attachment.StoredContent;
+import com.taskmanagement.dto.responsedto.AttachmentResponseDTO;
+import com.taskmanagement.enums.PreviewSize;
+import com.taskmanagement.exceptions.*;
+import com.taskmanagement.model.AttachmentEntity;
+import com.taskmanagement.model.CommentEntity;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.AttachmentBlobRepository;
+import com.taskmanagement.repository.AttachmentRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.AttachmentService;
+import com.taskmanagement.service.CommentService;
+import com.taskmanagement.service.TaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.taskmanagement.util.converters.AttachmentDTOConverter.convertAttachmentEntitiesToDTOS;
+import static com.taskmanagement.util.converters.AttachmentDTOConverter.convertAttachmentEntityToDTO;
+import static com.taskmanagement.util.messages.AttachmentErrorMessage.*;
+import static com.taskmanagement.util.messages.CommonErrorMessage.UNAUTHORIZED_OPERATION_MSG;
+import static com.taskmanagement.util.messages.UserErrorMessage.ERROR_GETTING_USER;
+import static com.taskmanagement.util.messages.UserErrorMessage.USER_NOT_FOUND_EMAIL;
+
+/**
+ * Attachments of tasks and comments. Access follows the task: its author and assignee can attach, list and
+ * download files, as they can comment.
+ * <p>
+ * Content is stored once per checksum and shared by all attachments with that content, which count as references
+ * of its blob. Uploads stream the body into the storage before a connection is taken, then record the reference
+ * and the attachment in one transaction. Content whose attachment could not be saved, or whose last attachment
+ * was deleted, is removed by the {@link com.taskmanagement.attachment.AttachmentGarbageCollector}. Previews of
+ * images are rendered in the background once the attachment is saved.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttachmentServiceImpl implements AttachmentService {
+
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final int MAX_CONTENT_TYPE_LENGTH = 127;
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final UserRepository userRepository;
+    private final TaskService taskService;
+    private final CommentService commentService;
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentProperties attachmentProperties;
+    private final AttachmentPreviewGenerator attachmentPreviewGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+
+    /**
+     * Attaches a file to a task, streaming the content into the storage.
+     *
+     * @param taskId      The ID of the task.
+     * @param fileName    The name of the file; any directory part is dropped.
+     * @param contentType The media type of the file, or null for application/octet-stream.
+     * @param content     The content of the file, read to the end.
+     * @param userEmail   The email of the uploading user.
+     * @return AttachmentResponseDTO describing the stored attachment.
+     * @throws AttachmentApiException             If the content or its metadata can not be stored.
+     * @throws AttachmentBadRequestException      If the name or type is invalid, or the file is too large.
+     * @throws TaskUnauthorizedOperationException If the user is neither the author nor the assignee of the task.
+     */
+    @Override
+    public AttachmentResponseDTO attachToTask(Integer taskId, String fileName, String contentType, InputStream content, String userEmail) throws AttachmentApiException, TaskApiException {
+        String name = normalizeFileName(fileName);
+        String type = normalizeContentType(contentType);
+        TaskEntity task = taskService.getTaskByIdAndCheckOwnership(taskId, userEmail);
+        return store(task, null, name, type, content, userEmail);
+    }
+
+
+    /**
+     * Attaches a file to a comment, streaming the content into the storage.
+     *
+     * @param commentId   The ID of the comment.
+     * @param fileName    The name of the file; any directory part is dropped.
+     * @param contentType The media type of the file, or null for application/octet-stream.
+     * @param content     The content of the file, read to the end.
+     * @param userEmail   The email of the uploading user.
+     * @return AttachmentResponseDTO describing the stored attachment.
+     * @throws AttachmentApiException             If the content or its metadata can not be stored.
+     * @throws AttachmentBadRequestException      If the name or type is invalid, or the file is too large.
+     * @throws CommentNotFoundException           If the comment does not exist.
+     * @throws TaskUnauthorizedOperationException If the user is neither the author nor the assignee of the task.
+     */
+    @Override
+    public AttachmentResponseDTO attachToComment(Integer commentId, String fileName, String contentType, InputStream content, String userEmail) throws AttachmentApiException, TaskApiException, CommentApiException {
+        String name = normalizeFileName(fileName);
+        String type = normalizeContentType(contentType);
+        CommentEntity comment = commentService.getCommentById(commentId);
+        TaskEntity task = taskService.getTaskByIdAndCheckOwnership(comment.getTask().getTaskId(), userEmail);
+        return store(task, commentId, name, type, content, userEmail);
+    }
+
+
+    /**
+     * Retrieves the attachments of a task itself, without those of its comments.
+     *
+     * @param taskId    The ID of the task.
+     * @param userEmail The email of the requesting user.
+     * @return The attachments in upload order.
+     * @throws AttachmentApiException             If an error occurs during retrieval.
+     * @throws TaskUnauthorizedOperationException If the user is neither the author nor the assignee of the task.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttachmentResponseDTO> getTaskAttachments(Integer taskId, String userEmail) throws AttachmentApiException, TaskApiException {
+        TaskEntity task = taskService.getTaskByIdAndCheckOwnership(taskId, userEmail);
+        try {
+            return convertAttachmentEntitiesToDTOS(attachmentRepository.findByProjectIdAndTaskIdAndCommentIdIsNullOrderByAttachmentId(task.getProjectId(), taskId));
+        } catch (Exception e) {
+            throw new AttachmentApiException(ERROR_GETTING_ATTACHMENTS);
+        }
+    }
+
+
+    /**
+     * Retrieves the attachments of a comment.
+     *
+     * @param commentId The ID of the comment.
+     * @param userEmail The email of the requesting user.
+     * @return The attachments in upload order.
+     * @throws AttachmentApiException             If an error occurs during retrieval.
+     * @throws CommentNotFoundException           If the comment does not exist.
+     * @throws TaskUnauthorizedOperationException If the user is neither the author nor the assignee of the task.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttachmentResponseDTO> getCommentAttachments(Integer commentId, String userEmail) throws AttachmentApiException, TaskApiException, CommentApiException {
+        CommentEntity comment = commentService.getCommentById(commentId);
+        taskService.getTaskByIdAndCheckOwnership(comment.getTask().getTaskId(), userEmail);
+        try {
+            return convertAttachmentEntitiesToDTOS(attachmentRepository.findByCommentIdOrderByAttachmentId(commentId));
+        } catch (Exception e) {
+            throw new AttachmentApiException(ERROR_GETTING_ATTACHMENTS);
+        }
+    }
+
+
+    /**
+     * Retrieves an attachment for download.
+     *
+     * @param attachmentId The ID of the attachment.
+     * @param userEmail    The email of the requesting user.
+     * @return The attachment, whose content can be read from the storage.
+     * @throws AttachmentApiException             If an error occurs during retrieval.
+     * @throws AttachmentNotFoundException        If the attachment does not exist.
+     * @throws TaskUnauthorizedOperationException If the user is neither the author nor the assignee of the task.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentEntity getAttachment(Integer attachmentId, String userEmail) throws AttachmentApiException, TaskApiException {
+        AttachmentEntity attachment = findAttachment(attachmentId);
+        taskService.getTaskByIdAndCheckOwnership(attachment.getTaskId(), userEmail);
+        return attachment;
+    }
+
+
+    /**
+     * Retrieves an image attachment whose preview of the given size has been rendered. If it has not been rendered
+     * yet, it is queued for rendering.
+     *
+     * @param attachmentId The ID of the attachment.
+     * @param size         The preview size.
+     * @param userEmail    The email of the requesting user.
+     * @return The attachment, whose preview can be read from the storage.
+     * @throws AttachmentApiException             If an error occurs during retrieval.
+     * @throws AttachmentNotFoundException        If the attachment does not exist or has no preview.
+     * @throws TaskUnauthorizedOperationException If the user is neither the author nor the assignee of the task.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentEntity getAttachmentPreview(Integer attachmentId, PreviewSize size, String userEmail) throws AttachmentApiException, TaskApiException {
+        AttachmentEntity attachment = getAttachment(attachmentId, userEmail);
+        if (!attachmentStorage.hasVariant(attachment.getStorageKey(), size.getVariant())) {
+            // Dropped from a full queue, or uploaded before previews existed.
+            attachmentPreviewGenerator.submit(attachment.getStorageKey(), attachment.getContentType());
+            throw new AttachmentNotFoundException(PREVIEW_NOT_AVAILABLE);
+        }
+        return attachment;
+    }
+
+
+    /**
+     * Deletes an attachment and releases its content, which is deleted once no attachment refers to it.
+     * Allowed to the uploader and to the author of the task.
+     *
+     * @param attachmentId The ID of the attachment.
+     * @param userEmail    The email of the deleting user.
+     * @throws AttachmentApiException                   If an error occurs during deletion.
+     * @throws AttachmentNotFoundException              If the attachment does not exist.
+     * @throws AttachmentUnauthorizedOperationException If the user is neither the uploader nor the author of the task.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void deleteAttachment(Integer attachmentId, String userEmail) throws AttachmentApiException, TaskApiException {
+        AttachmentEntity attachment = findAttachment(attachmentId);
+        TaskEntity task = taskService.getTaskByIdAndCheckOwnership(attachment.getTaskId(), userEmail);
+        if (!attachment.getUploader().getEmail().equals(userEmail) && !task.getAuthor().getEmail().equals(userEmail)) {
+            throw new AttachmentUnauthorizedOperationException(UNAUTHORIZED_OPERATION_MSG);
+        }
+
+        try {
+            attachmentRepository.delete(attachment);
+            attachmentBlobRepository.removeReference(attachment.getStorageKey(), LocalDateTime.now(clock));
+        } catch (Exception e) {
+            throw new AttachmentApiException(ERROR_DELETING_ATTACHMENT);
+        }
+    }
+
+
+    private AttachmentResponseDTO store(TaskEntity task, Integer commentId, String fileName, String contentType, InputStream content, String userEmail) throws AttachmentApiException {
+        UserEntity uploader = getUserByEmail(userEmail);
+
+        // Stream the body into the storage; it is never held in memory, and content already stored is not written again.
+        StoredContent stored;
+        try {
+            stored = attachmentStorage.store(content, attachmentProperties.getMaxSize().toBytes());
+        } catch (AttachmentTooLargeException e) {
+            throw new AttachmentBadRequestException(ATTACHMENT_TOO_LARGE);
+        } catch (IOException e) {
+            log.warn("Failed to store an attachment of task {}", task.getTaskId(), e);
+            throw new AttachmentApiException(ERROR_STORING_ATTACHMENT);
+        }
+
+        AttachmentEntity attachment = AttachmentEntity.builder()
+                .projectId(task.getProjectId())
+                .taskId(task.getTaskId())
+                .commentId(commentId)
+                .uploader(uploader)
+                .fileName(fileName)
+                .contentType(contentType)
+                .size(stored.getSize())
+                .checksum(stored.getSha256())
+                .storageKey(stored.getKey())
+                .createdAt(LocalDateTime.now(clock))
+                .build();
+        AttachmentEntity saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                attachmentBlobRepository.addReference(stored.getKey(), stored.getSize());
+                return attachmentRepository.save(attachment);
+            });
+        } catch (Exception e) {
+            // The content may be shared, so it is not deleted here; unreferenced, it is collected later.
+            throw new AttachmentApiException(ERROR_STORING_ATTACHMENT);
+        }
+        attachmentPreviewGenerator.submit(saved.getStorageKey(), saved.getContentType());
+        return convertAttachmentEntityToDTO(saved);
+    }
+
+
+    private AttachmentEntity findAttachment(Integer attachmentId) throws AttachmentApiException {
+        if (attachmentId == null) {
+            throw new AttachmentBadRequestException(ATTACHMENT_ID_NULL);
+        }
+        Optional<AttachmentEntity> attachment;
+        try {
+            attachment = attachmentRepository.findById(attachmentId);
+        } catch (Exception e) {
+            throw new AttachmentApiException(ERROR_GETTING_ATTACHMENTS);
+        }
+        if (attachment.isEmpty()) {
+            throw new AttachmentNotFoundException(ATTACHMENT_NOT_FOUND);
+        }
+        return attachment.get();
+    }
+
+
+    private UserEntity getUserByEmail(String email) throws AttachmentApiException {
+        UserEntity user;
+        try {
+            user = userRepository.findByEmail(email);
+        } catch (Exception e) {
+            throw new AttachmentApiException(ERROR_GETTING_USER);
+        }
+        if (user == null) {
+            throw new UserNotFoundException(USER_NOT_FOUND_EMAIL);
+        }
+        return user;
+    }
+
+
+    private static String normalizeFileName(String fileName) {
+        if (fileName == null) {
+            throw new AttachmentBadRequestException(INVALID_ATTACHMENT_FILE_NAME);
+        }
+        // Browsers on some systems send the full client path.
+        String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1).trim();
+        if (name.isEmpty() || name.length() > MAX_FILE_NAME_LENGTH || name.chars().anyMatch(Character::isISOControl)) {
+            throw new AttachmentBadRequestException(INVALID_ATTACHMENT_FILE_NAME);
+        }
+        return name;
+    }
+
+
+    private static String normalizeContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        String type;
+        try {
+            type = MediaType.parseMediaType(contentType).toString();
+        } catch (InvalidMediaTypeException e) {
+            throw new AttachmentBadRequestException(INVALID_ATTACHMENT_CONTENT_TYPE);
+        }
+        if (type.length() > MAX_CONTENT_TYPE_LENGTH) {
+            throw new AttachmentBadRequestException(INVALID_ATTACHMENT_CONTENT_TYPE);
+        }
+        return type;
+    }
+}
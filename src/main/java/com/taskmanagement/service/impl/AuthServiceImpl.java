@@ -6,17 +6,16 @@ import com.taskmanagement.exceptions.*;
 import com.taskmanagement.model.UserEntity;
 import com.taskmanagement.dto.requestdto.AuthenticationDTO;
 import com.taskmanagement.dto.responsedto.AuthenticationResponseDTO;
+import com.taskmanagement.security.CustomUserDetails;
 import com.taskmanagement.security.jwt.JwtService;
 import com.taskmanagement.service.AuthService;
 import com.taskmanagement.service.TokenService;
 import com.taskmanagement.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,12 +28,22 @@ import static com.taskmanagement.validator.UserValidator.passwordValidator;
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
-    private final AuthenticationManager authenticationManager;
     private final UserService userService;
+    private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final TokenService tokenService;
 
+    /**
+     * Authenticates a user and issues a new access and refresh token pair.
+     * The user is loaded once, and revoking old tokens and storing the new one happen in a single transaction.
+     *
+     * @param authenticationDTO The email and password of the user.
+     * @return The issued access and refresh tokens.
+     * @throws AuthApiException        if there is an error while loading the user or storing tokens.
+     * @throws AuthBadRequestException if the password is wrong or the account is inactive.
+     */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public AuthenticationResponseDTO login(AuthenticationDTO authenticationDTO) throws AuthApiException, AuthBadRequestException {
 
         UserEntity user;
@@ -59,33 +68,28 @@ public class AuthServiceImpl implements AuthService {
             throw new AuthBadRequestException(INACTIVE_USER_ACCOUNT);
         }
 
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            authenticationDTO.getEmail(), authenticationDTO.getPassword()
-                    )
-            );
-
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        // Verify the password against the user loaded above instead of loading it again through the AuthenticationManager
+        if (!passwordEncoder.matches(authenticationDTO.getPassword(), user.getPassword())) {
+            throw new AuthBadRequestException(WRONG_EMAIL_PASSWORD);
+        }
 
-            Map<String, Object> claim = buildTokenClaims(user);
+        UserDetails userDetails = new CustomUserDetails(user);
 
-            String jwtToken = jwtService.generateToken(claim, userDetails);
-            String refreshToken = jwtService.generateRefreshToken(userDetails);
+        String jwtToken = jwtService.generateToken(buildTokenClaims(user), userDetails);
+        String refreshToken = jwtService.generateRefreshToken(userDetails);
 
+        // Revoke old tokens with one bulk update and insert the new one in the same transaction
+        try {
             tokenService.revokeAllUserTokens(user);
             tokenService.saveUserToken(user, jwtToken);
-
-            return AuthenticationResponseDTO.builder()
-                    .accessToken(jwtToken)
-                    .refreshToken(refreshToken)
-                    .build();
-
-        } catch (BadCredentialsException e) {
-            throw new AuthBadRequestException(WRONG_EMAIL_PASSWORD);
         } catch (TokenApiException e) {
             throw new AuthApiException(ERROR_DURING_AUTHENTICATION);
         }
+
+        return AuthenticationResponseDTO.builder()
+                .accessToken(jwtToken)
+                .refreshToken(refreshToken)
+                .build();
     }
 
 
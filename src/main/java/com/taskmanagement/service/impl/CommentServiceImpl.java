@@ -2,26 +2,45 @@ package com.taskmanagement.service.impl;
 
 import com.taskmanagement.dto.requestdto.CommentDTO;
 import com.taskmanagement.dto.responsedto.CommentResponseDTO;
+import com.taskmanagement.dto.responsedto.MentionPageResponseDTO;
+import com.taskmanagement.dto.responsedto.MentionResponseDTO;
+import com.taskmanagement.enums.CommentEventType;
+import com.taskmanagement.event.CommentEvent;
+import com.taskmanagement.event.DomainEventPublisher;
 import com.taskmanagement.exceptions.*;
+import com.taskmanagement.markdown.MarkdownRenderer;
+import com.taskmanagement.mention.MentionIndex;
 import com.taskmanagement.model.CommentEntity;
+import com.taskmanagement.model.CommentMentionEntity;
+import com.taskmanagement.model.CommentMentionId;
 import com.taskmanagement.model.TaskEntity;
 import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.CommentMentionRepository;
 import com.taskmanagement.repository.CommentRepository;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.service.CommentService;
+import com.taskmanagement.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.taskmanagement.util.converters.CommentDTOConverter.convertCommentEntitiesToDTOS;
+import static com.taskmanagement.util.converters.CommentDTOConverter.convertCommentEntitiesToMentionDTOS;
 import static com.taskmanagement.util.converters.CommentDTOConverter.convertCommentEntityToDTO;
 import static com.taskmanagement.util.messages.CommentErrorMessage.*;
 import static com.taskmanagement.util.messages.CommonErrorMessage.UNAUTHORIZED_OPERATION_MSG;
 import static com.taskmanagement.util.messages.TaskErrorMessage.TASK_NOT_FOUND;
+import static com.taskmanagement.util.messages.UserErrorMessage.ERROR_GETTING_USER;
+import static com.taskmanagement.util.messages.UserErrorMessage.USER_NOT_FOUND_EMAIL;
 
 
 @Service
@@ -29,13 +48,19 @@ import static com.taskmanagement.util.messages.TaskErrorMessage.TASK_NOT_FOUND;
 @Slf4j
 public class CommentServiceImpl implements CommentService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
+    private final CommentMentionRepository commentMentionRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final ProjectService projectService;
+    private final MentionIndex mentionIndex;
+    private final DomainEventPublisher eventPublisher;
 
 
     /**
-     * Creates a new comment for the specified task and user.
+     * Creates a new comment for the specified task and user, and records the project members it mentions.
      *
      * @param taskId     The ID of the task for which the comment is created.
      * @param userEmail  The email of the user creating the comment.
@@ -46,6 +71,7 @@ public class CommentServiceImpl implements CommentService {
      * @throws CommentUnauthorizedOperationException If the user is not authorized to perform the operation.
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public CommentResponseDTO createComment(Integer taskId, String userEmail, CommentDTO commentDTO) throws CommentApiException {
 
         if (taskId == null) {
@@ -65,10 +91,16 @@ public class CommentServiceImpl implements CommentService {
         CommentEntity commentEntity = new CommentEntity();
         commentEntity.setCommentId(0);
         commentEntity.setContent(commentDTO.getText());
+        commentEntity.setContentHtml(MarkdownRenderer.render(commentDTO.getText()));
+        commentEntity.setRenderVersion(MarkdownRenderer.VERSION);
         commentEntity.setUser(user);
         commentEntity.setTask(task.get());
+        commentEntity.setProjectId(task.get().getProjectId());
 
-        return convertCommentEntityToDTO(saveComment(commentEntity));
+        CommentEntity comment = saveComment(commentEntity);
+        saveMentions(comment);
+        eventPublisher.publish(CommentEvent.of(CommentEventType.CREATED, userEmail, comment, null));
+        return convertCommentEntityToDTO(comment);
     }
 
 
@@ -81,6 +113,7 @@ public class CommentServiceImpl implements CommentService {
      * @throws CommentUnauthorizedOperationException If the user is not authorized to perform the operation.
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public void deleteComment(Integer commentId, String userEmail) throws CommentApiException {
         CommentEntity comment = getCommentById(commentId);
 
@@ -92,6 +125,7 @@ public class CommentServiceImpl implements CommentService {
         } catch (Exception e) {
             throw new CommentApiException(ERROR_DELETING_COMMENT);
         }
+        eventPublisher.publish(CommentEvent.of(CommentEventType.DELETED, userEmail, comment, comment.getContent()));
     }
 
 
@@ -132,6 +166,7 @@ public class CommentServiceImpl implements CommentService {
      * @throws CommentUnauthorizedOperationException If the user is not authorized to perform the operation.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CommentResponseDTO> getCommentsByTaskId(Integer taskId, String userEmail) throws CommentApiException {
 
         if (taskId == null) {
@@ -146,7 +181,7 @@ public class CommentServiceImpl implements CommentService {
             throw new CommentUnauthorizedOperationException(UNAUTHORIZED_OPERATION_MSG);
         }
         try {
-            return convertCommentEntitiesToDTOS(commentRepository.findByTaskTaskId(taskId));
+            return convertCommentEntitiesToDTOS(commentRepository.findByProjectIdAndTaskTaskId(task.get().getProjectId(), taskId));
         } catch (Exception e) {
             throw new CommentApiException(ERROR_GETTING_COMMENTS);
         }
@@ -155,6 +190,7 @@ public class CommentServiceImpl implements CommentService {
 
     /**
      * Updates the content of the comment with the specified ID, performed by the user with the given email.
+     * The mentions of the comment are extracted again when the content changed.
      *
      * @param commentId The ID of the comment to be updated.
      * @param userEmail  The email of the user attempting to update the comment.
@@ -164,14 +200,107 @@ public class CommentServiceImpl implements CommentService {
      * @throws CommentUnauthorizedOperationException If the user is not authorized to perform the operation.
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public CommentResponseDTO updateComment(Integer commentId, String userEmail, CommentDTO commentDTO) throws CommentApiException {
         CommentEntity comment = getCommentById(commentId);
 
         if (!comment.getUser().getEmail().equals(userEmail)) {
             throw new CommentUnauthorizedOperationException(UNAUTHORIZED_OPERATION_MSG);
         }
+        String previousContent = comment.getContent();
         comment.setContent(commentDTO.getText());
-        return convertCommentEntityToDTO(saveComment(comment));
+        comment.setContentHtml(MarkdownRenderer.render(commentDTO.getText()));
+        comment.setRenderVersion(MarkdownRenderer.VERSION);
+
+        CommentEntity updatedComment = saveComment(comment);
+        if (!Objects.equals(previousContent, updatedComment.getContent())) {
+            replaceMentions(updatedComment);
+        }
+        eventPublisher.publish(CommentEvent.of(CommentEventType.UPDATED, userEmail, updatedComment, previousContent));
+        return convertCommentEntityToDTO(updatedComment);
+    }
+
+
+    /**
+     * Retrieves the comments that mention the user, newest first, one page at a time.
+     *
+     * @param userEmail       The email of the mentioned user.
+     * @param beforeCommentId The nextBeforeCommentId of the previous page, or null for the first page.
+     * @param size            The page size, at most {@value #MAX_PAGE_SIZE}.
+     * @return MentionPageResponseDTO with the comments and the cursor of the next page.
+     * @throws CommentApiException        If an error occurs during mention retrieval.
+     * @throws CommentBadRequestException If the page size is out of range.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MentionPageResponseDTO getMentions(String userEmail, Integer beforeCommentId, int size) throws CommentApiException {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CommentBadRequestException(INVALID_MENTION_PAGE_SIZE);
+        }
+        UserEntity user;
+        try {
+            user = userRepository.findByEmail(userEmail);
+        } catch (Exception e) {
+            throw new CommentApiException(ERROR_GETTING_USER);
+        }
+        if (user == null) {
+            throw new UserNotFoundException(USER_NOT_FOUND_EMAIL);
+        }
+
+        List<MentionResponseDTO> mentions;
+        boolean hasMore;
+        try {
+            // One row more than the page tells whether another page follows.
+            List<Integer> commentIds = commentMentionRepository.findMentionedCommentIds(user.getId(),
+                    beforeCommentId == null ? Integer.MAX_VALUE : beforeCommentId, PageRequest.of(0, size + 1));
+            hasMore = commentIds.size() > size;
+            if (hasMore) {
+                commentIds = commentIds.subList(0, size);
+            }
+            mentions = commentIds.isEmpty() ? List.of() : convertCommentEntitiesToMentionDTOS(commentRepository.findWithTaskByCommentIdIn(commentIds));
+        } catch (Exception e) {
+            throw new CommentApiException(ERROR_GETTING_MENTIONS);
+        }
+
+        return MentionPageResponseDTO.builder()
+                .mentions(mentions)
+                .nextBeforeCommentId(hasMore ? mentions.get(mentions.size() - 1).getCommentId() : null)
+                .build();
+    }
+
+
+    /**
+     * Only members of the project of the comment can be mentioned, and authors do not mention themselves.
+     */
+    private void saveMentions(CommentEntity comment) throws CommentApiException {
+        Set<Integer> userIds = mentionIndex.match(comment.getContent());
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Integer projectId = comment.getProjectId();
+        List<CommentMentionEntity> mentions = userIds.stream()
+                .filter(userId -> !userId.equals(comment.getUser().getId()))
+                .filter(userId -> projectService.isMember(projectId, userId))
+                .map(userId -> new CommentMentionEntity(new CommentMentionId(userId, comment.getCommentId()), projectId))
+                .collect(Collectors.toList());
+        if (mentions.isEmpty()) {
+            return;
+        }
+        try {
+            commentMentionRepository.saveAll(mentions);
+        } catch (Exception e) {
+            throw new CommentApiException(ERROR_SAVING_MENTIONS);
+        }
+    }
+
+
+    private void replaceMentions(CommentEntity comment) throws CommentApiException {
+        try {
+            commentMentionRepository.deleteByCommentId(comment.getCommentId());
+        } catch (Exception e) {
+            throw new CommentApiException(ERROR_SAVING_MENTIONS);
+        }
+        saveMentions(comment);
     }
 
 
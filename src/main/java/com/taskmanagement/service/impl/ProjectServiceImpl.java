@@ -0,0 +1,312 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.requestdto.ProjectDTO;
+import com.taskmanagement.dto.requestdto.ProjectMemberDTO;
+import com.taskmanagement.dto.responsedto.ProjectResponseDTO;
+import com.taskmanagement.dto.responsedto.UserSuggestionResponseDTO;
+import com.taskmanagement.enums.ProjectRole;
+import com.taskmanagement.exceptions.*;
+import com.taskmanagement.model.ProjectEntity;
+import com.taskmanagement.model.ProjectMemberEntity;
+import com.taskmanagement.model.ProjectMemberId;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.project.ProjectMembershipMap;
+import com.taskmanagement.repository.ProjectMemberRepository;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.search.IndexedUser;
+import com.taskmanagement.search.UserPrefixIndex;
+import com.taskmanagement.service.ProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.taskmanagement.util.converters.ProjectDTOConverter.convertProjectEntitiesToDTOs;
+import static com.taskmanagement.util.converters.ProjectDTOConverter.convertProjectEntityToDTO;
+import static com.taskmanagement.util.converters.UserDTOConverter.convertIndexedUsersToSuggestions;
+import static com.taskmanagement.util.messages.CommonErrorMessage.UNAUTHORIZED_OPERATION_MSG;
+import static com.taskmanagement.util.messages.ProjectErrorMessage.*;
+import static com.taskmanagement.util.messages.UserErrorMessage.ERROR_GETTING_USER;
+import static com.taskmanagement.util.messages.UserErrorMessage.USER_NOT_FOUND_EMAIL;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectServiceImpl implements ProjectService {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserRepository userRepository;
+    private final ProjectMembershipMap membershipMap;
+    private final UserPrefixIndex userPrefixIndex;
+    private final Clock clock;
+
+    private static final int MAX_SUGGESTIONS = 20;
+
+    @Value("${app.projects.member-scan-threshold:1000}")
+    private int memberScanThreshold = 1000;
+
+
+    /**
+     * Creates a project owned by the user, who becomes its first member.
+     *
+     * @param projectDTO The ProjectDTO containing the project name.
+     * @param ownerEmail The email of the project's owner.
+     * @return ProjectResponseDTO representing the created project.
+     * @throws ProjectApiException If an error occurs while creating the project.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ProjectResponseDTO createProject(ProjectDTO projectDTO, String ownerEmail) throws ProjectApiException {
+        UserEntity owner = getUserByEmail(ownerEmail);
+
+        ProjectEntity project;
+        ProjectMemberEntity member;
+        try {
+            project = projectRepository.save(ProjectEntity.builder()
+                    .name(projectDTO.getName().trim())
+                    .owner(owner)
+                    .createdAt(LocalDateTime.now(clock))
+                    .build());
+            member = projectMemberRepository.save(new ProjectMemberEntity(new ProjectMemberId(project.getProjectId(), owner.getId()), ProjectRole.OWNER));
+        } catch (Exception e) {
+            throw new ProjectApiException(ERROR_CREATING_PROJECT);
+        }
+
+        afterCommit(() -> membershipMap.put(project.getProjectId(), owner.getId(), ProjectRole.OWNER));
+        return convertProjectEntityToDTO(project, List.of(member), Map.of(owner.getId(), owner));
+    }
+
+
+    /**
+     * Retrieves the projects the user is a member of.
+     *
+     * @param userEmail The email of the user.
+     * @return List of ProjectResponseDTO.
+     * @throws ProjectApiException If an error occurs while retrieving the projects.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectResponseDTO> getProjects(String userEmail) throws ProjectApiException {
+        UserEntity user = getUserByEmail(userEmail);
+        try {
+            return convertProjectEntitiesToDTOs(projectRepository.findAllByMemberId(user.getId()));
+        } catch (Exception e) {
+            throw new ProjectApiException(ERROR_GETTING_PROJECTS);
+        }
+    }
+
+
+    /**
+     * Retrieves a project with its members.
+     *
+     * @param projectId The ID of the project.
+     * @param userEmail The email of the user, who must be a member.
+     * @return ProjectResponseDTO including the members.
+     * @throws ProjectApiException                   If an error occurs while retrieving the project.
+     * @throws ProjectUnauthorizedOperationException If the user is not a member of the project.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectResponseDTO getProject(Integer projectId, String userEmail) throws ProjectApiException {
+        ProjectEntity project = getProjectById(projectId);
+        UserEntity user = getUserByEmail(userEmail);
+        if (!isMember(projectId, user.getId())) {
+            throw new ProjectUnauthorizedOperationException(NOT_PROJECT_MEMBER);
+        }
+        return withMembers(project);
+    }
+
+
+    /**
+     * Adds a member to a project. Only the owner can add members.
+     *
+     * @param projectId        The ID of the project.
+     * @param projectMemberDTO The ProjectMemberDTO containing the email of the new member.
+     * @param requesterEmail   The email of the user adding the member.
+     * @return ProjectResponseDTO including the members.
+     * @throws ProjectApiException                   If an error occurs while adding the member.
+     * @throws ProjectBadRequestException            If the user is already a member.
+     * @throws ProjectUnauthorizedOperationException If the requester is not the owner of the project.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ProjectResponseDTO addMember(Integer projectId, ProjectMemberDTO projectMemberDTO, String requesterEmail) throws ProjectApiException {
+        ProjectEntity project = getProjectAndCheckOwner(projectId, requesterEmail);
+        UserEntity user = getUserByEmail(projectMemberDTO.getEmail());
+
+        ProjectMemberId id = new ProjectMemberId(projectId, user.getId());
+        try {
+            if (projectMemberRepository.existsById(id)) {
+                throw new ProjectBadRequestException(MEMBER_ALREADY_EXISTS);
+            }
+            projectMemberRepository.save(new ProjectMemberEntity(id, ProjectRole.MEMBER));
+        } catch (ProjectBadRequestException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ProjectApiException(ERROR_UPDATING_MEMBERS);
+        }
+
+        afterCommit(() -> membershipMap.put(projectId, user.getId(), ProjectRole.MEMBER));
+        return withMembers(project);
+    }
+
+
+    /**
+     * Removes a member from a project. Only the owner can remove members, and the owner can not be removed.
+     * Tasks of the removed member stay in the project.
+     *
+     * @param projectId      The ID of the project.
+     * @param userId         The ID of the member to remove.
+     * @param requesterEmail The email of the user removing the member.
+     * @throws ProjectApiException                   If an error occurs while removing the member.
+     * @throws ProjectNotFoundException              If the user is not a member of the project.
+     * @throws ProjectUnauthorizedOperationException If the requester is not the owner of the project.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void removeMember(Integer projectId, Integer userId, String requesterEmail) throws ProjectApiException {
+        ProjectEntity project = getProjectAndCheckOwner(projectId, requesterEmail);
+        if (project.getOwner().getId().equals(userId)) {
+            throw new ProjectBadRequestException(CANNOT_REMOVE_OWNER);
+        }
+
+        ProjectMemberId id = new ProjectMemberId(projectId, userId);
+        try {
+            if (!projectMemberRepository.existsById(id)) {
+                throw new ProjectNotFoundException(MEMBER_NOT_FOUND);
+            }
+            projectMemberRepository.deleteById(id);
+        } catch (ProjectNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ProjectApiException(ERROR_UPDATING_MEMBERS);
+        }
+
+        afterCommit(() -> membershipMap.remove(projectId, userId));
+    }
+
+
+    /**
+     * Checks membership against the in-memory membership map, or the database until the map is loaded.
+     *
+     * @param projectId The ID of the project.
+     * @param userId    The ID of the user.
+     * @return True if the user is a member of the project.
+     */
+    @Override
+    public boolean isMember(Integer projectId, Integer userId) {
+        if (projectId == null || userId == null) {
+            return false;
+        }
+        if (membershipMap.isLoaded()) {
+            return membershipMap.getRole(projectId, userId) != null;
+        }
+        return projectMemberRepository.existsById(new ProjectMemberId(projectId, userId));
+    }
+
+
+    /**
+     * Suggests assignees for a task of the project while their email or name is being typed.
+     * Served from the in-memory prefix index; only members of the project are suggested. The members of a small
+     * project are matched one by one, a large project filters the users sharing the prefix.
+     *
+     * @param projectId      The ID of the project.
+     * @param query          The typed prefix of an email, name, surname or full name.
+     * @param limit          The maximum number of suggestions, at most {@value #MAX_SUGGESTIONS}.
+     * @param requesterEmail The email of the user typing, who must be a member.
+     * @return Matching members, ordered by the matching email or name.
+     * @throws ProjectApiException                   If the index is still loading or the requester can not be read.
+     * @throws ProjectBadRequestException            If the limit is out of range.
+     * @throws ProjectUnauthorizedOperationException If the requester is not a member of the project.
+     */
+    @Override
+    public List<UserSuggestionResponseDTO> suggestAssignees(Integer projectId, String query, int limit, String requesterEmail) throws ProjectApiException {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new ProjectBadRequestException(INVALID_SUGGESTION_LIMIT);
+        }
+        if (!userPrefixIndex.isReady()) {
+            throw new ProjectApiException(ASSIGNEE_INDEX_NOT_READY);
+        }
+        UserEntity requester = getUserByEmail(requesterEmail);
+        if (!isMember(projectId, requester.getId())) {
+            throw new ProjectUnauthorizedOperationException(NOT_PROJECT_MEMBER);
+        }
+
+        Set<Integer> members = membershipMap.isLoaded() ? membershipMap.getMembers(projectId) : null;
+        List<IndexedUser> users = members != null && members.size() <= memberScanThreshold
+                ? userPrefixIndex.searchAmong(query, limit, members)
+                : userPrefixIndex.search(query, limit, userId -> isMember(projectId, userId));
+        return convertIndexedUsersToSuggestions(users);
+    }
+
+
+    private ProjectResponseDTO withMembers(ProjectEntity project) throws ProjectApiException {
+        try {
+            List<ProjectMemberEntity> members = projectMemberRepository.findByIdProjectId(project.getProjectId());
+            Map<Integer, UserEntity> users = userRepository.findAllById(members.stream().map(member -> member.getId().getUserId()).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+            return convertProjectEntityToDTO(project, members, users);
+        } catch (Exception e) {
+            throw new ProjectApiException(ERROR_GETTING_PROJECTS);
+        }
+    }
+
+
+    private ProjectEntity getProjectAndCheckOwner(Integer projectId, String requesterEmail) throws ProjectApiException {
+        ProjectEntity project = getProjectById(projectId);
+        if (!project.getOwner().getEmail().equals(requesterEmail)) {
+            throw new ProjectUnauthorizedOperationException(UNAUTHORIZED_OPERATION_MSG);
+        }
+        return project;
+    }
+
+
+    private ProjectEntity getProjectById(Integer projectId) throws ProjectApiException {
+        if (projectId == null) {
+            throw new ProjectBadRequestException(PROJECT_ID_NULL);
+        }
+        try {
+            return projectRepository.findById(projectId).orElseThrow(() -> new ProjectNotFoundException(PROJECT_NOT_FOUND));
+        } catch (ProjectNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ProjectApiException(ERROR_GETTING_PROJECTS);
+        }
+    }
+
+
+    private UserEntity getUserByEmail(String email) throws ProjectApiException {
+        UserEntity user;
+        try {
+            user = userRepository.findByEmail(email);
+        } catch (Exception e) {
+            throw new ProjectApiException(ERROR_GETTING_USER);
+        }
+        if (user == null) {
+            throw new UserNotFoundException(USER_NOT_FOUND_EMAIL);
+        }
+        return user;
+    }
+
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,312 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.board.BoardColumn;
+import com.taskmanagement.board.LexoRank;
+import com.taskmanagement.dto.responsedto.TaskBoardColumnResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskBoardResponseDTO;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.*;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.TaskRankRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.TaskBoardService;
+import com.taskmanagement.util.converters.TaskDTOConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.taskmanagement.util.EnumUtils.parseEnum;
+import static com.taskmanagement.util.messages.TaskErrorMessage.*;
+import static com.taskmanagement.util.messages.UserErrorMessage.ERROR_GETTING_USER;
+import static com.taskmanagement.util.messages.UserErrorMessage.USER_NOT_FOUND_EMAIL;
+
+/**
+ * A board shows the tasks of a project in one column per status, in a manual order kept as a
+ * {@link LexoRank} key per task. Moving a card computes a key between its new neighbours and writes
+ * the card's row only; columns whose keys got long are respaced later by
+ * {@link com.taskmanagement.board.TaskBoardRebalancer}.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskBoardServiceImpl implements TaskBoardService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Length of the board_rank column.
+    private static final int MAX_RANK_LENGTH = 64;
+
+    private final TaskRepository taskRepository;
+    private final TaskRankRepository taskRankRepository;
+    private final UserRepository userRepository;
+    private final ProjectService projectService;
+
+    // Columns this node produced long keys in. Other nodes track their own.
+    private final Set<BoardColumn> columnsToRebalance = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.board.rebalance-length:12}")
+    private int rebalanceLength = 12;
+
+
+    /**
+     * Retrieves the first page of every column of a project's board.
+     *
+     * @param projectId The ID of the project.
+     * @param size      The number of cards per column.
+     * @param userEmail The email of the user, who must be a member of the project.
+     * @return TaskBoardResponseDTO with one column per status.
+     * @throws TaskApiException                   If an error occurs while reading the board.
+     * @throws TaskBadRequestException            If the page size is out of range.
+     * @throws TaskUnauthorizedOperationException If the user is not a member of the project.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskBoardResponseDTO getBoard(Integer projectId, int size, String userEmail) throws TaskApiException, TaskBadRequestException {
+        validatePageSize(size);
+        checkMembership(projectId, userEmail);
+
+        List<TaskBoardColumnResponseDTO> columns = new ArrayList<>(TaskStatus.values().length);
+        for (TaskStatus status : TaskStatus.values()) {
+            columns.add(readColumn(projectId, status, null, size));
+        }
+        return TaskBoardResponseDTO.builder()
+                .projectId(projectId)
+                .columns(columns)
+                .build();
+    }
+
+
+    /**
+     * Retrieves a page of one column, in rank order.
+     *
+     * @param projectId   The ID of the project.
+     * @param status      The status of the column.
+     * @param afterTaskId The last card of the previous page, or null for the first page.
+     * @param size        The number of cards.
+     * @param userEmail   The email of the user, who must be a member of the project.
+     * @return TaskBoardColumnResponseDTO with the page of cards.
+     * @throws TaskApiException                   If an error occurs while reading the column.
+     * @throws TaskBadRequestException            If the status, the page size or the previous card is invalid.
+     * @throws TaskUnauthorizedOperationException If the user is not a member of the project.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskBoardColumnResponseDTO getColumn(Integer projectId, String status, Integer afterTaskId, int size, String userEmail) throws TaskApiException, TaskBadRequestException {
+        if (status == null || status.isEmpty()) {
+            throw new TaskBadRequestException(TASK_STATUS_NULL_OR_EMPTY);
+        }
+        TaskStatus taskStatus = parseEnum(status, TaskStatus.class, new TaskBadRequestException(INVALID_TASK_STATUS));
+        validatePageSize(size);
+        checkMembership(projectId, userEmail);
+
+        TaskEntity after = null;
+        if (afterTaskId != null) {
+            try {
+                after = taskRepository.findById(afterTaskId).orElse(null);
+            } catch (Exception e) {
+                throw new TaskApiException(ERROR_GETTING_BOARD);
+            }
+            if (after == null || !after.getProjectId().equals(projectId) || after.getStatus() != taskStatus) {
+                throw new TaskBadRequestException(INVALID_BOARD_ANCHOR);
+            }
+        }
+        return readColumn(projectId, taskStatus, after, size);
+    }
+
+
+    /**
+     * @return A key that puts a new card at the bottom of the column.
+     * @throws TaskApiException If an error occurs while reading the column.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String appendRank(Integer projectId, TaskStatus status) throws TaskApiException {
+        return appendRanks(projectId, status, 1).get(0);
+    }
+
+
+    /**
+     * @return Ascending keys that put new cards at the bottom of the column.
+     * @throws TaskApiException If an error occurs while reading the column.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> appendRanks(Integer projectId, TaskStatus status, int count) throws TaskApiException {
+        String last;
+        try {
+            last = taskRepository.findLastBoardRank(projectId, status);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_MOVING_TASK);
+        }
+
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            last = LexoRank.between(last, null);
+            ranks.add(last);
+        }
+        checkLength(new BoardColumn(projectId, status), last);
+        return ranks;
+    }
+
+
+    /**
+     * Computes the key of a card dropped below another card, or at the top of a column.
+     * The card above is locked so that a rebalance of the column can not change the neighbours' keys
+     * before the card is saved.
+     *
+     * @param task        The task being moved.
+     * @param status      The column the task is dropped in.
+     * @param afterTaskId The card the task is dropped below, or null for the top of the column.
+     * @return The new key, or null if the task already is at that position.
+     * @throws TaskApiException        If an error occurs while reading the column, or the column is being rebalanced.
+     * @throws TaskBadRequestException If the card above is the task itself, or not in the column.
+     * @throws TaskNotFoundException   If the card above does not exist.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String rankAfter(TaskEntity task, TaskStatus status, Integer afterTaskId) throws TaskApiException, TaskBadRequestException {
+        if (task.getTaskId().equals(afterTaskId)) {
+            throw new TaskBadRequestException(INVALID_BOARD_ANCHOR);
+        }
+
+        String lower = null;
+        String upper;
+        try {
+            if (afterTaskId == null) {
+                upper = taskRepository.findFirstBoardRank(task.getProjectId(), status);
+            } else {
+                TaskEntity after = taskRepository.findByIdForUpdate(afterTaskId).orElseThrow(() -> new TaskNotFoundException(TASK_NOT_FOUND));
+                if (!after.getProjectId().equals(task.getProjectId()) || after.getStatus() != status) {
+                    throw new TaskBadRequestException(INVALID_BOARD_ANCHOR);
+                }
+                lower = after.getBoardRank();
+                upper = taskRepository.findNextBoardRank(task.getProjectId(), status, lower);
+            }
+        } catch (TaskNotFoundException | TaskBadRequestException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_MOVING_TASK);
+        }
+
+        // Dropped where it already is.
+        if (task.getStatus() == status && task.getBoardRank().equals(upper)) {
+            return null;
+        }
+
+        BoardColumn column = new BoardColumn(task.getProjectId(), status);
+        String rank;
+        try {
+            rank = LexoRank.between(lower, upper);
+        } catch (IllegalArgumentException e) {
+            // Only equal neighbours, left by concurrent moves; respacing the column separates them.
+            requestRebalance(column);
+            throw new TaskApiException(BOARD_COLUMN_REBALANCING);
+        }
+        if (rank.length() > MAX_RANK_LENGTH) {
+            requestRebalance(column);
+            throw new TaskApiException(BOARD_COLUMN_REBALANCING);
+        }
+        checkLength(column, rank);
+        return rank;
+    }
+
+
+    @Override
+    public void requestRebalance(BoardColumn column) {
+        columnsToRebalance.add(column);
+    }
+
+
+    @Override
+    public List<BoardColumn> takeColumnsToRebalance() {
+        List<BoardColumn> columns = new ArrayList<>();
+        for (BoardColumn column : columnsToRebalance) {
+            if (columnsToRebalance.remove(column)) {
+                columns.add(column);
+            }
+        }
+        return columns;
+    }
+
+
+    /**
+     * Gives every card of a column a new, short key, keeping the order. Locks the whole column;
+     * moves into the column wait for it.
+     *
+     * @param column The column to respace.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void rebalanceColumn(BoardColumn column) {
+        List<Integer> taskIds = taskRankRepository.lockColumn(column.getProjectId(), column.getStatus());
+        taskRankRepository.updateRanks(taskIds, LexoRank.spread(taskIds.size()));
+    }
+
+
+    private TaskBoardColumnResponseDTO readColumn(Integer projectId, TaskStatus status, TaskEntity after, int size) throws TaskApiException {
+        List<TaskEntity> tasks;
+        long total;
+        try {
+            // One extra card tells whether there is a next page.
+            PageRequest page = PageRequest.of(0, size + 1);
+            tasks = after == null
+                    ? taskRepository.findBoardColumn(projectId, status, page)
+                    : taskRepository.findBoardColumnAfter(projectId, status, after.getBoardRank(), after.getTaskId(), page);
+            total = taskRepository.countByProjectIdAndStatus(projectId, status);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_BOARD);
+        }
+
+        boolean hasMore = tasks.size() > size;
+        if (hasMore) {
+            tasks = tasks.subList(0, size);
+        }
+        return TaskBoardColumnResponseDTO.builder()
+                .status(status)
+                .total(total)
+                .tasks(tasks.stream().map(TaskDTOConverter::convertTaskEntityToCardDTO).collect(Collectors.toList()))
+                .nextAfterTaskId(hasMore ? tasks.get(tasks.size() - 1).getTaskId() : null)
+                .build();
+    }
+
+
+    private void checkLength(BoardColumn column, String rank) {
+        if (rank.length() > rebalanceLength) {
+            requestRebalance(column);
+        }
+    }
+
+
+    private void checkMembership(Integer projectId, String userEmail) throws TaskApiException {
+        UserEntity user;
+        try {
+            user = userRepository.findByEmail(userEmail);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_USER);
+        }
+        if (user == null) {
+            throw new UserNotFoundException(USER_NOT_FOUND_EMAIL);
+        }
+        if (!projectService.isMember(projectId, user.getId())) {
+            throw new TaskUnauthorizedOperationException(NOT_PROJECT_MEMBER);
+        }
+    }
+
+
+    private void validatePageSize(int size) throws TaskBadRequestException {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new TaskBadRequestException(INVALID_BOARD_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.responsedto.TaskDashboardResponseDTO;
+import com.taskmanagement.enums.TaskCounterView;
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.model.TaskCounterEntity;
+import com.taskmanagement.model.TaskCounterId;
+import com.taskmanagement.model.TaskSnapshot;
+import com.taskmanagement.repository.TaskCounterRepository;
+import com.taskmanagement.service.TaskCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.taskmanagement.util.messages.TaskErrorMessage.ERROR_GETTING_DASHBOARD;
+import static com.taskmanagement.util.messages.TaskErrorMessage.ERROR_UPDATING_TASK_COUNTERS;
+
+@Service
+@RequiredArgsConstructor
+public class TaskCounterServiceImpl implements TaskCounterService {
+
+    private final TaskCounterRepository taskCounterRepository;
+
+
+    /**
+     * Counts a newly created task for its author and its assignee.
+     *
+     * @param task Snapshot of the created task.
+     * @throws TaskApiException If an error occurs while updating the counters.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskCreated(TaskSnapshot task) throws TaskApiException {
+        Map<TaskCounterId, Long> deltas = new LinkedHashMap<>();
+        addDeltas(deltas, task, 1);
+        applyDeltas(deltas);
+    }
+
+
+    /**
+     * Counts a batch of tasks that share author, assignee, status and priority with a single increment per counter.
+     *
+     * @param task  Snapshot of any one of the created tasks.
+     * @param count The number of tasks created.
+     * @throws TaskApiException If an error occurs while updating the counters.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTasksCreated(TaskSnapshot task, long count) throws TaskApiException {
+        Map<TaskCounterId, Long> deltas = new LinkedHashMap<>();
+        addDeltas(deltas, task, count);
+        applyDeltas(deltas);
+    }
+
+
+    /**
+     * Moves an updated task between counters. Counters whose key did not change are left untouched.
+     *
+     * @param before Snapshot of the task before the update.
+     * @param after  Snapshot of the task after the update.
+     * @throws TaskApiException If an error occurs while updating the counters.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskSnapshot before, TaskSnapshot after) throws TaskApiException {
+        Map<TaskCounterId, Long> deltas = new LinkedHashMap<>();
+        addDeltas(deltas, before, -1);
+        addDeltas(deltas, after, 1);
+        applyDeltas(deltas);
+    }
+
+
+    /**
+     * Removes a deleted task from the counters of its author and its assignee.
+     *
+     * @param task Snapshot of the deleted task.
+     * @throws TaskApiException If an error occurs while updating the counters.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskDeleted(TaskSnapshot task) throws TaskApiException {
+        Map<TaskCounterId, Long> deltas = new LinkedHashMap<>();
+        addDeltas(deltas, task, -1);
+        applyDeltas(deltas);
+    }
+
+
+    /**
+     * Returns task counts by status and priority for tasks the user authored and tasks assigned to the user.
+     * Served from at most one row per counter key, without touching the task table.
+     *
+     * @param userEmail The email of the user.
+     * @return TaskDashboardResponseDTO with a count for every status and priority combination.
+     * @throws TaskApiException If an error occurs while reading the counters.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskDashboardResponseDTO getDashboard(String userEmail) throws TaskApiException {
+        List<TaskCounterEntity> counters;
+        try {
+            counters = taskCounterRepository.findAllByUserEmail(userEmail);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_DASHBOARD);
+        }
+
+        Map<TaskStatus, Map<TaskPriority, Long>> authored = emptyMatrix();
+        Map<TaskStatus, Map<TaskPriority, Long>> assigned = emptyMatrix();
+
+        for (TaskCounterEntity counter : counters) {
+            TaskCounterId id = counter.getId();
+            Map<TaskStatus, Map<TaskPriority, Long>> matrix = id.getView() == TaskCounterView.AUTHOR ? authored : assigned;
+            matrix.get(id.getStatus()).put(id.getPriority(), counter.getTaskCount());
+        }
+
+        return TaskDashboardResponseDTO.builder()
+                .authored(authored)
+                .assigned(assigned)
+                .build();
+    }
+
+
+    private void addDeltas(Map<TaskCounterId, Long> deltas, TaskSnapshot task, long delta) {
+        deltas.merge(new TaskCounterId(task.getAuthorId(), TaskCounterView.AUTHOR, task.getStatus(), task.getPriority()), delta, Long::sum);
+        deltas.merge(new TaskCounterId(task.getAssigneeId(), TaskCounterView.ASSIGNEE, task.getStatus(), task.getPriority()), delta, Long::sum);
+    }
+
+
+    private void applyDeltas(Map<TaskCounterId, Long> deltas) throws TaskApiException {
+        try {
+            for (Map.Entry<TaskCounterId, Long> entry : deltas.entrySet()) {
+                // Keys that cancel out (e.g. an update that only changed the title) cost nothing.
+                if (entry.getValue() == 0) {
+                    continue;
+                }
+                TaskCounterId id = entry.getKey();
+                taskCounterRepository.increment(id.getUserId(), id.getView().name(), id.getStatus().name(), id.getPriority().name(), entry.getValue());
+            }
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_UPDATING_TASK_COUNTERS);
+        }
+    }
+
+
+    private Map<TaskStatus, Map<TaskPriority, Long>> emptyMatrix() {
+        Map<TaskStatus, Map<TaskPriority, Long>> matrix = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            Map<TaskPriority, Long> row = new EnumMap<>(TaskPriority.class);
+            for (TaskPriority priority : TaskPriority.values()) {
+                row.put(priority, 0L);
+            }
+            matrix.put(status, row);
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskmanagement.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.requestdto.TaskExportDTO;
+import com.taskmanagement.enums.ExportFormat;
+import com.taskmanagement.exceptions.ProjectNotFoundException;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.exceptions.UserNotFoundException;
+import com.taskmanagement.export.CsvTaskExportWriter;
+import com.taskmanagement.export.NdjsonTaskExportWriter;
+import com.taskmanagement.export.TaskExportCriteria;
+import com.taskmanagement.export.TaskExportWriter;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskExportRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.TaskExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static com.taskmanagement.util.messages.ProjectErrorMessage.PROJECT_NOT_FOUND;
+import static com.taskmanagement.util.messages.TaskErrorMessage.ERROR_EXPORTING_TASKS;
+import static com.taskmanagement.util.messages.UserErrorMessage.USER_NOT_FOUND_EMAIL;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private final TaskExportRepository taskExportRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+
+
+    /**
+     * Validates an export request before anything is written, so that errors still get a proper status code.
+     *
+     * @param taskExportDTO The export filters and format.
+     * @return TaskExportCriteria with the user and project resolved.
+     * @throws TaskApiException If an error occurs while looking up the user or the project.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskExportCriteria resolveCriteria(TaskExportDTO taskExportDTO) throws TaskApiException {
+        UserEntity user = null;
+        boolean projectExists = true;
+        try {
+            if (taskExportDTO.getUserEmail() != null) {
+                user = userRepository.findByEmail(taskExportDTO.getUserEmail());
+            }
+            if (taskExportDTO.getProjectId() != null) {
+                projectExists = projectRepository.existsById(taskExportDTO.getProjectId());
+            }
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_EXPORTING_TASKS);
+        }
+        if (taskExportDTO.getUserEmail() != null && user == null) {
+            throw new UserNotFoundException(USER_NOT_FOUND_EMAIL);
+        }
+        if (!projectExists) {
+            throw new ProjectNotFoundException(PROJECT_NOT_FOUND);
+        }
+
+        return TaskExportCriteria.builder()
+                .format(ExportFormat.valueOf(taskExportDTO.getFormat()))
+                .userId(user == null ? null : user.getId())
+                .projectId(taskExportDTO.getProjectId())
+                .includeComments(taskExportDTO.isIncludeComments())
+                .build();
+    }
+
+
+    /**
+     * Streams the tasks matching the criteria to the output stream. The export reads through the export pool,
+     * outside of a transaction, so it holds no connection of the shared pool while the client reads.
+     *
+     * @param criteria     The resolved export criteria.
+     * @param outputStream The stream of the response; it is flushed but not closed.
+     * @return The number of exported tasks.
+     * @throws IOException If writing fails, typically because the client disconnected.
+     */
+    @Override
+    public long exportTasks(TaskExportCriteria criteria, OutputStream outputStream) throws IOException {
+        TaskExportWriter writer = criteria.getFormat() == ExportFormat.NDJSON
+                ? new NdjsonTaskExportWriter(objectMapper.getFactory(), outputStream, criteria.isIncludeComments())
+                : new CsvTaskExportWriter(outputStream, criteria.isIncludeComments());
+
+        long started = System.nanoTime();
+        long exported = taskExportRepository.streamTasks(criteria, writer);
+        writer.finish();
+
+        log.info("Exported {} tasks as {} in {} ms", exported, criteria.getFormat(), (System.nanoTime() - started) / 1_000_000);
+        return exported;
+    }
+}
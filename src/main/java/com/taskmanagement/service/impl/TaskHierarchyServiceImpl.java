@@ -0,0 +1,229 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.responsedto.TaskResponseDTO;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.*;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.TaskSnapshot;
+import com.taskmanagement.repository.TaskClosureRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskHierarchyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.taskmanagement.util.converters.TaskDTOConverter.convertTaskEntityToDTO;
+import static com.taskmanagement.util.converters.TaskDTOConverter.convertTaskEntityToDTOs;
+import static com.taskmanagement.util.messages.CommonErrorMessage.UNAUTHORIZED_OPERATION_MSG;
+import static com.taskmanagement.util.messages.TaskErrorMessage.*;
+
+/**
+ * Maintains the subtask hierarchy in the {@code task_closure} table and the status rollups cached on every
+ * ancestor. Reading a subtree, adjusting the rollups of all ancestors and moving a subtree are each a
+ * fixed number of set-based statements, whatever the depth or size of the tree.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskHierarchyServiceImpl implements TaskHierarchyService {
+
+    private final TaskClosureRepository taskClosureRepository;
+    private final TaskRepository taskRepository;
+
+
+    /**
+     * Links a newly created task below its parent, if it has one, and counts it in the rollups of its ancestors.
+     *
+     * @param task The saved task.
+     * @throws TaskApiException If an error occurs while updating the hierarchy.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskCreated(TaskEntity task) throws TaskApiException {
+        try {
+            if (task.getParentId() == null) {
+                taskClosureRepository.insertRoot(task.getTaskId());
+                return;
+            }
+            taskClosureRepository.insertLeaf(task.getTaskId(), task.getParentId());
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_UPDATING_TASK_HIERARCHY);
+        }
+        addToAncestors(task.getTaskId(), task.getStatus(), 1);
+    }
+
+
+    /**
+     * Moves a task between the rollups of its ancestors when its status changed.
+     *
+     * @param before Snapshot of the task before the update.
+     * @param after  Snapshot of the task after the update.
+     * @throws TaskApiException If an error occurs while updating the rollups.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskSnapshot before, TaskSnapshot after) throws TaskApiException {
+        if (before.getStatus() == after.getStatus()) {
+            return;
+        }
+        long[] deltas = new long[TaskStatus.values().length];
+        deltas[before.getStatus().ordinal()] -= 1;
+        deltas[after.getStatus().ordinal()] += 1;
+        applyToAncestors(after.getTaskId(), deltas);
+    }
+
+
+    /**
+     * Removes a task from the rollups of its ancestors. Its closure rows are removed with it by the foreign keys.
+     *
+     * @param task The task about to be deleted.
+     * @throws TaskApiException        If an error occurs while updating the rollups.
+     * @throws TaskBadRequestException If the task still has subtasks.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskDeleted(TaskEntity task) throws TaskApiException, TaskBadRequestException {
+        boolean hasSubtasks;
+        try {
+            hasSubtasks = taskClosureRepository.existsByIdAncestorIdAndDepthGreaterThan(task.getTaskId(), 0);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_UPDATING_TASK_HIERARCHY);
+        }
+        if (hasSubtasks) {
+            throw new TaskBadRequestException(TASK_HAS_SUBTASKS);
+        }
+        addToAncestors(task.getTaskId(), task.getStatus(), -1);
+    }
+
+
+    /**
+     * Retrieves all descendants of a task, closest first, with a single query on the closure table.
+     *
+     * @param taskId    The ID of the task.
+     * @param userEmail The email of the user requesting the subtasks.
+     * @return List of TaskResponseDTO; each carries its parent ID so the tree can be rebuilt.
+     * @throws TaskApiException                   If an error occurs while reading the subtasks.
+     * @throws TaskBadRequestException            If the task ID is null.
+     * @throws TaskUnauthorizedOperationException If the user is neither author nor assignee of the task.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getSubtasks(Integer taskId, String userEmail) throws TaskApiException, TaskBadRequestException {
+        getTaskAndCheckAccess(taskId, userEmail);
+        try {
+            return convertTaskEntityToDTOs(taskClosureRepository.findDescendants(taskId));
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_SUBTASKS);
+        }
+    }
+
+
+    /**
+     * Moves a task, with its whole subtree, below another task or to the top level.
+     * The subtree's status counts are taken out of the old ancestors' rollups and added to the new ones.
+     *
+     * @param taskId    The ID of the task to move.
+     * @param parentId  The ID of the new parent, or null to make the task a top-level task.
+     * @param userEmail The email of the user moving the task.
+     * @return TaskResponseDTO representing the moved task.
+     * @throws TaskApiException                   If an error occurs while updating the hierarchy.
+     * @throws TaskBadRequestException            If the new parent is the task itself, one of its subtasks or in another project.
+     * @throws TaskUnauthorizedOperationException If the user may not change the task or the new parent.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public TaskResponseDTO moveTask(Integer taskId, Integer parentId, String userEmail) throws TaskApiException, TaskBadRequestException {
+        TaskEntity task = getTaskAndCheckAccess(taskId, userEmail);
+        if (Objects.equals(task.getParentId(), parentId)) {
+            return convertTaskEntityToDTO(task);
+        }
+
+        if (parentId != null) {
+            TaskEntity parent = getTaskAndCheckAccess(parentId, userEmail);
+            if (!parent.getProjectId().equals(task.getProjectId())) {
+                throw new TaskBadRequestException(PARENT_TASK_IN_OTHER_PROJECT);
+            }
+            boolean cycle;
+            try {
+                cycle = taskClosureRepository.existsByIdAncestorIdAndIdDescendantId(taskId, parentId);
+            } catch (Exception e) {
+                throw new TaskApiException(ERROR_UPDATING_TASK_HIERARCHY);
+            }
+            if (cycle) {
+                throw new TaskBadRequestException(INVALID_PARENT_TASK);
+            }
+        }
+
+        // The subtree counts as the task itself plus everything already rolled up on it.
+        long[] subtree = new long[TaskStatus.values().length];
+        subtree[TaskStatus.PENDING.ordinal()] = task.getSubtasksPending();
+        subtree[TaskStatus.IN_PROGRESS.ordinal()] = task.getSubtasksInProgress();
+        subtree[TaskStatus.COMPLETED.ordinal()] = task.getSubtasksCompleted();
+        subtree[task.getStatus().ordinal()] += 1;
+        long[] removed = new long[subtree.length];
+        for (int i = 0; i < subtree.length; i++) {
+            removed[i] = -subtree[i];
+        }
+
+        applyToAncestors(taskId, removed);
+        try {
+            taskClosureRepository.detachSubtree(taskId);
+            if (parentId != null) {
+                taskClosureRepository.attachSubtree(taskId, parentId);
+            }
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_UPDATING_TASK_HIERARCHY);
+        }
+        applyToAncestors(taskId, subtree);
+
+        task.setParentId(parentId);
+        try {
+            return convertTaskEntityToDTO(taskRepository.save(task));
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_UPDATING_TASK_HIERARCHY);
+        }
+    }
+
+
+    private void addToAncestors(Integer taskId, TaskStatus status, long delta) throws TaskApiException {
+        long[] deltas = new long[TaskStatus.values().length];
+        deltas[status.ordinal()] = delta;
+        applyToAncestors(taskId, deltas);
+    }
+
+
+    private void applyToAncestors(Integer taskId, long[] deltas) throws TaskApiException {
+        try {
+            taskClosureRepository.addToAncestorRollups(taskId,
+                    deltas[TaskStatus.PENDING.ordinal()],
+                    deltas[TaskStatus.IN_PROGRESS.ordinal()],
+                    deltas[TaskStatus.COMPLETED.ordinal()]);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_UPDATING_TASK_HIERARCHY);
+        }
+    }
+
+
+    private TaskEntity getTaskAndCheckAccess(Integer taskId, String userEmail) throws TaskApiException, TaskBadRequestException {
+        if (taskId == null) {
+            throw new TaskBadRequestException(TASK_ID_NULL);
+        }
+
+        Optional<TaskEntity> found;
+        try {
+            found = taskRepository.findById(taskId);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_TASK);
+        }
+        TaskEntity task = found.orElseThrow(() -> new TaskNotFoundException(TASK_NOT_FOUND));
+
+        if (!task.getAuthor().getEmail().equals(userEmail) && !task.getAssignee().getEmail().equals(userEmail)) {
+            throw new TaskUnauthorizedOperationException(UNAUTHORIZED_OPERATION_MSG);
+        }
+        return task;
+    }
+}
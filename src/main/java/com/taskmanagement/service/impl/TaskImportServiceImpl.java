@@ -0,0 +1,497 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.requestdto.TaskDTO;
+import com.taskmanagement.dto.responsedto.TaskImportErrorResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskImportResponseDTO;
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.event.DomainEventPublisher;
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.exceptions.TaskBadRequestException;
+import com.taskmanagement.exceptions.TaskUnauthorizedOperationException;
+import com.taskmanagement.exceptions.UserNotFoundException;
+import com.taskmanagement.importer.CsvFormatException;
+import com.taskmanagement.importer.CsvReader;
+import com.taskmanagement.importer.ImportedTask;
+import com.taskmanagement.markdown.MarkdownRenderer;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.TaskSnapshot;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.TaskImportRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.TaskBoardService;
+import com.taskmanagement.service.TaskCounterService;
+import com.taskmanagement.service.TaskImportService;
+import com.taskmanagement.service.TaskReminderService;
+import com.taskmanagement.service.TaskRevisionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.taskmanagement.util.messages.TaskErrorMessage.*;
+import static com.taskmanagement.util.messages.UserErrorMessage.ERROR_GETTING_USER;
+import static com.taskmanagement.util.messages.UserErrorMessage.USER_NOT_FOUND_EMAIL;
+
+@Slf4j
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "status", "priority", "assignee");
+
+    private final TaskImportRepository taskImportRepository;
+    private final UserRepository userRepository;
+    private final ProjectService projectService;
+    private final TaskBoardService taskBoardService;
+    private final TaskCounterService taskCounterService;
+    private final TaskRevisionService taskRevisionService;
+    private final TaskReminderService taskReminderService;
+    private final DomainEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedErrors;
+    private final int assigneeCacheSize;
+
+
+    public TaskImportServiceImpl(TaskImportRepository taskImportRepository,
+                                 UserRepository userRepository,
+                                 ProjectService projectService,
+                                 TaskBoardService taskBoardService,
+                                 TaskCounterService taskCounterService,
+                                 TaskRevisionService taskRevisionService,
+                                 TaskReminderService taskReminderService,
+                                 DomainEventPublisher eventPublisher,
+                                 Validator validator,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${app.import.batch-size:1000}") int batchSize,
+                                 @Value("${app.import.max-reported-errors:100}") int maxReportedErrors,
+                                 @Value("${app.import.assignee-cache-size:10000}") int assigneeCacheSize) {
+        this.taskImportRepository = taskImportRepository;
+        this.userRepository = userRepository;
+        this.projectService = projectService;
+        this.taskBoardService = taskBoardService;
+        this.taskCounterService = taskCounterService;
+        this.taskRevisionService = taskRevisionService;
+        this.taskReminderService = taskReminderService;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.assigneeCacheSize = assigneeCacheSize;
+    }
+
+
+    /**
+     * Imports tasks from a CSV file into a project, on behalf of the uploading user.
+     * The file is parsed one record at a time; valid rows are inserted in JDBC batches of {@code batchSize},
+     * each in its own transaction, so neither memory nor transaction size grows with the file.
+     * Rows failing validation are reported and skipped. A malformed record stops the import;
+     * the batches inserted before it are kept. Imported tasks get their first revision and reminders like
+     * any other new task, and a task event each once their batch commits.
+     *
+     * @param projectId   The project the tasks are imported into.
+     * @param file        CSV file with a header line naming the columns title, status, priority and assignee,
+     *                    and optionally description, due_date, labels (separated by ';') and reminders (minutes before
+     *                    the due date, separated by ';'). Other columns are ignored.
+     * @param authorEmail The email of the user importing the tasks, who becomes their author.
+     * @return TaskImportResponseDTO with the number of imported and failed rows and the first row errors.
+     * @throws TaskApiException                   If an error occurs while looking up the author.
+     * @throws TaskBadRequestException            If the header line is missing or lacks a required column.
+     * @throws TaskUnauthorizedOperationException If the author is not a member of the project.
+     */
+    @Override
+    public TaskImportResponseDTO importTasks(Integer projectId, MultipartFile file, String authorEmail) throws TaskApiException {
+        UserEntity author = getUserByEmail(authorEmail);
+        if (!projectService.isMember(projectId, author.getId())) {
+            throw new TaskUnauthorizedOperationException(NOT_PROJECT_MEMBER);
+        }
+
+        ImportRun run = new ImportRun(projectId, author);
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8), READ_BUFFER_SIZE)) {
+            CsvReader reader = new CsvReader(in, MAX_RECORD_LENGTH);
+
+            Map<String, Integer> columns = mapColumns(reader.readRecord());
+
+            try {
+                List<String> record;
+                while ((record = reader.readRecord()) != null) {
+                    run.rows++;
+                    ImportedTask task = parseRow(run, record, columns, reader.getRecordLine());
+                    if (task != null) {
+                        run.batch.add(task);
+                        if (run.batch.size() >= batchSize) {
+                            flush(run);
+                        }
+                    }
+                }
+            } catch (CsvFormatException e) {
+                run.rows++;
+                run.fail(e.getLine(), e.getMessage());
+            }
+        } catch (CsvFormatException e) {
+            throw new TaskBadRequestException(INVALID_IMPORT_HEADER);
+        } catch (IOException e) {
+            log.warn("Failed to read import file for project {}", projectId, e);
+            run.fail(run.rows + 1, ERROR_READING_IMPORT_FILE);
+        }
+
+        flush(run);
+
+        return TaskImportResponseDTO.builder()
+                .rows(run.rows)
+                .imported(run.imported)
+                .failed(run.failed)
+                .errors(run.errors)
+                .build();
+    }
+
+
+    private Map<String, Integer> mapColumns(List<String> header) throws TaskBadRequestException {
+        if (header == null) {
+            throw new TaskBadRequestException(INVALID_IMPORT_HEADER);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+            throw new TaskBadRequestException(INVALID_IMPORT_HEADER);
+        }
+        return columns;
+    }
+
+
+    /**
+     * Validates a row against the rules of {@link TaskDTO} and resolves its assignee.
+     *
+     * @return The task to insert, or null if the row failed and was reported.
+     */
+    private ImportedTask parseRow(ImportRun run, List<String> record, Map<String, Integer> columns, long line) {
+        LocalDateTime dueDate = null;
+        String dueDateValue = field(record, columns, "due_date");
+        if (dueDateValue != null) {
+            try {
+                dueDate = LocalDateTime.parse(dueDateValue);
+            } catch (DateTimeParseException e) {
+                run.fail(line, INVALID_IMPORT_DUE_DATE);
+                return null;
+            }
+        }
+
+        List<Integer> reminders;
+        try {
+            reminders = splitReminders(field(record, columns, "reminders"));
+        } catch (NumberFormatException e) {
+            run.fail(line, INVALID_IMPORT_REMINDERS);
+            return null;
+        }
+
+        TaskDTO taskDTO = TaskDTO.builder()
+                .title(field(record, columns, "title"))
+                .projectId(run.projectId)
+                .description(field(record, columns, "description"))
+                .taskStatus(field(record, columns, "status"))
+                .taskPriority(field(record, columns, "priority"))
+                .assigneeEmail(field(record, columns, "assignee"))
+                .dueDate(dueDate)
+                .labels(splitLabels(field(record, columns, "labels")))
+                .reminderMinutesBefore(reminders)
+                .build();
+
+        Set<ConstraintViolation<TaskDTO>> violations = validator.validate(taskDTO);
+        if (!violations.isEmpty()) {
+            run.fail(line, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        if (taskDTO.getDescription() != null && taskDTO.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            run.fail(line, IMPORT_DESCRIPTION_TOO_LONG);
+            return null;
+        }
+
+        Assignee assignee = run.resolveAssignee(taskDTO.getAssigneeEmail());
+        if (assignee.error != null) {
+            run.fail(line, assignee.error);
+            return null;
+        }
+
+        Set<String> labels = new HashSet<>();
+        if (taskDTO.getLabels() != null) {
+            for (String label : taskDTO.getLabels()) {
+                labels.add(label.toLowerCase(Locale.ROOT));
+            }
+        }
+        return ImportedTask.builder()
+                .line(line)
+                .title(taskDTO.getTitle())
+                .description(taskDTO.getDescription())
+                .descriptionHtml(MarkdownRenderer.render(taskDTO.getDescription()))
+                .status(TaskStatus.valueOf(taskDTO.getTaskStatus()))
+                .priority(TaskPriority.valueOf(taskDTO.getTaskPriority()))
+                .dueDate(dueDate)
+                .assigneeId(assignee.userId)
+                .assigneeEmail(taskDTO.getAssigneeEmail())
+                .labels(labels)
+                .reminderOffsets(reminders == null ? Set.of() : new HashSet<>(reminders))
+                .build();
+    }
+
+
+    private void flush(ImportRun run) {
+        if (run.batch.isEmpty()) {
+            return;
+        }
+        List<ImportedTask> batch = run.batch;
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(run, batch));
+            run.imported += batch.size();
+        } catch (Exception e) {
+            log.warn("Failed to import a batch of {} tasks into project {}", batch.size(), run.projectId, e);
+            String message = e instanceof BatchFailedException ? e.getMessage() : ERROR_IMPORTING_TASKS;
+            for (ImportedTask task : batch) {
+                run.fail(task.getLine(), message);
+            }
+        }
+        batch.clear();
+        log.info("Importing into project {}: {} rows read, {} imported, {} failed", run.projectId, run.rows, run.imported, run.failed);
+    }
+
+
+    private void insertBatch(ImportRun run, List<ImportedTask> batch) {
+        try {
+            // Every column gets its cards appended at the bottom, in file order.
+            Map<TaskStatus, Integer> perStatus = new EnumMap<>(TaskStatus.class);
+            for (ImportedTask task : batch) {
+                perStatus.merge(task.getStatus(), 1, Integer::sum);
+            }
+            Map<TaskStatus, Iterator<String>> columnRanks = new EnumMap<>(TaskStatus.class);
+            for (Map.Entry<TaskStatus, Integer> column : perStatus.entrySet()) {
+                columnRanks.put(column.getKey(), taskBoardService.appendRanks(run.projectId, column.getKey(), column.getValue()).iterator());
+            }
+            List<String> ranks = new ArrayList<>(batch.size());
+            for (ImportedTask task : batch) {
+                ranks.add(columnRanks.get(task.getStatus()).next());
+            }
+
+            List<Integer> taskIds = taskImportRepository.insertTasks(run.projectId, run.author.getId(), batch, ranks);
+
+            // Each task gets its first revision and its reminders now, and its event once the batch commits,
+            // which indexes, audits and notifies it like any other new task.
+            for (int i = 0; i < batch.size(); i++) {
+                ImportedTask task = batch.get(i);
+                TaskSnapshot snapshot = TaskSnapshot.builder()
+                        .taskId(taskIds.get(i))
+                        .projectId(run.projectId)
+                        .title(task.getTitle())
+                        .description(task.getDescription())
+                        .status(task.getStatus())
+                        .priority(task.getPriority())
+                        .authorId(run.author.getId())
+                        .authorEmail(run.author.getEmail())
+                        .assigneeId(task.getAssigneeId())
+                        .assigneeEmail(task.getAssigneeEmail())
+                        .dueDate(task.getDueDate())
+                        .labels(task.getLabels())
+                        .build();
+                taskRevisionService.onTaskCreated(snapshot, run.author.getEmail());
+                if (task.getDueDate() != null && !task.getReminderOffsets().isEmpty()) {
+                    TaskEntity scheduled = new TaskEntity();
+                    scheduled.setTaskId(snapshot.getTaskId());
+                    scheduled.setStatus(task.getStatus());
+                    scheduled.setDueDate(task.getDueDate());
+                    scheduled.setReminderOffsets(new HashSet<>(task.getReminderOffsets()));
+                    taskReminderService.scheduleReminders(scheduled, null);
+                }
+                eventPublisher.publish(TaskEvent.created(run.author.getEmail(), snapshot));
+            }
+
+            // Tasks sharing status, priority and assignee share their counters, so each key is incremented once.
+            Map<List<Object>, ImportedTask> samples = new LinkedHashMap<>();
+            Map<List<Object>, Long> counts = new HashMap<>();
+            for (ImportedTask task : batch) {
+                List<Object> key = List.of(task.getStatus(), task.getPriority(), task.getAssigneeId());
+                samples.putIfAbsent(key, task);
+                counts.merge(key, 1L, Long::sum);
+            }
+            for (Map.Entry<List<Object>, ImportedTask> sample : samples.entrySet()) {
+                ImportedTask task = sample.getValue();
+                taskCounterService.onTasksCreated(TaskSnapshot.builder()
+                        .projectId(run.projectId)
+                        .status(task.getStatus())
+                        .priority(task.getPriority())
+                        .authorId(run.author.getId())
+                        .authorEmail(run.author.getEmail())
+                        .assigneeId(task.getAssigneeId())
+                        .assigneeEmail(task.getAssigneeEmail())
+                        .build(), counts.get(sample.getKey()));
+            }
+        } catch (TaskApiException e) {
+            throw new BatchFailedException(e.getMessage());
+        }
+    }
+
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+
+    private static Set<String> splitLabels(String labels) {
+        if (labels == null) {
+            return null;
+        }
+        Set<String> split = new HashSet<>();
+        for (String label : labels.split(";")) {
+            if (!label.isBlank()) {
+                split.add(label.trim());
+            }
+        }
+        return split;
+    }
+
+
+    private static List<Integer> splitReminders(String reminders) {
+        if (reminders == null) {
+            return null;
+        }
+        List<Integer> split = new ArrayList<>();
+        for (String offset : reminders.split(";")) {
+            if (!offset.isBlank()) {
+                split.add(Integer.parseInt(offset.trim()));
+            }
+        }
+        return split;
+    }
+
+
+    private UserEntity getUserByEmail(String email) throws TaskApiException {
+        UserEntity user;
+        try {
+            user = userRepository.findByEmail(email);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_USER);
+        }
+        if (user == null) {
+            throw new UserNotFoundException(USER_NOT_FOUND_EMAIL);
+        }
+        return user;
+    }
+
+
+    /**
+     * State of one import: counters, the pending batch and the assignees resolved so far.
+     */
+    private class ImportRun {
+
+        private final Integer projectId;
+        private final UserEntity author;
+        private final List<ImportedTask> batch = new ArrayList<>();
+        private final List<TaskImportErrorResponseDTO> errors = new ArrayList<>();
+        // Least recently used assignees are evicted, an import usually has few distinct ones.
+        private final Map<String, Assignee> assignees = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Assignee> eldest) {
+                return size() > assigneeCacheSize;
+            }
+        };
+        private long rows;
+        private long imported;
+        private long failed;
+
+
+        private ImportRun(Integer projectId, UserEntity author) {
+            this.projectId = projectId;
+            this.author = author;
+        }
+
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new TaskImportErrorResponseDTO(line, message));
+            }
+        }
+
+
+        private Assignee resolveAssignee(String email) {
+            String key = email.toLowerCase(Locale.ROOT);
+            Assignee assignee = assignees.get(key);
+            if (assignee != null) {
+                return assignee;
+            }
+
+            UserEntity user;
+            try {
+                user = userRepository.findByEmail(email);
+            } catch (Exception e) {
+                // Not cached, the next row retries.
+                return new Assignee(null, ERROR_GETTING_USER);
+            }
+            if (user == null) {
+                assignee = new Assignee(null, ASSIGNEE_NOT_FOUND);
+            } else if (!projectService.isMember(projectId, user.getId())) {
+                assignee = new Assignee(null, ASSIGNEE_NOT_PROJECT_MEMBER);
+            } else {
+                assignee = new Assignee(user.getId(), null);
+            }
+            assignees.put(key, assignee);
+            return assignee;
+        }
+    }
+
+
+    private static class Assignee {
+
+        private final Integer userId;
+        private final String error;
+
+
+        private Assignee(Integer userId, String error) {
+            this.userId = userId;
+            this.error = error;
+        }
+    }
+
+
+    private static class BatchFailedException extends RuntimeException {
+
+        private BatchFailedException(String message) {
+            super(message);
+        }
+    }
+}
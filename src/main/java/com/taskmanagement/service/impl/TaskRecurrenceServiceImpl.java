@@ -0,0 +1,313 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.requestdto.RecurringTaskDTO;
+import com.taskmanagement.dto.responsedto.RecurringTaskResponseDTO;
+import com.taskmanagement.enums.RecurrenceFrequency;
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.event.DomainEventPublisher;
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.exceptions.*;
+import com.taskmanagement.model.TaskRecurrenceEntity;
+import com.taskmanagement.model.TaskSnapshot;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.recurrence.RecurrenceCalculator;
+import com.taskmanagement.repository.TaskOccurrenceRepository;
+import com.taskmanagement.repository.TaskRecurrenceRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.TaskBoardService;
+import com.taskmanagement.service.TaskCounterService;
+import com.taskmanagement.service.TaskRecurrenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.taskmanagement.util.converters.RecurringTaskDTOConverter.convertRecurrenceEntitiesToDTOs;
+import static com.taskmanagement.util.converters.RecurringTaskDTOConverter.convertRecurrenceEntityToDTO;
+import static com.taskmanagement.util.messages.CommonErrorMessage.UNAUTHORIZED_OPERATION_MSG;
+import static com.taskmanagement.util.messages.TaskErrorMessage.*;
+import static com.taskmanagement.util.messages.UserErrorMessage.ERROR_GETTING_USER;
+
+/**
+ * Recurring tasks are stored as a rule; their occurrences are ordinary task rows generated only a rolling
+ * window ahead of today (see {@link com.taskmanagement.recurrence.RecurrenceMaterializer}), so a rule that
+ * runs for years only ever costs the rows of the next few weeks, and task listings need no changes.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskRecurrenceServiceImpl implements TaskRecurrenceService {
+
+    private final TaskRecurrenceRepository taskRecurrenceRepository;
+    private final TaskOccurrenceRepository taskOccurrenceRepository;
+    private final UserRepository userRepository;
+    private final TaskCounterService taskCounterService;
+    private final ProjectService projectService;
+    private final TaskBoardService taskBoardService;
+    private final DomainEventPublisher eventPublisher;
+    private final Clock clock;
+
+    @Value("${app.recurrence.window-days:14}")
+    private int windowDays = 14;
+
+
+    /**
+     * Creates a recurrence rule and generates its occurrences up to the end of the current window.
+     *
+     * @param recurringTaskDTO The RecurringTaskDTO containing the task template and the recurrence rule.
+     * @param authorEmail      The email of the rule's author.
+     * @return RecurringTaskResponseDTO representing the created rule.
+     * @throws TaskApiException        If an error occurs while creating the rule or its occurrences.
+     * @throws TaskBadRequestException            If the rule is inconsistent.
+     * @throws TaskUnauthorizedOperationException If the author or the assignee is not a member of the project.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public RecurringTaskResponseDTO createRecurringTask(RecurringTaskDTO recurringTaskDTO, String authorEmail) throws TaskApiException, TaskBadRequestException {
+        validateRule(recurringTaskDTO);
+
+        // Occurrences are created without further checks, so both users must be members of the project up front.
+        UserEntity author = getUserByEmail(authorEmail, ERROR_CREATING_RECURRING_TASK);
+        UserEntity assignee = getUserByEmail(recurringTaskDTO.getAssigneeEmail(), ASSIGNEE_NOT_FOUND);
+        if (!projectService.isMember(recurringTaskDTO.getProjectId(), author.getId())) {
+            throw new TaskUnauthorizedOperationException(NOT_PROJECT_MEMBER);
+        }
+        if (!projectService.isMember(recurringTaskDTO.getProjectId(), assignee.getId())) {
+            throw new TaskUnauthorizedOperationException(ASSIGNEE_NOT_PROJECT_MEMBER);
+        }
+
+        TaskRecurrenceEntity recurrence = TaskRecurrenceEntity.builder()
+                .projectId(recurringTaskDTO.getProjectId())
+                .title(recurringTaskDTO.getTitle())
+                .description(recurringTaskDTO.getDescription())
+                .priority(TaskPriority.valueOf(recurringTaskDTO.getTaskPriority()))
+                .author(author)
+                .assignee(assignee)
+                .frequency(RecurrenceFrequency.valueOf(recurringTaskDTO.getFrequency()))
+                .interval(recurringTaskDTO.getInterval())
+                .daysOfWeek(joinDays(recurringTaskDTO))
+                .startsOn(recurringTaskDTO.getStartsOn())
+                .endsOn(recurringTaskDTO.getEndsOn())
+                .dueTime(recurringTaskDTO.getDueTime())
+                .build();
+
+        // A new rule has no occurrences yet, so the first window is generated without the conditional bound update.
+        // Occurrences before today are not back-filled.
+        LocalDate today = LocalDate.now(clock);
+        LocalDate from = recurrence.getStartsOn().isBefore(today) ? today : recurrence.getStartsOn();
+        LocalDate until = boundedUntil(recurrence, getHorizon());
+        recurrence.setMaterializedUntil(until.isAfter(from) ? until : from);
+        recurrence.setActive(!isExhausted(recurrence, recurrence.getMaterializedUntil()));
+
+        try {
+            recurrence = taskRecurrenceRepository.save(recurrence);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_CREATING_RECURRING_TASK);
+        }
+        insertOccurrences(recurrence, from, recurrence.getMaterializedUntil());
+
+        return convertRecurrenceEntityToDTO(recurrence);
+    }
+
+
+    /**
+     * Retrieves the recurrence rules created by the user.
+     *
+     * @param authorEmail The email of the rules' author.
+     * @return List of RecurringTaskResponseDTO.
+     * @throws TaskApiException If an error occurs while retrieving the rules.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecurringTaskResponseDTO> getRecurringTasks(String authorEmail) throws TaskApiException {
+        try {
+            return convertRecurrenceEntitiesToDTOs(taskRecurrenceRepository.findAllByAuthorEmailOrderByRecurrenceId(authorEmail));
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_RECURRING_TASKS);
+        }
+    }
+
+
+    /**
+     * Stops generating occurrences of a rule. Occurrences generated already are ordinary tasks and are kept.
+     *
+     * @param recurrenceId The ID of the rule.
+     * @param authorEmail  The email of the user stopping the rule.
+     * @throws TaskApiException                   If an error occurs while updating the rule.
+     * @throws TaskBadRequestException            If the ID is null.
+     * @throws TaskNotFoundException              If the rule does not exist.
+     * @throws TaskUnauthorizedOperationException If the user is not the rule's author.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void stopRecurringTask(Integer recurrenceId, String authorEmail) throws TaskApiException, TaskBadRequestException {
+        if (recurrenceId == null) {
+            throw new TaskBadRequestException(TASK_ID_NULL);
+        }
+
+        TaskRecurrenceEntity recurrence;
+        try {
+            recurrence = taskRecurrenceRepository.findById(recurrenceId).orElse(null);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_STOPPING_RECURRING_TASK);
+        }
+        if (recurrence == null) {
+            throw new TaskNotFoundException(RECURRING_TASK_NOT_FOUND);
+        }
+        if (!recurrence.getAuthor().getEmail().equals(authorEmail)) {
+            throw new TaskUnauthorizedOperationException(UNAUTHORIZED_OPERATION_MSG);
+        }
+
+        recurrence.setActive(false);
+    }
+
+
+    /**
+     * Generates the occurrences of a rule between its current bound and the horizon, in one JDBC batch.
+     * The bound is moved with a conditional update first, so concurrent runs on other nodes never insert
+     * the same occurrences twice. A bound left in the past (e.g. after the scheduler was down) is not
+     * back-filled; generation resumes from today, as for a new rule.
+     *
+     * @param recurrence The rule, as read by the caller.
+     * @param horizon    The first date not to generate.
+     * @return The number of generated occurrences.
+     * @throws TaskApiException If an error occurs while generating the occurrences.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public int materialize(TaskRecurrenceEntity recurrence, LocalDate horizon) throws TaskApiException {
+        LocalDate bound = recurrence.getMaterializedUntil();
+        LocalDate today = LocalDate.now(clock);
+        LocalDate from = bound.isBefore(today) ? today : bound;
+        LocalDate until = boundedUntil(recurrence, horizon);
+        if (until.isBefore(from)) {
+            until = from;
+        }
+
+        int claimed;
+        try {
+            claimed = taskRecurrenceRepository.advanceMaterializedUntil(recurrence.getRecurrenceId(), bound, until, !isExhausted(recurrence, until));
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_MATERIALIZING_OCCURRENCES);
+        }
+        if (claimed == 0) {
+            return 0;
+        }
+        return insertOccurrences(recurrence, from, until);
+    }
+
+
+    /**
+     * @return The first date beyond the materialization window.
+     */
+    @Override
+    public LocalDate getHorizon() {
+        return LocalDate.now(clock).plusDays(windowDays);
+    }
+
+
+    private int insertOccurrences(TaskRecurrenceEntity recurrence, LocalDate from, LocalDate until) throws TaskApiException {
+        List<LocalDate> dates = RecurrenceCalculator.occurrences(recurrence, from, until);
+        if (dates.isEmpty()) {
+            return 0;
+        }
+
+        // Occurrences are appended to the bottom of the pending column, in date order.
+        List<String> ranks = taskBoardService.appendRanks(recurrence.getProjectId(), TaskStatus.PENDING, dates.size());
+
+        List<Integer> taskIds;
+        try {
+            taskIds = taskOccurrenceRepository.insertOccurrences(recurrence, dates, ranks);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_MATERIALIZING_OCCURRENCES);
+        }
+
+        // Occurrences are created on behalf of the rule's author; the events index them, and reach the audit log
+        // and the assignee's notifications like any other new task.
+        for (int i = 0; i < taskIds.size(); i++) {
+            eventPublisher.publish(TaskEvent.created(recurrence.getAuthor().getEmail(), TaskSnapshot.builder()
+                    .taskId(taskIds.get(i))
+                    .projectId(recurrence.getProjectId())
+                    .title(recurrence.getTitle())
+                    .description(recurrence.getDescription())
+                    .status(TaskStatus.PENDING)
+                    .priority(recurrence.getPriority())
+                    .authorId(recurrence.getAuthor().getId())
+                    .authorEmail(recurrence.getAuthor().getEmail())
+                    .assigneeId(recurrence.getAssignee().getId())
+                    .assigneeEmail(recurrence.getAssignee().getEmail())
+                    .dueDate(recurrence.getDueTime() == null ? null : dates.get(i).atTime(recurrence.getDueTime()))
+                    .labels(Set.of())
+                    .build()));
+        }
+
+        // Every occurrence has the same counter key, so the whole batch costs one increment per view.
+        taskCounterService.onTasksCreated(TaskSnapshot.builder()
+                .projectId(recurrence.getProjectId())
+                .status(TaskStatus.PENDING)
+                .priority(recurrence.getPriority())
+                .authorId(recurrence.getAuthor().getId())
+                .authorEmail(recurrence.getAuthor().getEmail())
+                .assigneeId(recurrence.getAssignee().getId())
+                .assigneeEmail(recurrence.getAssignee().getEmail())
+                .build(), taskIds.size());
+        return taskIds.size();
+    }
+
+
+    private LocalDate boundedUntil(TaskRecurrenceEntity recurrence, LocalDate horizon) {
+        if (recurrence.getEndsOn() != null && recurrence.getEndsOn().isBefore(horizon)) {
+            return recurrence.getEndsOn().plusDays(1);
+        }
+        return horizon;
+    }
+
+
+    private boolean isExhausted(TaskRecurrenceEntity recurrence, LocalDate until) {
+        return recurrence.getEndsOn() != null && recurrence.getEndsOn().isBefore(until);
+    }
+
+
+    private void validateRule(RecurringTaskDTO recurringTaskDTO) throws TaskBadRequestException {
+        if (recurringTaskDTO.getEndsOn() != null && recurringTaskDTO.getEndsOn().isBefore(recurringTaskDTO.getStartsOn())) {
+            throw new TaskBadRequestException(INVALID_RECURRENCE_RANGE);
+        }
+        if (recurringTaskDTO.getDaysOfWeek() != null && !recurringTaskDTO.getDaysOfWeek().isEmpty()
+                && !RecurrenceFrequency.WEEKLY.name().equals(recurringTaskDTO.getFrequency())) {
+            throw new TaskBadRequestException(RECURRENCE_DAYS_ONLY_FOR_WEEKLY);
+        }
+    }
+
+
+    private String joinDays(RecurringTaskDTO recurringTaskDTO) {
+        if (recurringTaskDTO.getDaysOfWeek() == null || recurringTaskDTO.getDaysOfWeek().isEmpty()) {
+            return null;
+        }
+        return recurringTaskDTO.getDaysOfWeek().stream()
+                .sorted()
+                .map(DayOfWeek::name)
+                .collect(Collectors.joining(","));
+    }
+
+
+    private UserEntity getUserByEmail(String email, String errorMessage) throws TaskApiException {
+        UserEntity user;
+        try {
+            user = userRepository.findByEmail(email);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_USER);
+        }
+        if (user == null) {
+            throw new UserNotFoundException(errorMessage);
+        }
+        return user;
+    }
+}
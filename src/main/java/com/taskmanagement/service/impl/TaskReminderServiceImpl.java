@@ -0,0 +1,106 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.TaskReminderEntity;
+import com.taskmanagement.reminder.ReminderScheduler;
+import com.taskmanagement.repository.TaskReminderRepository;
+import com.taskmanagement.service.TaskReminderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static com.taskmanagement.util.messages.TaskErrorMessage.ERROR_SCHEDULING_REMINDERS;
+
+@Service
+@RequiredArgsConstructor
+public class TaskReminderServiceImpl implements TaskReminderService {
+
+    private final TaskReminderRepository taskReminderRepository;
+    private final ReminderScheduler reminderScheduler;
+    private final Clock clock;
+
+
+    /**
+     * Stores the reminder offsets of a task and derives its pending reminders from them: one reminder per offset
+     * before the due date. Offsets that already lie in the past are skipped, and completed tasks or tasks without
+     * a due date get none, but keep their offsets for when they are reopened or get a due date again.
+     *
+     * @param task          The saved task.
+     * @param minutesBefore How many minutes before the due date each reminder fires, or null to keep the stored offsets.
+     * @throws TaskApiException If an error occurs while storing the reminders.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void scheduleReminders(TaskEntity task, List<Integer> minutesBefore) throws TaskApiException {
+        if (minutesBefore != null) {
+            task.getReminderOffsets().clear();
+            task.getReminderOffsets().addAll(minutesBefore);
+        }
+
+        List<TaskReminderEntity> existing;
+        try {
+            existing = taskReminderRepository.findByTaskId(task.getTaskId());
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_SCHEDULING_REMINDERS);
+        }
+
+        List<TaskReminderEntity> reminders = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        if (task.getDueDate() != null && task.getStatus() != TaskStatus.COMPLETED) {
+            for (Integer offset : new TreeSet<>(task.getReminderOffsets())) {
+                LocalDateTime remindAt = task.getDueDate().minusMinutes(offset);
+                if (remindAt.isAfter(now)) {
+                    reminders.add(TaskReminderEntity.builder()
+                            .taskId(task.getTaskId())
+                            .remindAt(remindAt)
+                            .minutesBefore(offset)
+                            .build());
+                }
+            }
+        }
+
+        // Nothing to do when the task still has exactly these reminders, as after most edits.
+        if (remindAtTimes(existing).equals(remindAtTimes(reminders))) {
+            return;
+        }
+
+        List<TaskReminderEntity> saved;
+        try {
+            taskReminderRepository.deleteByTaskId(task.getTaskId());
+            saved = reminders.isEmpty() ? reminders : taskReminderRepository.saveAll(reminders);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_SCHEDULING_REMINDERS);
+        }
+
+        // Hand the new reminders to the scheduler only once they are visible to the thread that fires them.
+        if (!saved.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reminderScheduler.onRemindersScheduled(saved);
+                }
+            });
+        }
+    }
+
+
+    private static Map<Integer, LocalDateTime> remindAtTimes(List<TaskReminderEntity> reminders) {
+        Map<Integer, LocalDateTime> times = new HashMap<>();
+        reminders.forEach(reminder -> times.put(reminder.getMinutesBefore(), reminder.getRemindAt()));
+        return times;
+    }
+}
@@ -0,0 +1,267 @@
+package com.taskmanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.responsedto.TaskRevisionResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskVersionResponseDTO;
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.exceptions.TaskBadRequestException;
+import com.taskmanagement.exceptions.TaskNotFoundException;
+import com.taskmanagement.exceptions.TaskUnauthorizedOperationException;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.TaskRevisionEntity;
+import com.taskmanagement.model.TaskRevisionId;
+import com.taskmanagement.model.TaskSnapshot;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskRevisionRepository;
+import com.taskmanagement.service.TaskRevisionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.taskmanagement.util.messages.CommonErrorMessage.UNAUTHORIZED_OPERATION_MSG;
+import static com.taskmanagement.util.messages.TaskErrorMessage.*;
+
+@Service
+@RequiredArgsConstructor
+public class TaskRevisionServiceImpl implements TaskRevisionService {
+
+    private static final TypeReference<LinkedHashMap<String, String>> FIELDS_TYPE = new TypeReference<>() {
+    };
+
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String STATUS = "status";
+    private static final String PRIORITY = "priority";
+    private static final String ASSIGNEE = "assignee";
+    private static final String DUE_DATE = "dueDate";
+    private static final String LABELS = "labels";
+    private static final String LABEL_SEPARATOR = ",";
+
+    private final TaskRevisionRepository taskRevisionRepository;
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Value("${app.task-revisions.snapshot-interval:20}")
+    private int snapshotInterval = 20;
+
+
+    /**
+     * Records the first revision of a new task as a full snapshot.
+     *
+     * @param task       Snapshot of the created task.
+     * @param actorEmail The email of the user who created the task.
+     * @throws TaskApiException If an error occurs while storing the revision.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskCreated(TaskSnapshot task, String actorEmail) throws TaskApiException {
+        saveRevision(task.getTaskId(), 1, true, fields(task), actorEmail);
+    }
+
+
+    /**
+     * Records a revision holding only the fields that changed, or a full snapshot every snapshot interval.
+     * Updates that change none of the tracked fields are not recorded.
+     *
+     * @param before     Snapshot of the task before the update.
+     * @param after      Snapshot of the task after the update.
+     * @param actorEmail The email of the user who updated the task.
+     * @throws TaskApiException If an error occurs while storing the revision.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskSnapshot before, TaskSnapshot after, String actorEmail) throws TaskApiException {
+        Map<String, String> oldFields = fields(before);
+        Map<String, String> newFields = fields(after);
+
+        Map<String, String> changes = new LinkedHashMap<>();
+        newFields.forEach((field, value) -> {
+            if (!Objects.equals(oldFields.get(field), value)) {
+                changes.put(field, value);
+            }
+        });
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Integer latest;
+        try {
+            latest = taskRevisionRepository.findLatestRevision(after.getTaskId());
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_RECORDING_TASK_REVISION);
+        }
+
+        // Tasks created before revisions were recorded start their history with a full snapshot.
+        int revision = latest == null ? 1 : latest + 1;
+        boolean snapshot = (revision - 1) % snapshotInterval == 0;
+        saveRevision(after.getTaskId(), revision, snapshot, snapshot ? newFields : changes, actorEmail);
+    }
+
+
+    /**
+     * Returns the revisions of a task, newest first, each with the fields it changed.
+     *
+     * @param taskId    The ID of the task.
+     * @param userEmail The email of the user asking; must be the author or the assignee of the task.
+     * @return List of TaskRevisionResponseDTO.
+     * @throws TaskApiException        If an error occurs while reading the history.
+     * @throws TaskBadRequestException If the task ID is missing.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskRevisionResponseDTO> getHistory(Integer taskId, String userEmail) throws TaskApiException, TaskBadRequestException {
+        checkAccess(taskId, userEmail);
+
+        List<TaskRevisionEntity> revisions;
+        try {
+            revisions = taskRevisionRepository.findByIdTaskIdOrderByIdRevisionDesc(taskId);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_TASK_HISTORY);
+        }
+
+        return revisions.stream()
+                .map(revision -> TaskRevisionResponseDTO.builder()
+                        .revision(revision.getId().getRevision())
+                        .snapshot(revision.isSnapshot())
+                        .changes(readFields(revision))
+                        .changedBy(revision.getActorEmail())
+                        .changedAt(revision.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * Reconstructs a task as it was at the given revision, starting from the nearest full snapshot
+     * at or before it and applying at most one snapshot interval of deltas.
+     *
+     * @param taskId    The ID of the task.
+     * @param revision  The revision to reconstruct.
+     * @param userEmail The email of the user asking; must be the author or the assignee of the task.
+     * @return TaskVersionResponseDTO with the task fields at that revision.
+     * @throws TaskApiException        If an error occurs while reading the history.
+     * @throws TaskBadRequestException If the task ID is missing.
+     * @throws TaskNotFoundException   If the task has no such revision.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskVersionResponseDTO getVersion(Integer taskId, Integer revision, String userEmail) throws TaskApiException, TaskBadRequestException {
+        checkAccess(taskId, userEmail);
+
+        List<TaskRevisionEntity> chain;
+        try {
+            Integer base = revision == null ? null : taskRevisionRepository.findSnapshotRevisionAtOrBefore(taskId, revision);
+            if (base == null) {
+                throw new TaskNotFoundException(TASK_REVISION_NOT_FOUND);
+            }
+            chain = taskRevisionRepository.findByIdTaskIdAndIdRevisionBetweenOrderByIdRevision(taskId, base, revision);
+        } catch (TaskNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_TASK_HISTORY);
+        }
+
+        TaskRevisionEntity target = chain.get(chain.size() - 1);
+        if (!target.getId().getRevision().equals(revision)) {
+            throw new TaskNotFoundException(TASK_REVISION_NOT_FOUND);
+        }
+
+        // Apply the deltas on top of the snapshot in revision order.
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (TaskRevisionEntity entry : chain) {
+            fields.putAll(readFields(entry));
+        }
+
+        return TaskVersionResponseDTO.builder()
+                .taskId(taskId)
+                .revision(revision)
+                .title(fields.get(TITLE))
+                .description(fields.get(DESCRIPTION))
+                .status(fields.get(STATUS) != null ? TaskStatus.valueOf(fields.get(STATUS)) : null)
+                .priority(fields.get(PRIORITY) != null ? TaskPriority.valueOf(fields.get(PRIORITY)) : null)
+                .assignee(fields.get(ASSIGNEE))
+                .dueDate(fields.get(DUE_DATE) != null ? LocalDateTime.parse(fields.get(DUE_DATE)) : null)
+                .labels(fields.get(LABELS) != null ? splitLabels(fields.get(LABELS)) : null)
+                .changedBy(target.getActorEmail())
+                .changedAt(target.getCreatedAt())
+                .build();
+    }
+
+
+    private void checkAccess(Integer taskId, String userEmail) throws TaskApiException, TaskBadRequestException {
+        if (taskId == null) {
+            throw new TaskBadRequestException(TASK_ID_NULL);
+        }
+
+        Optional<TaskEntity> found;
+        try {
+            found = taskRepository.findById(taskId);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_TASK);
+        }
+        TaskEntity task = found.orElseThrow(() -> new TaskNotFoundException(TASK_NOT_FOUND));
+
+        if (!task.getAuthor().getEmail().equals(userEmail) && !task.getAssignee().getEmail().equals(userEmail)) {
+            throw new TaskUnauthorizedOperationException(UNAUTHORIZED_OPERATION_MSG);
+        }
+    }
+
+
+    private Map<String, String> fields(TaskSnapshot task) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(TITLE, task.getTitle());
+        fields.put(DESCRIPTION, task.getDescription());
+        fields.put(STATUS, task.getStatus() != null ? task.getStatus().name() : null);
+        fields.put(PRIORITY, task.getPriority() != null ? task.getPriority().name() : null);
+        fields.put(ASSIGNEE, task.getAssigneeEmail());
+        fields.put(DUE_DATE, task.getDueDate() != null ? task.getDueDate().toString() : null);
+        // Sorted, so that the same labels always compare equal.
+        fields.put(LABELS, task.getLabels() != null ? task.getLabels().stream().sorted().collect(Collectors.joining(LABEL_SEPARATOR)) : null);
+        return fields;
+    }
+
+
+    private static List<String> splitLabels(String labels) {
+        return labels.isEmpty() ? List.of() : List.of(labels.split(LABEL_SEPARATOR));
+    }
+
+
+    private void saveRevision(Integer taskId, int revision, boolean snapshot, Map<String, String> fields, String actorEmail) throws TaskApiException {
+        try {
+            taskRevisionRepository.save(TaskRevisionEntity.builder()
+                    .id(new TaskRevisionId(taskId, revision))
+                    .snapshot(snapshot)
+                    .changes(objectMapper.writeValueAsString(fields))
+                    .actorEmail(actorEmail)
+                    .createdAt(LocalDateTime.now(clock))
+                    .build());
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_RECORDING_TASK_REVISION);
+        }
+    }
+
+
+    private Map<String, String> readFields(TaskRevisionEntity revision) {
+        try {
+            return objectMapper.readValue(revision.getChanges(), FIELDS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt revision " + revision.getId().getRevision() + " of task " + revision.getId().getTaskId(), e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.requestdto.TaskSearchDTO;
+import com.taskmanagement.dto.responsedto.TaskPageResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskResponseDTO;
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.exceptions.UserNotFoundException;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.search.TaskBitmapIndex;
+import com.taskmanagement.search.TaskSearchCriteria;
+import com.taskmanagement.search.TaskSearchResult;
+import com.taskmanagement.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.taskmanagement.util.converters.TaskDTOConverter.convertTaskEntityToDTO;
+import static com.taskmanagement.util.messages.TaskErrorMessage.*;
+import static com.taskmanagement.util.messages.UserErrorMessage.ERROR_GETTING_USER;
+import static com.taskmanagement.util.messages.UserErrorMessage.USER_NOT_FOUND_EMAIL;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private final TaskBitmapIndex taskBitmapIndex;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+
+
+    /**
+     * Searches the tasks the user authored or is assigned to. Filters are resolved by intersecting the
+     * bitmaps of the in-memory index; only the tasks of the requested page are read from the database.
+     *
+     * @param taskSearchDTO The filters and the requested page.
+     * @param userEmail     The email of the user searching.
+     * @return TaskPageResponseDTO with the total number of matches and the tasks of the page, newest first.
+     * @throws TaskApiException If the index is not loaded yet or an error occurs while reading the tasks.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponseDTO searchTasks(TaskSearchDTO taskSearchDTO, String userEmail) throws TaskApiException {
+        if (!taskBitmapIndex.isReady()) {
+            throw new TaskApiException(SEARCH_INDEX_NOT_READY);
+        }
+
+        // Resolve the users first, the index only knows IDs.
+        UserEntity user = getUserByEmail(userEmail, USER_NOT_FOUND_EMAIL);
+        Integer assigneeId = taskSearchDTO.getAssigneeEmail() == null ? null
+                : getUserByEmail(taskSearchDTO.getAssigneeEmail(), ASSIGNEE_NOT_FOUND).getId();
+
+        TaskSearchResult result = taskBitmapIndex.search(TaskSearchCriteria.builder()
+                .userId(user.getId())
+                .projectId(taskSearchDTO.getProjectId())
+                .labels(normalizeLabels(taskSearchDTO.getLabels()))
+                .excludedLabels(normalizeLabels(taskSearchDTO.getExcludedLabels()))
+                .status(taskSearchDTO.getStatus() == null ? null : TaskStatus.valueOf(taskSearchDTO.getStatus()))
+                .priority(taskSearchDTO.getPriority() == null ? null : TaskPriority.valueOf(taskSearchDTO.getPriority()))
+                .assigneeId(assigneeId)
+                .page(taskSearchDTO.getPage())
+                .size(taskSearchDTO.getSize())
+                .build());
+
+        // Hydrate the page by primary key and keep the index order.
+        List<TaskResponseDTO> tasks = new ArrayList<>(result.getTaskIds().size());
+        try {
+            Map<Integer, TaskEntity> found = taskRepository.findAllById(result.getTaskIds()).stream()
+                    .collect(Collectors.toMap(TaskEntity::getTaskId, Function.identity()));
+            for (Integer taskId : result.getTaskIds()) {
+                TaskEntity task = found.get(taskId);
+                // Deleted since the index was read.
+                if (task != null) {
+                    tasks.add(convertTaskEntityToDTO(task));
+                }
+            }
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_SEARCHING_TASKS);
+        }
+
+        return TaskPageResponseDTO.builder()
+                .total(result.getTotal())
+                .page(taskSearchDTO.getPage())
+                .size(taskSearchDTO.getSize())
+                .tasks(tasks)
+                .build();
+    }
+
+
+    private Set<String> normalizeLabels(Set<String> labels) {
+        if (labels == null) {
+            return null;
+        }
+        Set<String> normalized = new HashSet<>();
+        for (String label : labels) {
+            normalized.add(label.trim().toLowerCase(Locale.ROOT));
+        }
+        return normalized;
+    }
+
+
+    private UserEntity getUserByEmail(String email, String errorMessage) throws TaskApiException {
+        UserEntity user;
+        try {
+            user = userRepository.findByEmail(email);
+        } catch (Exception e) {
+            throw new TaskApiException(ERROR_GETTING_USER);
+        }
+        if (user == null) {
+            throw new UserNotFoundException(errorMessage);
+        }
+        return user;
+    }
+}
@@ -1,22 +1,38 @@
 package com.taskmanagement.service.impl;
 
+import com.taskmanagement.dto.requestdto.TaskBoardMoveDTO;
 import com.taskmanagement.dto.requestdto.TaskDTO;
 import com.taskmanagement.dto.responsedto.TaskResponseDTO;
 import com.taskmanagement.enums.TaskPriority;
 import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.event.DomainEventPublisher;
+import com.taskmanagement.event.TaskEvent;
 import com.taskmanagement.exceptions.*;
+import com.taskmanagement.markdown.MarkdownRenderer;
 import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.TaskSnapshot;
 import com.taskmanagement.model.UserEntity;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.TaskBoardService;
+import com.taskmanagement.service.TaskCounterService;
+import com.taskmanagement.service.TaskHierarchyService;
+import com.taskmanagement.service.TaskReminderService;
+import com.taskmanagement.service.TaskRevisionService;
 import com.taskmanagement.service.TaskService;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.taskmanagement.util.EnumUtils.parseEnum;
 import static com.taskmanagement.util.converters.TaskDTOConverter.convertTaskEntityToDTO;
@@ -32,6 +48,13 @@ public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskCounterService taskCounterService;
+    private final TaskRevisionService taskRevisionService;
+    private final TaskReminderService taskReminderService;
+    private final TaskHierarchyService taskHierarchyService;
+    private final ProjectService projectService;
+    private final TaskBoardService taskBoardService;
+    private final DomainEventPublisher eventPublisher;
 
 
     /**
@@ -40,18 +63,40 @@ public class TaskServiceImpl implements TaskService {
      * @param taskDTO     The TaskDTO containing task details.
      * @param authorEmail The email of the task's author.
      * @return TaskResponseDTO representing the created task.
-     * @throws TaskApiException If an error occurs during the task creation process.
+     * @throws TaskApiException                   If an error occurs during the task creation process.
+     * @throws TaskBadRequestException            If the parent task belongs to another project.
+     * @throws TaskUnauthorizedOperationException If the author or the assignee is not a member of the project.
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public TaskResponseDTO createTask(TaskDTO taskDTO, String authorEmail) throws TaskApiException {
-        // Retrieve the user (author) based on the provided email.
+        // Retrieve the user (author) based on the provided email and check that they can write to the project.
         UserEntity author = getUserByEmail(authorEmail, ERROR_CREATING_TASK);
+        checkMembership(taskDTO.getProjectId(), author, NOT_PROJECT_MEMBER);
+
+        // A subtask can only be added by the author or the assignee of its parent, within the parent's project.
+        if (taskDTO.getParentId() != null) {
+            TaskEntity parent = getTaskByIdAndCheckOwnership(taskDTO.getParentId(), authorEmail);
+            if (!parent.getProjectId().equals(taskDTO.getProjectId())) {
+                throw new TaskBadRequestException(PARENT_TASK_IN_OTHER_PROJECT);
+            }
+        }
 
         // Initialize a TaskEntity based on the provided TaskDTO and author
         TaskEntity taskEntity = initializeTaskFromDTO(taskDTO, author);
+        checkMembership(taskEntity.getProjectId(), taskEntity.getAssignee(), ASSIGNEE_NOT_PROJECT_MEMBER);
+        taskEntity.setBoardRank(taskBoardService.appendRank(taskEntity.getProjectId(), taskEntity.getStatus()));
 
-        // Save the task and convert the result to TaskResponseDTO.
+        // Save the task, link it below its parent and count it for the author, the assignee and its ancestors.
         TaskEntity task = saveTask(taskEntity, ERROR_CREATING_TASK);
+        TaskSnapshot after = TaskSnapshot.of(task);
+        taskCounterService.onTaskCreated(after);
+        taskHierarchyService.onTaskCreated(task);
+        taskRevisionService.onTaskCreated(after, authorEmail);
+        taskReminderService.scheduleReminders(task, taskDTO.getReminderMinutesBefore());
+        eventPublisher.publish(TaskEvent.created(authorEmail, after));
+
+        // Convert the result to TaskResponseDTO.
         return convertTaskEntityToDTO(task);
     }
 
@@ -68,15 +113,31 @@ public class TaskServiceImpl implements TaskService {
      * @throws UserNotFoundException   If the user (updater) is not found.
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public TaskResponseDTO updateTaskByAuthor(Integer taskId, TaskDTO taskDTO, String updaterEmail) throws TaskApiException, TaskBadRequestException, UserNotFoundException {
         // Retrieve the task and check if the updater is the owner.
         TaskEntity taskEntity = getTaskByIdAndCheckOwnership(taskId, updaterEmail);
+        TaskSnapshot before = TaskSnapshot.of(taskEntity);
 
-        // Update the task details from the provided TaskDTO.
+        // Update the task details from the provided TaskDTO; a new assignee must be a member of the project.
         updateTaskFromDTO(taskEntity, taskDTO);
+        if (!taskEntity.getAssignee().getId().equals(before.getAssigneeId())) {
+            checkMembership(taskEntity.getProjectId(), taskEntity.getAssignee(), ASSIGNEE_NOT_PROJECT_MEMBER);
+        }
+        if (taskEntity.getStatus() != before.getStatus()) {
+            taskEntity.setBoardRank(taskBoardService.appendRank(taskEntity.getProjectId(), taskEntity.getStatus()));
+        }
 
-        // Save the updated task and convert the result to TaskResponseDTO.
+        // Save the updated task, move it between counters if status, priority or assignee changed and record the revision.
         TaskEntity task = saveTask(taskEntity, ERROR_UPDATING_TASK);
+        TaskSnapshot after = TaskSnapshot.of(task);
+        taskCounterService.onTaskChanged(before, after);
+        taskHierarchyService.onTaskChanged(before, after);
+        taskRevisionService.onTaskChanged(before, after, updaterEmail);
+        taskReminderService.scheduleReminders(task, taskDTO.getReminderMinutesBefore());
+        eventPublisher.publish(TaskEvent.updated(updaterEmail, before, after));
+
+        // Convert the result to TaskResponseDTO.
         return convertTaskEntityToDTO(task);
     }
 
@@ -92,6 +153,7 @@ public class TaskServiceImpl implements TaskService {
      * @throws TaskBadRequestException If the request is malformed.
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public TaskResponseDTO updateTaskByAssignee(Integer taskId, String status, String updaterEmail) throws Exception, TaskBadRequestException {
         // Parse the task status from the provided string.
         TaskStatus taskStatus;
@@ -105,10 +167,70 @@ public class TaskServiceImpl implements TaskService {
 
         // Retrieve the task and check if the updater is the assignee.
         TaskEntity task = getTaskByIdAndCheckOwnership(taskId, updaterEmail);
+        TaskSnapshot before = TaskSnapshot.of(task);
 
-        // Update the task status and save the task.
+        // Update the task status, save the task and move it to the counter of its new status.
+        // A task changing status goes to the bottom of its new board column.
+        if (taskStatus != task.getStatus()) {
+            task.setBoardRank(taskBoardService.appendRank(task.getProjectId(), taskStatus));
+        }
         task.setStatus(taskStatus);
         saveTask(task, ERROR_UPDATING_TASK);
+        TaskSnapshot after = TaskSnapshot.of(task);
+        taskCounterService.onTaskChanged(before, after);
+        taskHierarchyService.onTaskChanged(before, after);
+        taskRevisionService.onTaskChanged(before, after, updaterEmail);
+        taskReminderService.scheduleReminders(task, null);
+        eventPublisher.publish(TaskEvent.updated(updaterEmail, before, after));
+
+        // Convert the result to TaskResponseDTO.
+        return convertTaskEntityToDTO(task);
+    }
+
+
+    /**
+     * Moves a task on the board of its project: below another card of a column, or to the top of it.
+     * A move within a column writes the task's board rank only; a move to another column is also a
+     * status change and updates the derived data like any other status change.
+     *
+     * @param taskId           The ID of the task to be moved.
+     * @param taskBoardMoveDTO The TaskBoardMoveDTO containing the target column and the card above.
+     * @param userEmail        The email of the user moving the task (author or assignee).
+     * @return TaskResponseDTO representing the moved task.
+     * @throws TaskApiException                   If an error occurs while moving the task.
+     * @throws TaskBadRequestException            If the request is malformed or the card above is not in the column.
+     * @throws TaskUnauthorizedOperationException If the user is neither the author nor the assignee.
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public TaskResponseDTO moveTask(Integer taskId, TaskBoardMoveDTO taskBoardMoveDTO, String userEmail) throws TaskApiException, TaskBadRequestException {
+        validateTaskId(taskId);
+        TaskStatus status = parseEnum(taskBoardMoveDTO.getStatus(), TaskStatus.class, new TaskBadRequestException(INVALID_TASK_STATUS));
+        if (status == null) {
+            throw new TaskBadRequestException(TASK_STATUS_NULL_OR_EMPTY);
+        }
+
+        // Retrieve the task and check if the user is the author or the assignee.
+        TaskEntity task = getTaskByIdAndCheckOwnership(taskId, userEmail);
+        TaskSnapshot before = TaskSnapshot.of(task);
+
+        // Compute the key between the new neighbours; nothing to write if the card did not move.
+        String rank = taskBoardService.rankAfter(task, status, taskBoardMoveDTO.getAfterTaskId());
+        if (rank == null) {
+            return convertTaskEntityToDTO(task);
+        }
+        task.setBoardRank(rank);
+        task.setStatus(status);
+        saveTask(task, ERROR_MOVING_TASK);
+
+        if (status != before.getStatus()) {
+            TaskSnapshot after = TaskSnapshot.of(task);
+            taskCounterService.onTaskChanged(before, after);
+            taskHierarchyService.onTaskChanged(before, after);
+            taskRevisionService.onTaskChanged(before, after, userEmail);
+            taskReminderService.scheduleReminders(task, null);
+            eventPublisher.publish(TaskEvent.updated(userEmail, before, after));
+        }
 
         // Convert the result to TaskResponseDTO.
         return convertTaskEntityToDTO(task);
@@ -124,18 +246,27 @@ public class TaskServiceImpl implements TaskService {
      * @throws TaskBadRequestException If the request is malformed.
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public void deleteTask(Integer taskId, String deleterEmail) throws TaskApiException, TaskBadRequestException {
 
         validateTaskId(taskId);
         // Retrieve the task and check if the deleter has the required permissions.
         TaskEntity task = getTaskByIdAndCheckOwnership(taskId, deleterEmail);
 
+        // Tasks with subtasks are kept; otherwise take the task out of its ancestors' rollups.
+        taskHierarchyService.onTaskDeleted(task);
+
         try {
             // Delete the task.
             taskRepository.delete(task);
         } catch (Exception e) {
             throw new TaskApiException(ERROR_DELETING_TASK);
         }
+
+        // Remove the task from the counters of its author and assignee.
+        TaskSnapshot before = TaskSnapshot.of(task);
+        taskCounterService.onTaskDeleted(before);
+        eventPublisher.publish(TaskEvent.deleted(deleterEmail, before));
     }
 
 
@@ -170,18 +301,21 @@ public class TaskServiceImpl implements TaskService {
 
 
     /**
-     * Retrieves a list of tasks based on various criteria such as author, assignee, status, and priority.
+     * Retrieves a list of tasks of a project based on various criteria such as author, assignee, status, and priority.
      *
+     * @param projectId     The ID of the project.
      * @param authorEmail   The email of the task's author.
      * @param assigneeEmail The email of the task's assignee.
      * @param taskStatus    The status of the tasks to be retrieved.
      * @param taskPriority  The priority of the tasks to be retrieved.
      * @return List of TaskResponseDTO representing the retrieved tasks.
      * @throws TaskApiException        If an error occurs during the task retrieval process.
-     * @throws TaskBadRequestException If the request is malformed.
+     * @throws TaskBadRequestException            If the request is malformed.
+     * @throws TaskUnauthorizedOperationException If the author is not a member of the project.
      */
     @Override
-    public List<TaskResponseDTO> getTasksByAuthor(String authorEmail, String assigneeEmail, String taskStatus, String taskPriority) throws TaskApiException, TaskBadRequestException {
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getTasksByAuthor(Integer projectId, String authorEmail, String assigneeEmail, String taskStatus, String taskPriority) throws TaskApiException, TaskBadRequestException {
         List<TaskEntity> taskEntities;
         TaskStatus status = null;
         TaskPriority priority = null;
@@ -194,25 +328,27 @@ public class TaskServiceImpl implements TaskService {
             priority = parseEnum(taskPriority, TaskPriority.class, new TaskBadRequestException(INVALID_TASK_PRIORITY));
         }
 
+        // Only members can list the tasks of a project.
+        checkMembership(projectId, getUserByEmail(authorEmail, ERROR_GETTING_TASKS), NOT_PROJECT_MEMBER);
 
         try {
             // Retrieve tasks based on the provided criteria.
             if (StringUtils.isNotEmpty(assigneeEmail) && taskStatus != null && taskPriority != null) {
-                taskEntities = taskRepository.findByAuthorEmailAndAssigneeEmailAndStatusAndPriority(authorEmail, assigneeEmail, status, priority);
+                taskEntities = taskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmailAndStatusAndPriority(projectId, authorEmail, assigneeEmail, status, priority);
             } else if (StringUtils.isNotEmpty(assigneeEmail) && taskStatus != null) {
-                taskEntities = taskRepository.findByAssigneeEmailAndStatus(assigneeEmail, status);
+                taskEntities = taskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmailAndStatus(projectId, authorEmail, assigneeEmail, status);
             } else if (StringUtils.isNotEmpty(assigneeEmail) && taskPriority != null) {
-                taskEntities = taskRepository.findByAuthorEmailAndAssigneeEmailAndPriority(authorEmail, assigneeEmail, priority);
+                taskEntities = taskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmailAndPriority(projectId, authorEmail, assigneeEmail, priority);
             } else if (taskStatus != null && taskPriority != null) {
-                taskEntities = taskRepository.findByAuthorEmailAndStatusAndPriority(authorEmail, status, priority);
+                taskEntities = taskRepository.findByProjectIdAndAuthorEmailAndStatusAndPriority(projectId, authorEmail, status, priority);
             } else if (StringUtils.isNotEmpty(assigneeEmail)) {
-                taskEntities = taskRepository.findByAuthorEmailAndAssigneeEmail(authorEmail, assigneeEmail);
+                taskEntities = taskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmail(projectId, authorEmail, assigneeEmail);
             } else if (taskStatus != null) {
-                taskEntities = taskRepository.findByAuthorEmailAndStatus(authorEmail, status);
+                taskEntities = taskRepository.findByProjectIdAndAuthorEmailAndStatus(projectId, authorEmail, status);
             } else if (priority != null) {
-                taskEntities = taskRepository.findByAuthorEmailAndPriority(authorEmail, priority);
+                taskEntities = taskRepository.findByProjectIdAndAuthorEmailAndPriority(projectId, authorEmail, priority);
             } else {
-                taskEntities = taskRepository.findByAuthorEmail(authorEmail);
+                taskEntities = taskRepository.findByProjectIdAndAuthorEmail(projectId, authorEmail);
             }
         } catch (Exception e) {
             throw new TaskApiException(ERROR_GETTING_TASKS);
@@ -224,22 +360,28 @@ public class TaskServiceImpl implements TaskService {
 
 
     /**
-     * Retrieves a list of tasks based on the assignee's email and optionally the author's email.
+     * Retrieves a list of tasks of a project based on the assignee's email and optionally the author's email.
      *
+     * @param projectId     The ID of the project.
      * @param assigneeEmail The email of the task's assignee.
      * @param authorEmail   The email of the task's author (optional).
      * @return List of TaskResponseDTO representing the retrieved tasks.
-     * @throws TaskApiException If an error occurs during the task retrieval process.
+     * @throws TaskApiException                   If an error occurs during the task retrieval process.
+     * @throws TaskUnauthorizedOperationException If the assignee is not a member of the project.
      */
     @Override
-    public List<TaskResponseDTO> getTasksByAssignee(String assigneeEmail, String authorEmail) throws TaskApiException {
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getTasksByAssignee(Integer projectId, String assigneeEmail, String authorEmail) throws TaskApiException {
+        // Only members can list the tasks of a project.
+        checkMembership(projectId, getUserByEmail(assigneeEmail, ERROR_GETTING_TASKS), NOT_PROJECT_MEMBER);
+
         List<TaskEntity> taskEntities;
         try {
             // Retrieve tasks based on assignee's email and optionally author's email.
             if (authorEmail != null) {
-                taskEntities = taskRepository.findByAuthorEmailAndAssigneeEmail(authorEmail, assigneeEmail);
+                taskEntities = taskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmail(projectId, authorEmail, assigneeEmail);
             } else {
-                taskEntities = taskRepository.findByAssigneeEmail(assigneeEmail);
+                taskEntities = taskRepository.findByProjectIdAndAssigneeEmail(projectId, assigneeEmail);
             }
         } catch (Exception e) {
             throw new TaskApiException(ERROR_GETTING_TASKS);
@@ -261,10 +403,16 @@ public class TaskServiceImpl implements TaskService {
     private TaskEntity initializeTaskFromDTO(TaskDTO taskDTO, UserEntity author) throws TaskApiException {
         return TaskEntity.builder()
                 .taskId(0)
+                .projectId(taskDTO.getProjectId())
                 .title(taskDTO.getTitle())
                 .description(taskDTO.getDescription())
+                .descriptionHtml(MarkdownRenderer.render(taskDTO.getDescription()))
+                .renderVersion(MarkdownRenderer.VERSION)
                 .status(Enum.valueOf(TaskStatus.class, taskDTO.getTaskStatus()))
                 .priority(Enum.valueOf(TaskPriority.class, taskDTO.getTaskPriority()))
+                .dueDate(taskDTO.getDueDate())
+                .parentId(taskDTO.getParentId())
+                .labels(normalizeLabels(taskDTO.getLabels()))
                 .comments(new ArrayList<>())
                 .author(author)
                 .assignee(getUserByEmail(taskDTO.getAssigneeEmail(), ASSIGNEE_NOT_FOUND))
@@ -281,9 +429,18 @@ public class TaskServiceImpl implements TaskService {
      */
     private void updateTaskFromDTO(TaskEntity task, TaskDTO taskDTO) throws TaskApiException {
         task.setTitle(taskDTO.getTitle());
-        task.setDescription(taskDTO.getDescription());
+        if (!Objects.equals(task.getDescription(), taskDTO.getDescription()) || task.getRenderVersion() != MarkdownRenderer.VERSION) {
+            task.setDescription(taskDTO.getDescription());
+            task.setDescriptionHtml(MarkdownRenderer.render(taskDTO.getDescription()));
+            task.setRenderVersion(MarkdownRenderer.VERSION);
+        }
         task.setStatus(Enum.valueOf(TaskStatus.class, taskDTO.getTaskStatus()));
         task.setPriority(Enum.valueOf(TaskPriority.class, taskDTO.getTaskPriority()));
+        task.setDueDate(taskDTO.getDueDate());
+        if (taskDTO.getLabels() != null) {
+            task.getLabels().clear();
+            task.getLabels().addAll(normalizeLabels(taskDTO.getLabels()));
+        }
         task.setAssignee(getUserByEmail(taskDTO.getAssigneeEmail(), ASSIGNEE_NOT_FOUND));
     }
 
@@ -315,7 +472,8 @@ public class TaskServiceImpl implements TaskService {
      * @throws TaskBadRequestException            If the request is malformed.
      * @throws TaskUnauthorizedOperationException If the user is not authorized to perform the operation.
      */
-    private TaskEntity getTaskByIdAndCheckOwnership(int taskId, String userEmail) throws TaskApiException, TaskBadRequestException {
+    @Override
+    public TaskEntity getTaskByIdAndCheckOwnership(Integer taskId, String userEmail) throws TaskApiException, TaskBadRequestException {
         // Retrieve the task based on the provided task ID.
         TaskEntity task = getTaskById(taskId);
 
@@ -355,6 +513,32 @@ public class TaskServiceImpl implements TaskService {
     }
 
 
+    /**
+     * Checks that a user is a member of a project.
+     *
+     * @param projectId    The ID of the project.
+     * @param user         The user to check.
+     * @param errorMessage The error message to be thrown if the user is not a member.
+     * @throws TaskUnauthorizedOperationException If the user is not a member of the project.
+     */
+    private void checkMembership(Integer projectId, UserEntity user, String errorMessage) {
+        if (!projectService.isMember(projectId, user.getId())) {
+            throw new TaskUnauthorizedOperationException(errorMessage);
+        }
+    }
+
+
+    private Set<String> normalizeLabels(Set<String> labels) {
+        Set<String> normalized = new HashSet<>();
+        if (labels != null) {
+            for (String label : labels) {
+                normalized.add(label.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+
+
     private void validateTaskId(Integer taskId) throws TaskBadRequestException {
         if (taskId == null) {
             throw new TaskBadRequestException(TASK_ID_NULL);
@@ -14,11 +14,11 @@ import com.taskmanagement.service.TokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -49,16 +49,10 @@ public class TokenServiceImpl implements TokenService {
 
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public void revokeAllUserTokens(UserEntity user) throws TokenApiException {
-        List<TokenEntity> validUserTokens = tokenRepository.findAllValidTokenByUser(user.getId());
-        if (validUserTokens.isEmpty())
-            return;
-        validUserTokens.forEach(token -> {
-            token.setExpired(true);
-            token.setRevoked(true);
-        });
         try {
-            tokenRepository.saveAll(validUserTokens);
+            tokenRepository.revokeAllValidTokensByUser(user.getId());
         } catch (Exception e) {
             throw new TokenApiException("Error during saving token");
         }
@@ -1,28 +1,46 @@
 package com.taskmanagement.service.impl;
 
 import com.taskmanagement.dto.requestdto.UserDTO;
+import com.taskmanagement.dto.requestdto.UserSearchDTO;
+import com.taskmanagement.dto.responsedto.UserPageResponseDTO;
 import com.taskmanagement.dto.responsedto.UserResponseDTO;
+import com.taskmanagement.enums.UserEventType;
 import com.taskmanagement.enums.UserRole;
 import com.taskmanagement.enums.UserStatus;
+import com.taskmanagement.event.DomainEventPublisher;
+import com.taskmanagement.event.UserEvent;
 import com.taskmanagement.exceptions.UserAlreadyExistsException;
 import com.taskmanagement.exceptions.UserApiException;
 import com.taskmanagement.exceptions.UserBadRequestException;
 import com.taskmanagement.exceptions.UserNotFoundException;
 import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.model.UserSnapshot;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.repository.UserSearchRepository;
+import com.taskmanagement.search.UserSearchCriteria;
 import com.taskmanagement.service.UserService;
+import com.taskmanagement.util.email.TaskEmailSender;
 import com.taskmanagement.validator.UserValidator;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static com.taskmanagement.util.SecurityUtils.currentUserEmail;
 import static com.taskmanagement.util.TokenGeneration.generateResetToken;
 import static com.taskmanagement.util.TokenGeneration.generateVerifyCode;
+import static com.taskmanagement.util.TokenGeneration.hashToken;
 import static com.taskmanagement.util.converters.UserDTOConverter.convertUserEntitiesToDTOS;
 import static com.taskmanagement.util.converters.UserDTOConverter.convertUserEntityToDTO;
 import static com.taskmanagement.util.messages.UserErrorMessage.*;
@@ -33,10 +51,17 @@ public class UserServiceImpl implements UserService {
 
 
     private final UserRepository userRepository;
+    private final UserSearchRepository userSearchRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DomainEventPublisher eventPublisher;
+    private final TaskEmailSender taskEmailSender;
+    private final Clock clock;
 
-    // TODO:
-    // private final TaskEmailSender taskEmailSender;
+    private static final String RESET_TOKEN_SEPARATOR = ".";
+    private static final String RESET_TOKEN_SUBJECT = "Password reset";
+
+    @Value("${app.password-reset.token-ttl:30m}")
+    private Duration resetTokenTtl = Duration.ofMinutes(30);
 
     /**
      * Creates a new user based on the provided UserDTO.
@@ -67,8 +92,10 @@ public class UserServiceImpl implements UserService {
         // TODO: Uncomment and use if email sending is implemented
         // taskEmailSender.sendEmail(userDTO.getEmail(), "asd", "asd");
 
-        // Save the user and return
-        return saveUser(user, ERROR_CREATING_USER);
+        // Save the user, announce it and return
+        UserEntity createdUser = saveUser(user, ERROR_CREATING_USER);
+        eventPublisher.publish(UserEvent.of(UserEventType.CREATED, createdUser.getEmail(), null, UserSnapshot.of(createdUser)));
+        return createdUser;
     }
 
 
@@ -107,9 +134,11 @@ public class UserServiceImpl implements UserService {
         }
 
         // Set user status to ACTIVE, clear verification code, and save the user
+        UserSnapshot before = UserSnapshot.of(user);
         user.setStatus(UserStatus.ACTIVE);
         user.setVerifyCode(null);
         saveUser(user, ERROR_VERIFYING_USER);
+        eventPublisher.publish(UserEvent.of(UserEventType.ACTIVATED, email, before, UserSnapshot.of(user)));
         return true;
     }
 
@@ -173,51 +202,50 @@ public class UserServiceImpl implements UserService {
 
 
     /**
-     * Retrieves a list of users based on optional search criteria.
+     * Searches users for the admin console. Filters are combined with AND; name, surname and email
+     * match by prefix when they end with '*'. Pages are read by keyset on the user ID.
      *
-     * @param name    User's name for filtering.
-     * @param surname User's surname for filtering.
-     * @param role    User's role for filtering.
-     * @return List of UserResponseDTOs representing the filtered users.
+     * @param userSearchDTO The filters, the page cursor and the page size.
+     * @return UserPageResponseDTO with the users of the page in ID order and the cursor of the next page.
      * @throws UserApiException if there is an error during the retrieval process.
      */
     @Override
-    @Secured({"PROJECT_ADMIN"})
-    public List<UserResponseDTO> getAll(String name, String surname, String role) throws UserApiException {
-        List<UserEntity> userEntities;
-
-        UserRole userRole = null;
-
-        // Convert role string to UserRole enum
-        if (role != null) {
-            userRole = Enum.valueOf(UserRole.class, role);
-        }
+    @Secured({"ADMIN", "PROJECT_ADMIN"})
+    @Transactional(readOnly = true)
+    public UserPageResponseDTO searchUsers(UserSearchDTO userSearchDTO) throws UserApiException {
+        String name = trimPrefix(userSearchDTO.getName());
+        String surname = trimPrefix(userSearchDTO.getSurname());
+        String email = trimPrefix(userSearchDTO.getEmail());
+
+        // One extra row tells whether there is a next page.
+        UserSearchCriteria criteria = UserSearchCriteria.builder()
+                .name(name)
+                .namePrefix(isPrefix(userSearchDTO.getName()))
+                .surname(surname)
+                .surnamePrefix(isPrefix(userSearchDTO.getSurname()))
+                .email(email)
+                .emailPrefix(isPrefix(userSearchDTO.getEmail()))
+                .role(userSearchDTO.getRole() == null ? null : UserRole.valueOf(userSearchDTO.getRole()))
+                .status(userSearchDTO.getStatus() == null ? null : UserStatus.valueOf(userSearchDTO.getStatus()))
+                .afterId(userSearchDTO.getAfterId())
+                .limit(userSearchDTO.getSize() + 1)
+                .build();
 
-        // Retrieve users based on optional search criteria
+        List<UserEntity> userEntities;
         try {
-            if (!StringUtils.isEmpty(name) && !StringUtils.isEmpty(surname) && !StringUtils.isEmpty(role)) {
-                userEntities = userRepository.getByNameAndSurnameAndRole(name, surname, userRole);
-            } else if (!StringUtils.isEmpty(name) && !StringUtils.isEmpty(surname)) {
-                userEntities = userRepository.getByNameAndSurname(name, surname);
-            } else if (!StringUtils.isEmpty(name) && !StringUtils.isEmpty(role)) {
-                userEntities = userRepository.getByNameAndRole(name, userRole);
-            } else if (!StringUtils.isEmpty(surname) && !StringUtils.isEmpty(role)) {
-                userEntities = userRepository.getBySurnameAndRole(name, userRole);
-            } else if (!StringUtils.isEmpty(name)) {
-                userEntities = userRepository.getByName(name);
-            } else if (!StringUtils.isEmpty(role)) {
-                userEntities = userRepository.getByRole(userRole);
-            } else if (!StringUtils.isEmpty(surname)) {
-                userEntities = userRepository.getBySurname(surname);
-            } else {
-                userEntities = userRepository.findAll();
-            }
+            userEntities = userSearchRepository.search(criteria);
         } catch (Exception e) {
             throw new UserApiException(ERROR_GETTING_USERS);
         }
 
-        // Convert UserEntities to UserResponseDTOs and return the list
-        return convertUserEntitiesToDTOS(userEntities);
+        boolean hasNext = userEntities.size() > userSearchDTO.getSize();
+        if (hasNext) {
+            userEntities = userEntities.subList(0, userSearchDTO.getSize());
+        }
+        return UserPageResponseDTO.builder()
+                .users(convertUserEntitiesToDTOS(userEntities))
+                .nextAfterId(hasNext ? userEntities.get(userEntities.size() - 1).getId() : null)
+                .build();
     }
 
 
@@ -268,6 +296,7 @@ public class UserServiceImpl implements UserService {
 
         // Update user information
         UserEntity user = userEntity.get();
+        UserSnapshot before = UserSnapshot.of(user);
         user.setName(userDTO.getName());
         user.setSurname(userDTO.getSurname());
         user.setYear(userDTO.getYear());
@@ -278,6 +307,7 @@ public class UserServiceImpl implements UserService {
         } catch (Exception e) {
             throw new UserApiException(ERROR_UPDATING_USER);
         }
+        eventPublisher.publish(UserEvent.of(UserEventType.UPDATED, currentUserEmail(), before, UserSnapshot.of(updatedUser)));
 
         return convertUserEntityToDTO(updatedUser);
     }
@@ -326,6 +356,7 @@ public class UserServiceImpl implements UserService {
         } catch (Exception e) {
             throw new UserApiException(ERROR_CHANGING_PASSWORD_USER);
         }
+        eventPublisher.publish(UserEvent.of(UserEventType.PASSWORD_CHANGED, email, null, UserSnapshot.of(updatedUser)));
 
         // Convert the updated user to UserResponseDTO and return
         return convertUserEntityToDTO(updatedUser);
@@ -334,6 +365,7 @@ public class UserServiceImpl implements UserService {
 
     /**
      * Initiates the password reset process by generating and sending a reset token to the user's email.
+     * The token has the form {@code <userId>.<secret>}; only a hash of the secret is stored, together with its expiry.
      *
      * @param email Email of the user requesting a password reset.
      * @throws UserApiException       if there is an error during the password reset process.
@@ -351,9 +383,11 @@ public class UserServiceImpl implements UserService {
             throw new UserNotFoundException(USER_NOT_FOUND_EMAIL);
         }
 
-        // Generate a reset token and set it for the user
-        String token = generateResetToken();
-        userEntity.setResetToken(token);
+        // Generate a reset token and store its hash with an expiry, replacing any earlier one
+        String secret = generateResetToken();
+        String token = userEntity.getId() + RESET_TOKEN_SEPARATOR + secret;
+        userEntity.setResetToken(hashToken(secret));
+        userEntity.setResetTokenExpiresAt(LocalDateTime.now(clock).plus(resetTokenTtl));
 
         // Save the user with the reset token
         try {
@@ -362,24 +396,30 @@ public class UserServiceImpl implements UserService {
             throw new UserApiException(ERROR_CHANGING_PASSWORD_USER);
         }
 
-        // TODO: Uncomment and use if email sending is implemented
-        // emailSender.sendEmail(userEntity.getEmail(), "Reset token", "Token for changing password is " + token);
+        // Send the token to the user; it is never stored in plain form, so this is the only copy
+        try {
+            taskEmailSender.sendEmail(userEntity.getEmail(), RESET_TOKEN_SUBJECT,
+                    "Token for changing password is " + token + "\nIt expires in " + resetTokenTtl.toMinutes() + " minutes.");
+        } catch (Exception e) {
+            throw new UserApiException(ERROR_SENDING_RESET_TOKEN);
+        }
     }
 
 
     /**
      * Verifies the user's identity using a reset token and updates the user's password.
+     * The token identifies the user by itself and is consumed atomically, so it works on any node and only once.
      *
-     * @param email           User's email.
-     * @param resetToken      Token for password reset.
+     * @param resetToken      Token for password reset, as issued by {@link #forgotPassword(String)}.
      * @param newPassword     New password.
      * @param confirmPassword Confirmation of the new password.
      * @return true if the password is successfully updated.
      * @throws UserApiException       if there is an error during the password update process.
-     * @throws UserBadRequestException if the provided data is invalid.
+     * @throws UserBadRequestException if the provided data is invalid or the token is wrong, used or expired.
      */
     @Override
-    public boolean setPassword(String email, String resetToken, String newPassword, String confirmPassword)
+    @Transactional(rollbackFor = Exception.class)
+    public boolean setPassword(String resetToken, String newPassword, String confirmPassword)
             throws UserApiException, UserBadRequestException {
         if (newPassword != null) {
             // Validate the new password
@@ -391,17 +431,46 @@ public class UserServiceImpl implements UserService {
             }
         }
 
-        // Find the user by email
-        UserEntity userEntity = findByEmail(email);
+        // Split the token into the user id and the secret
+        int separator = resetToken == null ? -1 : resetToken.indexOf(RESET_TOKEN_SEPARATOR);
+        if (separator <= 0 || !StringUtils.isNumeric(resetToken.substring(0, separator))) {
+            throw new UserBadRequestException(RESET_TOKEN_MISMATCH);
+        }
+        Integer userId = Integer.valueOf(resetToken.substring(0, separator));
+        String resetTokenHash = hashToken(resetToken.substring(separator + 1));
 
-        // Check if the reset token matches
-        if (!userEntity.getResetToken().equals(resetToken)) {
+        // Find the user the token was issued for
+        UserEntity userEntity;
+        try {
+            userEntity = findById(userId);
+        } catch (UserNotFoundException e) {
             throw new UserBadRequestException(RESET_TOKEN_MISMATCH);
         }
 
-        // Update the password and reset token
+        // Check if the reset token matches and has not expired
+        if (userEntity.getResetToken() == null || !MessageDigest.isEqual(
+                userEntity.getResetToken().getBytes(StandardCharsets.UTF_8), resetTokenHash.getBytes(StandardCharsets.UTF_8))) {
+            throw new UserBadRequestException(RESET_TOKEN_MISMATCH);
+        }
+        if (userEntity.getResetTokenExpiresAt() == null || userEntity.getResetTokenExpiresAt().isBefore(LocalDateTime.now(clock))) {
+            throw new UserBadRequestException(RESET_TOKEN_EXPIRED);
+        }
+
+        // Consume the token; a concurrent request with the same token finds it gone
+        try {
+            if (userRepository.consumeResetToken(userId, resetTokenHash) == 0) {
+                throw new UserBadRequestException(RESET_TOKEN_MISMATCH);
+            }
+        } catch (UserBadRequestException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new UserApiException(ERROR_GETTING_USER);
+        }
+
+        // Update the password
         userEntity.setPassword(passwordEncoder.encode(newPassword));
         userEntity.setResetToken(null);
+        userEntity.setResetTokenExpiresAt(null);
 
         try {
             // Save the updated user
@@ -409,6 +478,7 @@ public class UserServiceImpl implements UserService {
         } catch (Exception e) {
             throw new UserApiException(ERROR_GETTING_USER);
         }
+        eventPublisher.publish(UserEvent.of(UserEventType.PASSWORD_CHANGED, userEntity.getEmail(), null, UserSnapshot.of(userEntity)));
 
         return true;
     }
@@ -447,6 +517,7 @@ public class UserServiceImpl implements UserService {
         } catch (Exception e) {
             throw new UserApiException(ERROR_DELETING_USER);
         }
+        eventPublisher.publish(UserEvent.of(UserEventType.DELETED, currentUserEmail(), UserSnapshot.of(user.get()), null));
     }
 
 
@@ -510,4 +581,24 @@ public class UserServiceImpl implements UserService {
                 .role(userDTO.getRole())
                 .build();
     }
-}
\ No newline at end of file
+
+
+    /**
+     * @return The filter without its trailing '*', or null if nothing is left to match.
+     */
+    private static String trimPrefix(String filter) {
+        if (StringUtils.isBlank(filter)) {
+            return null;
+        }
+        String value = filter.trim();
+        if (value.endsWith("*")) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return value.isEmpty() ? null : value;
+    }
+
+
+    private static boolean isPrefix(String filter) {
+        return filter != null && filter.trim().endsWith("*");
+    }
+}
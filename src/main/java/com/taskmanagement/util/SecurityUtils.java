@@ -0,0 +1,22 @@
+package com.taskmanagement.util;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class SecurityUtils {
+
+
+    /**
+     * Returns the email of the authenticated user bound to the current thread.
+     *
+     * @return The current user's email, or null if the request is anonymous.
+     */
+    public static String currentUserEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
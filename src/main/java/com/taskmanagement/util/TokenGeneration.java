@@ -2,14 +2,44 @@ package com.taskmanagement.util;
 
 import org.apache.commons.lang3.RandomStringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
 public class TokenGeneration {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     public static String generateVerifyCode() {
         return RandomStringUtils.random(4, true, false);
     }
 
 
+    /**
+     * @return A URL-safe secret with 256 bits of entropy.
+     */
     public static String generateResetToken() {
-        return RandomStringUtils.random(7, false, true);
+        byte[] secret = new byte[32];
+        RANDOM.nextBytes(secret);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+    }
+
+
+    /**
+     * @return The hex encoded SHA-256 of the token, which is what gets stored instead of the token itself.
+     */
+    public static String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
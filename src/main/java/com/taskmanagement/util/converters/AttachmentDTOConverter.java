@@ -0,0 +1,32 @@
+package com.taskmanagement.util.converters;
+
+import com.taskmanagement.dto.responsedto.AttachmentResponseDTO;
+import com.taskmanagement.model.AttachmentEntity;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class AttachmentDTOConverter {
+
+
+    public static AttachmentResponseDTO convertAttachmentEntityToDTO(AttachmentEntity attachmentEntity) {
+        return AttachmentResponseDTO.builder()
+                .attachmentId(attachmentEntity.getAttachmentId())
+                .taskId(attachmentEntity.getTaskId())
+                .commentId(attachmentEntity.getCommentId())
+                .fileName(attachmentEntity.getFileName())
+                .contentType(attachmentEntity.getContentType())
+                .size(attachmentEntity.getSize())
+                .checksum(attachmentEntity.getChecksum())
+                .uploader(attachmentEntity.getUploader().getEmail())
+                .createdAt(attachmentEntity.getCreatedAt())
+                .build();
+    }
+
+
+    public static List<AttachmentResponseDTO> convertAttachmentEntitiesToDTOS(List<AttachmentEntity> attachmentEntities) {
+        return attachmentEntities.stream()
+                .map(AttachmentDTOConverter::convertAttachmentEntityToDTO)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskmanagement.util.converters;
+
+import com.taskmanagement.audit.AuditFieldChange;
+import com.taskmanagement.audit.AuditRecord;
+import com.taskmanagement.dto.responsedto.AuditFieldChangeDTO;
+import com.taskmanagement.dto.responsedto.AuditRecordResponseDTO;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class AuditDTOConverter {
+
+
+    public static AuditRecordResponseDTO convertAuditRecordToDTO(AuditRecord auditRecord) {
+        return AuditRecordResponseDTO.builder()
+                .entityType(auditRecord.getEntityType())
+                .entityId(auditRecord.getEntityId())
+                .action(auditRecord.getAction())
+                .actor(auditRecord.getActorEmail())
+                .occurredAt(auditRecord.getOccurredAt())
+                .changes(auditRecord.getChanges().stream()
+                        .map(AuditDTOConverter::convertAuditFieldChangeToDTO)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+
+    public static List<AuditRecordResponseDTO> convertAuditRecordsToDTOS(List<AuditRecord> auditRecords) {
+        return auditRecords.stream()
+                .map(AuditDTOConverter::convertAuditRecordToDTO)
+                .collect(Collectors.toList());
+    }
+
+
+    private static AuditFieldChangeDTO convertAuditFieldChangeToDTO(AuditFieldChange change) {
+        return new AuditFieldChangeDTO(change.getField(), change.getBefore(), change.getAfter());
+    }
+}
@@ -1,6 +1,7 @@
 package com.taskmanagement.util.converters;
 
 import com.taskmanagement.dto.responsedto.CommentResponseDTO;
+import com.taskmanagement.dto.responsedto.MentionResponseDTO;
 import com.taskmanagement.model.CommentEntity;
 
 import java.util.List;
@@ -14,6 +15,7 @@ public class CommentDTOConverter {
                 .commentId(commentEntity.getCommentId())
                 .creator(commentEntity.getUser().getEmail())
                 .content(commentEntity.getContent())
+                .contentHtml(commentEntity.getContentHtml())
                 .build();
     }
 
@@ -23,4 +25,19 @@ public class CommentDTOConverter {
                 .map(CommentDTOConverter::convertCommentEntityToDTO)
                 .collect(Collectors.toList());
     }
+
+
+    public static List<MentionResponseDTO> convertCommentEntitiesToMentionDTOS(List<CommentEntity> commentEntities) {
+        return commentEntities.stream()
+                .map(commentEntity -> MentionResponseDTO.builder()
+                        .commentId(commentEntity.getCommentId())
+                        .taskId(commentEntity.getTask().getTaskId())
+                        .taskTitle(commentEntity.getTask().getTitle())
+                        .projectId(commentEntity.getProjectId())
+                        .creator(commentEntity.getUser().getEmail())
+                        .content(commentEntity.getContent())
+                        .contentHtml(commentEntity.getContentHtml())
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,42 @@
+package com.taskmanagement.util.converters;
+
+import com.taskmanagement.dto.responsedto.ProjectMemberResponseDTO;
+import com.taskmanagement.dto.responsedto.ProjectResponseDTO;
+import com.taskmanagement.model.ProjectEntity;
+import com.taskmanagement.model.ProjectMemberEntity;
+import com.taskmanagement.model.UserEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ProjectDTOConverter {
+
+
+    public static ProjectResponseDTO convertProjectEntityToDTO(ProjectEntity project) {
+        return ProjectResponseDTO.builder()
+                .projectId(project.getProjectId())
+                .name(project.getName())
+                .owner(project.getOwner().getEmail())
+                .createdAt(project.getCreatedAt())
+                .build();
+    }
+
+    public static ProjectResponseDTO convertProjectEntityToDTO(ProjectEntity project, List<ProjectMemberEntity> members, Map<Integer, UserEntity> users) {
+        ProjectResponseDTO projectDTO = convertProjectEntityToDTO(project);
+        projectDTO.setMembers(members.stream()
+                .map(member -> ProjectMemberResponseDTO.builder()
+                        .userId(member.getId().getUserId())
+                        .email(users.containsKey(member.getId().getUserId()) ? users.get(member.getId().getUserId()).getEmail() : null)
+                        .role(member.getRole())
+                        .build())
+                .collect(Collectors.toList()));
+        return projectDTO;
+    }
+
+    public static List<ProjectResponseDTO> convertProjectEntitiesToDTOs(List<ProjectEntity> projects) {
+        return projects.stream()
+                .map(ProjectDTOConverter::convertProjectEntityToDTO)
+                .collect(Collectors.toList());
+    }
+}
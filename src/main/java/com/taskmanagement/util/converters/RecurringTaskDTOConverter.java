@@ -0,0 +1,39 @@
+package com.taskmanagement.util.converters;
+
+import com.taskmanagement.dto.responsedto.RecurringTaskResponseDTO;
+import com.taskmanagement.enums.RecurrenceFrequency;
+import com.taskmanagement.model.TaskRecurrenceEntity;
+import com.taskmanagement.recurrence.RecurrenceCalculator;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class RecurringTaskDTOConverter {
+
+
+    public static RecurringTaskResponseDTO convertRecurrenceEntityToDTO(TaskRecurrenceEntity recurrence) {
+        return RecurringTaskResponseDTO.builder()
+                .recurrenceId(recurrence.getRecurrenceId())
+                .projectId(recurrence.getProjectId())
+                .title(recurrence.getTitle())
+                .description(recurrence.getDescription())
+                .priority(recurrence.getPriority())
+                .author(recurrence.getAuthor().getEmail())
+                .assignee(recurrence.getAssignee().getEmail())
+                .frequency(recurrence.getFrequency())
+                .interval(recurrence.getInterval())
+                .daysOfWeek(recurrence.getFrequency() == RecurrenceFrequency.WEEKLY ? RecurrenceCalculator.daysOfWeek(recurrence) : null)
+                .startsOn(recurrence.getStartsOn())
+                .endsOn(recurrence.getEndsOn())
+                .dueTime(recurrence.getDueTime())
+                .materializedUntil(recurrence.getMaterializedUntil())
+                .active(recurrence.isActive())
+                .build();
+    }
+
+    public static List<RecurringTaskResponseDTO> convertRecurrenceEntitiesToDTOs(List<TaskRecurrenceEntity> recurrences) {
+        return recurrences.stream()
+                .map(RecurringTaskDTOConverter::convertRecurrenceEntityToDTO)
+                .collect(Collectors.toList());
+    }
+}
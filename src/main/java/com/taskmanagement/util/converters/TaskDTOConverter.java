@@ -1,8 +1,10 @@
 package com.taskmanagement.util.converters;
 
 import com.taskmanagement.dto.responsedto.TaskResponseDTO;
+import com.taskmanagement.dto.responsedto.TaskRollupResponseDTO;
 import com.taskmanagement.model.TaskEntity;
 import java.util.List;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import static com.taskmanagement.util.converters.CommentDTOConverter.convertCommentEntitiesToDTOS;
 
@@ -12,16 +14,54 @@ public class TaskDTOConverter {
     public static TaskResponseDTO convertTaskEntityToDTO(TaskEntity taskEntity) {
         return TaskResponseDTO.builder()
                 .taskId(taskEntity.getTaskId())
+                .projectId(taskEntity.getProjectId())
                 .title(taskEntity.getTitle())
                 .description(taskEntity.getDescription())
+                .descriptionHtml(taskEntity.getDescriptionHtml())
                 .status(taskEntity.getStatus())
                 .priority(taskEntity.getPriority())
+                .dueDate(taskEntity.getDueDate())
+                .labels(taskEntity.getLabels() == null ? null : new TreeSet<>(taskEntity.getLabels()))
+                .parentId(taskEntity.getParentId())
+                .subtasks(convertTaskEntityToRollupDTO(taskEntity))
+                .recurrenceId(taskEntity.getRecurrenceId())
+                .occurrenceDate(taskEntity.getOccurrenceDate())
                 .assignee(taskEntity.getAssignee().getEmail())
                 .author(taskEntity.getAuthor().getEmail())
                 .comments(convertCommentEntitiesToDTOS(taskEntity.getComments()))
                 .build();
     }
 
+    /**
+     * A board card: the task without its comments, which a board never shows.
+     */
+    public static TaskResponseDTO convertTaskEntityToCardDTO(TaskEntity taskEntity) {
+        return TaskResponseDTO.builder()
+                .taskId(taskEntity.getTaskId())
+                .projectId(taskEntity.getProjectId())
+                .title(taskEntity.getTitle())
+                .status(taskEntity.getStatus())
+                .priority(taskEntity.getPriority())
+                .dueDate(taskEntity.getDueDate())
+                .labels(taskEntity.getLabels() == null ? null : new TreeSet<>(taskEntity.getLabels()))
+                .parentId(taskEntity.getParentId())
+                .subtasks(convertTaskEntityToRollupDTO(taskEntity))
+                .assignee(taskEntity.getAssignee().getEmail())
+                .author(taskEntity.getAuthor().getEmail())
+                .build();
+    }
+
+    public static TaskRollupResponseDTO convertTaskEntityToRollupDTO(TaskEntity taskEntity) {
+        int total = taskEntity.getSubtasksPending() + taskEntity.getSubtasksInProgress() + taskEntity.getSubtasksCompleted();
+        return TaskRollupResponseDTO.builder()
+                .pending(taskEntity.getSubtasksPending())
+                .inProgress(taskEntity.getSubtasksInProgress())
+                .completed(taskEntity.getSubtasksCompleted())
+                .total(total)
+                .percentCompleted(total == 0 ? 0 : taskEntity.getSubtasksCompleted() * 100 / total)
+                .build();
+    }
+
     public static List<TaskResponseDTO> convertTaskEntityToDTOs(List<TaskEntity> taskEntities) {
         return taskEntities.stream()
                 .map(TaskDTOConverter::convertTaskEntityToDTO)
@@ -1,7 +1,9 @@
 package com.taskmanagement.util.converters;
 
 import com.taskmanagement.dto.responsedto.UserResponseDTO;
+import com.taskmanagement.dto.responsedto.UserSuggestionResponseDTO;
 import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.search.IndexedUser;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,4 +28,16 @@ public class UserDTOConverter {
                 .map(UserDTOConverter::convertUserEntityToDTO)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+
+    public static List<UserSuggestionResponseDTO> convertIndexedUsersToSuggestions(List<IndexedUser> users) {
+        return users.stream()
+                .map(user -> UserSuggestionResponseDTO.builder()
+                        .id(user.getId())
+                        .email(user.getEmail())
+                        .name(user.getName())
+                        .surname(user.getSurname())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.util.messages;
+
+public interface AttachmentErrorMessage {
+
+    // Attachment Not Found Errors
+    String ATTACHMENT_NOT_FOUND = "Attachment not found with the given ID";
+    String PREVIEW_NOT_AVAILABLE = "No preview is available for this attachment yet";
+
+    // Attachment Request Errors
+    String ATTACHMENT_ID_NULL = "Attachment id can not be null";
+    String INVALID_ATTACHMENT_FILE_NAME = "File name must be 1 to 255 characters long, without control characters";
+    String INVALID_ATTACHMENT_CONTENT_TYPE = "Invalid attachment content type";
+    String ATTACHMENT_TOO_LARGE = "Attachment is larger than the allowed size";
+
+    // General Attachment Errors
+    String ERROR_STORING_ATTACHMENT = "Error storing attachment";
+    String ERROR_GETTING_ATTACHMENTS = "Error getting attachments";
+    String ERROR_DELETING_ATTACHMENT = "Error deleting attachment";
+}
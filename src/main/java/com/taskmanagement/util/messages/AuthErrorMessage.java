@@ -8,5 +8,9 @@ public interface AuthErrorMessage {
 
     String INACTIVE_USER_ACCOUNT = "User account is inactive. Verify your account before logging in";
 
+    String TOO_MANY_REQUESTS = "Too many requests. Try again later";
+
+    String REQUEST_BODY_TOO_LARGE = "Request body is too large";
+
 
 }
@@ -10,4 +10,9 @@ public interface CommentErrorMessage {
     String ERROR_GETTING_COMMENTS = "Error getting comments";
     String ERROR_DELETING_COMMENT = "Error deleting comment";
     String ERROR_SAVING_COMMENT = "Error saving comment";
+
+    // Mention Errors
+    String ERROR_SAVING_MENTIONS = "Error saving comment mentions";
+    String ERROR_GETTING_MENTIONS = "Error getting mentions";
+    String INVALID_MENTION_PAGE_SIZE = "Mention page size must be between 1 and 100";
 }
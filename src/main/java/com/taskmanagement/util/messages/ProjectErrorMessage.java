@@ -0,0 +1,23 @@
+package com.taskmanagement.util.messages;
+
+public interface ProjectErrorMessage {
+
+    // Project Not Found Error
+    String PROJECT_NOT_FOUND = "Project not found with the given ID";
+    String PROJECT_ID_NULL = "Project id cannot be null";
+
+    // Membership Errors
+    String NOT_PROJECT_MEMBER = "User is not a member of the project";
+    String MEMBER_NOT_FOUND = "Member not found in the project";
+    String MEMBER_ALREADY_EXISTS = "User is already a member of the project";
+    String CANNOT_REMOVE_OWNER = "The owner can not be removed from the project";
+
+    // Assignee Suggestion Errors
+    String ASSIGNEE_INDEX_NOT_READY = "Assignee suggestions are starting up, please retry shortly";
+    String INVALID_SUGGESTION_LIMIT = "Suggestion limit must be between 1 and 20";
+
+    // General Project Errors
+    String ERROR_CREATING_PROJECT = "Error creating project";
+    String ERROR_GETTING_PROJECTS = "Error getting projects";
+    String ERROR_UPDATING_MEMBERS = "Error updating project members";
+}
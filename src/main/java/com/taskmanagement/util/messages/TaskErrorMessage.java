@@ -17,6 +17,55 @@ public interface TaskErrorMessage {
     String ERROR_GETTING_TASK = "Error getting task";
     String ERROR_UPDATING_TASK = "Error updating task";
     String ERROR_DELETING_TASK = "Error deleting task";
+    String ERROR_UPDATING_TASK_COUNTERS = "Error updating task counters";
+    String ERROR_GETTING_DASHBOARD = "Error getting task dashboard";
+    String ERROR_RECORDING_TASK_REVISION = "Error recording task revision";
+    String ERROR_GETTING_TASK_HISTORY = "Error getting task history";
+    String ERROR_SCHEDULING_REMINDERS = "Error scheduling task reminders";
+    String ERROR_CREATING_RECURRING_TASK = "Error creating recurring task";
+    String ERROR_GETTING_RECURRING_TASKS = "Error getting recurring tasks";
+    String ERROR_STOPPING_RECURRING_TASK = "Error stopping recurring task";
+    String ERROR_MATERIALIZING_OCCURRENCES = "Error generating recurring task occurrences";
+
+    String ERROR_UPDATING_TASK_HIERARCHY = "Error updating task hierarchy";
+    String ERROR_GETTING_SUBTASKS = "Error getting subtasks";
+    String ERROR_SEARCHING_TASKS = "Error searching tasks";
+    String SEARCH_INDEX_NOT_READY = "Task search is starting up, please retry shortly";
+
+    // Subtask Errors
+    String INVALID_PARENT_TASK = "A task can not be moved below itself or one of its subtasks";
+    String TASK_HAS_SUBTASKS = "A task with subtasks can not be deleted";
+    String PARENT_TASK_IN_OTHER_PROJECT = "A subtask must belong to the project of its parent";
+
+    // Board Errors
+    String ERROR_GETTING_BOARD = "Error getting task board";
+    String ERROR_MOVING_TASK = "Error moving task on the board";
+    String INVALID_BOARD_ANCHOR = "A task can only be dropped below another task of the same project and column";
+    String INVALID_BOARD_PAGE_SIZE = "Board page size must be between 1 and 100";
+    String BOARD_COLUMN_REBALANCING = "The column is being reordered, please retry shortly";
+
+    // Export Errors
+    String ERROR_EXPORTING_TASKS = "Error exporting tasks";
+
+    // Import Errors
+    String ERROR_IMPORTING_TASKS = "Error importing tasks";
+    String ERROR_READING_IMPORT_FILE = "Error reading the import file";
+    String INVALID_IMPORT_HEADER = "The first line of the import file must name the columns title, status, priority and assignee";
+    String INVALID_IMPORT_DUE_DATE = "Due date must be an ISO date-time such as 2024-05-31T17:00";
+    String INVALID_IMPORT_REMINDERS = "Reminders must be minutes before the due date separated by ';', such as 60;1440";
+    String IMPORT_DESCRIPTION_TOO_LONG = "Description must have at most 255 characters";
+
+    // Project Errors
+    String NOT_PROJECT_MEMBER = "You are not a member of this project";
+    String ASSIGNEE_NOT_PROJECT_MEMBER = "The assignee is not a member of this project";
+
+    // Recurring Task Errors
+    String RECURRING_TASK_NOT_FOUND = "Recurring task not found with the given ID";
+    String INVALID_RECURRENCE_RANGE = "Recurrence end date must not be before its start date";
+    String RECURRENCE_DAYS_ONLY_FOR_WEEKLY = "Days of week can only be set for weekly recurrences";
+
+    // Task Revision Error
+    String TASK_REVISION_NOT_FOUND = "Task revision not found";
 
     // Task Status Error
     String INVALID_TASK_STATUS = "Invalid task status. Allowed values are: PENDING, IN_PROGRESS, COMPLETED";
@@ -9,6 +9,7 @@ public interface UserErrorMessage {
     String ERROR_UPDATING_USER = "Error updating user";
     String ERROR_VERIFYING_USER = "Error verifying user";
     String ERROR_CHANGING_PASSWORD_USER = "Error changing password";
+    String ERROR_SENDING_RESET_TOKEN = "Error sending password reset token";
     String ERROR_DELETING_USER = "Error deleting user";
 
     // User Not Found Errors
@@ -27,6 +28,8 @@ public interface UserErrorMessage {
     // Reset Token Errors
     String RESET_TOKEN_MISMATCH = "Incorrect reset token";
 
+    String RESET_TOKEN_EXPIRED = "Reset token has expired";
+
     // Password Errors
     String PASSWORDS_DONT_MATCH = "Passwords don't match";
     String WRONG_OLD_PASSWORD = "Incorrect old password";
@@ -0,0 +1,70 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Brings schemas that Hibernate created before Flyway took over in line with V1, which baseline-on-migrate
+ * skips on those installs.
+ * <p>
+ * Their {@code token.token} is still VARCHAR(255), too short for a JWT, and the former {@code @OneToOne} mappings
+ * left unique keys on {@code task.author_id}, {@code task.assignee_id} and {@code comment.user_id} that allow a
+ * single task or comment per user. Hibernate named those keys after a hash, so they are found through the
+ * metadata instead of by name; schemas created by V1 have none and are left as they are.
+ */
+public class V17__widen_token_and_drop_legacy_unique_keys extends BaseJavaMigration {
+
+    private static final String[][] LEGACY_UNIQUE_COLUMNS = {
+            {"task", "author_id"},
+            {"task", "assignee_id"},
+            {"comment", "user_id"}
+    };
+
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE token MODIFY COLUMN token VARCHAR(768)");
+
+            for (String[] tableColumn : LEGACY_UNIQUE_COLUMNS) {
+                for (String index : findSingleColumnUniqueIndexes(connection, tableColumn[0], tableColumn[1])) {
+                    statement.execute("ALTER TABLE " + tableColumn[0] + " DROP INDEX `" + index + "`");
+                }
+            }
+        }
+    }
+
+
+    /**
+     * @return The names of the unique indexes that cover exactly the given column, other than the primary key.
+     */
+    private List<String> findSingleColumnUniqueIndexes(Connection connection, String table, String column) throws SQLException {
+        Map<String, List<String>> columnsByIndex = new LinkedHashMap<>();
+        try (ResultSet rs = connection.getMetaData().getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+            while (rs.next()) {
+                String index = rs.getString("INDEX_NAME");
+                if (index != null && rs.getString("COLUMN_NAME") != null) {
+                    columnsByIndex.computeIfAbsent(index, name -> new ArrayList<>()).add(rs.getString("COLUMN_NAME"));
+                }
+            }
+        }
+
+        List<String> indexes = new ArrayList<>();
+        columnsByIndex.forEach((index, columns) -> {
+            if (!"PRIMARY".equalsIgnoreCase(index) && columns.size() == 1 && columns.get(0).equalsIgnoreCase(column)) {
+                indexes.add(index);
+            }
+        });
+        return indexes;
+    }
+}
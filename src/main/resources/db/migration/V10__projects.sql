@@ -0,0 +1,100 @@
+-- Projects own tasks and members. project_id leads every task and comment index, so a query
+-- only ever touches the rows of one project. Existing tasks, comments and recurring tasks move
+-- into a personal project of their author; assignees of those tasks become members.
+
+CREATE TABLE project
+(
+    project_id INT          NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(64)  NOT NULL,
+    owner_id   INT          NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (project_id),
+    CONSTRAINT fk_project_owner FOREIGN KEY (owner_id) REFERENCES user (id) ON DELETE CASCADE
+);
+
+CREATE TABLE project_member
+(
+    project_id INT         NOT NULL,
+    user_id    INT         NOT NULL,
+    role       VARCHAR(16) NOT NULL,
+    PRIMARY KEY (project_id, user_id),
+    CONSTRAINT fk_project_member_project FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE CASCADE,
+    CONSTRAINT fk_project_member_user FOREIGN KEY (user_id) REFERENCES user (id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_project_member_user ON project_member (user_id, project_id);
+
+-- Tasks without an author would end up without a project. Those with an assignee are handed to the
+-- assignee, whose author counters take them over; those with neither are deleted with their comments.
+UPDATE task_counter c
+SET task_count = task_count + (SELECT COUNT(*)
+                               FROM task t
+                               WHERE t.author_id IS NULL
+                                 AND t.assignee_id = c.user_id
+                                 AND t.status = c.status
+                                 AND t.priority = c.priority)
+WHERE c.view_type = 'AUTHOR';
+
+INSERT INTO task_counter (user_id, view_type, status, priority, task_count)
+SELECT t.assignee_id, 'AUTHOR', t.status, t.priority, COUNT(*)
+FROM task t
+WHERE t.author_id IS NULL AND t.assignee_id IS NOT NULL AND t.status IS NOT NULL AND t.priority IS NOT NULL
+  AND NOT EXISTS (SELECT 1
+                  FROM task_counter c
+                  WHERE c.user_id = t.assignee_id
+                    AND c.view_type = 'AUTHOR'
+                    AND c.status = t.status
+                    AND c.priority = t.priority)
+GROUP BY t.assignee_id, t.status, t.priority;
+
+UPDATE task SET author_id = assignee_id WHERE author_id IS NULL;
+DELETE FROM comment WHERE task_id IN (SELECT t.task_id FROM task t WHERE t.author_id IS NULL);
+DELETE FROM task WHERE author_id IS NULL;
+
+-- Personal projects for everybody who authored a task or a recurring task.
+INSERT INTO project (name, owner_id, created_at)
+SELECT 'Personal', a.author_id, CURRENT_TIMESTAMP
+FROM (SELECT author_id FROM task
+      UNION
+      SELECT author_id FROM task_recurrence) a;
+
+INSERT INTO project_member (project_id, user_id, role)
+SELECT project_id, owner_id, 'OWNER' FROM project;
+
+ALTER TABLE task ADD COLUMN project_id INT;
+UPDATE task SET project_id = (SELECT p.project_id FROM project p WHERE p.owner_id = task.author_id);
+ALTER TABLE task MODIFY COLUMN project_id INT NOT NULL;
+ALTER TABLE task ADD CONSTRAINT fk_task_project FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE CASCADE;
+
+ALTER TABLE task_recurrence ADD COLUMN project_id INT;
+UPDATE task_recurrence SET project_id = (SELECT p.project_id FROM project p WHERE p.owner_id = task_recurrence.author_id);
+ALTER TABLE task_recurrence MODIFY COLUMN project_id INT NOT NULL;
+ALTER TABLE task_recurrence ADD CONSTRAINT fk_task_recurrence_project FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE CASCADE;
+
+INSERT INTO project_member (project_id, user_id, role)
+SELECT DISTINCT t.project_id, t.assignee_id, 'MEMBER' FROM task t WHERE t.assignee_id <> t.author_id
+UNION
+SELECT r.project_id, r.assignee_id, 'MEMBER' FROM task_recurrence r WHERE r.assignee_id <> r.author_id;
+
+ALTER TABLE comment ADD COLUMN project_id INT;
+UPDATE comment SET project_id = (SELECT t.project_id FROM task t WHERE t.task_id = comment.task_id);
+-- Comments outside any task belong to no project and could never be read.
+DELETE FROM comment WHERE project_id IS NULL;
+ALTER TABLE comment MODIFY COLUMN project_id INT NOT NULL;
+ALTER TABLE comment ADD CONSTRAINT fk_comment_project FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE CASCADE;
+
+-- Tenant-leading replacements for the V2 task indexes.
+CREATE INDEX ix_task_project_author_status_priority ON task (project_id, author_id, status, priority);
+CREATE INDEX ix_task_project_author_priority ON task (project_id, author_id, priority);
+CREATE INDEX ix_task_project_author_assignee_priority_status ON task (project_id, author_id, assignee_id, priority, status);
+CREATE INDEX ix_task_project_assignee_status_priority ON task (project_id, assignee_id, status, priority);
+CREATE INDEX ix_comment_project_task ON comment (project_id, task_id, comment_id);
+
+-- The user foreign keys still need an index of their own once the old ones are gone.
+CREATE INDEX ix_task_author ON task (author_id);
+CREATE INDEX ix_task_assignee ON task (assignee_id);
+
+ALTER TABLE task DROP INDEX ix_task_author_status_priority;
+ALTER TABLE task DROP INDEX ix_task_author_priority;
+ALTER TABLE task DROP INDEX ix_task_author_assignee_priority_status;
+ALTER TABLE task DROP INDEX ix_task_assignee_status_priority;
@@ -0,0 +1,9 @@
+-- Manual order of the cards of a board column (project, status). Keys are base-36 fractions compared as
+-- strings; the digits 0-9a-z sort the same under every collation. Existing tasks keep their creation order.
+
+ALTER TABLE task ADD COLUMN board_rank VARCHAR(64);
+UPDATE task SET board_rank = CONCAT(LPAD(task_id, 10, '0'), 'i');
+ALTER TABLE task MODIFY COLUMN board_rank VARCHAR(64) NOT NULL;
+
+-- Serves a column page in rank order and the neighbour lookups of a move.
+CREATE INDEX ix_task_project_status_rank ON task (project_id, status, board_rank);
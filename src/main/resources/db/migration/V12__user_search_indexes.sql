@@ -0,0 +1,7 @@
+-- Admin user search. Results are paged by id; InnoDB secondary indexes end with the primary key,
+-- so an exact match on the leading columns already yields ids in order and the page cursor
+-- (id > ?) is a range inside the index. Prefix filters scan the matching index range.
+
+CREATE INDEX ix_user_first_name ON user (first_name);
+CREATE INDEX ix_user_last_name_first_name ON user (last_name, first_name);
+CREATE INDEX ix_user_role_status ON user (role, status);
@@ -0,0 +1,16 @@
+-- @email mentions, extracted from comments when they are written. The primary key leads with the
+-- mentioned user, so "mentions of me" pages newest first with a range scan (comment_id < ?) of
+-- the key instead of a LIKE over every comment. Deleting a comment removes its mentions.
+
+CREATE TABLE comment_mention
+(
+    user_id    INT NOT NULL,
+    comment_id INT NOT NULL,
+    project_id INT NOT NULL,
+    PRIMARY KEY (user_id, comment_id),
+    CONSTRAINT fk_comment_mention_user FOREIGN KEY (user_id) REFERENCES user (id) ON DELETE CASCADE,
+    CONSTRAINT fk_comment_mention_comment FOREIGN KEY (comment_id) REFERENCES comment (comment_id) ON DELETE CASCADE,
+    CONSTRAINT fk_comment_mention_project FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_comment_mention_comment ON comment_mention (comment_id);
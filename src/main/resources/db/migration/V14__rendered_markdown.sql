@@ -0,0 +1,12 @@
+-- Descriptions and comments are Markdown; their HTML is rendered once on write and stored next to
+-- the source with the version of the renderer. Existing rows start at version 0 and are rendered by
+-- the background re-renderer, which walks the stale rows of each old version in id order through
+-- the render_version indexes.
+
+ALTER TABLE task ADD COLUMN description_html TEXT;
+ALTER TABLE task ADD COLUMN render_version INT NOT NULL DEFAULT 0;
+CREATE INDEX ix_task_render_version ON task (render_version, task_id);
+
+ALTER TABLE comment ADD COLUMN content_html TEXT;
+ALTER TABLE comment ADD COLUMN render_version INT NOT NULL DEFAULT 0;
+CREATE INDEX ix_comment_render_version ON comment (render_version, comment_id);
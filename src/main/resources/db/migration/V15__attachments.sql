@@ -0,0 +1,25 @@
+-- Files attached to tasks and comments. Only metadata is kept here; the content is in the attachment
+-- storage under storage_key. Listing the attachments of a task or of a comment is an index lookup.
+
+CREATE TABLE attachment
+(
+    attachment_id INT          NOT NULL AUTO_INCREMENT,
+    project_id    INT          NOT NULL,
+    task_id       INT          NOT NULL,
+    comment_id    INT,
+    uploader_id   INT          NOT NULL,
+    file_name     VARCHAR(255) NOT NULL,
+    content_type  VARCHAR(127) NOT NULL,
+    size_bytes    BIGINT       NOT NULL,
+    checksum      CHAR(64)     NOT NULL,
+    storage_key   VARCHAR(128) NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (attachment_id),
+    CONSTRAINT fk_attachment_project FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE CASCADE,
+    CONSTRAINT fk_attachment_task FOREIGN KEY (task_id) REFERENCES task (task_id) ON DELETE CASCADE,
+    CONSTRAINT fk_attachment_comment FOREIGN KEY (comment_id) REFERENCES comment (comment_id) ON DELETE CASCADE,
+    CONSTRAINT fk_attachment_uploader FOREIGN KEY (uploader_id) REFERENCES user (id)
+);
+
+CREATE INDEX ix_attachment_project_task ON attachment (project_id, task_id, comment_id);
+CREATE INDEX ix_attachment_comment ON attachment (comment_id);
@@ -0,0 +1,23 @@
+-- Attachment content is stored once per distinct content, keyed by its SHA-256, and shared by all the
+-- attachments with that content. attachment_blob counts the references to every stored blob; blobs
+-- without references are stamped with unreferenced_since and deleted by the garbage collector.
+
+CREATE TABLE attachment_blob
+(
+    storage_key        VARCHAR(128) NOT NULL,
+    size_bytes         BIGINT       NOT NULL,
+    ref_count          INT          NOT NULL,
+    unreferenced_since DATETIME(6),
+    PRIMARY KEY (storage_key)
+);
+
+CREATE INDEX ix_attachment_blob_unreferenced ON attachment_blob (unreferenced_since);
+
+-- Recounting the references of a blob is an index lookup.
+CREATE INDEX ix_attachment_storage_key ON attachment (storage_key);
+
+-- Content stored so far keeps its random key and gets one blob per key.
+INSERT INTO attachment_blob (storage_key, size_bytes, ref_count)
+SELECT storage_key, MAX(size_bytes), COUNT(*)
+FROM attachment
+GROUP BY storage_key;
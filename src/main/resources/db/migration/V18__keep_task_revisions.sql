@@ -0,0 +1,4 @@
+-- Revision history outlives its task: deleting a task no longer deletes its revisions.
+-- Task ids are never reused, so the orphaned rows cannot be mistaken for another task's history.
+
+ALTER TABLE task_revision DROP FOREIGN KEY fk_task_revision_task;
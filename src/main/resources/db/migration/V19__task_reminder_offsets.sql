@@ -0,0 +1,15 @@
+-- The reminder offsets chosen for a task, in minutes before its due date. The pending task_reminder rows are
+-- derived from them whenever the due date or the status changes, so the offsets survive fired and cancelled
+-- reminders. Existing tasks keep the offsets of their pending reminders.
+
+CREATE TABLE task_reminder_offset
+(
+    task_id        INT NOT NULL,
+    minutes_before INT NOT NULL,
+    PRIMARY KEY (task_id, minutes_before),
+    CONSTRAINT fk_task_reminder_offset_task FOREIGN KEY (task_id) REFERENCES task (task_id) ON DELETE CASCADE
+);
+
+INSERT INTO task_reminder_offset (task_id, minutes_before)
+SELECT DISTINCT task_id, minutes_before
+FROM task_reminder;
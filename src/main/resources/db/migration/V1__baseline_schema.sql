@@ -0,0 +1,54 @@
+-- Baseline schema, equivalent to what Hibernate derived from the entities.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE user
+(
+    id                INT NOT NULL AUTO_INCREMENT,
+    first_name        VARCHAR(255),
+    last_name         VARCHAR(255),
+    year              INT,
+    email             VARCHAR(255),
+    password          VARCHAR(255),
+    role              VARCHAR(255),
+    status            VARCHAR(255),
+    verification_code VARCHAR(255),
+    reset_token       VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE task
+(
+    task_id     INT NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(255),
+    description VARCHAR(255),
+    status      VARCHAR(255),
+    priority    VARCHAR(255),
+    author_id   INT,
+    assignee_id INT,
+    PRIMARY KEY (task_id),
+    CONSTRAINT fk_task_author FOREIGN KEY (author_id) REFERENCES user (id),
+    CONSTRAINT fk_task_assignee FOREIGN KEY (assignee_id) REFERENCES user (id)
+);
+
+CREATE TABLE comment
+(
+    comment_id INT NOT NULL AUTO_INCREMENT,
+    content    VARCHAR(255),
+    user_id    INT,
+    task_id    INT,
+    PRIMARY KEY (comment_id),
+    CONSTRAINT fk_comment_user FOREIGN KEY (user_id) REFERENCES user (id),
+    CONSTRAINT fk_comment_task FOREIGN KEY (task_id) REFERENCES task (task_id)
+);
+
+CREATE TABLE token
+(
+    token_id   INT NOT NULL AUTO_INCREMENT,
+    token      VARCHAR(768),
+    token_type VARCHAR(255),
+    revoked    BOOLEAN NOT NULL,
+    expired    BOOLEAN NOT NULL,
+    user_id    INT,
+    PRIMARY KEY (token_id),
+    CONSTRAINT fk_token_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
@@ -0,0 +1,28 @@
+-- Indexes matched to the repository access patterns.
+-- Every task lookup resolves the user by email first, then probes task by the user id.
+
+-- UserRepository.findByEmail, and the email side of every TaskRepository query.
+CREATE UNIQUE INDEX ux_user_email ON user (email);
+
+-- TaskRepository.findByAuthorEmail, ...AndStatus, ...AndStatusAndPriority.
+CREATE INDEX ix_task_author_status_priority ON task (author_id, status, priority);
+
+-- TaskRepository.findByAuthorEmailAndPriority.
+CREATE INDEX ix_task_author_priority ON task (author_id, priority);
+
+-- TaskRepository.findByAuthorEmailAndAssigneeEmail, ...AndPriority, ...AndStatusAndPriority.
+CREATE INDEX ix_task_author_assignee_priority_status ON task (author_id, assignee_id, priority, status);
+
+-- TaskRepository.findByAssigneeEmail, findByAssigneeEmailAndStatus.
+CREATE INDEX ix_task_assignee_status_priority ON task (assignee_id, status, priority);
+
+-- CommentRepository.findByTaskTaskId.
+CREATE INDEX ix_comment_task ON comment (task_id, comment_id);
+
+CREATE INDEX ix_comment_user ON comment (user_id);
+
+-- TokenRepository.findByToken, used by the JWT filter on every authenticated request.
+CREATE UNIQUE INDEX ux_token_token ON token (token);
+
+-- TokenRepository.findAllValidTokenByUser.
+CREATE INDEX ix_token_user_expired_revoked ON token (user_id, expired, revoked);
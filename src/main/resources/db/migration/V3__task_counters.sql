@@ -0,0 +1,28 @@
+-- Per-user task counts by status and priority, maintained by TaskCounterService
+-- in the same transaction as every task write.
+
+CREATE TABLE task_counter
+(
+    user_id    INT         NOT NULL,
+    view_type  VARCHAR(16) NOT NULL,
+    status     VARCHAR(32) NOT NULL,
+    priority   VARCHAR(32) NOT NULL,
+    task_count BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, view_type, status, priority),
+    CONSTRAINT fk_task_counter_user FOREIGN KEY (user_id) REFERENCES user (id) ON DELETE CASCADE
+);
+
+INSERT INTO task_counter (user_id, view_type, status, priority, task_count)
+SELECT author_id, 'AUTHOR', status, priority, COUNT(*)
+FROM task
+WHERE author_id IS NOT NULL AND status IS NOT NULL AND priority IS NOT NULL
+GROUP BY author_id, status, priority;
+
+INSERT INTO task_counter (user_id, view_type, status, priority, task_count)
+SELECT assignee_id, 'ASSIGNEE', status, priority, COUNT(*)
+FROM task
+WHERE assignee_id IS NOT NULL AND status IS NOT NULL AND priority IS NOT NULL
+GROUP BY assignee_id, status, priority;
+
+-- Optimistic locking, so two concurrent updates of one task cannot both move it between counters.
+ALTER TABLE task ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- Password reset tokens are now stored as a SHA-256 hash with an expiry.
+-- Tokens issued before this migration were stored in plain text and can no longer be matched.
+ALTER TABLE user ADD COLUMN reset_token_expires_at DATETIME(6);
+
+UPDATE user SET reset_token = NULL WHERE reset_token IS NOT NULL;
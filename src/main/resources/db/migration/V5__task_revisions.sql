@@ -0,0 +1,14 @@
+-- Per-task revision history. Most rows hold only the fields that changed; every
+-- app.task-revisions.snapshot-interval revisions a full copy bounds reconstruction cost.
+
+CREATE TABLE task_revision
+(
+    task_id     INT          NOT NULL,
+    revision    INT          NOT NULL,
+    snapshot    BOOLEAN      NOT NULL,
+    changes     TEXT         NOT NULL,
+    actor_email VARCHAR(255),
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (task_id, revision),
+    CONSTRAINT fk_task_revision_task FOREIGN KEY (task_id) REFERENCES task (task_id) ON DELETE CASCADE
+);
@@ -0,0 +1,16 @@
+-- Due dates on tasks and one row per pending reminder. Fired and cancelled reminders are deleted,
+-- so the remind_at index always covers exactly the reminders the scheduler still has to load.
+ALTER TABLE task ADD COLUMN due_date DATETIME(6);
+
+CREATE TABLE task_reminder
+(
+    reminder_id    BIGINT      NOT NULL AUTO_INCREMENT,
+    task_id        INT         NOT NULL,
+    remind_at      DATETIME(6) NOT NULL,
+    minutes_before INT         NOT NULL,
+    PRIMARY KEY (reminder_id),
+    CONSTRAINT fk_task_reminder_task FOREIGN KEY (task_id) REFERENCES task (task_id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_task_reminder_remind_at ON task_reminder (remind_at, reminder_id);
+CREATE INDEX ix_task_reminder_task ON task_reminder (task_id);
@@ -0,0 +1,32 @@
+-- Recurrence rules. Occurrences are inserted as ordinary task rows a rolling window ahead;
+-- materialized_until is the first date not generated yet.
+
+CREATE TABLE task_recurrence
+(
+    recurrence_id      INT          NOT NULL AUTO_INCREMENT,
+    title              VARCHAR(255) NOT NULL,
+    description        VARCHAR(255),
+    priority           VARCHAR(32)  NOT NULL,
+    author_id          INT          NOT NULL,
+    assignee_id        INT          NOT NULL,
+    frequency          VARCHAR(16)  NOT NULL,
+    interval_count     INT          NOT NULL,
+    days_of_week       VARCHAR(64),
+    starts_on          DATE         NOT NULL,
+    ends_on            DATE,
+    due_time           TIME,
+    materialized_until DATE         NOT NULL,
+    active             BOOLEAN      NOT NULL,
+    PRIMARY KEY (recurrence_id),
+    CONSTRAINT fk_task_recurrence_author FOREIGN KEY (author_id) REFERENCES user (id) ON DELETE CASCADE,
+    CONSTRAINT fk_task_recurrence_assignee FOREIGN KEY (assignee_id) REFERENCES user (id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_task_recurrence_active_materialized ON task_recurrence (active, materialized_until);
+
+ALTER TABLE task ADD COLUMN recurrence_id INT;
+ALTER TABLE task ADD COLUMN occurrence_date DATE;
+ALTER TABLE task ADD CONSTRAINT fk_task_recurrence FOREIGN KEY (recurrence_id) REFERENCES task_recurrence (recurrence_id) ON DELETE SET NULL;
+
+-- Makes materialization idempotent: an occurrence can exist only once per rule.
+CREATE UNIQUE INDEX ux_task_recurrence_occurrence ON task (recurrence_id, occurrence_date);
@@ -0,0 +1,24 @@
+-- Subtasks. task_closure holds one row per (ancestor, descendant) pair, including a depth 0 row
+-- for every task, so subtree reads and moves are single set-based statements.
+-- The subtasks_* columns cache status counts over all descendants of a task.
+
+ALTER TABLE task ADD COLUMN parent_id INT;
+ALTER TABLE task ADD COLUMN subtasks_pending INT NOT NULL DEFAULT 0;
+ALTER TABLE task ADD COLUMN subtasks_in_progress INT NOT NULL DEFAULT 0;
+ALTER TABLE task ADD COLUMN subtasks_completed INT NOT NULL DEFAULT 0;
+ALTER TABLE task ADD CONSTRAINT fk_task_parent FOREIGN KEY (parent_id) REFERENCES task (task_id) ON DELETE SET NULL;
+
+CREATE TABLE task_closure
+(
+    ancestor_id   INT NOT NULL,
+    descendant_id INT NOT NULL,
+    depth         INT NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_task_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES task (task_id) ON DELETE CASCADE,
+    CONSTRAINT fk_task_closure_descendant FOREIGN KEY (descendant_id) REFERENCES task (task_id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_task_closure_descendant ON task_closure (descendant_id, depth);
+
+INSERT INTO task_closure (ancestor_id, descendant_id, depth)
+SELECT task_id, task_id, 0 FROM task;
@@ -0,0 +1,10 @@
+-- Free-form task labels. Filtering by label is served by the in-memory bitmap index;
+-- the table is read in full only when that index is rebuilt.
+
+CREATE TABLE task_label
+(
+    task_id INT         NOT NULL,
+    label   VARCHAR(32) NOT NULL,
+    PRIMARY KEY (task_id, label),
+    CONSTRAINT fk_task_label_task FOREIGN KEY (task_id) REFERENCES task (task_id) ON DELETE CASCADE
+);
@@ -0,0 +1,52 @@
+package com.taskmanagement.attachment;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ByteRangeTest {
+
+    @Test
+    void parsesBoundedOpenAndSuffixRanges() {
+        ByteRange bounded = ByteRange.parse("bytes=100-199", 1000);
+        assertEquals(100, bounded.getStart());
+        assertEquals(199, bounded.getEnd());
+        assertEquals(100, bounded.getLength());
+
+        ByteRange open = ByteRange.parse("bytes=900-", 1000);
+        assertEquals(900, open.getStart());
+        assertEquals(999, open.getEnd());
+
+        ByteRange suffix = ByteRange.parse("bytes=-300", 1000);
+        assertEquals(700, suffix.getStart());
+        assertEquals(999, suffix.getEnd());
+    }
+
+
+    @Test
+    void clampsRangesToTheContent() {
+        assertEquals(999, ByteRange.parse("bytes=500-5000", 1000).getEnd());
+        assertEquals(0, ByteRange.parse("bytes=-5000", 1000).getStart());
+    }
+
+
+    @Test
+    void rejectsRangesBeyondTheContent() {
+        assertSame(ByteRange.NOT_SATISFIABLE, ByteRange.parse("bytes=1000-", 1000));
+        assertSame(ByteRange.NOT_SATISFIABLE, ByteRange.parse("bytes=-0", 1000));
+        assertSame(ByteRange.NOT_SATISFIABLE, ByteRange.parse("bytes=0-", 0));
+    }
+
+
+    @Test
+    void ignoresMalformedAndMultipleRanges() {
+        assertNull(ByteRange.parse(null, 1000));
+        assertNull(ByteRange.parse("items=0-1", 1000));
+        assertNull(ByteRange.parse("bytes=0-1,5-6", 1000));
+        assertNull(ByteRange.parse("bytes=5-1", 1000));
+        assertNull(ByteRange.parse("bytes=a-b", 1000));
+        assertNull(ByteRange.parse("bytes=--5", 1000));
+    }
+}
@@ -0,0 +1,134 @@
+package com.taskmanagement.attachment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalAttachmentStorageTest {
+
+    @TempDir
+    Path directory;
+
+
+    @Test
+    void storesContentWithItsChecksum() throws IOException {
+        LocalAttachmentStorage storage = new LocalAttachmentStorage(directory);
+        byte[] bytes = "hello".getBytes(StandardCharsets.UTF_8);
+
+        StoredContent stored = storage.store(new ByteArrayInputStream(bytes), 1024);
+
+        assertEquals(5, stored.getSize());
+        assertEquals("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824", stored.getSha256());
+        ByteBuffer content = ByteBuffer.allocate(16);
+        try (SeekableByteChannel channel = storage.open(stored.getKey())) {
+            channel.position(1);
+            channel.read(content);
+        }
+        assertEquals("ello", new String(content.array(), 0, content.position(), StandardCharsets.UTF_8));
+        assertEquals(0, incomingFiles());
+
+        assertTrue(storage.delete(stored.getKey(), Instant.now().plusSeconds(1)));
+        assertFalse(Files.exists(storage.getLocalPath(stored.getKey())));
+    }
+
+
+    @Test
+    void storesTheSameContentOnce() throws IOException {
+        LocalAttachmentStorage storage = new LocalAttachmentStorage(directory);
+        byte[] bytes = "the same specification".getBytes(StandardCharsets.UTF_8);
+
+        StoredContent first = storage.store(new ByteArrayInputStream(bytes), 1024);
+        StoredContent second = storage.store(new ByteArrayInputStream(bytes), 1024);
+
+        assertFalse(first.isDuplicate());
+        assertTrue(second.isDuplicate());
+        assertEquals(first.getKey(), second.getKey());
+        assertEquals(1, storedKeysBefore(storage, Instant.now().plusSeconds(1)).size());
+        assertEquals(0, incomingFiles());
+    }
+
+
+    @Test
+    void keepsContentStoredAgainSinceTheCutoff() throws IOException {
+        LocalAttachmentStorage storage = new LocalAttachmentStorage(directory);
+        StoredContent stored = storage.store(new ByteArrayInputStream(new byte[]{1, 2, 3}), 1024);
+        Path file = storage.getLocalPath(stored.getKey());
+        Instant cutoff = Instant.now().minusSeconds(60);
+        Files.setLastModifiedTime(file, FileTime.from(cutoff.minusSeconds(60)));
+
+        assertEquals(List.of(stored.getKey()), storedKeysBefore(storage, cutoff));
+
+        // Uploaded again while the collector was deciding.
+        storage.store(new ByteArrayInputStream(new byte[]{1, 2, 3}), 1024);
+
+        assertFalse(storage.delete(stored.getKey(), cutoff));
+        assertTrue(Files.exists(file));
+    }
+
+
+    @Test
+    void discardsUploadsOverTheLimit() throws IOException {
+        LocalAttachmentStorage storage = new LocalAttachmentStorage(directory);
+
+        assertThrows(AttachmentTooLargeException.class, () -> storage.store(new ByteArrayInputStream(new byte[200 * 1024]), 100 * 1024));
+        assertEquals(0, incomingFiles());
+    }
+
+
+    @Test
+    void deletesVariantsWithTheirContent() throws IOException {
+        LocalAttachmentStorage storage = new LocalAttachmentStorage(directory);
+        StoredContent stored = storage.store(new ByteArrayInputStream(new byte[]{1, 2, 3}), 1024);
+
+        storage.storeVariant(stored.getKey(), "thumbnail", new byte[]{4, 5});
+
+        assertTrue(storage.hasVariant(stored.getKey(), "thumbnail"));
+        assertEquals(List.of(stored.getKey()), storedKeysBefore(storage, Instant.now().plusSeconds(1)));
+        assertTrue(storage.delete(stored.getKey(), Instant.now().plusSeconds(1)));
+        assertFalse(storage.hasVariant(stored.getKey(), "thumbnail"));
+
+        // Variants of content that is gone are not stored.
+        storage.storeVariant(stored.getKey(), "thumbnail", new byte[]{4, 5});
+        assertFalse(storage.hasVariant(stored.getKey(), "thumbnail"));
+        assertEquals(0, incomingFiles());
+    }
+
+
+    @Test
+    void rejectsKeysOutsideTheStorage() throws IOException {
+        LocalAttachmentStorage storage = new LocalAttachmentStorage(directory);
+
+        assertThrows(IllegalArgumentException.class, () -> storage.open("../../etc/passwd"));
+    }
+
+
+    private static List<String> storedKeysBefore(LocalAttachmentStorage storage, Instant before) throws IOException {
+        List<String> keys = new ArrayList<>();
+        storage.forEachStoredBefore(before, keys::add);
+        return keys;
+    }
+
+
+    private long incomingFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve("incoming"))) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskmanagement.attachment;
+
+import com.taskmanagement.enums.PreviewSize;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PreviewRendererTest {
+
+    private static final long MAX_PIXELS = 50_000_000;
+
+
+    @Test
+    void fitsLargeImagesIntoEveryPreviewSize() throws IOException {
+        Map<PreviewSize, byte[]> previews = render(png(4000, 2000), MAX_PIXELS);
+
+        assertDimensions(800, 400, previews.get(PreviewSize.PREVIEW));
+        assertDimensions(128, 64, previews.get(PreviewSize.THUMBNAIL));
+    }
+
+
+    @Test
+    void doesNotScaleSmallImagesUp() throws IOException {
+        Map<PreviewSize, byte[]> previews = render(png(300, 100), MAX_PIXELS);
+
+        assertDimensions(300, 100, previews.get(PreviewSize.PREVIEW));
+        assertDimensions(128, 43, previews.get(PreviewSize.THUMBNAIL));
+    }
+
+
+    @Test
+    void skipsContentThatIsNoImageOrTooLarge() throws IOException {
+        assertNull(render("not an image".getBytes(), MAX_PIXELS));
+        assertNull(render(png(1000, 1000), 999_999));
+    }
+
+
+    private static Map<PreviewSize, byte[]> render(byte[] content, long maxPixels) throws IOException {
+        try (MemoryCacheImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(content))) {
+            return PreviewRenderer.render(input, maxPixels);
+        }
+    }
+
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x += 7) {
+            image.setRGB(x, x % height, 0xff336699);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+
+
+    private static void assertDimensions(int width, int height, byte[] jpeg) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+}
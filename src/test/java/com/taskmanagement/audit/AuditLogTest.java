@@ -0,0 +1,105 @@
+package com.taskmanagement.audit;
+
+import com.taskmanagement.enums.AuditEntityType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditLogTest {
+
+    @TempDir
+    Path directory;
+
+
+    @Test
+    void findsRecordsOfOneEntityNewestFirst() throws IOException {
+        try (AuditLog auditLog = new AuditLog(directory, 64 * 1024, Duration.ofMillis(5), 4)) {
+            auditLog.append(record(AuditEntityType.TASK, 1, "CREATED", "status", null, "PENDING"));
+            auditLog.append(record(AuditEntityType.TASK, 2, "CREATED", "status", null, "PENDING"));
+            auditLog.append(record(AuditEntityType.COMMENT, 1, "CREATED", "content", null, "hi"));
+            auditLog.append(record(AuditEntityType.TASK, 1, "UPDATED", "status", "PENDING", "COMPLETED"));
+
+            List<AuditRecord> records = auditLog.findByEntity(AuditEntityType.TASK, 1, 10);
+
+            assertEquals(2, records.size());
+            assertEquals("UPDATED", records.get(0).getAction());
+            assertEquals("PENDING", records.get(0).getChanges().get(0).getBefore());
+            assertEquals("COMPLETED", records.get(0).getChanges().get(0).getAfter());
+            assertNull(records.get(1).getChanges().get(0).getBefore());
+            assertEquals("author@mail.com", records.get(1).getActorEmail());
+        }
+    }
+
+
+    @Test
+    void rotatesSegmentsAndDropsTheOldestBeyondRetention() throws IOException {
+        try (AuditLog auditLog = new AuditLog(directory, 512, Duration.ofMillis(5), 3)) {
+            for (int i = 0; i < 100; i++) {
+                auditLog.append(record(AuditEntityType.TASK, 7, "UPDATED", "title", "title " + i, "title " + (i + 1)));
+            }
+
+            assertEquals(3, segmentFiles());
+            List<AuditRecord> records = auditLog.findByEntity(AuditEntityType.TASK, 7, 1000);
+            assertTrue(records.size() < 100);
+            assertEquals("title 100", records.get(0).getChanges().get(0).getAfter());
+        }
+    }
+
+
+    @Test
+    void recoversAfterRestartAndDiscardsATornWrite() throws IOException {
+        try (AuditLog auditLog = new AuditLog(directory, 4096, Duration.ofMillis(5), 4)) {
+            auditLog.append(record(AuditEntityType.USER, 3, "CREATED", "email", null, "a@mail.com"));
+            auditLog.append(record(AuditEntityType.USER, 3, "UPDATED", "email", "a@mail.com", "b@mail.com"));
+        }
+
+        // Corrupt the payload of the second record as if the process died mid-write
+        Path segment = directory.resolve(String.format("audit-%020d.log", 1));
+        int firstFrame = AuditRecordCodec.encode(record(AuditEntityType.USER, 3, "CREATED", "email", null, "a@mail.com")).length;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), firstFrame + 20);
+        }
+
+        try (AuditLog auditLog = new AuditLog(directory, 4096, Duration.ofMillis(5), 4)) {
+            assertEquals(1, auditLog.findByEntity(AuditEntityType.USER, 3, 10).size());
+
+            auditLog.append(record(AuditEntityType.USER, 3, "DELETED", "email", "a@mail.com", null));
+            List<AuditRecord> records = auditLog.findByEntity(AuditEntityType.USER, 3, 10);
+            assertEquals(2, records.size());
+            assertEquals("DELETED", records.get(0).getAction());
+        }
+    }
+
+
+    private AuditRecord record(AuditEntityType type, int id, String action, String field, String before, String after) {
+        return AuditRecord.builder()
+                .entityType(type)
+                .entityId(id)
+                .action(action)
+                .actorEmail("author@mail.com")
+                .occurredAt(Instant.now())
+                .changes(List.of(new AuditFieldChange(field, before, after)))
+                .build();
+    }
+
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.taskmanagement.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LexoRankTest {
+
+
+    @Test
+    void randomInsertsKeepTheOrder() {
+        Random random = new Random(42);
+        List<String> column = new ArrayList<>(List.of(LexoRank.between(null, null)));
+
+        for (int i = 0; i < 5000; i++) {
+            int position = random.nextInt(column.size() + 1);
+            String lower = position == 0 ? null : column.get(position - 1);
+            String upper = position == column.size() ? null : column.get(position);
+
+            String rank = LexoRank.between(lower, upper);
+
+            assertTrue(lower == null || lower.compareTo(rank) < 0, lower + " < " + rank);
+            assertTrue(upper == null || rank.compareTo(upper) < 0, rank + " < " + upper);
+            assertFalse(rank.endsWith("0"), rank);
+            column.add(position, rank);
+        }
+    }
+
+
+    @Test
+    void appendingAndPrependingDoNotGrowKeys() {
+        String last = LexoRank.between(null, null);
+        String first = last;
+        for (int i = 0; i < 10_000; i++) {
+            last = LexoRank.between(last, null);
+            first = LexoRank.between(null, first);
+        }
+
+        assertEquals(LexoRank.WIDTH, last.length());
+        assertEquals(LexoRank.WIDTH, first.length());
+    }
+
+
+    @Test
+    void spreadKeysAreShortAndAscending() {
+        List<String> keys = LexoRank.spread(1000);
+
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+        }
+        assertEquals(LexoRank.WIDTH, keys.get(0).length());
+        // Room is left at both ends.
+        assertTrue(LexoRank.between(null, keys.get(0)).length() <= LexoRank.WIDTH);
+        assertTrue(LexoRank.between(keys.get(keys.size() - 1), null).length() <= LexoRank.WIDTH);
+    }
+
+
+    @Test
+    void rejectsKeysWithNothingInBetween() {
+        assertThrows(IllegalArgumentException.class, () -> LexoRank.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> LexoRank.between("a", "a0"));
+    }
+}
@@ -0,0 +1,179 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.enums.BackpressurePolicy;
+import com.taskmanagement.enums.SubscriberMode;
+import com.taskmanagement.enums.TaskEventType;
+import com.taskmanagement.model.TaskSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class EventBusTest {
+
+    private EventBus eventBus;
+
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (eventBus != null) {
+            eventBus.destroy();
+        }
+    }
+
+
+    @Test
+    void asyncSubscriberReceivesEventsOfATaskInOrder() throws InterruptedException {
+        int tasks = 20;
+        int eventsPerTask = 50;
+        CountDownLatch done = new CountDownLatch(tasks * eventsPerTask);
+        Map<Integer, List<Long>> received = new ConcurrentHashMap<>();
+
+        RecordingSubscriber subscriber = new RecordingSubscriber(SubscriberMode.ASYNC, event -> {
+            received.computeIfAbsent(event.getTaskId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.getOccurredAt().toEpochMilli());
+            done.countDown();
+        });
+        eventBus = start(BackpressurePolicy.BLOCK, 8, subscriber);
+
+        for (long sequence = 0; sequence < eventsPerTask; sequence++) {
+            for (int taskId = 0; taskId < tasks; taskId++) {
+                eventBus.dispatch(event(taskId, sequence));
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (List<Long> sequences : received.values()) {
+            for (int i = 0; i < sequences.size(); i++) {
+                assertEquals(i, sequences.get(i));
+            }
+        }
+        awaitNoLag();
+        assertEquals(tasks * eventsPerTask, eventBus.getMetrics().getSubscribers().get(0).getProcessed());
+    }
+
+
+    @Test
+    void syncSubscriberRunsOnPublishingThread() {
+        List<String> threads = new ArrayList<>();
+        eventBus = start(BackpressurePolicy.BLOCK, 8, new RecordingSubscriber(SubscriberMode.SYNC,
+                event -> threads.add(Thread.currentThread().getName())));
+
+        eventBus.dispatch(event(1, 0));
+
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+    }
+
+
+    @Test
+    void dropPolicyDiscardsEventsWhenSubscriberFallsBehind() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        eventBus = start(BackpressurePolicy.DROP, 4, new RecordingSubscriber(SubscriberMode.ASYNC, event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        for (int i = 0; i < 10; i++) {
+            eventBus.dispatch(event(1, i));
+        }
+
+        // The four events in the ring stay unconsumed while the subscriber blocks on the first one.
+        assertEquals(6, eventBus.getMetrics().getDropped());
+        assertEquals(4, eventBus.getMetrics().getSubscribers().get(0).getLag());
+        release.countDown();
+    }
+
+
+    @Test
+    void blockPolicyDropsEventsOnceTheBlockTimeoutPasses() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        eventBus = start(BackpressurePolicy.BLOCK, 4, new RecordingSubscriber(SubscriberMode.ASYNC, event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        for (int i = 0; i < 6; i++) {
+            eventBus.dispatch(event(1, i));
+        }
+
+        // The publisher waits out the timeout for each of the two events that do not fit, then drops them.
+        assertEquals(2, eventBus.getMetrics().getDropped());
+        assertEquals(2, eventBus.getMetrics().getBlockTimeouts());
+        release.countDown();
+    }
+
+
+    private void awaitNoLag() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (eventBus.getMetrics().getSubscribers().get(0).getLag() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, eventBus.getMetrics().getSubscribers().get(0).getLag());
+    }
+
+
+    private EventBus start(BackpressurePolicy policy, int ringBufferSize, DomainEventSubscriber<?> subscriber) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<DomainEventSubscriber<?>> provider = mock(ObjectProvider.class);
+        given(provider.orderedStream()).willReturn(Stream.of(subscriber));
+
+        EventBus bus = new EventBus(provider, 1, ringBufferSize, policy, Duration.ofMillis(200));
+        bus.afterSingletonsInstantiated();
+        return bus;
+    }
+
+
+    private TaskEvent event(int taskId, long sequence) {
+        TaskSnapshot snapshot = TaskSnapshot.builder().taskId(taskId).build();
+        return new TaskEvent(TaskEventType.UPDATED, "author@gmail.com", snapshot, snapshot, Instant.ofEpochMilli(sequence));
+    }
+
+
+    private static class RecordingSubscriber implements DomainEventSubscriber<TaskEvent> {
+
+        private final SubscriberMode mode;
+        private final Consumer<TaskEvent> handler;
+
+        RecordingSubscriber(SubscriberMode mode, Consumer<TaskEvent> handler) {
+            this.mode = mode;
+            this.handler = handler;
+        }
+
+        @Override
+        public Class<TaskEvent> getEventType() {
+            return TaskEvent.class;
+        }
+
+        @Override
+        public void onEvent(TaskEvent event) {
+            handler.accept(event);
+        }
+
+        @Override
+        public SubscriberMode getMode() {
+            return mode;
+        }
+    }
+}
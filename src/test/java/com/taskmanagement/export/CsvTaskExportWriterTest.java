@@ -0,0 +1,63 @@
+package com.taskmanagement.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvTaskExportWriterTest {
+
+
+    @Test
+    void quotesFieldsThatNeedIt() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvTaskExportWriter writer = new CsvTaskExportWriter(out, false);
+
+        writer.write(task(1).title("Fix, \"quickly\"").description("line one\nline two").build());
+        writer.finish();
+
+        assertEquals("""
+                task_id,project_id,title,description,status,priority,due_date,labels,parent_id,author,assignee\r
+                1,7,"Fix, ""quickly""\","line one
+                line two",PENDING,HIGH,2026-01-02T09:30,backend;urgent,,author@test.com,assignee@test.com\r
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+
+    @Test
+    void writesOneLinePerComment() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvTaskExportWriter writer = new CsvTaskExportWriter(out, true);
+
+        ExportedTask commented = task(1).build();
+        commented.getComments().add(new ExportedComment(10, "a@test.com", "first"));
+        commented.getComments().add(new ExportedComment(11, "b@test.com", "second"));
+        writer.write(commented);
+        writer.write(task(2).parentId(1).build());
+        writer.finish();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(4, lines.length);
+        assertEquals("1,7,Task,,PENDING,HIGH,2026-01-02T09:30,backend;urgent,,author@test.com,assignee@test.com,10,a@test.com,first", lines[1]);
+        assertEquals("1,7,Task,,PENDING,HIGH,2026-01-02T09:30,backend;urgent,,author@test.com,assignee@test.com,11,b@test.com,second", lines[2]);
+        assertEquals("2,7,Task,,PENDING,HIGH,2026-01-02T09:30,backend;urgent,1,author@test.com,assignee@test.com,,,", lines[3]);
+    }
+
+
+    private static ExportedTask.ExportedTaskBuilder task(int taskId) {
+        return ExportedTask.builder()
+                .taskId(taskId)
+                .projectId(7)
+                .title("Task")
+                .status("PENDING")
+                .priority("HIGH")
+                .dueDate(LocalDateTime.of(2026, 1, 2, 9, 30))
+                .labels("backend;urgent")
+                .authorEmail("author@test.com")
+                .assigneeEmail("assignee@test.com");
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskmanagement.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+
+    @Test
+    void readsQuotedFieldsAcrossLines() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("""
+                title,description\r
+                Plain,"Fix, ""quickly""\"\r
+                \r
+                Multi,"line one
+                line two"
+                Last,"""), 1000);
+
+        assertEquals(List.of("title", "description"), reader.readRecord());
+        assertEquals(List.of("Plain", "Fix, \"quickly\""), reader.readRecord());
+        assertEquals(2, reader.getRecordLine());
+        assertEquals(List.of("Multi", "line one\nline two"), reader.readRecord());
+        assertEquals(4, reader.getRecordLine());
+        assertEquals(List.of("Last", ""), reader.readRecord());
+        assertEquals(6, reader.getRecordLine());
+        assertNull(reader.readRecord());
+    }
+
+
+    @Test
+    void rejectsUnterminatedQuote() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("title\n\"Open\nNext\n"), 1000);
+
+        assertEquals(List.of("title"), reader.readRecord());
+        CsvFormatException e = assertThrows(CsvFormatException.class, reader::readRecord);
+        assertEquals(2, e.getLine());
+    }
+
+
+    @Test
+    void rejectsOversizedRecords() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a".repeat(50) + "\n"), 10);
+
+        assertThrows(CsvFormatException.class, reader::readRecord);
+    }
+}
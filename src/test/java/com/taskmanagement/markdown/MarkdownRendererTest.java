@@ -0,0 +1,30 @@
+package com.taskmanagement.markdown;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkdownRendererTest {
+
+
+    @Test
+    void rendersMarkdown() {
+        assertEquals("<p><strong>Ship</strong> it</p>\n", MarkdownRenderer.render("**Ship** it"));
+        assertEquals("<ul>\n<li>one</li>\n<li>two</li>\n</ul>\n", MarkdownRenderer.render("- one\n- two"));
+        assertEquals("<p><a href=\"https://example.com\" rel=\"nofollow noopener noreferrer\">spec</a></p>\n",
+                MarkdownRenderer.render("[spec](https://example.com)"));
+        assertNull(MarkdownRenderer.render(null));
+    }
+
+
+    @Test
+    void escapesHtmlAndDropsUnsafeUrls() {
+        String html = MarkdownRenderer.render("<script>alert(1)</script>\n\n<img src=x onerror=alert(1)>");
+        assertFalse(html.contains("<script"));
+        assertFalse(html.contains("<img"));
+        assertTrue(html.contains("&lt;script&gt;"));
+
+        String link = MarkdownRenderer.render("[click](javascript:alert(1))");
+        assertFalse(link.contains("javascript:"));
+    }
+}
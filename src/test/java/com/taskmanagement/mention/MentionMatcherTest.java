@@ -0,0 +1,82 @@
+package com.taskmanagement.mention;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MentionMatcherTest {
+
+    private final MentionMatcher matcher = MentionMatcher.of(Map.of(
+            "ann@mail.com", 1,
+            "joann@mail.com", 2,
+            "ann@mail.co", 3,
+            "Bob.Smith@Mail.com", 4));
+
+
+    @Test
+    void matchesWholeHandlesOnly() {
+        assertEquals(List.of(1), matches("hi @ann@mail.com, see above"));
+        assertEquals(List.of(2), matches("@joann@mail.com"));
+        assertEquals(List.of(3), matches("cc @ann@mail.co"));
+        assertEquals(List.of(1), matches("thanks @ann@mail.com."));
+        assertEquals(List.of(4, 1), matches("@BOB.SMITH@mail.com and (@ann@mail.com)"));
+
+        assertTrue(matches("mail ann@mail.com directly").isEmpty());
+        assertTrue(matches("x@ann@mail.com").isEmpty());
+        assertTrue(matches("@ann@mail.com.au").isEmpty());
+        assertTrue(matches("@ann@mail.community").isEmpty());
+    }
+
+
+    @Test
+    void agreesWithNaiveSearch() {
+        Random random = new Random(7);
+        Map<String, Integer> handles = new HashMap<>();
+        for (int id = 1; id <= 300; id++) {
+            handles.put(randomWord(random, 1 + random.nextInt(4)) + "@" + randomWord(random, 1 + random.nextInt(3)), id);
+        }
+        MentionMatcher randomMatcher = MentionMatcher.of(handles);
+
+        for (int run = 0; run < 2000; run++) {
+            StringBuilder text = new StringBuilder();
+            for (int word = 0; word < 6; word++) {
+                text.append(random.nextInt(3) == 0 ? " " : "").append(random.nextBoolean() ? "@" : "").append(randomWord(random, 1 + random.nextInt(4)));
+                if (random.nextBoolean()) {
+                    text.append('@').append(randomWord(random, 1 + random.nextInt(3)));
+                }
+            }
+
+            Set<Integer> expected = new TreeSet<>();
+            handles.forEach((email, id) -> {
+                String handle = "@" + email;
+                for (int begin = text.indexOf(handle); begin >= 0; begin = text.indexOf(handle, begin + 1)) {
+                    if (MentionMatcher.isMentionAt(text, begin, begin + handle.length())) {
+                        expected.add(id);
+                    }
+                }
+            });
+            Set<Integer> actual = new TreeSet<>();
+            randomMatcher.match(text, (id, begin, end) -> actual.add(id));
+            assertEquals(expected, actual, text.toString());
+        }
+    }
+
+
+    private List<Integer> matches(String text) {
+        List<Integer> ids = new ArrayList<>();
+        matcher.match(text, (id, begin, end) -> ids.add(id));
+        return ids;
+    }
+
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+}
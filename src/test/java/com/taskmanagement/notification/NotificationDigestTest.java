@@ -0,0 +1,75 @@
+package com.taskmanagement.notification;
+
+import com.taskmanagement.util.email.TaskEmailSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDigestTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    private TaskEmailSender emailSender;
+
+    @Mock
+    private Clock clock;
+
+    private NotificationDigest notificationDigest;
+
+
+    @BeforeEach
+    void setUp() {
+        notificationDigest = new NotificationDigest(emailSender, clock, Duration.ofMinutes(5), 50);
+    }
+
+
+    @Test
+    void bulkReassignmentIsCoalescedIntoOneMail() {
+        given(clock.instant()).willReturn(START);
+        for (int i = 0; i < 500; i++) {
+            notificationDigest.enqueue("assignee@mail.com", "You were assigned to task #" + i);
+        }
+        notificationDigest.enqueue("author@mail.com", "task #1 moved from TODO to DONE");
+
+        notificationDigest.flushDue();
+        verifyNoInteractions(emailSender);
+
+        given(clock.instant()).willReturn(START.plus(Duration.ofMinutes(5)));
+        notificationDigest.flushDue();
+
+        ArgumentCaptor<String> text = ArgumentCaptor.forClass(String.class);
+        verify(emailSender, times(1)).sendEmail(eq("assignee@mail.com"), anyString(), text.capture());
+        verify(emailSender, times(1)).sendEmail(eq("author@mail.com"), anyString(), anyString());
+        assertTrue(text.getValue().contains("and 450 more updates"));
+
+        notificationDigest.flushDue();
+        verifyNoMoreInteractions(emailSender);
+    }
+
+
+    @Test
+    void flushAllSendsPendingDigestsBeforeTheirWindow() {
+        given(clock.instant()).willReturn(START);
+        notificationDigest.enqueue("assignee@mail.com", "You were assigned to task #1");
+
+        notificationDigest.flushAll();
+
+        verify(emailSender).sendEmail(eq("assignee@mail.com"), anyString(), anyString());
+    }
+}
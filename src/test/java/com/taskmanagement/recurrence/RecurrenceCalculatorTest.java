@@ -0,0 +1,94 @@
+package com.taskmanagement.recurrence;
+
+import com.taskmanagement.enums.RecurrenceFrequency;
+import com.taskmanagement.model.TaskRecurrenceEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecurrenceCalculatorTest {
+
+
+    @Test
+    void dailyRuleKeepsItsStrideAcrossWindows() {
+        TaskRecurrenceEntity rule = rule(RecurrenceFrequency.DAILY, 3, null, LocalDate.of(2024, 1, 1), null);
+
+        // Window starts two days after an occurrence: the next one is on Jan 7.
+        assertEquals(List.of(LocalDate.of(2024, 1, 7), LocalDate.of(2024, 1, 10)),
+                RecurrenceCalculator.occurrences(rule, LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 13)));
+    }
+
+
+    @Test
+    void weeklyRuleOccursOnSelectedDaysOfEveryOtherWeek() {
+        // Wednesday Jan 3rd 2024, every second week on Monday and Thursday.
+        TaskRecurrenceEntity rule = rule(RecurrenceFrequency.WEEKLY, 2, "MONDAY,THURSDAY", LocalDate.of(2024, 1, 3), null);
+
+        assertEquals(List.of(
+                        LocalDate.of(2024, 1, 4),
+                        LocalDate.of(2024, 1, 15),
+                        LocalDate.of(2024, 1, 18)),
+                RecurrenceCalculator.occurrences(rule, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 22)));
+    }
+
+
+    @Test
+    void weeklyRuleDefaultsToTheDayOfItsStart() {
+        TaskRecurrenceEntity rule = rule(RecurrenceFrequency.WEEKLY, 1, null, LocalDate.of(2024, 1, 1), null);
+
+        assertEquals(List.of(LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 15)),
+                RecurrenceCalculator.occurrences(rule, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 16)));
+    }
+
+
+    @Test
+    void monthlyRuleClampsToTheEndOfShortMonths() {
+        TaskRecurrenceEntity rule = rule(RecurrenceFrequency.MONTHLY, 1, null, LocalDate.of(2024, 1, 31), null);
+
+        assertEquals(List.of(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31), LocalDate.of(2024, 4, 30)),
+                RecurrenceCalculator.occurrences(rule, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 5, 1)));
+    }
+
+
+    @Test
+    void adjacentWindowsNeitherDuplicateNorSkipOccurrences() {
+        TaskRecurrenceEntity rule = rule(RecurrenceFrequency.WEEKLY, 3, "TUESDAY,SATURDAY", LocalDate.of(2024, 2, 14), null);
+        LocalDate start = LocalDate.of(2024, 2, 1);
+        LocalDate end = LocalDate.of(2025, 2, 1);
+
+        List<LocalDate> whole = RecurrenceCalculator.occurrences(rule, start, end);
+        List<LocalDate> windowed = new ArrayList<>();
+        for (LocalDate from = start; from.isBefore(end); from = from.plusDays(14)) {
+            LocalDate to = from.plusDays(14).isAfter(end) ? end : from.plusDays(14);
+            windowed.addAll(RecurrenceCalculator.occurrences(rule, from, to));
+        }
+
+        assertEquals(whole, windowed);
+        assertTrue(whole.size() > 30);
+    }
+
+
+    @Test
+    void ruleStopsAfterItsEndDate() {
+        TaskRecurrenceEntity rule = rule(RecurrenceFrequency.DAILY, 1, null, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3));
+
+        assertEquals(List.of(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3)),
+                RecurrenceCalculator.occurrences(rule, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 31)));
+    }
+
+
+    private TaskRecurrenceEntity rule(RecurrenceFrequency frequency, int interval, String daysOfWeek, LocalDate startsOn, LocalDate endsOn) {
+        return TaskRecurrenceEntity.builder()
+                .frequency(frequency)
+                .interval(interval)
+                .daysOfWeek(daysOfWeek)
+                .startsOn(startsOn)
+                .endsOn(endsOn)
+                .build();
+    }
+}
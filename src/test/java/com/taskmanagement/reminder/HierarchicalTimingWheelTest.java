@@ -0,0 +1,60 @@
+package com.taskmanagement.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1000;
+
+
+    @Test
+    void firesEveryItemInTheTickOfItsDeadline() {
+        long start = 1_000_000;
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 8, start);
+        Random random = new Random(42);
+
+        int count = 5000;
+        for (int i = 0; i < count; i++) {
+            // Deadlines spread over several levels of an 8-slot wheel.
+            long deadline = start + TICK + (long) random.nextInt(8 * 8 * 8 * 8) * TICK + random.nextInt((int) TICK);
+            assertTrue(wheel.schedule(deadline, deadline));
+        }
+        assertEquals(count, wheel.size());
+
+        int fired = 0;
+        for (long now = start + TICK; fired < count; now += TICK) {
+            List<Long> due = new ArrayList<>();
+            wheel.advanceTo(now, due);
+            for (long deadline : due) {
+                assertEquals(now / TICK, deadline / TICK, "fired in the wrong tick");
+            }
+            fired += due.size();
+        }
+        assertEquals(0, wheel.size());
+    }
+
+
+    @Test
+    void itemsScheduledWhileRunningAndLateAdvancesAreHandled() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 4, 0);
+        List<String> due = new ArrayList<>();
+
+        assertFalse(wheel.schedule(500, "already due"));
+
+        wheel.advanceTo(3 * TICK, due);
+        wheel.schedule(3 * TICK + 100 * TICK, "far");
+        wheel.schedule(3 * TICK + 2 * TICK, "near");
+
+        // A stalled clock catches up tick by tick and fires both in order.
+        wheel.advanceTo(200 * TICK, due);
+        assertEquals(List.of("near", "far"), due);
+    }
+}
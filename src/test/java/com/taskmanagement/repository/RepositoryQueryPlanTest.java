@@ -0,0 +1,205 @@
+package com.taskmanagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Runs the migrations on an embedded database and checks the plan of every hot repository query.
+ * The SQL mirrors what Hibernate generates for each repository method; a query that stops using
+ * its index (because a migration or a mapping changed) falls back to a table scan and fails here.
+ */
+public class RepositoryQueryPlanTest {
+
+    private static final String URL = "jdbc:h2:mem:query_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,YEAR,VALUE,KEY";
+
+    private static SingleConnectionDataSource dataSource;
+
+    private static JdbcTemplate jdbcTemplate;
+
+
+    @BeforeAll
+    static void migrate() {
+        dataSource = new SingleConnectionDataSource(URL, "sa", "", true);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seed();
+    }
+
+
+    @AfterAll
+    static void shutdown() {
+        dataSource.destroy();
+    }
+
+
+    static Stream<Arguments> hotQueries() {
+        String taskByAuthor = "select t.task_id from task t inner join user a on t.author_id = a.id ";
+        String taskByAssignee = "select t.task_id from task t inner join user s on t.assignee_id = s.id ";
+        String taskByAuthorAndAssignee = "select t.task_id from task t inner join user a on t.author_id = a.id inner join user s on t.assignee_id = s.id ";
+
+        return Stream.of(
+                arguments("UserRepository.findByEmail",
+                        "select u.id from user u where u.email = 'user1@gmail.com'",
+                        "ux_user_email"),
+                arguments("TaskRepository.findByProjectIdAndAuthorEmail",
+                        taskByAuthor + "where t.project_id = 1 and a.email = 'user1@gmail.com'",
+                        null),
+                arguments("TaskRepository.findByProjectIdAndAuthorEmailAndStatus",
+                        taskByAuthor + "where t.project_id = 1 and a.email = 'user1@gmail.com' and t.status = 'PENDING'",
+                        "ix_task_project_author_status_priority"),
+                arguments("TaskRepository.findByProjectIdAndAuthorEmailAndPriority",
+                        taskByAuthor + "where t.project_id = 1 and a.email = 'user1@gmail.com' and t.priority = 'HIGH'",
+                        "ix_task_project_author_priority"),
+                arguments("TaskRepository.findByProjectIdAndAuthorEmailAndStatusAndPriority",
+                        taskByAuthor + "where t.project_id = 1 and a.email = 'user1@gmail.com' and t.status = 'PENDING' and t.priority = 'HIGH'",
+                        "ix_task_project_author_status_priority"),
+                arguments("TaskRepository.findByProjectIdAndAssigneeEmail",
+                        taskByAssignee + "where t.project_id = 1 and s.email = 'user2@gmail.com'",
+                        null),
+                arguments("TaskRepository.findByProjectIdAndAssigneeEmailAndStatus",
+                        taskByAssignee + "where t.project_id = 1 and s.email = 'user2@gmail.com' and t.status = 'IN_PROGRESS'",
+                        "ix_task_project_assignee_status_priority"),
+                arguments("TaskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmail",
+                        taskByAuthorAndAssignee + "where t.project_id = 1 and a.email = 'user1@gmail.com' and s.email = 'user2@gmail.com'",
+                        "ix_task_project_author_assignee_priority_status"),
+                arguments("TaskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmailAndStatus",
+                        taskByAuthorAndAssignee + "where t.project_id = 1 and a.email = 'user1@gmail.com' and s.email = 'user2@gmail.com' and t.status = 'PENDING'",
+                        "ix_task_project_author_assignee_priority_status"),
+                arguments("TaskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmailAndPriority",
+                        taskByAuthorAndAssignee + "where t.project_id = 1 and a.email = 'user1@gmail.com' and s.email = 'user2@gmail.com' and t.priority = 'LOW'",
+                        "ix_task_project_author_assignee_priority_status"),
+                arguments("TaskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmailAndStatusAndPriority",
+                        taskByAuthorAndAssignee + "where t.project_id = 1 and a.email = 'user1@gmail.com' and s.email = 'user2@gmail.com' and t.status = 'COMPLETED' and t.priority = 'LOW'",
+                        "ix_task_project_author_assignee_priority_status"),
+                arguments("TaskRepository.findBoardColumnAfter",
+                        "select t.task_id from task t where t.project_id = 1 and t.status = 'PENDING'"
+                                + " and (t.board_rank > 'i00001' or (t.board_rank = 'i00001' and t.task_id > 1)) order by t.board_rank, t.task_id limit 21",
+                        "ix_task_project_status_rank"),
+                arguments("TaskRepository.findNextBoardRank",
+                        "select min(t.board_rank) from task t where t.project_id = 1 and t.status = 'PENDING' and t.board_rank > 'i00001'",
+                        "ix_task_project_status_rank"),
+                arguments("TaskClosureRepository.findDescendants",
+                        "select t.task_id from task_closure c inner join task t on t.task_id = c.descendant_id where c.ancestor_id = 1 and c.depth > 0",
+                        null),
+                arguments("TaskClosureRepository.addToAncestorRollups (ancestors)",
+                        "select c.ancestor_id from task_closure c where c.descendant_id = 7 and c.depth > 0",
+                        "ix_task_closure_descendant"),
+                arguments("CommentRepository.findByProjectIdAndTaskTaskId",
+                        "select c.comment_id from comment c where c.project_id = 1 and c.task_id = 1",
+                        "ix_comment_project_task"),
+                arguments("CommentMentionRepository.findMentionedCommentIds",
+                        "select m.comment_id from comment_mention m where m.user_id = 5 and m.comment_id < 150 order by m.comment_id desc limit 21",
+                        null),
+                arguments("CommentRepository.findWithTaskByCommentIdIn",
+                        "select c.comment_id from comment c where c.comment_id in (5, 25, 45)",
+                        null),
+                arguments("MarkdownRenderRepository.findTasksRenderedAt",
+                        "select t.task_id, t.description from task t where t.render_version = 0 and t.task_id > 10 order by t.task_id limit 500",
+                        null),
+                arguments("MarkdownRenderRepository.findCommentsRenderedAt",
+                        "select c.comment_id, c.content from comment c where c.render_version = 0 and c.comment_id > 10 order by c.comment_id limit 500",
+                        null),
+                arguments("AttachmentRepository.findByProjectIdAndTaskIdAndCommentIdIsNullOrderByAttachmentId",
+                        "select a.attachment_id from attachment a where a.project_id = 1 and a.task_id = 1 and a.comment_id is null order by a.attachment_id",
+                        "ix_attachment_project_task"),
+                arguments("AttachmentRepository.findByCommentIdOrderByAttachmentId",
+                        "select a.attachment_id from attachment a where a.comment_id = 1 order by a.attachment_id",
+                        null),
+                arguments("AttachmentBlobRepository.recount (references)",
+                        "select count(*) from attachment a where a.storage_key = '00000000000000000000000000000007'",
+                        "ix_attachment_storage_key"),
+                arguments("AttachmentBlobRepository.findUnreferencedBefore",
+                        "select b.storage_key from attachment_blob b where b.unreferenced_since < current_timestamp order by b.unreferenced_since limit 500",
+                        "ix_attachment_blob_unreferenced"),
+                arguments("ProjectMemberRepository.existsById",
+                        "select m.project_id from project_member m where m.project_id = 1 and m.user_id = 5",
+                        null),
+                arguments("UserSearchRepository.search (name)",
+                        "select u.id from user u where u.first_name = 'User' and u.id > 5 order by u.id limit 21",
+                        "ix_user_first_name"),
+                arguments("UserSearchRepository.search (surname prefix)",
+                        "select u.id from user u where u.last_name like 'Sur%' escape '!' order by u.id limit 21",
+                        "ix_user_last_name_first_name"),
+                arguments("UserSearchRepository.search (role and status)",
+                        "select u.id from user u where u.role = 'USER' and u.status = 'ACTIVE' and u.id > 5 order by u.id limit 21",
+                        "ix_user_role_status"),
+                arguments("UserSearchRepository.search (email prefix)",
+                        "select u.id from user u where u.email like 'user1%' escape '!' order by u.id limit 21",
+                        "ux_user_email"),
+                arguments("TokenRepository.findByToken",
+                        "select t.token_id from token t where t.token = 'token-1'",
+                        "ux_token_token"),
+                arguments("TokenRepository.revokeAllValidTokensByUser",
+                        "update token t set t.expired = true, t.revoked = true where t.user_id = 1 and (t.expired = false or t.revoked = false)",
+                        null)
+        );
+    }
+
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String repositoryMethod, String sql, String expectedIndex) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class)).toLowerCase();
+
+        assertFalse(plan.contains("tablescan"), repositoryMethod + " degraded to a full scan:\n" + plan);
+
+        // Single-column lookups may equally be served by the index backing the foreign key.
+        if (expectedIndex != null) {
+            assertTrue(plan.contains(expectedIndex), repositoryMethod + " does not use " + expectedIndex + ":\n" + plan);
+        }
+    }
+
+
+    private static void seed() {
+        for (int i = 1; i <= 20; i++) {
+            jdbcTemplate.update("insert into user (first_name, last_name, year, email, password, role, status) values (?, ?, ?, ?, ?, ?, ?)",
+                    "User", "Surname", 2000, "user" + i + "@gmail.com", "password", "USER", "ACTIVE");
+        }
+        // Four projects, owned by the first four users.
+        for (int i = 1; i <= 4; i++) {
+            jdbcTemplate.update("insert into project (name, owner_id, created_at) values (?, ?, current_timestamp)", "Project " + i, i);
+            jdbcTemplate.update("insert into project_member (project_id, user_id, role) values (?, ?, ?)", i, i, "OWNER");
+        }
+        for (int i = 5; i <= 20; i++) {
+            jdbcTemplate.update("insert into project_member (project_id, user_id, role) values (?, ?, ?)", i % 4 + 1, i, "MEMBER");
+        }
+        String[] statuses = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+        String[] priorities = {"HIGH", "MEDIUM", "LOW"};
+        for (int i = 0; i < 200; i++) {
+            jdbcTemplate.update("insert into task (project_id, board_rank, title, description, status, priority, author_id, assignee_id) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                    i % 4 + 1, "i" + (1000 + i), "Task", "Description", statuses[i % 3], priorities[i % 3 == 0 ? 0 : (i / 3) % 3], i % 20 + 1, (i / 20) % 20 + 1);
+            // Ten chains of twenty tasks each.
+            jdbcTemplate.update("insert into task_closure (ancestor_id, descendant_id, depth) select ancestor_id, ?, depth + 1 from task_closure where descendant_id = ?"
+                    + " union all select ?, ?, 0", i + 1, i % 20 == 0 ? 0 : i, i + 1, i + 1);
+            jdbcTemplate.update("insert into comment (content, user_id, task_id, project_id) values (?, ?, ?, ?)", "Comment", i % 20 + 1, i + 1, i % 4 + 1);
+            jdbcTemplate.update("insert into comment_mention (user_id, comment_id, project_id) values (?, ?, ?)", (i + 1) % 20 + 1, i + 1, i % 4 + 1);
+            jdbcTemplate.update("insert into attachment (project_id, task_id, comment_id, uploader_id, file_name, content_type, size_bytes, checksum, storage_key, created_at)"
+                            + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, current_timestamp)",
+                    i % 4 + 1, i + 1, i % 2 == 0 ? null : i + 1, i % 20 + 1, "file.txt", "text/plain", 5, "0".repeat(64), String.format("%032x", i));
+            jdbcTemplate.update("insert into attachment_blob (storage_key, size_bytes, ref_count, unreferenced_since) values (?, ?, ?, ?)",
+                    String.format("%032x", i), 5, 1, null);
+            jdbcTemplate.update("insert into attachment_blob (storage_key, size_bytes, ref_count, unreferenced_since) values (?, ?, ?, current_timestamp)",
+                    String.format("%064x", i), 5, 0);
+            jdbcTemplate.update("insert into token (token, token_type, revoked, expired, user_id) values (?, ?, ?, ?, ?)",
+                    "token-" + i, "BEARER", i % 2 == 0, i % 2 == 0, i % 20 + 1);
+        }
+        jdbcTemplate.execute("analyze");
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskmanagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RebuildableIndexTest {
+
+
+    @Test
+    void replaysChangesAppliedWhileLoading() {
+        AtomicReference<RebuildableIndex<Map<String, Integer>, String>> index = new AtomicReference<>();
+        index.set(new RebuildableIndex<>("test index", new HashMap<>(), () -> {
+            // Lands on the old generation while the new one is loading, and must not be lost by the swap.
+            index.get().apply("b");
+            Map<String, Integer> loaded = new HashMap<>();
+            loaded.put("a", 1);
+            return loaded;
+        }, (state, key) -> state.merge(key, 1, Integer::sum)));
+
+        assertFalse(index.get().isReady());
+        assertTrue(index.get().rebuild());
+
+        assertTrue(index.get().isReady());
+        assertEquals(Map.of("a", 1, "b", 1), index.get().read(HashMap::new));
+
+        // Outside a rebuild, changes go to the current generation only.
+        index.get().apply("a");
+        assertEquals(Map.of("a", 2, "b", 1), index.get().read(HashMap::new));
+    }
+
+
+    @Test
+    void keepsTheCurrentGenerationWhenLoadingFails() {
+        Map<String, Integer> empty = new HashMap<>();
+        RebuildableIndex<Map<String, Integer>, String> index = new RebuildableIndex<>("test index", empty, () -> {
+            throw new IllegalStateException("database down");
+        }, (state, key) -> state.merge(key, 1, Integer::sum));
+
+        index.apply("a");
+        assertFalse(index.rebuild());
+
+        assertFalse(index.isReady());
+        assertEquals(Map.of("a", 1), index.current());
+
+        // Only changes for which the condition holds are applied.
+        index.applyIf(List.of("a", "b"), (state, key) -> !state.containsKey(key));
+        assertEquals(Map.of("a", 1, "b", 1), index.current());
+    }
+}
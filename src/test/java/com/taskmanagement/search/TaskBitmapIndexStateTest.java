@@ -0,0 +1,102 @@
+package com.taskmanagement.search;
+
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskBitmapIndexStateTest {
+
+    private static final int ME = 1;
+    private static final int OTHER = 2;
+    private static final int STRANGER = 3;
+
+
+    @Test
+    void intersectsLabelsStatusAndAssigneeAndExcludesLabels() {
+        TaskBitmapIndexState state = new TaskBitmapIndexState();
+        state.apply(1, task(TaskStatus.IN_PROGRESS, ME, ME, "a", "b"));
+        state.apply(2, task(TaskStatus.IN_PROGRESS, OTHER, ME, "a", "b", "c"));
+        state.apply(3, task(TaskStatus.PENDING, OTHER, ME, "a", "b"));
+        state.apply(4, task(TaskStatus.IN_PROGRESS, ME, OTHER, "a", "b"));
+        state.apply(5, task(TaskStatus.IN_PROGRESS, OTHER, ME, "a"));
+        // Matches every filter but is not visible to the user.
+        state.apply(6, task(TaskStatus.IN_PROGRESS, STRANGER, STRANGER, "a", "b"));
+        state.apply(7, task(TaskStatus.IN_PROGRESS, OTHER, ME, "a", "b"));
+
+        TaskSearchResult result = state.search(criteria()
+                .labels(Set.of("a", "b"))
+                .excludedLabels(Set.of("c"))
+                .status(TaskStatus.IN_PROGRESS)
+                .assigneeId(ME)
+                .build());
+
+        assertEquals(2, result.getTotal());
+        assertEquals(List.of(7, 1), result.getTaskIds());
+    }
+
+
+    @Test
+    void changesMoveTasksBetweenBitmaps() {
+        TaskBitmapIndexState state = new TaskBitmapIndexState();
+        state.apply(1, task(TaskStatus.PENDING, ME, ME, "a"));
+
+        state.apply(1, task(TaskStatus.COMPLETED, ME, ME, "b"));
+
+        assertEquals(0, state.search(criteria().labels(Set.of("a")).build()).getTotal());
+        assertEquals(0, state.search(criteria().status(TaskStatus.PENDING).build()).getTotal());
+        assertEquals(List.of(1), state.search(criteria().labels(Set.of("b")).status(TaskStatus.COMPLETED).build()).getTaskIds());
+
+        state.apply(1, null);
+
+        assertEquals(0, state.search(criteria().build()).getTotal());
+        assertEquals(0, state.size());
+    }
+
+
+    @Test
+    void scopesSearchToProject() {
+        TaskBitmapIndexState state = new TaskBitmapIndexState();
+        state.apply(1, task(TaskStatus.PENDING, ME, ME, "a"));
+        state.apply(2, new IndexedTask(2, TaskStatus.PENDING, TaskPriority.MEDIUM, ME, ME, Set.of("a")));
+
+        assertEquals(2, state.search(criteria().labels(Set.of("a")).build()).getTotal());
+        assertEquals(List.of(2), state.search(criteria().projectId(2).labels(Set.of("a")).build()).getTaskIds());
+
+        // Tasks keep their project when their other fields change.
+        state.apply(2, new IndexedTask(2, TaskStatus.COMPLETED, TaskPriority.MEDIUM, ME, ME, Set.of()));
+        assertEquals(0, state.search(criteria().projectId(1).status(TaskStatus.COMPLETED).build()).getTotal());
+    }
+
+
+    @Test
+    void pagesNewestFirst() {
+        TaskBitmapIndexState state = new TaskBitmapIndexState();
+        for (int taskId = 1; taskId <= 25; taskId++) {
+            state.apply(taskId, task(TaskStatus.PENDING, ME, OTHER));
+        }
+        state.optimize();
+
+        TaskSearchResult second = state.search(criteria().page(1).size(10).build());
+        TaskSearchResult last = state.search(criteria().page(2).size(10).build());
+
+        assertEquals(25, second.getTotal());
+        assertEquals(List.of(15, 14, 13, 12, 11, 10, 9, 8, 7, 6), second.getTaskIds());
+        assertEquals(List.of(5, 4, 3, 2, 1), last.getTaskIds());
+        assertEquals(25, state.getMaxTaskId());
+    }
+
+
+    private TaskSearchCriteria.TaskSearchCriteriaBuilder criteria() {
+        return TaskSearchCriteria.builder().userId(ME).page(0).size(20);
+    }
+
+
+    private IndexedTask task(TaskStatus status, int authorId, int assigneeId, String... labels) {
+        return new IndexedTask(1, status, TaskPriority.MEDIUM, authorId, assigneeId, Set.of(labels));
+    }
+}
@@ -0,0 +1,79 @@
+package com.taskmanagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserPrefixIndexStateTest {
+
+    private static final int ALL = Integer.MAX_VALUE;
+
+    @Test
+    void matchesEmailNameAndFullNamePrefixes() {
+        UserPrefixIndexState state = new UserPrefixIndexState();
+        state.apply(1, new IndexedUser(1, "samvel@gmail.com", "Samvel", "Gevorgyan"));
+        state.apply(2, new IndexedUser(2, "anna@gmail.com", "Anna", "Samsonyan"));
+        state.apply(3, new IndexedUser(3, "john@gmail.com", "John", "Smith"));
+        state.compact();
+
+        // Ordered by the matching term: "samsonyan" before "samvel".
+        assertEquals(List.of(2, 1), ids(state.search("SAM", 10, ALL, id -> true)));
+        assertEquals(List.of(1), ids(state.search("samvel g", 10, ALL, id -> true)));
+        assertEquals(List.of(3), ids(state.search("john@", 10, ALL, id -> true)));
+        assertEquals(List.of(2), ids(state.search("sam", 1, ALL, id -> true)));
+        assertEquals(List.of(1), ids(state.search("sam", 10, ALL, id -> id != 2)));
+        assertTrue(state.search("x", 10, ALL, id -> true).isEmpty());
+    }
+
+
+    @Test
+    void appliesChangesBeforeAndAfterCompaction() {
+        UserPrefixIndexState state = new UserPrefixIndexState();
+        state.apply(1, new IndexedUser(1, "samvel@gmail.com", "Samvel", "Gevorgyan"));
+        state.apply(2, new IndexedUser(2, "anna@gmail.com", "Anna", "Smith"));
+        state.compact();
+
+        // Renamed after the arrays were built: the old terms no longer match.
+        state.apply(1, new IndexedUser(1, "sam@gmail.com", "Sam", "Gevorgyan"));
+        state.apply(2, null);
+        state.apply(4, new IndexedUser(4, "samuel@gmail.com", "Samuel", "Hakobyan"));
+
+        assertEquals(List.of(1, 4), ids(state.search("sam", 10, ALL, id -> true)));
+        assertTrue(state.search("samvel", 10, ALL, id -> true).isEmpty());
+        assertTrue(state.search("anna", 10, ALL, id -> true).isEmpty());
+
+        state.compact();
+
+        assertEquals(List.of(1, 4), ids(state.search("sam", 10, ALL, id -> true)));
+        assertEquals(List.of(1), ids(state.search("gev", 10, ALL, id -> true)));
+        assertEquals(2, state.size());
+    }
+
+
+    @Test
+    void boundsTheScanAndMatchesGivenUsersInKeyOrder() {
+        UserPrefixIndexState state = new UserPrefixIndexState();
+        state.apply(1, new IndexedUser(1, "samvel@gmail.com", "Samvel", "Gevorgyan"));
+        state.apply(2, new IndexedUser(2, "anna@gmail.com", "Anna", "Samsonyan"));
+        state.apply(3, new IndexedUser(3, "sara@gmail.com", "Sara", "Smith"));
+        state.compact();
+        state.apply(4, new IndexedUser(4, "sam@gmail.com", "Sam", "Hakobyan"));
+
+        // "sam@gmail.com", "sam" and "sam hakobyan" of user 4 come first, so three keys reach nobody else.
+        assertEquals(List.of(4), ids(state.search("sa", 10, 3, id -> true)));
+        assertTrue(state.search("sa", 10, 3, id -> id != 4).isEmpty());
+
+        assertEquals(List.of(4, 2, 3), ids(state.searchAmong("sa", 10, List.of(2, 3, 4, 5))));
+        assertEquals(ids(state.search("sa", 10, ALL, id -> id != 1)), ids(state.searchAmong("sa", 10, List.of(2, 3, 4))));
+        assertEquals(List.of(4), ids(state.searchAmong("sa", 1, List.of(2, 3, 4))));
+    }
+
+
+    private static List<Integer> ids(List<IndexedUser> users) {
+        return users.stream().map(IndexedUser::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,143 @@
+package com.taskmanagement.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.enums.RateLimitKeySource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Route login = new RateLimitProperties.Route();
+        login.setName("login");
+        login.setMethod("POST");
+        login.setPath("/api/**/auth/login");
+        login.setIp(limit(100));
+        login.setEmail(limit(2));
+
+        RateLimitProperties.Route verifyUser = new RateLimitProperties.Route();
+        verifyUser.setName("verify-user");
+        verifyUser.setMethod("POST");
+        verifyUser.setPath("/api/**/user/verify-user");
+        verifyUser.setEmail(limit(2));
+        verifyUser.setEmailSource(RateLimitKeySource.PARAMETER);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBodyBytes(256);
+        properties.setRoutes(List.of(login, verifyUser));
+
+        filter = new RateLimitFilter(properties, new StripedRateLimiter(4, 100, System::nanoTime), new ObjectMapper());
+    }
+
+
+    @Test
+    void rejectsRepeatedLoginsForTheSameEmailAndKeepsTheBodyReadable() throws Exception {
+        String body = "{\"email\":\"victim@mail.com\",\"password\":\"guess\"}";
+
+        for (int i = 0; i < 2; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(login(body), response, chain);
+
+            assertEquals(200, response.getStatus());
+            assertEquals(body, StreamUtils.copyToString(chain.getRequest().getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(login(body.replace("victim", "VICTIM")), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertNotNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(chain.getRequest());
+    }
+
+
+    @Test
+    void takesTheEmailOnlyFromWhereTheRouteBindsIt() throws Exception {
+        String body = "{\"email\":\"victim@mail.com\",\"password\":\"guess\"}";
+
+        // A different email parameter on every login does not move the body's email to a fresh bucket.
+        int[] loginStatuses = new int[3];
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = login(body);
+            request.setParameter("email", "random" + i + "@mail.com");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            loginStatuses[i] = response.getStatus();
+        }
+        assertArrayEquals(new int[]{200, 200, 429}, loginStatuses);
+
+        // The verification endpoint binds the parameter, so a body email does not pick its bucket either.
+        int[] verifyStatuses = new int[3];
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/user/verify-user");
+            request.setParameter("email", "victim@mail.com");
+            request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            request.setContent(("{\"email\":\"random" + i + "@mail.com\"}").getBytes(StandardCharsets.UTF_8));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            verifyStatuses[i] = response.getStatus();
+        }
+        assertArrayEquals(new int[]{200, 200, 429}, verifyStatuses);
+    }
+
+
+    @Test
+    void rejectsBodiesTooLargeToInspect() throws Exception {
+        String body = "{\"password\":\"" + "x".repeat(300) + "\",\"email\":\"victim@mail.com\"}";
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(login(body), response, chain);
+
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+
+    @Test
+    void ignoresRoutesThatAreNotConfigured() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/task/dashboard");
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest());
+        }
+    }
+
+
+    private MockHttpServletRequest login(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+
+    private RateLimitProperties.Limit limit(int capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPeriod(Duration.ofHours(1));
+        return limit;
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskmanagement.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+
+    @Test
+    void allowsBurstThenRefillsOverTime() {
+        StripedRateLimiter limiter = new StripedRateLimiter(4, 100, now::get);
+        RateLimitProperties.Limit limit = limit(3, Duration.ofSeconds(3));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("ip:1", limit));
+        }
+        long wait = limiter.tryAcquire("ip:1", limit);
+        assertTrue(wait > 0 && wait <= TimeUnit.SECONDS.toNanos(1));
+
+        // Other keys keep their own budget.
+        assertEquals(0, limiter.tryAcquire("ip:2", limit));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, limiter.tryAcquire("ip:1", limit));
+        assertTrue(limiter.tryAcquire("ip:1", limit) > 0);
+    }
+
+
+    @Test
+    void evictsLeastRecentlyUsedBucketsBeyondTheBound() {
+        StripedRateLimiter limiter = new StripedRateLimiter(2, 10, now::get);
+        RateLimitProperties.Limit limit = limit(1, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("ip:" + i, limit);
+        }
+
+        assertTrue(limiter.size() <= 10);
+    }
+
+
+    private RateLimitProperties.Limit limit(int capacity, Duration refillPeriod) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPeriod(refillPeriod);
+        return limit;
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.common.utils.MD5Encoder;
+import com.taskmanagement.dto.requestdto.AuthenticationDTO;
+import com.taskmanagement.dto.responsedto.AuthenticationResponseDTO;
+import com.taskmanagement.enums.UserRole;
+import com.taskmanagement.enums.UserStatus;
+import com.taskmanagement.exceptions.AuthBadRequestException;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.security.jwt.JwtService;
+import com.taskmanagement.service.impl.AuthServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private TokenService tokenService;
+
+    private final MD5Encoder passwordEncoder = new MD5Encoder();
+
+    private AuthServiceImpl authService;
+
+    private UserEntity userEntity;
+
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthServiceImpl(userService, passwordEncoder, jwtService, tokenService);
+        userEntity = UserEntity.builder()
+                .id(15)
+                .name("Ani")
+                .surname("Avagyan")
+                .year(2002)
+                .email("ani@gmail.com")
+                .password(passwordEncoder.encode("123456AA"))
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+
+    @Test
+    void loginLoadsUserOnceAndReplacesTokens() throws Exception {
+        given(userService.findByEmail("ani@gmail.com")).willReturn(userEntity);
+        given(jwtService.generateToken(anyMap(), any())).willReturn("access");
+        given(jwtService.generateRefreshToken(any())).willReturn("refresh");
+
+        AuthenticationResponseDTO response = authService.login(new AuthenticationDTO("ani@gmail.com", "123456AA"));
+
+        assertEquals("access", response.getAccessToken());
+        assertEquals("refresh", response.getRefreshToken());
+        verify(userService, times(1)).findByEmail("ani@gmail.com");
+        InOrder tokens = inOrder(tokenService);
+        tokens.verify(tokenService).revokeAllUserTokens(userEntity);
+        tokens.verify(tokenService).saveUserToken(userEntity, "access");
+        verifyNoMoreInteractions(userService, tokenService);
+    }
+
+
+    @Test
+    void loginWithWrongPasswordTouchesNoTokens() throws Exception {
+        given(userService.findByEmail("ani@gmail.com")).willReturn(userEntity);
+
+        assertThrows(AuthBadRequestException.class,
+                () -> authService.login(new AuthenticationDTO("ani@gmail.com", "654321AA")));
+
+        verifyNoInteractions(tokenService, jwtService);
+    }
+
+
+    @Test
+    void loginOfInactiveUserIsRejected() throws Exception {
+        userEntity.setStatus(UserStatus.INACTIVE);
+        given(userService.findByEmail("ani@gmail.com")).willReturn(userEntity);
+
+        assertThrows(AuthBadRequestException.class,
+                () -> authService.login(new AuthenticationDTO("ani@gmail.com", "123456AA")));
+
+        verifyNoInteractions(tokenService);
+    }
+}
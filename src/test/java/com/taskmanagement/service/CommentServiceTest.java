@@ -1,31 +1,40 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.event.DomainEventPublisher;
 import com.taskmanagement.dto.requestdto.CommentDTO;
 import com.taskmanagement.dto.responsedto.CommentResponseDTO;
+import com.taskmanagement.dto.responsedto.MentionPageResponseDTO;
 import com.taskmanagement.enums.TaskPriority;
 import com.taskmanagement.enums.TaskStatus;
 import com.taskmanagement.enums.UserRole;
 import com.taskmanagement.enums.UserStatus;
 import com.taskmanagement.exceptions.*;
+import com.taskmanagement.mention.MentionIndex;
 import com.taskmanagement.model.CommentEntity;
+import com.taskmanagement.model.CommentMentionEntity;
 import com.taskmanagement.model.TaskEntity;
 import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.CommentMentionRepository;
 import com.taskmanagement.repository.CommentRepository;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.service.impl.CommentServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -40,6 +49,18 @@ public class CommentServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private CommentMentionRepository commentMentionRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private MentionIndex mentionIndex;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -95,6 +116,35 @@ public class CommentServiceTest {
     }
 
 
+    @Test
+    void createCommentSavesMentionsOfMembers() throws CommentApiException {
+        CommentEntity mentioning = CommentEntity.builder()
+                .commentId(7)
+                .content("@assignee @outsider @author@gmail.com please check")
+                .user(author)
+                .task(task)
+                .projectId(3)
+                .build();
+        given(commentRepository.save(any(CommentEntity.class))).willReturn(mentioning);
+        given(taskRepository.findById(any(Integer.class))).willReturn(Optional.ofNullable(task));
+        given(userRepository.findByEmail(any(String.class))).willReturn(author);
+        given(mentionIndex.match(mentioning.getContent())).willReturn(new LinkedHashSet<>(List.of(2, 5, 1)));
+        given(projectService.isMember(3, 2)).willReturn(true);
+        given(projectService.isMember(3, 5)).willReturn(false);
+
+        commentService.createComment(1, author.getEmail(), new CommentDTO(mentioning.getContent()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CommentMentionEntity>> mentions = ArgumentCaptor.forClass(List.class);
+        verify(commentMentionRepository).saveAll(mentions.capture());
+        // The author is never recorded, and neither are users outside the project.
+        assertEquals(1, mentions.getValue().size());
+        assertEquals(2, mentions.getValue().get(0).getId().getUserId());
+        assertEquals(7, mentions.getValue().get(0).getId().getCommentId());
+        assertEquals(3, mentions.getValue().get(0).getProjectId());
+    }
+
+
     @Test
     void deleteCommentTest() throws CommentApiException {
 
@@ -156,7 +206,7 @@ public class CommentServiceTest {
 
         List<CommentEntity> comments = new ArrayList<>(List.of(comment1, comment2));
 
-        given(commentRepository.findByTaskTaskId(any(Integer.class))).willReturn(comments);
+        given(commentRepository.findByProjectIdAndTaskTaskId(any(), any(Integer.class))).willReturn(comments);
         task.setComments(comments);
         given(taskRepository.findById(any(Integer.class))).willReturn(Optional.ofNullable(task));
 
@@ -169,9 +219,9 @@ public class CommentServiceTest {
             assertEquals(commentEntity.getUser().getEmail(), commentsResponseDTOs.get(1).getCreator());
             assertEquals(commentEntity.getCommentId(), commentsResponseDTOs.get(1).getCommentId());
         });
-        verify(commentRepository, times(1)).findByTaskTaskId(any());
+        verify(commentRepository, times(1)).findByProjectIdAndTaskTaskId(any(), any());
 
-        given(commentRepository.findByTaskTaskId(any(Integer.class))).willThrow(RuntimeException.class);
+        given(commentRepository.findByProjectIdAndTaskTaskId(any(), any(Integer.class))).willThrow(RuntimeException.class);
         assertThrows(CommentApiException.class, () -> commentService.getCommentsByTaskId(1, author.getEmail()));
 
         given(taskRepository.findById(any(Integer.class))).willReturn(Optional.empty());
@@ -203,6 +253,27 @@ public class CommentServiceTest {
     }
 
 
+    @Test
+    void getMentionsTest() throws CommentApiException {
+        CommentEntity newer = createCommentEntity(author);
+        newer.setCommentId(9);
+        CommentEntity older = createCommentEntity(author);
+        older.setCommentId(4);
+        given(userRepository.findByEmail("assignee")).willReturn(task.getAssignee());
+        given(commentMentionRepository.findMentionedCommentIds(eq(2), eq(10), any())).willReturn(List.of(9, 4, 2));
+        given(commentRepository.findWithTaskByCommentIdIn(List.of(9, 4))).willReturn(List.of(newer, older));
+
+        MentionPageResponseDTO page = commentService.getMentions("assignee", 10, 2);
+
+        assertEquals(2, page.getMentions().size());
+        assertEquals(9, page.getMentions().get(0).getCommentId());
+        assertEquals(4, page.getNextBeforeCommentId());
+
+        assertThrows(CommentBadRequestException.class, () -> commentService.getMentions("assignee", null, 0));
+        assertThrows(CommentBadRequestException.class, () -> commentService.getMentions("assignee", null, 101));
+    }
+
+
     private UserEntity createUserEntity(String email, Integer id) {
         return UserEntity.builder()
                 .id(id)
@@ -0,0 +1,120 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.responsedto.TaskDashboardResponseDTO;
+import com.taskmanagement.enums.TaskCounterView;
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.model.TaskCounterEntity;
+import com.taskmanagement.model.TaskCounterId;
+import com.taskmanagement.model.TaskSnapshot;
+import com.taskmanagement.repository.TaskCounterRepository;
+import com.taskmanagement.service.impl.TaskCounterServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskCounterServiceTest {
+
+    @Mock
+    private TaskCounterRepository taskCounterRepository;
+
+    @InjectMocks
+    private TaskCounterServiceImpl taskCounterService;
+
+
+    @Test
+    void onTaskCreatedTest() throws TaskApiException {
+        taskCounterService.onTaskCreated(snapshot(TaskStatus.PENDING, TaskPriority.HIGH, 2));
+
+        verify(taskCounterRepository).increment(1, "AUTHOR", "PENDING", "HIGH", 1);
+        verify(taskCounterRepository).increment(2, "ASSIGNEE", "PENDING", "HIGH", 1);
+        verifyNoMoreInteractions(taskCounterRepository);
+    }
+
+
+    @Test
+    void onTasksCreatedTest() throws TaskApiException {
+        taskCounterService.onTasksCreated(snapshot(TaskStatus.PENDING, TaskPriority.LOW, 2), 12);
+
+        verify(taskCounterRepository).increment(1, "AUTHOR", "PENDING", "LOW", 12);
+        verify(taskCounterRepository).increment(2, "ASSIGNEE", "PENDING", "LOW", 12);
+        verifyNoMoreInteractions(taskCounterRepository);
+    }
+
+
+    @Test
+    void onTaskChangedTest() throws TaskApiException {
+        // Only the status changed: both views move from PENDING to IN_PROGRESS.
+        taskCounterService.onTaskChanged(
+                snapshot(TaskStatus.PENDING, TaskPriority.HIGH, 2),
+                snapshot(TaskStatus.IN_PROGRESS, TaskPriority.HIGH, 2));
+
+        verify(taskCounterRepository).increment(1, "AUTHOR", "PENDING", "HIGH", -1);
+        verify(taskCounterRepository).increment(2, "ASSIGNEE", "PENDING", "HIGH", -1);
+        verify(taskCounterRepository).increment(1, "AUTHOR", "IN_PROGRESS", "HIGH", 1);
+        verify(taskCounterRepository).increment(2, "ASSIGNEE", "IN_PROGRESS", "HIGH", 1);
+        verifyNoMoreInteractions(taskCounterRepository);
+
+        clearInvocations(taskCounterRepository);
+
+        // Only the assignee changed: the author's counter is untouched.
+        taskCounterService.onTaskChanged(
+                snapshot(TaskStatus.PENDING, TaskPriority.LOW, 2),
+                snapshot(TaskStatus.PENDING, TaskPriority.LOW, 3));
+
+        verify(taskCounterRepository).increment(2, "ASSIGNEE", "PENDING", "LOW", -1);
+        verify(taskCounterRepository).increment(3, "ASSIGNEE", "PENDING", "LOW", 1);
+        verifyNoMoreInteractions(taskCounterRepository);
+
+        clearInvocations(taskCounterRepository);
+
+        // Nothing counted changed: no statements at all.
+        taskCounterService.onTaskChanged(
+                snapshot(TaskStatus.COMPLETED, TaskPriority.LOW, 2),
+                snapshot(TaskStatus.COMPLETED, TaskPriority.LOW, 2));
+
+        verifyNoInteractions(taskCounterRepository);
+    }
+
+
+    @Test
+    void getDashboardTest() throws TaskApiException {
+        given(taskCounterRepository.findAllByUserEmail("author@gmail.com")).willReturn(List.of(
+                new TaskCounterEntity(new TaskCounterId(1, TaskCounterView.AUTHOR, TaskStatus.IN_PROGRESS, TaskPriority.HIGH), 4),
+                new TaskCounterEntity(new TaskCounterId(1, TaskCounterView.ASSIGNEE, TaskStatus.PENDING, TaskPriority.LOW), 7)
+        ));
+
+        TaskDashboardResponseDTO dashboard = taskCounterService.getDashboard("author@gmail.com");
+
+        assertEquals(4L, dashboard.getAuthored().get(TaskStatus.IN_PROGRESS).get(TaskPriority.HIGH));
+        assertEquals(0L, dashboard.getAuthored().get(TaskStatus.PENDING).get(TaskPriority.LOW));
+        assertEquals(7L, dashboard.getAssigned().get(TaskStatus.PENDING).get(TaskPriority.LOW));
+        assertEquals(0L, dashboard.getAssigned().get(TaskStatus.COMPLETED).get(TaskPriority.MEDIUM));
+
+        given(taskCounterRepository.findAllByUserEmail(anyString())).willThrow(RuntimeException.class);
+        assertThrows(TaskApiException.class, () -> taskCounterService.getDashboard("author@gmail.com"));
+    }
+
+
+    private TaskSnapshot snapshot(TaskStatus status, TaskPriority priority, Integer assigneeId) {
+        return TaskSnapshot.builder()
+                .taskId(10)
+                .status(status)
+                .priority(priority)
+                .authorId(1)
+                .assigneeId(assigneeId)
+                .build();
+    }
+}
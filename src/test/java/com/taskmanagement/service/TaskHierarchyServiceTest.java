@@ -0,0 +1,146 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.exceptions.TaskBadRequestException;
+import com.taskmanagement.exceptions.TaskUnauthorizedOperationException;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.TaskSnapshot;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.TaskClosureRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.impl.TaskHierarchyServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskHierarchyServiceTest {
+
+    @Mock
+    private TaskClosureRepository taskClosureRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskHierarchyServiceImpl taskHierarchyService;
+
+    UserEntity author = UserEntity.builder().id(1).email("author@gmail.com").build();
+
+    UserEntity assignee = UserEntity.builder().id(2).email("assignee@gmail.com").build();
+
+
+    @Test
+    void onTaskCreatedTest() throws TaskApiException {
+        taskHierarchyService.onTaskCreated(task(5, null, TaskStatus.PENDING));
+
+        verify(taskClosureRepository).insertRoot(5);
+        verifyNoMoreInteractions(taskClosureRepository);
+
+        taskHierarchyService.onTaskCreated(task(6, 5, TaskStatus.IN_PROGRESS));
+
+        verify(taskClosureRepository).insertLeaf(6, 5);
+        verify(taskClosureRepository).addToAncestorRollups(6, 0, 1, 0);
+    }
+
+
+    @Test
+    void onTaskChangedTest() throws TaskApiException {
+        taskHierarchyService.onTaskChanged(snapshot(TaskStatus.IN_PROGRESS), snapshot(TaskStatus.COMPLETED));
+
+        verify(taskClosureRepository).addToAncestorRollups(7, 0, -1, 1);
+
+        clearInvocations(taskClosureRepository);
+
+        // Rollups only count statuses.
+        taskHierarchyService.onTaskChanged(snapshot(TaskStatus.COMPLETED), snapshot(TaskStatus.COMPLETED));
+
+        verifyNoInteractions(taskClosureRepository);
+    }
+
+
+    @Test
+    void onTaskDeletedTest() throws TaskApiException, TaskBadRequestException {
+        TaskEntity task = task(7, 5, TaskStatus.PENDING);
+        given(taskClosureRepository.existsByIdAncestorIdAndDepthGreaterThan(7, 0)).willReturn(false);
+
+        taskHierarchyService.onTaskDeleted(task);
+
+        verify(taskClosureRepository).addToAncestorRollups(7, -1, 0, 0);
+
+        given(taskClosureRepository.existsByIdAncestorIdAndDepthGreaterThan(7, 0)).willReturn(true);
+        assertThrows(TaskBadRequestException.class, () -> taskHierarchyService.onTaskDeleted(task));
+    }
+
+
+    @Test
+    void moveTaskTest() throws TaskApiException, TaskBadRequestException {
+        // Task 7 is IN_PROGRESS with two pending and one completed descendants.
+        TaskEntity task = task(7, 5, TaskStatus.IN_PROGRESS);
+        task.setSubtasksPending(2);
+        task.setSubtasksCompleted(1);
+        given(taskRepository.findById(7)).willReturn(Optional.of(task));
+        given(taskRepository.findById(9)).willReturn(Optional.of(task(9, null, TaskStatus.PENDING)));
+        given(taskRepository.save(any(TaskEntity.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(9, taskHierarchyService.moveTask(7, 9, author.getEmail()).getParentId());
+
+        InOrder inOrder = inOrder(taskClosureRepository);
+        inOrder.verify(taskClosureRepository).addToAncestorRollups(7, -2, -1, -1);
+        inOrder.verify(taskClosureRepository).detachSubtree(7);
+        inOrder.verify(taskClosureRepository).attachSubtree(7, 9);
+        inOrder.verify(taskClosureRepository).addToAncestorRollups(7, 2, 1, 1);
+    }
+
+
+    @Test
+    void moveTaskBelowItsOwnSubtreeTest() {
+        given(taskRepository.findById(7)).willReturn(Optional.of(task(7, null, TaskStatus.PENDING)));
+        given(taskRepository.findById(8)).willReturn(Optional.of(task(8, 7, TaskStatus.PENDING)));
+        given(taskClosureRepository.existsByIdAncestorIdAndIdDescendantId(7, 8)).willReturn(true);
+
+        assertThrows(TaskBadRequestException.class, () -> taskHierarchyService.moveTask(7, 8, author.getEmail()));
+        assertThrows(TaskUnauthorizedOperationException.class, () -> taskHierarchyService.moveTask(7, 8, "user@gmail.com"));
+        verify(taskClosureRepository, never()).detachSubtree(any());
+    }
+
+
+    private TaskEntity task(Integer taskId, Integer parentId, TaskStatus status) {
+        return TaskEntity.builder()
+                .taskId(taskId)
+                .projectId(1)
+                .parentId(parentId)
+                .title("Task")
+                .status(status)
+                .priority(TaskPriority.HIGH)
+                .author(author)
+                .assignee(assignee)
+                .comments(new ArrayList<>())
+                .build();
+    }
+
+
+    private TaskSnapshot snapshot(TaskStatus status) {
+        return TaskSnapshot.builder()
+                .taskId(7)
+                .status(status)
+                .priority(TaskPriority.HIGH)
+                .authorId(1)
+                .assigneeId(2)
+                .build();
+    }
+}
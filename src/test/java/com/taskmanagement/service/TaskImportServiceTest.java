@@ -0,0 +1,154 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.responsedto.TaskImportResponseDTO;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.event.DomainEventPublisher;
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.exceptions.TaskBadRequestException;
+import com.taskmanagement.importer.ImportedTask;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.TaskImportRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.impl.TaskImportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.Validation;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static com.taskmanagement.util.messages.TaskErrorMessage.ASSIGNEE_NOT_FOUND;
+import static com.taskmanagement.util.messages.TaskErrorMessage.INVALID_IMPORT_HEADER;
+import static com.taskmanagement.util.messages.TaskErrorMessage.INVALID_IMPORT_REMINDERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskImportServiceTest {
+
+    @Mock
+    private TaskImportRepository taskImportRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TaskBoardService taskBoardService;
+
+    @Mock
+    private TaskCounterService taskCounterService;
+
+    @Mock
+    private TaskRevisionService taskRevisionService;
+
+    @Mock
+    private TaskReminderService taskReminderService;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskImportServiceImpl taskImportService;
+
+    UserEntity author = UserEntity.builder().id(1).email("author@gmail.com").build();
+
+    UserEntity assignee = UserEntity.builder().id(2).email("assignee@gmail.com").build();
+
+
+    @BeforeEach
+    void setUp() {
+        taskImportService = new TaskImportServiceImpl(taskImportRepository, userRepository, projectService,
+                taskBoardService, taskCounterService, taskRevisionService, taskReminderService, eventPublisher, Validation.buildDefaultValidatorFactory().getValidator(),
+                new TransactionTemplate(transactionManager), 1000, 100, 100);
+    }
+
+
+    @Test
+    void importTasksTest() throws TaskApiException {
+        given(userRepository.findByEmail("author@gmail.com")).willReturn(author);
+        given(userRepository.findByEmail("assignee@gmail.com")).willReturn(assignee);
+        given(userRepository.findByEmail("ghost@gmail.com")).willReturn(null);
+        given(projectService.isMember(7, 1)).willReturn(true);
+        given(projectService.isMember(7, 2)).willReturn(true);
+        given(taskBoardService.appendRanks(7, TaskStatus.PENDING, 2)).willReturn(List.of("a", "b"));
+        given(taskImportRepository.insertTasks(eq(7), eq(1), any(), eq(List.of("a", "b")))).willReturn(List.of(100, 101));
+
+        TaskImportResponseDTO response = taskImportService.importTasks(7, csv("""
+                title,status,priority,assignee,labels,due_date,reminders
+                Design,PENDING,HIGH,assignee@gmail.com,Backend;ui,2030-05-31T17:00,60;1440
+                lowercase,PENDING,HIGH,assignee@gmail.com,,,
+                Review,PENDING,LOW,ghost@gmail.com,,,
+                Deploy,DONE,LOW,assignee@gmail.com,,,
+                Release,PENDING,HIGH,assignee@gmail.com,,,
+                Ship,PENDING,HIGH,assignee@gmail.com,,2030-05-31T17:00,soon
+                """), "author@gmail.com");
+
+        assertEquals(6, response.getRows());
+        assertEquals(2, response.getImported());
+        assertEquals(4, response.getFailed());
+        assertEquals(List.of(3L, 4L, 5L, 7L), response.getErrors().stream().map(e -> e.getLine()).toList());
+        assertEquals(ASSIGNEE_NOT_FOUND, response.getErrors().get(1).getMessage());
+        assertEquals(INVALID_IMPORT_REMINDERS, response.getErrors().get(3).getMessage());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ImportedTask>> tasks = ArgumentCaptor.forClass(List.class);
+        verify(taskImportRepository).insertTasks(eq(7), eq(1), tasks.capture(), eq(List.of("a", "b")));
+        assertEquals(Set.of("backend", "ui"), tasks.getValue().get(0).getLabels());
+        assertEquals("Release", tasks.getValue().get(1).getTitle());
+        // Both tasks share status, priority and assignee.
+        verify(taskCounterService).onTasksCreated(any(), eq(2L));
+        assertEquals(Set.of(60, 1440), tasks.getValue().get(0).getReminderOffsets());
+        // Every imported task gets its first revision and an event under its generated ID.
+        verify(taskRevisionService, times(2)).onTaskCreated(any(), eq("author@gmail.com"));
+        ArgumentCaptor<TaskEvent> events = ArgumentCaptor.forClass(TaskEvent.class);
+        verify(eventPublisher, times(2)).publish(events.capture());
+        assertEquals(List.of(100, 101), events.getAllValues().stream().map(e -> e.getAfter().getTaskId()).toList());
+        assertEquals(Set.of("backend", "ui"), events.getAllValues().get(0).getAfter().getLabels());
+        // Only the task with a due date and offsets gets reminders.
+        ArgumentCaptor<TaskEntity> scheduled = ArgumentCaptor.forClass(TaskEntity.class);
+        verify(taskReminderService).scheduleReminders(scheduled.capture(), isNull());
+        assertEquals(100, scheduled.getValue().getTaskId());
+        assertEquals(Set.of(60, 1440), scheduled.getValue().getReminderOffsets());
+        // The assignee was looked up once.
+        verify(userRepository, times(1)).findByEmail("assignee@gmail.com");
+    }
+
+
+    @Test
+    void importTasksWithoutRequiredColumnTest() {
+        given(userRepository.findByEmail("author@gmail.com")).willReturn(author);
+        given(projectService.isMember(7, 1)).willReturn(true);
+
+        TaskBadRequestException e = assertThrows(TaskBadRequestException.class,
+                () -> taskImportService.importTasks(7, csv("title,status\nDesign,PENDING\n"), "author@gmail.com"));
+
+        assertEquals(INVALID_IMPORT_HEADER, e.getMessage());
+        verifyNoInteractions(taskImportRepository);
+        verifyNoInteractions(taskBoardService);
+    }
+
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "tasks.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
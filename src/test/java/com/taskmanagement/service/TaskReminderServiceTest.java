@@ -0,0 +1,148 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.TaskApiException;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.TaskReminderEntity;
+import com.taskmanagement.reminder.ReminderScheduler;
+import com.taskmanagement.repository.TaskReminderRepository;
+import com.taskmanagement.service.impl.TaskReminderServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskReminderServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Mock
+    private TaskReminderRepository taskReminderRepository;
+
+    @Mock
+    private ReminderScheduler reminderScheduler;
+
+    private TaskReminderServiceImpl taskReminderService;
+
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        taskReminderService = new TaskReminderServiceImpl(taskReminderRepository, reminderScheduler, clock);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+
+    @Test
+    void keepsPendingRemindersWhenOffsetsAreLeftOut() throws TaskApiException {
+        given(taskReminderRepository.findByTaskId(7)).willReturn(List.of(reminder(60, NOW.plusDays(1).minusMinutes(60))));
+
+        taskReminderService.scheduleReminders(task(NOW.plusDays(1), 60), null);
+
+        verify(taskReminderRepository, never()).deleteByTaskId(anyInt());
+        verify(taskReminderRepository, never()).saveAll(any());
+    }
+
+
+    @Test
+    void movesPendingRemindersWithTheDueDate() throws TaskApiException {
+        given(taskReminderRepository.findByTaskId(7)).willReturn(List.of(reminder(60, NOW.plusDays(1).minusMinutes(60))));
+        given(taskReminderRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        taskReminderService.scheduleReminders(task(NOW.plusDays(2), 60), null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskReminderEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskReminderRepository).deleteByTaskId(7);
+        verify(taskReminderRepository).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        assertEquals(60, saved.getValue().get(0).getMinutesBefore());
+        assertEquals(NOW.plusDays(2).minusMinutes(60), saved.getValue().get(0).getRemindAt());
+    }
+
+
+    @Test
+    void replacesRemindersWithNewOffsetsAndSkipsPastOnes() throws TaskApiException {
+        given(taskReminderRepository.findByTaskId(7)).willReturn(List.of());
+        given(taskReminderRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        TaskEntity task = task(NOW.plusMinutes(90), 60);
+        taskReminderService.scheduleReminders(task, List.of(30, 120));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskReminderEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskReminderRepository).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        assertEquals(30, saved.getValue().get(0).getMinutesBefore());
+        assertEquals(Set.of(30, 120), task.getReminderOffsets());
+    }
+
+
+    @Test
+    void restoresRemindersWhenACompletedTaskIsReopened() throws TaskApiException {
+        given(taskReminderRepository.findByTaskId(7)).willReturn(List.of(reminder(60, NOW.plusDays(1).minusMinutes(60))));
+        TaskEntity task = task(NOW.plusDays(1), 60);
+        task.setStatus(TaskStatus.COMPLETED);
+
+        // Completing the task deletes its pending reminders but keeps its offsets.
+        taskReminderService.scheduleReminders(task, null);
+
+        verify(taskReminderRepository).deleteByTaskId(7);
+        verify(taskReminderRepository, never()).saveAll(any());
+        assertEquals(Set.of(60), task.getReminderOffsets());
+
+        given(taskReminderRepository.findByTaskId(7)).willReturn(List.of());
+        given(taskReminderRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+        task.setStatus(TaskStatus.IN_PROGRESS);
+
+        taskReminderService.scheduleReminders(task, null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskReminderEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskReminderRepository).saveAll(saved.capture());
+        assertEquals(NOW.plusDays(1).minusMinutes(60), saved.getValue().get(0).getRemindAt());
+    }
+
+
+    private static TaskEntity task(LocalDateTime dueDate, Integer... reminderOffsets) {
+        TaskEntity task = new TaskEntity();
+        task.setTaskId(7);
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(dueDate);
+        task.setReminderOffsets(new HashSet<>(List.of(reminderOffsets)));
+        return task;
+    }
+
+
+    private static TaskReminderEntity reminder(int minutesBefore, LocalDateTime remindAt) {
+        return TaskReminderEntity.builder()
+                .reminderId(1L)
+                .taskId(7)
+                .minutesBefore(minutesBefore)
+                .remindAt(remindAt)
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.responsedto.TaskVersionResponseDTO;
+import com.taskmanagement.enums.TaskPriority;
+import com.taskmanagement.enums.TaskStatus;
+import com.taskmanagement.exceptions.TaskNotFoundException;
+import com.taskmanagement.model.TaskEntity;
+import com.taskmanagement.model.TaskRevisionEntity;
+import com.taskmanagement.model.TaskSnapshot;
+import com.taskmanagement.model.UserEntity;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskRevisionRepository;
+import com.taskmanagement.service.impl.TaskRevisionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskRevisionServiceTest {
+
+    @Mock
+    private TaskRevisionRepository taskRevisionRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskRevisionServiceImpl taskRevisionService;
+
+    private final List<TaskRevisionEntity> stored = new ArrayList<>();
+
+
+    @BeforeEach
+    void setUp() {
+        taskRevisionService = new TaskRevisionServiceImpl(taskRevisionRepository, taskRepository, new ObjectMapper(), Clock.systemUTC());
+    }
+
+
+    @Test
+    void storesOnlyChangedFieldsBetweenSnapshots() throws Exception {
+        recordHistory(3);
+
+        assertTrue(stored.get(0).isSnapshot());
+        assertFalse(stored.get(1).isSnapshot());
+        assertEquals("{\"status\":\"IN_PROGRESS\"}", stored.get(1).getChanges());
+    }
+
+
+    @Test
+    void updateWithoutTrackedChangesIsNotRecorded() throws Exception {
+        TaskSnapshot task = snapshot("Title", TaskStatus.PENDING);
+
+        taskRevisionService.onTaskChanged(task, task, "author@mail.com");
+
+        verifyNoInteractions(taskRevisionRepository);
+    }
+
+
+    @Test
+    void reconstructsAVersionFromTheNearestSnapshot() throws Exception {
+        recordHistory(25);
+        givenAccess();
+        given(taskRevisionRepository.findSnapshotRevisionAtOrBefore(1, 24)).willReturn(21);
+        given(taskRevisionRepository.findByIdTaskIdAndIdRevisionBetweenOrderByIdRevision(1, 21, 24))
+                .willReturn(stored.subList(20, 24));
+
+        TaskVersionResponseDTO version = taskRevisionService.getVersion(1, 24, "author@mail.com");
+
+        assertTrue(stored.get(20).isSnapshot());
+        assertEquals(24, version.getRevision());
+        assertEquals("Title 23", version.getTitle());
+        assertEquals(TaskStatus.IN_PROGRESS, version.getStatus());
+        assertEquals(TaskPriority.HIGH, version.getPriority());
+    }
+
+
+    @Test
+    void tracksDueDateAndLabels() throws Exception {
+        recordHistory(1);
+        TaskSnapshot created = snapshot("Title 0", TaskStatus.PENDING);
+        TaskSnapshot changed = TaskSnapshot.builder()
+                .taskId(1)
+                .title("Title 0")
+                .description("Description")
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.HIGH)
+                .assigneeEmail("author@mail.com")
+                .dueDate(LocalDateTime.of(2024, 5, 1, 9, 30))
+                .labels(Set.of("ui", "backend"))
+                .build();
+
+        taskRevisionService.onTaskChanged(created, changed, "author@mail.com");
+
+        assertEquals("{\"dueDate\":\"2024-05-01T09:30\",\"labels\":\"backend,ui\"}", stored.get(1).getChanges());
+
+        givenAccess();
+        given(taskRevisionRepository.findSnapshotRevisionAtOrBefore(1, 2)).willReturn(1);
+        given(taskRevisionRepository.findByIdTaskIdAndIdRevisionBetweenOrderByIdRevision(1, 1, 2)).willReturn(stored);
+
+        TaskVersionResponseDTO version = taskRevisionService.getVersion(1, 2, "author@mail.com");
+
+        assertEquals(LocalDateTime.of(2024, 5, 1, 9, 30), version.getDueDate());
+        assertEquals(List.of("backend", "ui"), version.getLabels());
+    }
+
+
+    @Test
+    void missingRevisionIsNotFound() throws Exception {
+        givenAccess();
+        given(taskRevisionRepository.findSnapshotRevisionAtOrBefore(1, 7)).willReturn(null);
+
+        assertThrows(TaskNotFoundException.class, () -> taskRevisionService.getVersion(1, 7, "author@mail.com"));
+    }
+
+
+    /**
+     * Creates the task and changes it so that revision n has title "Title n-1" and alternating status.
+     */
+    private void recordHistory(int revisions) throws Exception {
+        lenient().when(taskRevisionRepository.save(any(TaskRevisionEntity.class))).thenAnswer(invocation -> {
+            stored.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(taskRevisionRepository.findLatestRevision(anyInt())).thenAnswer(invocation -> stored.size());
+
+        TaskSnapshot previous = snapshot("Title 0", TaskStatus.PENDING);
+        taskRevisionService.onTaskCreated(previous, "author@mail.com");
+        for (int i = 1; i < revisions; i++) {
+            TaskSnapshot next = i == 1
+                    ? snapshot("Title 0", TaskStatus.IN_PROGRESS)
+                    : snapshot("Title " + i, previous.getStatus());
+            taskRevisionService.onTaskChanged(previous, next, "author@mail.com");
+            previous = next;
+        }
+    }
+
+
+    private void givenAccess() {
+        UserEntity author = UserEntity.builder().id(1).email("author@mail.com").build();
+        TaskEntity task = TaskEntity.builder().taskId(1).author(author).assignee(author).build();
+        given(taskRepository.findById(any(Integer.class))).willReturn(Optional.of(task));
+    }
+
+
+    private TaskSnapshot snapshot(String title, TaskStatus status) {
+        return TaskSnapshot.builder()
+                .taskId(1)
+                .title(title)
+                .description("Description")
+                .status(status)
+                .priority(TaskPriority.HIGH)
+                .authorId(1)
+                .authorEmail("author@mail.com")
+                .assigneeId(1)
+                .assigneeEmail("author@mail.com")
+                .build();
+    }
+}
@@ -1,12 +1,15 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.event.DomainEventPublisher;
 import com.taskmanagement.exceptions.*;
 import com.taskmanagement.model.CommentEntity;
+import com.taskmanagement.model.TaskSnapshot;
 import com.taskmanagement.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import com.taskmanagement.dto.requestdto.TaskBoardMoveDTO;
 import com.taskmanagement.dto.requestdto.TaskDTO;
 import com.taskmanagement.dto.responsedto.TaskResponseDTO;
 import com.taskmanagement.enums.TaskPriority;
@@ -38,6 +41,27 @@ public class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskCounterService taskCounterService;
+
+    @Mock
+    private TaskRevisionService taskRevisionService;
+
+    @Mock
+    private TaskReminderService taskReminderService;
+
+    @Mock
+    private TaskHierarchyService taskHierarchyService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TaskBoardService taskBoardService;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -52,6 +76,7 @@ public class TaskServiceTest {
     @Test
     void createTaskTest() throws TaskApiException {
         given(taskRepository.save(any(TaskEntity.class))).willReturn(taskEntity);
+        given(projectService.isMember(any(), any())).willReturn(true);
 
 
         given(userRepository.findByEmail(author.getEmail())).willReturn(author);
@@ -68,6 +93,20 @@ public class TaskServiceTest {
         assertEquals(taskEntity.getAssignee().getEmail(), taskResponseDTO.getAssignee());
 
         verify(taskRepository, times(1)).save(any());
+        verify(taskCounterService, times(1)).onTaskCreated(any(TaskSnapshot.class));
+    }
+
+
+    @Test
+    void createTaskOutsideProjectTest() {
+        given(userRepository.findByEmail(author.getEmail())).willReturn(author);
+        given(userRepository.findByEmail(assignee.getEmail())).willReturn(assignee);
+        given(projectService.isMember(1, author.getId())).willReturn(true);
+        given(projectService.isMember(1, assignee.getId())).willReturn(false);
+
+        assertThrows(TaskUnauthorizedOperationException.class, () -> taskService.createTask(taskDTO, author.getEmail()));
+
+        verify(taskRepository, never()).save(any());
     }
 
 
@@ -87,6 +126,7 @@ public class TaskServiceTest {
         UserEntity newAssignee = createUserEntity("new_assignee@gmail.com", 4);
 
         given(userRepository.findByEmail("new_assignee@gmail.com")).willReturn(newAssignee);
+        given(projectService.isMember(1, newAssignee.getId())).willReturn(true);
 
         given(taskRepository.save(any(TaskEntity.class))).willReturn(taskEntity);
 
@@ -137,13 +177,43 @@ public class TaskServiceTest {
         assertThrows(TaskApiException.class, () -> taskService.updateTaskByAssignee(1, "PENDING", assignee.getEmail()));
     }
 
+    @Test
+    void moveTaskTest() throws TaskApiException, TaskBadRequestException {
+        given(taskRepository.findById(1)).willReturn(Optional.of(taskEntity));
+        given(taskRepository.save(any(TaskEntity.class))).willReturn(taskEntity);
+        given(taskBoardService.rankAfter(taskEntity, TaskStatus.IN_PROGRESS, 5)).willReturn("i0001i");
+
+        // Reordering within a column writes the rank only.
+        TaskResponseDTO moved = taskService.moveTask(1, new TaskBoardMoveDTO("IN_PROGRESS", 5), assignee.getEmail());
+
+        assertEquals(TaskStatus.IN_PROGRESS, moved.getStatus());
+        assertEquals("i0001i", taskEntity.getBoardRank());
+        verify(taskCounterService, never()).onTaskChanged(any(), any());
+        verify(eventPublisher, never()).publish(any());
+
+        // Moving to another column is a status change.
+        given(taskBoardService.rankAfter(taskEntity, TaskStatus.COMPLETED, null)).willReturn("i00001");
+
+        moved = taskService.moveTask(1, new TaskBoardMoveDTO("COMPLETED", null), assignee.getEmail());
+
+        assertEquals(TaskStatus.COMPLETED, moved.getStatus());
+        verify(taskCounterService).onTaskChanged(any(TaskSnapshot.class), any(TaskSnapshot.class));
+        verify(taskReminderService).scheduleReminders(taskEntity, null);
+
+        assertThrows(TaskBadRequestException.class, () -> taskService.moveTask(1, new TaskBoardMoveDTO("DONE", null), assignee.getEmail()));
+        assertThrows(TaskUnauthorizedOperationException.class, () -> taskService.moveTask(1, new TaskBoardMoveDTO("PENDING", null), user.getEmail()));
+    }
+
+
     @Test
     void deleteTaskTest() throws TaskApiException, TaskBadRequestException {
         given(taskRepository.findById(1)).willReturn(Optional.ofNullable(taskEntity));
 
         taskService.deleteTask(1, author.getEmail());
 
+        verify(taskHierarchyService).onTaskDeleted(taskEntity);
         verify(taskRepository).delete(taskEntity);
+        verify(taskCounterService).onTaskDeleted(any(TaskSnapshot.class));
 
         assertThrows(TaskUnauthorizedOperationException.class, () -> taskService.deleteTask(1, user.getEmail()));
 
@@ -191,29 +261,31 @@ public class TaskServiceTest {
 
         List<TaskEntity> taskEntities = new ArrayList<>(List.of(task1, task2, task3));
 
+        given(userRepository.findByEmail(author.getEmail())).willReturn(author);
+        given(projectService.isMember(1, author.getId())).willReturn(true);
 
-        given(taskRepository.findByAuthorEmailAndAssigneeEmail(author.getEmail(), assignee.getEmail())).willReturn(taskEntities);
+        given(taskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmail(1, author.getEmail(), assignee.getEmail())).willReturn(taskEntities);
 
         assertDoesNotThrow(() -> {
-            List<TaskResponseDTO> tasks = taskService.getTasksByAuthor(author.getEmail(), assignee.getEmail(), null, null);
+            List<TaskResponseDTO> tasks = taskService.getTasksByAuthor(1, author.getEmail(), assignee.getEmail(), null, null);
             assertNotNull(tasks);
             assertEquals(3, tasks.size());
             assertEquals("Task Title", tasks.get(0).getTitle());
         });
 
         taskEntities.get(2).setPriority(TaskPriority.MEDIUM);
-        given(taskRepository.findByAuthorEmailAndAssigneeEmailAndPriority(author.getEmail(), assignee.getEmail(), TaskPriority.LOW)).willReturn(taskEntities);
+        given(taskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmailAndPriority(1, author.getEmail(), assignee.getEmail(), TaskPriority.LOW)).willReturn(taskEntities);
         assertDoesNotThrow(() -> {
-            List<TaskResponseDTO> tasks = taskService.getTasksByAuthor(author.getEmail(), assignee.getEmail(), null, "LOW");
+            List<TaskResponseDTO> tasks = taskService.getTasksByAuthor(1, author.getEmail(), assignee.getEmail(), null, "LOW");
             assertNotNull(tasks);
             assertEquals(3, tasks.size());
             assertEquals("Task Title", tasks.get(1).getTitle());
         });
 
 
-        given(taskRepository.findByAuthorEmailAndAssigneeEmail(author.getEmail(), assignee.getEmail())).willThrow(RuntimeException.class);
+        given(taskRepository.findByProjectIdAndAuthorEmailAndAssigneeEmail(1, author.getEmail(), assignee.getEmail())).willThrow(RuntimeException.class);
 
-        assertThrows(TaskApiException.class, () -> taskService.getTasksByAuthor(author.getEmail(), assignee.getEmail(), null, null));
+        assertThrows(TaskApiException.class, () -> taskService.getTasksByAuthor(1, author.getEmail(), assignee.getEmail(), null, null));
     }
 
 
@@ -230,16 +302,22 @@ public class TaskServiceTest {
         tasksByAssignee.add(task1);
         tasksByAssignee.add(task2);
 
-        given(taskRepository.findByAssigneeEmail(assigneeEmail)).willReturn(tasksByAssignee);
+        UserEntity assignee = createUserEntity(assigneeEmail, 23);
+        given(userRepository.findByEmail(assigneeEmail)).willReturn(assignee);
+        given(projectService.isMember(1, assignee.getId())).willReturn(true);
+        given(taskRepository.findByProjectIdAndAssigneeEmail(1, assigneeEmail)).willReturn(tasksByAssignee);
 
-        List<TaskResponseDTO> tasks = assertDoesNotThrow(() -> taskService.getTasksByAssignee(assigneeEmail, null));
+        List<TaskResponseDTO> tasks = assertDoesNotThrow(() -> taskService.getTasksByAssignee(1, assigneeEmail, null));
 
         assertNotNull(tasks);
         assertEquals(2, tasks.size());
         assertEquals(task1.getTitle(), tasks.get(0).getTitle());
         assertEquals(task2.getTitle(), tasks.get(1).getTitle());
 
-        verify(taskRepository, times(1)).findByAssigneeEmail(assigneeEmail);
+        verify(taskRepository, times(1)).findByProjectIdAndAssigneeEmail(1, assigneeEmail);
+
+        given(projectService.isMember(2, assignee.getId())).willReturn(false);
+        assertThrows(TaskUnauthorizedOperationException.class, () -> taskService.getTasksByAssignee(2, assigneeEmail, null));
 
 
     }
@@ -261,6 +339,7 @@ public class TaskServiceTest {
 
     TaskDTO taskDTO = TaskDTO.builder()
             .title("Task Title")
+            .projectId(1)
             .description("Task description")
             .taskStatus("IN_PROGRESS")
             .taskPriority("HIGH")
@@ -271,13 +350,14 @@ public class TaskServiceTest {
     private TaskEntity createTaskEntity(UserEntity author) {
         TaskEntity taskEntity = new TaskEntity();
         taskEntity.setTaskId(1);
+        taskEntity.setProjectId(1);
         taskEntity.setTitle("Task Title");
         taskEntity.setDescription("Task description");
         taskEntity.setStatus(TaskStatus.IN_PROGRESS);
         taskEntity.setPriority(TaskPriority.HIGH);
         taskEntity.setAuthor(author);
         taskEntity.setAssignee(assignee);
-        taskEntity.setComments(List.of(new CommentEntity(1, "", assignee, null)));
+        taskEntity.setComments(List.of(new CommentEntity(1, "", assignee, null, null)));
         return taskEntity;
     }
 
@@ -285,6 +365,7 @@ public class TaskServiceTest {
     private TaskEntity createTaskEntity(UserEntity author, UserEntity assignee) {
         TaskEntity taskEntity = new TaskEntity();
         taskEntity.setTaskId(1);
+        taskEntity.setProjectId(1);
         taskEntity.setTitle("Task Title");
         taskEntity.setDescription("Task description");
         taskEntity.setStatus(TaskStatus.IN_PROGRESS);
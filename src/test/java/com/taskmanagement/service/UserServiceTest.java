@@ -1,7 +1,10 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.event.DomainEventPublisher;
 import com.taskmanagement.common.utils.MD5Encoder;
 import com.taskmanagement.dto.requestdto.UserDTO;
+import com.taskmanagement.dto.requestdto.UserSearchDTO;
+import com.taskmanagement.dto.responsedto.UserPageResponseDTO;
 import com.taskmanagement.dto.responsedto.UserResponseDTO;
 import com.taskmanagement.enums.UserRole;
 import com.taskmanagement.enums.UserStatus;
@@ -11,18 +14,25 @@ import com.taskmanagement.exceptions.UserBadRequestException;
 import com.taskmanagement.exceptions.UserNotFoundException;
 import com.taskmanagement.model.UserEntity;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.repository.UserSearchRepository;
+import com.taskmanagement.search.UserSearchCriteria;
 import com.taskmanagement.service.impl.UserServiceImpl;
+import com.taskmanagement.util.TokenGeneration;
+import com.taskmanagement.util.email.TaskEmailSender;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -35,6 +45,18 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserSearchRepository userSearchRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private TaskEmailSender taskEmailSender;
+
+    @Spy
+    private Clock clock = Clock.systemUTC();
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -181,6 +203,13 @@ public class UserServiceTest {
 
         userService.forgotPassword(userEntity.getEmail());
 
+        // The user gets the only plain copy of the token, which setPassword accepts
+        ArgumentCaptor<String> text = ArgumentCaptor.forClass(String.class);
+        verify(taskEmailSender).sendEmail(eq(userEntity.getEmail()), any(String.class), text.capture());
+        String token = text.getValue().replaceAll("(?s).* is (15\\.\\S+).*", "$1");
+        Assertions.assertEquals(TokenGeneration.hashToken(token.substring(3)), userEntity.getResetToken());
+        Assertions.assertTrue(userEntity.getResetTokenExpiresAt().isAfter(LocalDateTime.now(clock)));
+
         given(userRepository.findByEmail(any(String.class))).willThrow(RuntimeException.class);
         Assertions.assertThrows(UserApiException.class, () -> userService.forgotPassword(userEntity.getEmail()));
 
@@ -190,6 +219,35 @@ public class UserServiceTest {
     }
 
 
+    @Test
+    void testSetPassword() throws UserApiException, UserBadRequestException {
+        userEntity.setResetToken(TokenGeneration.hashToken("secret"));
+        userEntity.setResetTokenExpiresAt(LocalDateTime.now(clock).plusMinutes(5));
+        given(userRepository.findById(15)).willReturn(Optional.of(userEntity));
+        given(userRepository.consumeResetToken(15, TokenGeneration.hashToken("secret"))).willReturn(1);
+
+        Assertions.assertTrue(userService.setPassword("15.secret", "654321AA", "654321AA"));
+        Assertions.assertNull(userEntity.getResetToken());
+        verify(userRepository).save(userEntity);
+
+        // The token was consumed by the first call
+        Assertions.assertThrows(UserBadRequestException.class, () -> userService.setPassword("15.secret", "654321AA", "654321AA"));
+
+        Assertions.assertThrows(UserBadRequestException.class, () -> userService.setPassword("secret", "654321AA", "654321AA"));
+    }
+
+
+    @Test
+    void testSetPasswordWithExpiredToken() {
+        userEntity.setResetToken(TokenGeneration.hashToken("secret"));
+        userEntity.setResetTokenExpiresAt(LocalDateTime.now(clock).minusMinutes(1));
+        given(userRepository.findById(15)).willReturn(Optional.of(userEntity));
+
+        Assertions.assertThrows(UserBadRequestException.class, () -> userService.setPassword("15.secret", "654321AA", "654321AA"));
+        verify(userRepository, never()).consumeResetToken(any(Integer.class), any(String.class));
+    }
+
+
     @Test
     void testDeleteUser() throws UserApiException, UserBadRequestException {
         given(userRepository.findById(any(Integer.class))).willReturn(Optional.of(userEntity));
@@ -209,32 +267,48 @@ public class UserServiceTest {
     }
 
     @Test
-    void testGetAllUsers() throws UserApiException {
+    void testSearchUsers() throws UserApiException {
 
         List<UserEntity> users = List.of(
                 new UserEntity(1, "Samvel", "Gevorgyan", 2003, "samvel@gmail.com", "password", UserRole.PROJECT_ADMIN, UserStatus.ACTIVE),
-                new UserEntity(2, "Samvel", "Gevorgyan", 2002, "samvel2@gmail.com", "password", UserRole.PROJECT_ADMIN, UserStatus.ACTIVE)
+                new UserEntity(2, "Samvel", "Gevorgyan", 2002, "samvel2@gmail.com", "password", UserRole.PROJECT_ADMIN, UserStatus.ACTIVE),
+                new UserEntity(3, "Samvel", "Gevorgyan", 2001, "samvel3@gmail.com", "password", UserRole.PROJECT_ADMIN, UserStatus.ACTIVE)
         );
-        given(userRepository.findAll()).willReturn(users);
-
-
-        List<UserResponseDTO> allUsers = userService.getAll(null, null, null);
-
-        assertUsersEqual(allUsers, users);
-
-        given(userRepository.getByName("Samvel")).willReturn(users);
-        List<UserResponseDTO> filteredUsersByName = userService.getAll("Samvel", null, null);
-
-
-        assertUsersEqual(filteredUsersByName, users);
-
-        given(userRepository.getByName("Gevorgyan")).willReturn(users);
-        List<UserResponseDTO> filteredUsersBySurname = userService.getAll("Gevorgyan", null, null);
-
-        assertUsersEqual(filteredUsersBySurname, users);
-
-
-
+        given(userSearchRepository.search(any(UserSearchCriteria.class))).willReturn(users, users.subList(2, 3));
+
+        // Surname and role combined, the surname matched by prefix.
+        UserPageResponseDTO page = userService.searchUsers(UserSearchDTO.builder()
+                .surname("Gev*")
+                .role("PROJECT_ADMIN")
+                .size(2)
+                .build());
+
+        assertUsersEqual(page.getUsers(), users.subList(0, 2));
+        assertEquals(2, page.getUsers().size());
+        assertEquals(2, page.getNextAfterId());
+
+        UserPageResponseDTO lastPage = userService.searchUsers(UserSearchDTO.builder()
+                .name("Samvel")
+                .afterId(page.getNextAfterId())
+                .size(2)
+                .build());
+
+        assertUsersEqual(lastPage.getUsers(), users.subList(2, 3));
+        assertNull(lastPage.getNextAfterId());
+
+        ArgumentCaptor<UserSearchCriteria> criteria = ArgumentCaptor.forClass(UserSearchCriteria.class);
+        verify(userSearchRepository, times(2)).search(criteria.capture());
+        UserSearchCriteria first = criteria.getAllValues().get(0);
+        assertEquals("Gev", first.getSurname());
+        assertTrue(first.isSurnamePrefix());
+        assertNull(first.getName());
+        assertEquals(UserRole.PROJECT_ADMIN, first.getRole());
+        // One extra row to detect the next page.
+        assertEquals(3, first.getLimit());
+        UserSearchCriteria second = criteria.getAllValues().get(1);
+        assertEquals("Samvel", second.getName());
+        assertFalse(second.isNamePrefix());
+        assertEquals(2, second.getAfterId());
     }
 
     private void assertUsersEqual(List<UserResponseDTO> userResponseDTOs, List<UserEntity> userEntities) {